@@ -63,6 +63,10 @@ public class PrivacyNode implements AutoCloseable {
   private static final Logger LOG = LogManager.getLogger();
   private static final int MAX_OPEN_FILES = 1024;
   private static final long CACHE_CAPACITY = 8388608;
+  private static final boolean TRANSACTIONS_ENABLED = true;
+  private static final int WORLD_STATE_CACHE_PERCENTAGE = 75;
+  private static final int BLOOM_FILTER_BITS_PER_KEY = 10;
+  private static final boolean BLOCKCHAIN_COMPRESSION_ENABLED = true;
   private static final int MAX_BACKGROUND_COMPACTIONS = 4;
   private static final int BACKGROUND_THREAD_COUNT = 4;
 
@@ -229,7 +233,11 @@ public class PrivacyNode implements AutoCloseable {
                             MAX_OPEN_FILES,
                             MAX_BACKGROUND_COMPACTIONS,
                             BACKGROUND_THREAD_COUNT,
-                            CACHE_CAPACITY),
+                            CACHE_CAPACITY,
+                            TRANSACTIONS_ENABLED,
+                            WORLD_STATE_CACHE_PERCENTAGE,
+                            BLOOM_FILTER_BITS_PER_KEY,
+                            BLOCKCHAIN_COMPRESSION_ENABLED),
                     Arrays.asList(KeyValueSegmentIdentifier.values()),
                     RocksDBMetricsFactory.PRIVATE_ROCKS_DB_METRICS)))
         .withCommonConfiguration(new BesuConfigurationImpl(dataLocation, dbLocation))
@@ -454,7 +454,7 @@ public class RunnerBuilder {
               synchronizer);
       final GraphQL graphQL;
       try {
-        graphQL = GraphQLProvider.buildGraphQL(fetchers);
+        graphQL = GraphQLProvider.buildGraphQL(fetchers, blockchainQueries::headBlockNumber);
       } catch (final IOException ioe) {
         throw new RuntimeException(ioe);
       }
@@ -663,7 +663,8 @@ public class RunnerBuilder {
     final LogsSubscriptionService logsSubscriptionService =
         new LogsSubscriptionService(subscriptionManager);
 
-    blockchain.observeLogs(logsSubscriptionService);
+    blockchain.observeBlockAddedAsync(
+        (event, __) -> event.getLogsWithMetadata().forEach(logsSubscriptionService));
   }
 
   private void createSyncingSubscriptionService(
@@ -678,7 +679,7 @@ public class RunnerBuilder {
     final NewBlockHeadersSubscriptionService newBlockHeadersSubscriptionService =
         new NewBlockHeadersSubscriptionService(subscriptionManager, blockchainQueries);
 
-    blockchain.observeBlockAdded(newBlockHeadersSubscriptionService);
+    blockchain.observeBlockAddedAsync(newBlockHeadersSubscriptionService);
   }
 
   private WebSocketService createWebsocketService(
@@ -88,6 +88,7 @@ import org.hyperledger.besu.ethereum.permissioning.PermissioningConfigurationBui
 import org.hyperledger.besu.ethereum.permissioning.SmartContractPermissioningConfiguration;
 import org.hyperledger.besu.ethereum.privacy.storage.keyvalue.PrivacyKeyValueStorageProvider;
 import org.hyperledger.besu.ethereum.privacy.storage.keyvalue.PrivacyKeyValueStorageProviderBuilder;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockchainStorage;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStorageProvider;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStorageProviderBuilder;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
@@ -590,6 +591,15 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
       description = "Extranonce for Stratum network miners (default: ${DEFAULT-VALUE})")
   private String stratumExtranonce = "080c";
 
+  @Option(
+      hidden = true,
+      names = {"--Xminer-full-dataset-enabled"},
+      description =
+          "Generate the full EthHash dataset in the data directory and mine against it using all "
+              + "available cores (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Boolean isFullDatasetEnabled = false;
+
   @Option(
       names = {"--miner-coinbase"},
       description =
@@ -725,6 +735,15 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
       arity = "1")
   private String keyValueStorageName = DEFAULT_KEY_VALUE_STORAGE_NAME;
 
+  @Option(
+      hidden = true,
+      names = {"--Xancient-block-depth"},
+      paramLabel = "<LONG>",
+      description =
+          "Number of blocks behind the chain head after which block bodies and receipts are moved to append-only ancient block storage. Must be at least 90000. 0 stops moving blocks, but blocks moved earlier are still read from ancient block storage (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long ancientBlockDepth = 0L;
+
   @Option(
       names = {"--override-genesis-config"},
       paramLabel = "NAME=VALUE",
@@ -976,6 +995,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
 
     validateP2PInterface(p2pInterface);
     validateMiningParams();
+    validateAncientBlockDepth();
 
     return this;
   }
@@ -996,6 +1016,18 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
     }
   }
 
+  private void validateAncientBlockDepth() {
+    if (ancientBlockDepth != 0
+        && ancientBlockDepth < AncientBlockchainStorage.MIN_ANCIENT_BLOCK_DEPTH) {
+      throw new ParameterException(
+          this.commandLine,
+          "Unable to move blocks to ancient block storage that may still be reorganized. "
+              + "Either set --Xancient-block-depth to at least "
+              + AncientBlockchainStorage.MIN_ANCIENT_BLOCK_DEPTH
+              + " or to 0 to stop moving blocks");
+    }
+  }
+
   protected void validateP2PInterface(final String p2pInterface) {
     final String failMessage = "The provided --p2p-interface is not available: " + p2pInterface;
     try {
@@ -1116,7 +1148,8 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
                   iStratumMiningEnabled,
                   stratumNetworkInterface,
                   stratumPort,
-                  stratumExtranonce))
+                  stratumExtranonce,
+                  isFullDatasetEnabled))
           .transactionPoolConfiguration(buildTransactionPoolConfiguration())
           .nodePrivateKeyFile(nodePrivateKeyFile())
           .metricsSystem(metricsSystem.get())
@@ -1452,6 +1485,7 @@ public class BesuCommand implements DefaultCommandValues, Runnable {
                     () -> new StorageException("No KeyValueStorageFactory found for key: " + name)))
         .withCommonConfiguration(pluginCommonConfiguration)
         .withMetricsSystem(getMetricsSystem())
+        .withAncientBlockDepth(ancientBlockDepth)
         .build();
   }
 
@@ -50,6 +50,7 @@ import org.hyperledger.besu.ethereum.worldstate.MarkSweepPruner;
 import org.hyperledger.besu.ethereum.worldstate.Pruner;
 import org.hyperledger.besu.ethereum.worldstate.PrunerConfiguration;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.ethereum.worldstate.WorldStatePrefetcher;
 import org.hyperledger.besu.metrics.ObservableMetricsSystem;
 
 import java.io.Closeable;
@@ -64,6 +65,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -84,7 +86,7 @@ public abstract class BesuControllerBuilder<C> {
   KeyPair nodeKeys;
   protected boolean isRevertReasonEnabled;
   GasLimitCalculator gasLimitCalculator;
-  private StorageProvider storageProvider;
+  StorageProvider storageProvider;
   private boolean isPruningEnabled;
   private PrunerConfiguration prunerConfiguration;
   Map<String, String> genesisConfigOverrides;
@@ -210,12 +212,14 @@ public abstract class BesuControllerBuilder<C> {
 
     final ProtocolSchedule<C> protocolSchedule = createProtocolSchedule();
     final GenesisState genesisState = GenesisState.fromConfig(genesisConfig, protocolSchedule);
+    final ExecutorService prefetchExecutor = WorldStatePrefetcher.createExecutor();
     final ProtocolContext<C> protocolContext =
         ProtocolContext.init(
             storageProvider,
             genesisState,
             protocolSchedule,
             metricsSystem,
+            prefetchExecutor,
             this::createConsensusContext);
     validateContext(protocolContext);
 
@@ -290,6 +294,8 @@ public abstract class BesuControllerBuilder<C> {
         createAdditionalJsonRpcMethodFactory(protocolContext);
 
     List<Closeable> closeables = new ArrayList<>();
+    // Stop prefetching before the storage it reads from is closed
+    closeables.add(prefetchExecutor::shutdownNow);
     closeables.add(storageProvider);
     if (privacyParameters.getPrivateStorageProvider() != null) {
       closeables.add(privacyParameters.getPrivateStorageProvider());
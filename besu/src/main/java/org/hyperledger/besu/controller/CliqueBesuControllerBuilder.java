@@ -27,6 +27,7 @@ import org.hyperledger.besu.consensus.common.BlockInterface;
 import org.hyperledger.besu.consensus.common.EpochManager;
 import org.hyperledger.besu.consensus.common.VoteProposer;
 import org.hyperledger.besu.consensus.common.VoteTallyCache;
+import org.hyperledger.besu.consensus.common.VoteTallySnapshots;
 import org.hyperledger.besu.consensus.common.VoteTallyUpdater;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.methods.JsonRpcMethods;
@@ -91,7 +92,8 @@ public class CliqueBesuControllerBuilder extends BesuControllerBuilder<CliqueCon
                 localAddress,
                 secondsBetweenBlocks),
             epochManager,
-            gasLimitCalculator);
+            gasLimitCalculator,
+            metricsSystem);
     final CliqueMiningCoordinator miningCoordinator =
         new CliqueMiningCoordinator(
             protocolContext.getBlockchain(),
@@ -136,7 +138,8 @@ public class CliqueBesuControllerBuilder extends BesuControllerBuilder<CliqueCon
             blockchain,
             new VoteTallyUpdater(epochManager, blockInterface),
             epochManager,
-            blockInterface),
+            blockInterface,
+            new VoteTallySnapshots(storageProvider.createVoteTallyStorage())),
         new VoteProposer(),
         epochManager,
         blockInterface);
@@ -23,6 +23,7 @@ import org.hyperledger.besu.consensus.common.ForkingVoteTallyCache;
 import org.hyperledger.besu.consensus.common.IbftValidatorOverrides;
 import org.hyperledger.besu.consensus.common.VoteProposer;
 import org.hyperledger.besu.consensus.common.VoteTallyCache;
+import org.hyperledger.besu.consensus.common.VoteTallySnapshots;
 import org.hyperledger.besu.consensus.common.VoteTallyUpdater;
 import org.hyperledger.besu.consensus.ibft.BlockTimer;
 import org.hyperledger.besu.consensus.ibft.EthSynchronizerUpdater;
@@ -63,6 +64,7 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Util;
 import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
+import org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -81,6 +83,7 @@ import org.apache.logging.log4j.Logger;
 public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext> {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final int MAX_MESSAGE_DECODER_THREADS = 4;
   private IbftEventQueue ibftEventQueue;
   private IbftConfigOptions ibftConfig;
   private ValidatorPeers peers;
@@ -89,7 +92,6 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext
   @Override
   protected void prepForBuild() {
     ibftConfig = genesisConfig.getConfigOptions(genesisConfigOverrides).getIbft2ConfigOptions();
-    ibftEventQueue = new IbftEventQueue(ibftConfig.getMessageQueueLimit());
   }
 
   @Override
@@ -103,7 +105,16 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext
       final EthProtocolManager ethProtocolManager) {
     return new SubProtocolConfiguration()
         .withSubProtocol(EthProtocol.get(), ethProtocolManager)
-        .withSubProtocol(IbftSubProtocol.get(), new IbftProtocolManager(ibftEventQueue, peers));
+        .withSubProtocol(
+            IbftSubProtocol.get(),
+            new IbftProtocolManager(
+                ibftEventQueue,
+                peers,
+                MonitoredExecutors.newFixedThreadPool(
+                    "IbftMessageDecoder",
+                    Math.min(
+                        MAX_MESSAGE_DECODER_THREADS, Runtime.getRuntime().availableProcessors()),
+                    metricsSystem)));
   }
 
   @Override
@@ -124,7 +135,8 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext
             protocolContext,
             protocolSchedule,
             miningParameters,
-            Util.publicKeyToAddress(nodeKeys.getPublicKey()));
+            Util.publicKeyToAddress(nodeKeys.getPublicKey()),
+            metricsSystem);
 
     // NOTE: peers should not be used for accessing the network as it does not enforce the
     // "only send once" filter applied by the UniqueMessageMulticaster.
@@ -135,6 +147,11 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext
 
     peers = new ValidatorPeers(voteTallyCache);
 
+    ibftEventQueue =
+        new IbftEventQueue(
+            ibftConfig.getMessageQueueLimit(),
+            author -> voteTallyCache.getVoteTallyAtHead().getValidators().contains(author));
+
     final UniqueMessageMulticaster uniqueMessageMulticaster =
         new UniqueMessageMulticaster(peers, ibftConfig.getGossipedHistoryLimit());
 
@@ -241,7 +258,8 @@ public class IbftBesuControllerBuilder extends BesuControllerBuilder<IbftContext
             new VoteTallyUpdater(epochManager, new IbftBlockInterface()),
             epochManager,
             new IbftBlockInterface(),
-            new IbftValidatorOverrides(ibftValidatorForkMap)),
+            new IbftValidatorOverrides(ibftValidatorForkMap),
+            new VoteTallySnapshots(storageProvider.createVoteTallyStorage())),
         new VoteProposer(),
         blockInterface);
   }
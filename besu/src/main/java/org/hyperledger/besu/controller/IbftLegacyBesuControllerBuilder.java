@@ -19,6 +19,7 @@ import org.hyperledger.besu.consensus.common.BlockInterface;
 import org.hyperledger.besu.consensus.common.EpochManager;
 import org.hyperledger.besu.consensus.common.VoteProposer;
 import org.hyperledger.besu.consensus.common.VoteTallyCache;
+import org.hyperledger.besu.consensus.common.VoteTallySnapshots;
 import org.hyperledger.besu.consensus.common.VoteTallyUpdater;
 import org.hyperledger.besu.consensus.ibft.IbftContext;
 import org.hyperledger.besu.consensus.ibftlegacy.IbftLegacyBlockInterface;
@@ -86,7 +87,8 @@ public class IbftLegacyBesuControllerBuilder extends BesuControllerBuilder<IbftC
             blockchain,
             new VoteTallyUpdater(epochManager, blockInterface),
             epochManager,
-            blockInterface);
+            blockInterface,
+            new VoteTallySnapshots(storageProvider.createVoteTallyStorage()));
 
     final VoteProposer voteProposer = new VoteProposer();
     return new IbftContext(voteTallyCache, voteProposer, blockInterface);
@@ -24,6 +24,8 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
 import org.hyperledger.besu.ethereum.eth.sync.state.SyncState;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
+import org.hyperledger.besu.ethereum.mainnet.EthHashCacheFactory;
+import org.hyperledger.besu.ethereum.mainnet.EthHasher;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderValidator;
 import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -31,6 +33,10 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 public class MainnetBesuControllerBuilder extends BesuControllerBuilder<Void> {
 
+  private static final String ETHHASH_DIRECTORY = "ethhash";
+
+  private EthHashCacheFactory ethHashCacheFactory;
+
   @Override
   protected MiningCoordinator createMiningCoordinator(
       final ProtocolSchedule<Void> protocolSchedule,
@@ -39,6 +45,16 @@ public class MainnetBesuControllerBuilder extends BesuControllerBuilder<Void> {
       final MiningParameters miningParameters,
       final SyncState syncState,
       final EthProtocolManager ethProtocolManager) {
+    final EthHasher ethHasher;
+    final int solverThreads;
+    if (miningParameters.isFullDatasetEnabled()) {
+      ethHasher =
+          new EthHasher.Full(dataDirectory.resolve(ETHHASH_DIRECTORY), getEthHashCacheFactory());
+      solverThreads = Runtime.getRuntime().availableProcessors();
+    } else {
+      ethHasher = new EthHasher.Light(getEthHashCacheFactory());
+      solverThreads = 1;
+    }
     final EthHashMinerExecutor executor =
         new EthHashMinerExecutor(
             protocolContext,
@@ -49,7 +65,10 @@ public class MainnetBesuControllerBuilder extends BesuControllerBuilder<Void> {
                 MainnetBlockHeaderValidator.MINIMUM_SECONDS_SINCE_PARENT,
                 MainnetBlockHeaderValidator.TIMESTAMP_TOLERANCE_S,
                 clock),
-            gasLimitCalculator);
+            gasLimitCalculator,
+            ethHasher,
+            solverThreads,
+            metricsSystem);
 
     final EthHashMiningCoordinator miningCoordinator =
         new EthHashMiningCoordinator(protocolContext.getBlockchain(), executor, syncState);
@@ -78,6 +97,15 @@ public class MainnetBesuControllerBuilder extends BesuControllerBuilder<Void> {
     return MainnetProtocolSchedule.fromConfig(
         genesisConfig.getConfigOptions(genesisConfigOverrides),
         privacyParameters,
-        isRevertReasonEnabled);
+        isRevertReasonEnabled,
+        new EthHasher.Light(getEthHashCacheFactory()));
+  }
+
+  /** The protocol schedule and the miner share one factory, so each cache is only built once. */
+  private EthHashCacheFactory getEthHashCacheFactory() {
+    if (ethHashCacheFactory == null) {
+      ethHashCacheFactory = new EthHashCacheFactory(dataDirectory.resolve(ETHHASH_DIRECTORY));
+    }
+    return ethHashCacheFactory;
   }
 }
@@ -2307,6 +2307,38 @@ public class BesuCommandTest extends CommandTestAbstract {
     assertThat(miningArg.getValue().isStratumMiningEnabled()).isTrue();
   }
 
+  @Test
+  public void fullDatasetMiningIsEnabledWhenSpecified() throws Exception {
+    final String coinbaseStr = String.format("%040x", 1);
+    parseCommand(
+        "--miner-enabled",
+        "--miner-coinbase=" + coinbaseStr,
+        "--Xminer-full-dataset-enabled",
+        "true");
+
+    final ArgumentCaptor<MiningParameters> miningArg =
+        ArgumentCaptor.forClass(MiningParameters.class);
+
+    verify(mockControllerBuilder).miningParameters(miningArg.capture());
+    verify(mockControllerBuilder).build();
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString()).isEmpty();
+    assertThat(miningArg.getValue().isFullDatasetEnabled()).isTrue();
+  }
+
+  @Test
+  public void ancientBlockDepthBelowMinimumMustFail() {
+    parseCommand("--Xancient-block-depth", "1");
+
+    Mockito.verifyZeroInteractions(mockRunnerBuilder);
+
+    assertThat(commandOutput.toString()).isEmpty();
+    assertThat(commandErrorOutput.toString())
+        .startsWith(
+            "Unable to move blocks to ancient block storage that may still be reorganized.");
+  }
+
   @Test
   public void miningOptionsRequiresServiceToBeEnabled() {
 
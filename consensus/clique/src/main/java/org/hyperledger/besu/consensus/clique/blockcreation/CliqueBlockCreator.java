@@ -36,6 +36,7 @@ import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.Optional;
 import java.util.function.Function;
@@ -55,7 +56,8 @@ public class CliqueBlockCreator extends AbstractBlockCreator<CliqueContext> {
       final KeyPair nodeKeys,
       final Wei minTransactionGasPrice,
       final BlockHeader parentHeader,
-      final EpochManager epochManager) {
+      final EpochManager epochManager,
+      final MetricsSystem metricsSystem) {
     super(
         coinbase,
         extraDataCalculator,
@@ -65,7 +67,8 @@ public class CliqueBlockCreator extends AbstractBlockCreator<CliqueContext> {
         gasLimitCalculator,
         minTransactionGasPrice,
         Util.publicKeyToAddress(nodeKeys.getPublicKey()),
-        parentHeader);
+        parentHeader,
+        metricsSystem);
     this.nodeKeys = nodeKeys;
     this.epochManager = epochManager;
   }
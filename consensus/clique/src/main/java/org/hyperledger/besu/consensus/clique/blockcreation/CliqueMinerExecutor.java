@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Util;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.List;
@@ -55,14 +56,16 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueContext, Cl
       final MiningParameters miningParams,
       final AbstractBlockScheduler blockScheduler,
       final EpochManager epochManager,
-      final Function<Long, Long> gasLimitCalculator) {
+      final Function<Long, Long> gasLimitCalculator,
+      final MetricsSystem metricsSystem) {
     super(
         protocolContext,
         protocolSchedule,
         pendingTransactions,
         miningParams,
         blockScheduler,
-        gasLimitCalculator);
+        gasLimitCalculator,
+        metricsSystem);
     this.nodeKeys = nodeKeys;
     this.localAddress = Util.publicKeyToAddress(nodeKeys.getPublicKey());
     this.epochManager = epochManager;
@@ -85,7 +88,8 @@ public class CliqueMinerExecutor extends AbstractMinerExecutor<CliqueContext, Cl
                 nodeKeys,
                 minTransactionGasPrice,
                 header,
-                epochManager);
+                epochManager,
+                metricsSystem);
 
     return new CliqueBlockMiner(
         blockCreator,
@@ -73,7 +73,22 @@ public class CliqueJsonRpcMethods extends ApiGroupJsonRpcMethods {
     final EpochManager epochManager = context.getConsensusState().getEpochManager();
     final VoteTallyUpdater voteTallyUpdater =
         new VoteTallyUpdater(epochManager, new CliqueBlockInterface());
-    return new VoteTallyCache(
-        blockchain, voteTallyUpdater, epochManager, new CliqueBlockInterface());
+    // Persisted snapshots are safe to share as they are never modified once written
+    return context
+        .getConsensusState()
+        .getVoteTallyCache()
+        .getSnapshots()
+        .map(
+            snapshots ->
+                new VoteTallyCache(
+                    blockchain,
+                    voteTallyUpdater,
+                    epochManager,
+                    new CliqueBlockInterface(),
+                    snapshots))
+        .orElseGet(
+            () ->
+                new VoteTallyCache(
+                    blockchain, voteTallyUpdater, epochManager, new CliqueBlockInterface()));
   }
 }
@@ -130,7 +130,8 @@ public class CliqueBlockCreatorTest {
             proposerKeyPair,
             Wei.ZERO,
             blockchain.getChainHeadHeader(),
-            epochManager);
+            epochManager,
+            metricsSystem);
 
     final Block createdBlock = blockCreator.createBlock(5L);
 
@@ -161,7 +162,8 @@ public class CliqueBlockCreatorTest {
             proposerKeyPair,
             Wei.ZERO,
             blockchain.getChainHeadHeader(),
-            epochManager);
+            epochManager,
+            metricsSystem);
 
     final Block createdBlock = blockCreator.createBlock(0L);
     assertThat(createdBlock.getHeader().getNonce()).isEqualTo(CliqueBlockInterface.ADD_NONCE);
@@ -191,7 +193,8 @@ public class CliqueBlockCreatorTest {
             proposerKeyPair,
             Wei.ZERO,
             blockchain.getChainHeadHeader(),
-            epochManager);
+            epochManager,
+            metricsSystem);
 
     final Block createdBlock = blockCreator.createBlock(0L);
     assertThat(createdBlock.getHeader().getNonce()).isEqualTo(CliqueBlockInterface.DROP_NONCE);
@@ -224,7 +227,8 @@ public class CliqueBlockCreatorTest {
             proposerKeyPair,
             Wei.ZERO,
             blockchain.getChainHeadHeader(),
-            epochManager);
+            epochManager,
+            metricsSystem);
 
     final Block createdBlock = blockCreator.createBlock(0L);
     assertThat(createdBlock.getHeader().getNonce()).isEqualTo(CliqueBlockInterface.DROP_NONCE);
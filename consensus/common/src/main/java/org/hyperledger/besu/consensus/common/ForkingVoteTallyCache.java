@@ -34,6 +34,18 @@ public class ForkingVoteTallyCache extends VoteTallyCache {
     this.validatorOverrides = validatorOverrides;
   }
 
+  public ForkingVoteTallyCache(
+      final Blockchain blockchain,
+      final VoteTallyUpdater voteTallyUpdater,
+      final EpochManager epochManager,
+      final BlockInterface blockInterface,
+      final IbftValidatorOverrides validatorOverrides,
+      final VoteTallySnapshots snapshots) {
+    super(blockchain, voteTallyUpdater, epochManager, blockInterface, snapshots);
+    checkNotNull(validatorOverrides);
+    this.validatorOverrides = validatorOverrides;
+  }
+
   @Override
   protected VoteTally getValidatorsAfter(final BlockHeader header) {
     final long nextBlockNumber = header.getNumber() + 1L;
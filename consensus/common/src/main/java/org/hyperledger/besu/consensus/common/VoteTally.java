@@ -15,11 +15,14 @@
 package org.hyperledger.besu.consensus.common;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -129,4 +132,58 @@ public class VoteTally implements ValidatorProvider {
     return new VoteTally(
         new TreeSet<>(this.currentValidators), addVotesBySubject, removeVotesBySubject);
   }
+
+  /**
+   * Writes the validators and outstanding votes of this tally, such that it can be restored with
+   * {@link #readFrom(RLPInput)}.
+   *
+   * @param out the output to write the tally to
+   */
+  public void writeTo(final RLPOutput out) {
+    out.startList();
+    out.writeList(currentValidators, (validator, rlp) -> rlp.writeBytes(validator));
+    writeVotes(addVotesBySubject, out);
+    writeVotes(removeVotesBySubject, out);
+    out.endList();
+  }
+
+  /**
+   * Reads a tally written by {@link #writeTo(RLPOutput)}.
+   *
+   * @param in the input to read the tally from
+   * @return the restored tally
+   */
+  public static VoteTally readFrom(final RLPInput in) {
+    in.enterList();
+    final List<Address> validators = in.readList(Address::readFrom);
+    final Map<Address, Set<Address>> addVotesBySubject = readVotes(in);
+    final Map<Address, Set<Address>> removeVotesBySubject = readVotes(in);
+    in.leaveList();
+    return new VoteTally(validators, addVotesBySubject, removeVotesBySubject);
+  }
+
+  private static void writeVotes(
+      final Map<Address, Set<Address>> votesBySubject, final RLPOutput out) {
+    out.writeList(
+        votesBySubject.entrySet(),
+        (entry, rlp) -> {
+          rlp.startList();
+          rlp.writeBytes(entry.getKey());
+          rlp.writeList(entry.getValue(), (voter, voterRlp) -> voterRlp.writeBytes(voter));
+          rlp.endList();
+        });
+  }
+
+  private static Map<Address, Set<Address>> readVotes(final RLPInput in) {
+    final Map<Address, Set<Address>> votesBySubject = new HashMap<>();
+    in.enterList();
+    while (!in.isEndOfCurrentList()) {
+      in.enterList();
+      final Address subject = Address.readFrom(in);
+      votesBySubject.put(subject, new HashSet<>(in.readList(Address::readFrom)));
+      in.leaveList();
+    }
+    in.leaveList();
+    return votesBySubject;
+  }
 }
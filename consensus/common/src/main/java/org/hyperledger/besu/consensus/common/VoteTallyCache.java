@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.cache.Cache;
@@ -37,12 +38,42 @@ public class VoteTallyCache {
   private final Cache<Hash, VoteTally> voteTallyCache =
       CacheBuilder.newBuilder().maximumSize(100).build();
   private final BlockInterface blockInterface;
+  private final Optional<VoteTallySnapshots> snapshots;
 
   public VoteTallyCache(
       final Blockchain blockchain,
       final VoteTallyUpdater voteTallyUpdater,
       final EpochManager epochManager,
       final BlockInterface blockInterface) {
+    this(blockchain, voteTallyUpdater, epochManager, blockInterface, Optional.empty());
+  }
+
+  /**
+   * Creates a vote tally cache which persists snapshots of the vote tally at regular intervals, and
+   * rebuilds tallies missing from memory from the nearest snapshot rather than the last epoch
+   * block.
+   *
+   * @param blockchain the blockchain to read headers from
+   * @param voteTallyUpdater applies the votes in a header to a tally
+   * @param epochManager determines which blocks are epoch blocks
+   * @param blockInterface extracts validators and votes from headers
+   * @param snapshots the persisted vote tally snapshots
+   */
+  public VoteTallyCache(
+      final Blockchain blockchain,
+      final VoteTallyUpdater voteTallyUpdater,
+      final EpochManager epochManager,
+      final BlockInterface blockInterface,
+      final VoteTallySnapshots snapshots) {
+    this(blockchain, voteTallyUpdater, epochManager, blockInterface, Optional.of(snapshots));
+  }
+
+  private VoteTallyCache(
+      final Blockchain blockchain,
+      final VoteTallyUpdater voteTallyUpdater,
+      final EpochManager epochManager,
+      final BlockInterface blockInterface,
+      final Optional<VoteTallySnapshots> snapshots) {
 
     checkNotNull(blockchain);
     checkNotNull(voteTallyUpdater);
@@ -52,6 +83,11 @@ public class VoteTallyCache {
     this.voteTallyUpdater = voteTallyUpdater;
     this.epochManager = epochManager;
     this.blockInterface = blockInterface;
+    this.snapshots = snapshots;
+  }
+
+  public Optional<VoteTallySnapshots> getSnapshots() {
+    return snapshots;
   }
 
   public VoteTally getVoteTallyAtHead() {
@@ -60,10 +96,10 @@ public class VoteTallyCache {
 
   /**
    * Determines the VoteTally for a given block header, by back-tracing the blockchain to a
-   * previously cached value or epoch block. Then appyling votes in each intermediate header such
-   * that representative state can be provided. This function assumes the vote cast in {@code
-   * header} is applied, thus the voteTally returned contains the group of validators who are
-   * permitted to partake in the next block's creation.
+   * previously cached value, persisted snapshot or epoch block. Then appyling votes in each
+   * intermediate header such that representative state can be provided. This function assumes the
+   * vote cast in {@code header} is applied, thus the voteTally returned contains the group of
+   * validators who are permitted to partake in the next block's creation.
    *
    * @param header the header of the block after which the VoteTally is to be returned
    * @return The Vote Tally (and therefore validators) following the application of all votes upto
@@ -105,7 +141,15 @@ public class VoteTallyCache {
       return new VoteTally(blockInterface.validatorsInBlock(header));
     }
 
-    return voteTallyCache.getIfPresent(header.getParentHash());
+    final VoteTally parentVoteTally = voteTallyCache.getIfPresent(header.getParentHash());
+    if (parentVoteTally != null) {
+      return parentVoteTally;
+    }
+
+    return snapshots
+        .filter(voteTallySnapshots -> voteTallySnapshots.isSnapshotBlock(header.getNumber() - 1))
+        .flatMap(voteTallySnapshots -> voteTallySnapshots.get(header.getParentHash()))
+        .orElse(null);
   }
 
   private VoteTally constructMissingCacheEntries(
@@ -115,6 +159,11 @@ public class VoteTallyCache {
       final BlockHeader h = headers.pop();
       voteTallyUpdater.updateForBlock(h, mutableVoteTally);
       voteTallyCache.put(h.getHash(), mutableVoteTally.copy());
+      if (!epochManager.isEpochBlock(h.getNumber())) {
+        snapshots
+            .filter(voteTallySnapshots -> voteTallySnapshots.isSnapshotBlock(h.getNumber()))
+            .ifPresent(voteTallySnapshots -> voteTallySnapshots.put(h.getHash(), mutableVoteTally));
+      }
     }
     return mutableVoteTally;
   }
@@ -0,0 +1,86 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.common;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorageTransaction;
+
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Persists the vote tally after every block whose number is a multiple of the snapshot interval.
+ *
+ * <p>Without snapshots a vote tally which isn't cached in memory has to be rebuilt from the last
+ * epoch block, reading and decoding every header in between. With them, no more than the snapshot
+ * interval of headers need to be read. Epoch blocks aren't snapshotted as their header already
+ * holds the full validator list.
+ *
+ * <p>Snapshots are keyed by block hash, so snapshots of blocks which are later reorganised off the
+ * canonical chain are never used for blocks on it.
+ */
+public class VoteTallySnapshots {
+
+  public static final long DEFAULT_SNAPSHOT_INTERVAL = 1024;
+  private static final Bytes KEY_PREFIX = Bytes.wrap("voteTally".getBytes(UTF_8));
+
+  private final KeyValueStorage storage;
+  private final long snapshotInterval;
+
+  public VoteTallySnapshots(final KeyValueStorage storage) {
+    this(storage, DEFAULT_SNAPSHOT_INTERVAL);
+  }
+
+  public VoteTallySnapshots(final KeyValueStorage storage, final long snapshotInterval) {
+    checkArgument(snapshotInterval > 0, "Snapshot interval must be positive");
+    this.storage = storage;
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  public boolean isSnapshotBlock(final long blockNumber) {
+    return blockNumber > 0 && blockNumber % snapshotInterval == 0;
+  }
+
+  /**
+   * Gets the persisted vote tally following the application of the votes in a block.
+   *
+   * @param blockHash the hash of the snapshot block
+   * @return the vote tally after the block, if a snapshot was taken
+   */
+  public Optional<VoteTally> get(final Hash blockHash) {
+    return storage
+        .get(key(blockHash))
+        .map(value -> VoteTally.readFrom(RLP.input(Bytes.wrap(value))));
+  }
+
+  public void put(final Hash blockHash, final VoteTally voteTally) {
+    final BytesValueRLPOutput out = new BytesValueRLPOutput();
+    voteTally.writeTo(out);
+    final KeyValueStorageTransaction transaction = storage.startTransaction();
+    transaction.put(key(blockHash), out.encoded().toArrayUnsafe());
+    transaction.commit();
+  }
+
+  private static byte[] key(final Hash blockHash) {
+    return Bytes.concatenate(KEY_PREFIX, blockHash).toArrayUnsafe();
+  }
+}
@@ -27,11 +27,14 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
 
 import java.util.Arrays;
 import java.util.Optional;
 
 import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.assertj.core.util.Lists;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -129,4 +132,44 @@ public class VoteTallyCacheTest extends VoteTallyCacheTestBase {
     voteTally = cache.getVoteTallyAfterBlock(block_1.getHeader());
     assertThat(voteTally.getValidators()).containsAll(validators);
   }
+
+  @Test
+  public void walkBackStopsAtPersistedSnapshot() {
+    final EpochManager epochManager = new EpochManager(30_000);
+    final KeyValueStorage snapshotStorage = new InMemoryKeyValueStorage();
+    when(blockInterface.extractVoteFromHeader(block_1.getHeader()))
+        .thenReturn(
+            Optional.of(new ValidatorVote(VoteType.DROP, validators.get(0), validators.get(2))));
+
+    // Building the tally after block 2 persists a snapshot, as 2 is a multiple of the interval
+    final VoteTallyCache snapshottingCache =
+        new VoteTallyCache(
+            blockChain,
+            new VoteTallyUpdater(epochManager, blockInterface),
+            epochManager,
+            blockInterface,
+            new VoteTallySnapshots(snapshotStorage, 2));
+    snapshottingCache.getVoteTallyAfterBlock(block_2.getHeader());
+
+    final Block block_3 = createEmptyBlock(3, block_2.getHeader().getHash());
+    blockChain.appendBlock(block_3, Lists.emptyList());
+
+    // A cache with nothing in memory, as after a restart, starts from the snapshot
+    final VoteTallyUpdater tallyUpdater = mock(VoteTallyUpdater.class);
+    final VoteTallyCache cache =
+        new VoteTallyCache(
+            blockChain,
+            tallyUpdater,
+            epochManager,
+            blockInterface,
+            new VoteTallySnapshots(snapshotStorage, 2));
+    final VoteTally voteTally = cache.getVoteTallyAfterBlock(block_3.getHeader());
+
+    final ArgumentCaptor<BlockHeader> varArgs = ArgumentCaptor.forClass(BlockHeader.class);
+    verify(tallyUpdater, times(1)).updateForBlock(varArgs.capture(), any());
+    assertThat(varArgs.getAllValues()).containsExactly(block_3.getHeader());
+    assertThat(voteTally.getValidators()).containsExactlyElementsOf(validators);
+    assertThat(voteTally.getOutstandingRemoveVotesFor(validators.get(2)))
+        .containsExactly(validators.get(0));
+  }
 }
@@ -19,6 +19,8 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import org.junit.Test;
 
@@ -296,6 +298,28 @@ public class VoteTallyTest {
         .containsExactly(validator2, validator3, validator4, validator5);
   }
 
+  @Test
+  public void voteTallyIsRestoredFromEncodedForm() {
+    final VoteTally voteTally = fourValidators();
+    voteTally.addVote(new ValidatorVote(VoteType.ADD, validator1, validator5));
+    voteTally.addVote(new ValidatorVote(VoteType.DROP, validator2, validator3));
+
+    final BytesValueRLPOutput out = new BytesValueRLPOutput();
+    voteTally.writeTo(out);
+    final VoteTally restored = VoteTally.readFrom(RLP.input(out.encoded()));
+
+    assertThat(restored.getValidators())
+        .containsExactly(validator1, validator2, validator3, validator4);
+    assertThat(restored.getOutstandingAddVotesFor(validator5)).containsExactly(validator1);
+    assertThat(restored.getOutstandingRemoveVotesFor(validator3)).containsExactly(validator2);
+
+    // The restored tally continues counting from the outstanding votes
+    restored.addVote(new ValidatorVote(VoteType.ADD, validator2, validator5));
+    restored.addVote(new ValidatorVote(VoteType.ADD, validator3, validator5));
+    assertThat(restored.getValidators())
+        .containsExactly(validator1, validator2, validator3, validator4, validator5);
+  }
+
   private VoteTally fourValidators() {
     return new VoteTally(asList(validator1, validator2, validator3, validator4));
   }
@@ -15,17 +15,22 @@
 package org.hyperledger.besu.consensus.ibft;
 
 import org.hyperledger.besu.consensus.ibft.ibftevent.BlockTimerExpiry;
+import org.hyperledger.besu.ethereum.blockcreation.AbstractBlockCreator;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 
 import java.time.Clock;
 import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 /** Class for starting and keeping organised block timers */
 public class BlockTimer {
   private final IbftExecutors ibftExecutors;
   private Optional<ScheduledFuture<?>> currentTimerTask;
+  // Set when the current timer expires or is cancelled, stopping any preparation it started
+  private AtomicBoolean currentPreparationStopped = new AtomicBoolean(true);
   private final IbftEventQueue queue;
   private final long minimumTimeBetweenBlocksMillis;
   private final Clock clock;
@@ -54,6 +59,7 @@ public class BlockTimer {
   public synchronized void cancelTimer() {
     currentTimerTask.ifPresent(t -> t.cancel(false));
     currentTimerTask = Optional.empty();
+    currentPreparationStopped.set(true);
   }
 
   /**
@@ -75,6 +81,9 @@ public class BlockTimer {
       final ConsensusRoundIdentifier round, final BlockHeader chainHeadHeader) {
     cancelTimer();
 
+    final AtomicBoolean preparationStopped = new AtomicBoolean(false);
+    currentPreparationStopped = preparationStopped;
+
     final long now = clock.millis();
 
     // absolute time when the timer is supposed to expire
@@ -83,13 +92,54 @@ public class BlockTimer {
     if (expiryTime > now) {
       final long delay = expiryTime - now;
 
-      final Runnable newTimerRunnable = () -> queue.add(new BlockTimerExpiry(round));
+      final Runnable newTimerRunnable =
+          () -> {
+            preparationStopped.set(true);
+            queue.add(new BlockTimerExpiry(round));
+          };
 
       final ScheduledFuture<?> newTimerTask =
           ibftExecutors.scheduleTask(newTimerRunnable, delay, TimeUnit.MILLISECONDS);
       currentTimerTask = Optional.of(newTimerTask);
     } else {
+      preparationStopped.set(true);
       queue.add(new BlockTimerExpiry(round));
     }
   }
+
+  /**
+   * The timestamp of the block to be proposed when a timer started for the supplied chain head
+   * expires
+   *
+   * @param chainHeadHeader The header of the chain head
+   * @return the timestamp, in seconds, of the next block
+   */
+  public long getBlockTimestamp(final BlockHeader chainHeadHeader) {
+    return chainHeadHeader.getTimestamp()
+        + TimeUnit.MILLISECONDS.toSeconds(minimumTimeBetweenBlocksMillis);
+  }
+
+  /**
+   * Repeatedly runs the supplied task on the block creation executor until the current timer
+   * expires or is cancelled, or the task returns false, so that the block to be proposed can be
+   * built before it is needed
+   *
+   * @param task The task to run while the timer is pending, returning whether to run it again
+   */
+  public synchronized void runUntilExpiry(final BooleanSupplier task) {
+    final AtomicBoolean preparationStopped = currentPreparationStopped;
+    if (preparationStopped.get()) {
+      return;
+    }
+    ibftExecutors.executeBlockCreation(
+        () -> {
+          try {
+            while (!preparationStopped.get() && task.getAsBoolean()) {
+              Thread.sleep(AbstractBlockCreator.PREPARATION_INTERVAL_MILLIS);
+            }
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+  }
 }
@@ -15,24 +15,83 @@
 package org.hyperledger.besu.consensus.ibft;
 
 import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvent;
+import org.hyperledger.besu.consensus.ibft.ibftevent.IbftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.ibft.ibftevent.NewChainHead;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.IbftMessage;
+import org.hyperledger.besu.ethereum.core.Address;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-/** Threadsafe queue that lets parts of the system inform the Ibft infrastructure about events */
+/**
+ * Threadsafe queue that lets parts of the system inform the Ibft infrastructure about events.
+ *
+ * <p>Events are not necessarily handed out in the order they were added:
+ *
+ * <ul>
+ *   <li>Timer and chain head events, and messages for the current chain height, are handed out
+ *       first and in the order they arrived.
+ *   <li>Messages for future chain heights, which the controller would only buffer, are handed out
+ *       once no more urgent events are queued, lowest height first.
+ *   <li>Messages for chain heights which have already been completed are discarded on arrival.
+ * </ul>
+ *
+ * <p>The current chain height is learnt from {@link NewChainHead} events as they are added. Message
+ * events which arrive with their author already recovered are also coalesced, so only one message
+ * per author, height, round and message type is queued at a time, and no single author may occupy
+ * more than a share of the queue. Messages for the current chain height from authors who are not
+ * current validators are discarded on arrival, so the share can't be avoided by signing with new
+ * keys. Messages for future heights are only limited by the share, as the validators may have
+ * changed by then and the controller uses them to learn how far ahead its peers are.
+ */
 public class IbftEventQueue {
-  private final BlockingQueue<IbftEvent> queue = new LinkedBlockingQueue<>();
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final int AUTHOR_SHARE_DIVISOR = 10;
+  private static final long UNKNOWN_CHAIN_HEIGHT = -1;
+
+  private final PriorityQueue<QueuedEvent> queue = new PriorityQueue<>();
+  private final Set<MessageKey> queuedMessageKeys = new HashSet<>();
+  private final Map<Address, Integer> queuedMessagesByAuthor = new HashMap<>();
   private final int messageQueueLimit;
+  private final int messagesPerAuthorLimit;
+  private final Predicate<Address> isValidator;
+  private long chainHeight = UNKNOWN_CHAIN_HEIGHT;
+  private long nextSequenceNumber = 0;
 
   public IbftEventQueue(final int messageQueueLimit) {
+    this(messageQueueLimit, author -> true);
+  }
+
+  public IbftEventQueue(final int messageQueueLimit, final Predicate<Address> isValidator) {
+    this(messageQueueLimit, Math.max(1, messageQueueLimit / AUTHOR_SHARE_DIVISOR), isValidator);
+  }
+
+  /**
+   * @param messageQueueLimit the maximum number of events to queue
+   * @param messagesPerAuthorLimit the maximum number of messages to queue from any one author
+   * @param isValidator whether an address is one of the validators for the current chain height
+   */
+  public IbftEventQueue(
+      final int messageQueueLimit,
+      final int messagesPerAuthorLimit,
+      final Predicate<Address> isValidator) {
     this.messageQueueLimit = messageQueueLimit;
+    this.messagesPerAuthorLimit = messagesPerAuthorLimit;
+    this.isValidator = isValidator;
   }
 
   /**
@@ -40,19 +99,31 @@ public class IbftEventQueue {
    *
    * @param event Provided ibft event
    */
-  public void add(final IbftEvent event) {
+  public synchronized void add(final IbftEvent event) {
     if (queue.size() > messageQueueLimit) {
       LOG.warn("Queue size exceeded trying to add new ibft event {}", event);
-    } else {
-      queue.add(event);
+      return;
+    }
+
+    if (event instanceof NewChainHead) {
+      updateChainHeight(((NewChainHead) event).getNewChainHeadHeader().getNumber() + 1);
     }
+
+    final Optional<MessageKey> messageKey = messageKey(event);
+    if (messageKey.isPresent() && !reserve(messageKey.get())) {
+      return;
+    }
+    final QueuedEvent queuedEvent = new QueuedEvent(event, messageKey, nextSequenceNumber++);
+    queuedEvent.updatePriority(chainHeight);
+    queue.add(queuedEvent);
+    notifyAll();
   }
 
-  public int size() {
+  public synchronized int size() {
     return queue.size();
   }
 
-  public boolean isEmpty() {
+  public synchronized boolean isEmpty() {
     return queue.isEmpty();
   }
 
@@ -66,7 +137,143 @@ public class IbftEventQueue {
    * @throws InterruptedException If the underlying queue implementation is interrupted
    */
   @Nullable
-  public IbftEvent poll(final long timeout, final TimeUnit unit) throws InterruptedException {
-    return queue.poll(timeout, unit);
+  public synchronized IbftEvent poll(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+    long remainingNanos = unit.toNanos(timeout);
+    while (queue.isEmpty()) {
+      if (remainingNanos <= 0) {
+        return null;
+      }
+      TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      remainingNanos = deadline - System.nanoTime();
+    }
+    final QueuedEvent next = queue.poll();
+    next.messageKey.ifPresent(this::release);
+    return next.event;
+  }
+
+  private Optional<MessageKey> messageKey(final IbftEvent event) {
+    if (!(event instanceof IbftReceivedMessageEvent)) {
+      return Optional.empty();
+    }
+    return ((IbftReceivedMessageEvent) event).getDecodedMessage().map(MessageKey::new);
+  }
+
+  private boolean reserve(final MessageKey messageKey) {
+    if (chainHeight != UNKNOWN_CHAIN_HEIGHT && messageKey.height < chainHeight) {
+      LOG.trace("Discarding ibft message for completed height {}", messageKey);
+      return false;
+    }
+    if (queuedMessageKeys.contains(messageKey)) {
+      LOG.trace("Discarding ibft message already queued for {}", messageKey);
+      return false;
+    }
+    if (messageKey.height <= chainHeight && !isValidator.test(messageKey.author)) {
+      LOG.trace("Discarding ibft message for current height from non-validator {}", messageKey);
+      return false;
+    }
+    final int authorMessages = queuedMessagesByAuthor.getOrDefault(messageKey.author, 0);
+    if (authorMessages >= messagesPerAuthorLimit) {
+      LOG.debug("Queued message limit exceeded for validator {}", messageKey.author);
+      return false;
+    }
+    queuedMessageKeys.add(messageKey);
+    queuedMessagesByAuthor.put(messageKey.author, authorMessages + 1);
+    return true;
+  }
+
+  private void release(final MessageKey messageKey) {
+    queuedMessageKeys.remove(messageKey);
+    queuedMessagesByAuthor.computeIfPresent(
+        messageKey.author, (author, count) -> count > 1 ? count - 1 : null);
+  }
+
+  private void updateChainHeight(final long newChainHeight) {
+    if (newChainHeight <= chainHeight) {
+      return;
+    }
+    chainHeight = newChainHeight;
+
+    final List<QueuedEvent> retained = new ArrayList<>(queue.size());
+    for (final QueuedEvent queuedEvent : queue) {
+      if (queuedEvent.messageKey.map(key -> key.height < chainHeight).orElse(false)) {
+        release(queuedEvent.messageKey.get());
+      } else {
+        queuedEvent.updatePriority(chainHeight);
+        retained.add(queuedEvent);
+      }
+    }
+    queue.clear();
+    queue.addAll(retained);
+  }
+
+  private static class QueuedEvent implements Comparable<QueuedEvent> {
+    private final IbftEvent event;
+    private final Optional<MessageKey> messageKey;
+    private final long sequenceNumber;
+    // 0 for events to be handled straight away, otherwise the future height the message is for
+    private long priority;
+
+    private QueuedEvent(
+        final IbftEvent event, final Optional<MessageKey> messageKey, final long sequenceNumber) {
+      this.event = event;
+      this.messageKey = messageKey;
+      this.sequenceNumber = sequenceNumber;
+    }
+
+    private void updatePriority(final long chainHeight) {
+      priority =
+          messageKey
+              .filter(key -> chainHeight != UNKNOWN_CHAIN_HEIGHT && key.height > chainHeight)
+              .map(key -> key.height)
+              .orElse(0L);
+    }
+
+    @Override
+    public int compareTo(final QueuedEvent other) {
+      final int result = Long.compare(priority, other.priority);
+      return result != 0 ? result : Long.compare(sequenceNumber, other.sequenceNumber);
+    }
+  }
+
+  private static class MessageKey {
+    private final Address author;
+    private final long height;
+    private final int round;
+    private final int messageType;
+
+    private MessageKey(final IbftMessage<?> message) {
+      this.author = message.getAuthor();
+      this.height = message.getRoundIdentifier().getSequenceNumber();
+      this.round = message.getRoundIdentifier().getRoundNumber();
+      this.messageType = message.getMessageType();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final MessageKey that = (MessageKey) o;
+      return height == that.height
+          && round == that.round
+          && messageType == that.messageType
+          && Objects.equals(author, that.author);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(author, height, round, messageType);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "author=%s height=%d round=%d messageType=%d", author, height, round, messageType);
+    }
   }
 }
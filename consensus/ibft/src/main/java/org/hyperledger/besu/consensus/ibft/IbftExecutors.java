@@ -15,6 +15,7 @@
 
 package org.hyperledger.besu.consensus.ibft;
 
+import static org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors.newFixedThreadPool;
 import static org.hyperledger.besu.ethereum.eth.manager.MonitoredExecutors.newScheduledThreadPool;
 
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -44,6 +45,7 @@ public class IbftExecutors {
 
   private volatile ScheduledExecutorService timerExecutor;
   private volatile ExecutorService ibftProcessorExecutor;
+  private volatile ExecutorService blockCreationExecutor;
   private volatile State state = State.IDLE;
 
   private IbftExecutors(final MetricsSystem metricsSystem) {
@@ -62,6 +64,7 @@ public class IbftExecutors {
     state = State.RUNNING;
     ibftProcessorExecutor = Executors.newSingleThreadExecutor();
     timerExecutor = newScheduledThreadPool("IbftTimerExecutor", 1, metricsSystem);
+    blockCreationExecutor = newFixedThreadPool("IbftBlockCreation", 1, metricsSystem);
   }
 
   public void stop() {
@@ -74,6 +77,7 @@ public class IbftExecutors {
 
     timerExecutor.shutdownNow();
     ibftProcessorExecutor.shutdownNow();
+    blockCreationExecutor.shutdownNow();
   }
 
   public void awaitStop() throws InterruptedException {
@@ -83,6 +87,9 @@ public class IbftExecutors {
     if (!ibftProcessorExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
       LOG.error("{} ibftProcessor executor did not shutdown cleanly.", getClass().getSimpleName());
     }
+    if (!blockCreationExecutor.awaitTermination(shutdownTimeout.getSeconds(), TimeUnit.SECONDS)) {
+      LOG.error("{} block creation executor did not shutdown cleanly.", getClass().getSimpleName());
+    }
   }
 
   public synchronized void executeIbftProcessor(final IbftProcessor ibftProcessor) {
@@ -96,6 +103,11 @@ public class IbftExecutors {
     return timerExecutor.schedule(command, delay, unit);
   }
 
+  public synchronized void executeBlockCreation(final Runnable command) {
+    assertRunning();
+    blockCreationExecutor.execute(command);
+  }
+
   private void assertRunning() {
     if (state != State.RUNNING) {
       throw new IllegalStateException(
@@ -0,0 +1,126 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.ibft;
+
+import org.hyperledger.besu.crypto.SECP256K1.Signature;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Recovers the addresses of the validators which created signatures.
+ *
+ * <p>A commit seal is recovered when the Commit message carrying it is validated, and again by the
+ * header validation rules when the sealed block is imported. The embedded prepares of a round
+ * change certificate are likewise recovered each time the certificate is received. Recent
+ * recoveries are therefore cached. Batches of signatures over the same data, such as the commit
+ * seals of a block, are recovered in parallel.
+ */
+public class IbftSignatureRecovery {
+
+  private static final int RECOVERED_ADDRESS_CACHE_SIZE = 4096;
+  private static final ForkJoinPool RECOVERY_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+  private static final Cache<SignedHash, Address> RECOVERED_ADDRESSES =
+      CacheBuilder.newBuilder().maximumSize(RECOVERED_ADDRESS_CACHE_SIZE).build();
+
+  private IbftSignatureRecovery() {}
+
+  /**
+   * Recovers the address which created a signature.
+   *
+   * @param signature the signature from which an address is to be recovered
+   * @param dataHash the hash of the data which was signed
+   * @return the address which signed the data, or null if no address could be recovered
+   */
+  public static Address recoverAddress(final Signature signature, final Hash dataHash) {
+    final SignedHash signedHash = new SignedHash(dataHash, signature);
+    final Address cachedAddress = RECOVERED_ADDRESSES.getIfPresent(signedHash);
+    if (cachedAddress != null) {
+      return cachedAddress;
+    }
+    final Address address = Util.signatureToAddress(signature, dataHash);
+    if (address != null) {
+      RECOVERED_ADDRESSES.put(signedHash, address);
+    }
+    return address;
+  }
+
+  /**
+   * Recovers the addresses which created signatures over the same data, in parallel.
+   *
+   * @param signatures the signatures from which addresses are to be recovered
+   * @param dataHash the hash of the data which was signed
+   * @return the address which created each signature, in the same order as the signatures, with
+   *     null for any signature no address could be recovered from
+   */
+  public static List<Address> recoverAddresses(
+      final Collection<Signature> signatures, final Hash dataHash) {
+    if (signatures.size() < 2) {
+      return signatures.stream()
+          .map(signature -> recoverAddress(signature, dataHash))
+          .collect(Collectors.toList());
+    }
+    final List<ForkJoinTask<Address>> recoveryTasks =
+        signatures.stream()
+            .map(signature -> ForkJoinTask.adapt(() -> recoverAddress(signature, dataHash)))
+            .collect(Collectors.toList());
+    RECOVERY_POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(recoveryTasks)));
+    return recoveryTasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+  }
+
+  @VisibleForTesting
+  static void clearCache() {
+    RECOVERED_ADDRESSES.invalidateAll();
+  }
+
+  private static class SignedHash {
+    private final Hash dataHash;
+    private final Signature signature;
+
+    private SignedHash(final Hash dataHash, final Signature signature) {
+      this.dataHash = dataHash;
+      this.signature = signature;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final SignedHash that = (SignedHash) o;
+      return Objects.equals(dataHash, that.dataHash) && Objects.equals(signature, that.signature);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(dataHash, signature);
+    }
+  }
+}
@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.core.SealableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.function.Function;
 
@@ -41,7 +42,8 @@ public class IbftBlockCreator extends AbstractBlockCreator<IbftContext> {
       final ProtocolSchedule<IbftContext> protocolSchedule,
       final Function<Long, Long> gasLimitCalculator,
       final Wei minTransactionGasPrice,
-      final BlockHeader parentHeader) {
+      final BlockHeader parentHeader,
+      final MetricsSystem metricsSystem) {
     super(
         localAddress,
         extraDataCalculator,
@@ -51,7 +53,8 @@ public class IbftBlockCreator extends AbstractBlockCreator<IbftContext> {
         gasLimitCalculator,
         minTransactionGasPrice,
         localAddress,
-        parentHeader);
+        parentHeader,
+        metricsSystem);
   }
 
   @Override
@@ -27,6 +27,7 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -43,6 +44,7 @@ public class IbftBlockCreatorFactory {
   protected final ProtocolContext<IbftContext> protocolContext;
   protected final ProtocolSchedule<IbftContext> protocolSchedule;
   private final Address localAddress;
+  private final MetricsSystem metricsSystem;
 
   private volatile Bytes vanityData;
   private volatile Wei minTransactionGasPrice;
@@ -53,12 +55,14 @@ public class IbftBlockCreatorFactory {
       final ProtocolContext<IbftContext> protocolContext,
       final ProtocolSchedule<IbftContext> protocolSchedule,
       final MiningParameters miningParams,
-      final Address localAddress) {
+      final Address localAddress,
+      final MetricsSystem metricsSystem) {
     this.gasLimitCalculator = gasLimitCalculator;
     this.pendingTransactions = pendingTransactions;
     this.protocolContext = protocolContext;
     this.protocolSchedule = protocolSchedule;
     this.localAddress = localAddress;
+    this.metricsSystem = metricsSystem;
     this.minTransactionGasPrice = miningParams.getMinTransactionGasPrice();
     this.vanityData = miningParams.getExtraData();
   }
@@ -72,7 +76,8 @@ public class IbftBlockCreatorFactory {
         protocolSchedule,
         gasLimitCalculator,
         minTransactionGasPrice,
-        parentHeader);
+        parentHeader,
+        metricsSystem);
   }
 
   public void setExtraData(final Bytes extraData) {
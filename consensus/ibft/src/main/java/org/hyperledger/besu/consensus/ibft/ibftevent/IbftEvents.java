@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.consensus.ibft.ibftevent;
 
+import org.hyperledger.besu.consensus.ibft.messagedata.IbftMessageDecoder;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
 
 /** Static helper functions for producing and working with IbftEvent objects */
@@ -22,6 +23,18 @@ public class IbftEvents {
     return new IbftReceivedMessageEvent(message);
   }
 
+  /**
+   * Creates a message event carrying the decoded message, so signature recovery can be done before
+   * the event reaches the IBFT processor thread.
+   *
+   * @param message the received message
+   * @return the message event
+   * @throws RuntimeException if the message can't be decoded
+   */
+  public static IbftEvent decodeMessage(final Message message) {
+    return new IbftReceivedMessageEvent(message, IbftMessageDecoder.decode(message.getData()));
+  }
+
   public enum Type {
     ROUND_EXPIRY,
     NEW_CHAIN_HEAD,
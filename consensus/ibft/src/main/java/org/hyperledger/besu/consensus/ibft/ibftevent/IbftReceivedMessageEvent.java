@@ -14,20 +14,45 @@
  */
 package org.hyperledger.besu.consensus.ibft.ibftevent;
 
+import org.hyperledger.besu.consensus.ibft.messagewrappers.IbftMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
 
+import java.util.Optional;
+
 public class IbftReceivedMessageEvent implements IbftEvent {
 
   private final Message message;
+  private final Optional<IbftMessage<?>> decodedMessage;
 
   public IbftReceivedMessageEvent(final Message message) {
+    this(message, Optional.empty());
+  }
+
+  /**
+   * Constructor for a message event whose signature has already been recovered, so the decoding
+   * work isn't repeated by the single IBFT processor thread.
+   *
+   * @param message the received message
+   * @param decodedMessage the message decoded from the received message data
+   */
+  public IbftReceivedMessageEvent(final Message message, final IbftMessage<?> decodedMessage) {
+    this(message, Optional.of(decodedMessage));
+  }
+
+  private IbftReceivedMessageEvent(
+      final Message message, final Optional<IbftMessage<?>> decodedMessage) {
     this.message = message;
+    this.decodedMessage = decodedMessage;
   }
 
   public Message getMessage() {
     return message;
   }
 
+  public Optional<IbftMessage<?>> getDecodedMessage() {
+    return decodedMessage;
+  }
+
   @Override
   public IbftEvents.Type getType() {
     return IbftEvents.Type.MESSAGE;
@@ -14,9 +14,9 @@
  */
 package org.hyperledger.besu.consensus.ibft.payload;
 
+import org.hyperledger.besu.consensus.ibft.IbftSignatureRecovery;
 import org.hyperledger.besu.crypto.SECP256K1.Signature;
 import org.hyperledger.besu.ethereum.core.Address;
-import org.hyperledger.besu.ethereum.core.Util;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import org.hyperledger.besu.ethereum.rlp.RLPOutput;
@@ -117,7 +117,8 @@ public class SignedData<M extends Payload> implements Authored {
   protected static Address recoverSender(
       final Payload unsignedMessageData, final Signature signature) {
 
-    return Util.signatureToAddress(signature, MessageFactory.hashForSignature(unsignedMessageData));
+    return IbftSignatureRecovery.recoverAddress(
+        signature, MessageFactory.hashForSignature(unsignedMessageData));
   }
 
   @Override
@@ -26,22 +26,44 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.Di
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class IbftProtocolManager implements ProtocolManager {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
   private final IbftEventQueue ibftEventQueue;
 
   private final PeerConnectionTracker peers;
+  private final ExecutorService messageDecoder;
+  private final Map<PeerConnection, Executor> peerMessageDecoders = new ConcurrentHashMap<>();
 
   /**
    * Constructor for the ibft protocol manager
    *
    * @param ibftEventQueue Entry point into the ibft event processor
    * @param peers Used to track all connected IBFT peers.
+   * @param messageDecoder Decodes received messages, recovering their authors from the message
+   *     signatures, before they are queued for the ibft event processor. Messages from different
+   *     peers are decoded in parallel, but those from any one peer are queued in the order they
+   *     were received.
    */
   public IbftProtocolManager(
-      final IbftEventQueue ibftEventQueue, final PeerConnectionTracker peers) {
+      final IbftEventQueue ibftEventQueue,
+      final PeerConnectionTracker peers,
+      final ExecutorService messageDecoder) {
     this.ibftEventQueue = ibftEventQueue;
     this.peers = peers;
+    this.messageDecoder = messageDecoder;
   }
 
   @Override
@@ -55,16 +77,24 @@ public class IbftProtocolManager implements ProtocolManager {
   }
 
   @Override
-  public void stop() {}
+  public void stop() {
+    messageDecoder.shutdownNow();
+  }
 
   @Override
-  public void awaitStop() throws InterruptedException {}
+  public void awaitStop() throws InterruptedException {
+    if (!messageDecoder.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      LOG.error("{} message decoder did not shutdown cleanly.", getClass().getSimpleName());
+    }
+  }
 
   /**
    * This function is called by the P2P framework when an "IBF" message has been received. This
    * function is responsible for:
    *
    * <ul>
+   *   <li>Decoding the message and recovering its author, off the ibft processor thread (discard
+   *       if the message can't be decoded)
    *   <li>Determining if the message was from a current validator (discard if not)
    *   <li>Determining if the message received was for the 'current round', discarding if old and
    *       buffering for the future if ahead of current state.
@@ -77,7 +107,24 @@ public class IbftProtocolManager implements ProtocolManager {
    */
   @Override
   public void processMessage(final Capability cap, final Message message) {
-    final IbftEvent messageEvent = IbftEvents.fromMessage(message);
+    try {
+      peerMessageDecoders
+          .computeIfAbsent(
+              message.getConnection(), peer -> MoreExecutors.newSequentialExecutor(messageDecoder))
+          .execute(() -> decodeAndQueue(message));
+    } catch (final RejectedExecutionException e) {
+      LOG.trace("Discarding IBFT message received while stopping");
+    }
+  }
+
+  private void decodeAndQueue(final Message message) {
+    final IbftEvent messageEvent;
+    try {
+      messageEvent = IbftEvents.decodeMessage(message);
+    } catch (final RuntimeException e) {
+      LOG.debug("Discarding IBFT message which could not be decoded", e);
+      return;
+    }
     ibftEventQueue.add(messageEvent);
   }
 
@@ -92,5 +139,6 @@ public class IbftProtocolManager implements ProtocolManager {
       final DisconnectReason disconnectReason,
       final boolean initiatedByPeer) {
     peers.remove(peerConnection);
+    peerMessageDecoders.remove(peerConnection);
   }
 }
@@ -40,6 +40,7 @@ public class FutureMessageBuffer {
   private final long futureMessagesMaxDistance;
   private final long futureMessagesLimit;
   private long chainHeight;
+  private long totalMessagesSize = 0;
 
   public FutureMessageBuffer(
       final long futureMessagesMaxDistance,
@@ -57,7 +58,7 @@ public class FutureMessageBuffer {
 
     addMessageToBuffer(msgChainHeight, rawMsg);
 
-    if (totalMessagesSize() > futureMessagesLimit) {
+    if (totalMessagesSize > futureMessagesLimit) {
       evictMessages();
     }
   }
@@ -65,6 +66,7 @@ public class FutureMessageBuffer {
   private void addMessageToBuffer(final long msgChainHeight, final Message rawMsg) {
     buffer.putIfAbsent(msgChainHeight, new ArrayList<>());
     buffer.get(msgChainHeight).add(rawMsg);
+    totalMessagesSize++;
   }
 
   private boolean validMessageHeight(final long msgChainHeight, final long currentHeight) {
@@ -76,10 +78,11 @@ public class FutureMessageBuffer {
 
   private void evictMessages() {
     if (buffer.size() > 1) {
-      buffer.remove(buffer.lastKey());
+      totalMessagesSize -= buffer.remove(buffer.lastKey()).size();
     } else if (buffer.size() == 1) {
       List<Message> messages = buffer.firstEntry().getValue();
       messages.remove(0);
+      totalMessagesSize--;
     }
   }
 
@@ -91,15 +94,13 @@ public class FutureMessageBuffer {
   }
 
   private void discardPreviousHeightMessages() {
-    if (!buffer.isEmpty()) {
-      for (long h = buffer.firstKey(); h <= chainHeight; h++) {
-        buffer.remove(h);
-      }
-    }
+    final NavigableMap<Long, List<Message>> previousHeights = buffer.headMap(chainHeight, true);
+    previousHeights.values().forEach(messages -> totalMessagesSize -= messages.size());
+    previousHeights.clear();
   }
 
   @VisibleForTesting
   long totalMessagesSize() {
-    return buffer.values().stream().map(List::size).reduce(0, Integer::sum).longValue();
+    return totalMessagesSize;
   }
 }
@@ -102,6 +102,10 @@ public class IbftBlockHeightManager implements BlockHeightManager {
     currentRound = roundFactory.createNewRound(parentHeader, 0);
     if (finalState.isLocalNodeProposerForRound(currentRound.getRoundIdentifier())) {
       blockTimer.startTimer(currentRound.getRoundIdentifier(), parentHeader);
+      // Build the block to propose while the timer runs, so it only needs sealing on expiry.
+      final IbftRound proposingRound = currentRound;
+      final long proposalTimestamp = blockTimer.getBlockTimestamp(parentHeader);
+      blockTimer.runUntilExpiry(() -> proposingRound.prepareProposalBlock(proposalTimestamp));
     }
   }
 
@@ -27,15 +27,21 @@ import org.hyperledger.besu.consensus.ibft.messagedata.IbftV2;
 import org.hyperledger.besu.consensus.ibft.messagedata.PrepareMessageData;
 import org.hyperledger.besu.consensus.ibft.messagedata.ProposalMessageData;
 import org.hyperledger.besu.consensus.ibft.messagedata.RoundChangeMessageData;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.Commit;
 import org.hyperledger.besu.consensus.ibft.messagewrappers.IbftMessage;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.Proposal;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.RoundChange;
 import org.hyperledger.besu.consensus.ibft.payload.Authored;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Message;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -81,40 +87,57 @@ public class IbftController {
     final MessageData data = msg.getMessage().getData();
     if (!duplicateMessageTracker.hasSeenMessage(data)) {
       duplicateMessageTracker.addSeenMessage(data);
-      handleMessage(msg.getMessage());
+      handleMessage(msg.getMessage(), msg.getDecodedMessage());
     } else {
       LOG.trace("Discarded duplicate message");
     }
   }
 
   private void handleMessage(final Message message) {
+    handleMessage(message, Optional.empty());
+  }
+
+  private void handleMessage(
+      final Message message, final Optional<IbftMessage<?>> decodedMessage) {
     final MessageData messageData = message.getData();
     switch (messageData.getCode()) {
       case IbftV2.PROPOSAL:
         consumeMessage(
             message,
-            ProposalMessageData.fromMessageData(messageData).decode(),
+            decode(
+                decodedMessage,
+                Proposal.class,
+                () -> ProposalMessageData.fromMessageData(messageData).decode()),
             currentHeightManager::handleProposalPayload);
         break;
 
       case IbftV2.PREPARE:
         consumeMessage(
             message,
-            PrepareMessageData.fromMessageData(messageData).decode(),
+            decode(
+                decodedMessage,
+                Prepare.class,
+                () -> PrepareMessageData.fromMessageData(messageData).decode()),
             currentHeightManager::handlePreparePayload);
         break;
 
       case IbftV2.COMMIT:
         consumeMessage(
             message,
-            CommitMessageData.fromMessageData(messageData).decode(),
+            decode(
+                decodedMessage,
+                Commit.class,
+                () -> CommitMessageData.fromMessageData(messageData).decode()),
             currentHeightManager::handleCommitPayload);
         break;
 
       case IbftV2.ROUND_CHANGE:
         consumeMessage(
             message,
-            RoundChangeMessageData.fromMessageData(messageData).decode(),
+            decode(
+                decodedMessage,
+                RoundChange.class,
+                () -> RoundChangeMessageData.fromMessageData(messageData).decode()),
             currentHeightManager::handleRoundChangePayload);
         break;
 
@@ -126,6 +149,16 @@ public class IbftController {
     }
   }
 
+  private static <P extends IbftMessage<?>> P decode(
+      final Optional<IbftMessage<?>> decodedMessage,
+      final Class<P> messageClass,
+      final Supplier<P> decoder) {
+    return decodedMessage
+        .filter(messageClass::isInstance)
+        .map(messageClass::cast)
+        .orElseGet(decoder);
+  }
+
   private <P extends IbftMessage<?>> void consumeMessage(
       final Message message, final P ibftMessage, final Consumer<P> handleMessage) {
     LOG.trace("Received IBFT {} message", ibftMessage.getClass().getSimpleName());
@@ -85,6 +85,17 @@ public class IbftRound {
     return roundState.getRoundIdentifier();
   }
 
+  /**
+   * Prepares the block this round will propose, ahead of it being created
+   *
+   * @param headerTimeStampSeconds The timestamp the block will be proposed with
+   * @return false once the block has been created, and there is nothing more to prepare
+   */
+  public boolean prepareProposalBlock(final long headerTimeStampSeconds) {
+    blockCreator.prepareCandidate(headerTimeStampSeconds);
+    return !blockCreator.isPreparationStopped();
+  }
+
   public void createAndSendProposalMessage(final long headerTimeStampSeconds) {
     final Block block = blockCreator.createBlock(headerTimeStampSeconds);
     final IbftExtraData extraData = IbftExtraData.decode(block.getHeader());
@@ -32,6 +32,7 @@ import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import java.time.Clock;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -241,4 +242,95 @@ public class BlockTimerTest {
     when(mockedFuture.isDone()).thenReturn(true);
     assertThat(timer.isRunning()).isFalse();
   }
+
+  @Test
+  public void blockTimestampIsWhenTheTimerExpires() {
+    final BlockTimer timer = new BlockTimer(mockQueue, 15, ibftExecutors, mockClock);
+    final BlockHeader header = new BlockHeaderTestFixture().timestamp(500L).buildHeader();
+
+    assertThat(timer.getBlockTimestamp(header)).isEqualTo(515L);
+  }
+
+  @Test
+  public void preparationTaskRunsOnBlockCreationExecutorUntilTimerExpires() {
+    final BlockTimer timer = new BlockTimer(mockQueue, 15, ibftExecutors, mockClock);
+    final Runnable expiryTask = startTimerInTheFuture(timer);
+
+    final AtomicInteger runs = new AtomicInteger();
+    timer.runUntilExpiry(
+        () -> {
+          if (runs.incrementAndGet() == 2) {
+            expiryTask.run();
+          }
+          return true;
+        });
+    runBlockCreationTask();
+
+    assertThat(runs).hasValue(2);
+    verify(mockQueue).add(any(BlockTimerExpiry.class));
+  }
+
+  @Test
+  public void preparationStopsWhenTimerIsCancelled() {
+    final BlockTimer timer = new BlockTimer(mockQueue, 15, ibftExecutors, mockClock);
+    startTimerInTheFuture(timer);
+
+    final AtomicInteger runs = new AtomicInteger();
+    timer.runUntilExpiry(
+        () -> {
+          runs.incrementAndGet();
+          timer.cancelTimer();
+          return true;
+        });
+    runBlockCreationTask();
+
+    assertThat(runs).hasValue(1);
+  }
+
+  @Test
+  public void preparationStopsWhenTaskHasNothingMoreToPrepare() {
+    final BlockTimer timer = new BlockTimer(mockQueue, 15, ibftExecutors, mockClock);
+    startTimerInTheFuture(timer);
+
+    final AtomicInteger runs = new AtomicInteger();
+    timer.runUntilExpiry(
+        () -> {
+          runs.incrementAndGet();
+          return false;
+        });
+    runBlockCreationTask();
+
+    assertThat(runs).hasValue(1);
+  }
+
+  @Test
+  public void preparationIsNotStartedWithoutPendingTimer() {
+    final BlockTimer timer = new BlockTimer(mockQueue, 15, ibftExecutors, mockClock);
+
+    timer.runUntilExpiry(() -> true);
+
+    verify(ibftExecutors, never()).executeBlockCreation(any());
+  }
+
+  private Runnable startTimerInTheFuture(final BlockTimer timer) {
+    when(mockClock.millis()).thenReturn(500_000L);
+    final BlockHeader header = new BlockHeaderTestFixture().timestamp(500L).buildHeader();
+    final ConsensusRoundIdentifier round =
+        new ConsensusRoundIdentifier(0xFEDBCA9876543210L, 0x12345678);
+
+    final ScheduledFuture<?> mockedFuture = mock(ScheduledFuture.class);
+    final ArgumentCaptor<Runnable> expiryCaptor = ArgumentCaptor.forClass(Runnable.class);
+    Mockito.<ScheduledFuture<?>>when(
+            ibftExecutors.scheduleTask(
+                expiryCaptor.capture(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+        .thenReturn(mockedFuture);
+    timer.startTimer(round, header);
+    return expiryCaptor.getValue();
+  }
+
+  private void runBlockCreationTask() {
+    final ArgumentCaptor<Runnable> blockCreationCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(ibftExecutors).executeBlockCreation(blockCreationCaptor.capture());
+    blockCreationCaptor.getValue().run();
+  }
 }
@@ -19,6 +19,17 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 
 import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvent;
 import org.hyperledger.besu.consensus.ibft.ibftevent.IbftEvents.Type;
+import org.hyperledger.besu.consensus.ibft.ibftevent.IbftReceivedMessageEvent;
+import org.hyperledger.besu.consensus.ibft.ibftevent.NewChainHead;
+import org.hyperledger.besu.consensus.ibft.messagedata.PrepareMessageData;
+import org.hyperledger.besu.consensus.ibft.messagewrappers.Prepare;
+import org.hyperledger.besu.consensus.ibft.payload.MessageFactory;
+import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.DefaultMessage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -85,4 +96,149 @@ public class IbftEventQueueTest {
     assertThat(drain).doesNotContainNull();
     assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isNull();
   }
+
+  @Test
+  public void futureHeightMessagesAreHandedOutAfterCurrentHeightEvents()
+      throws InterruptedException {
+    final IbftEventQueue queue = new IbftEventQueue(MAX_QUEUE_SIZE);
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+    final NewChainHead newChainHead = newChainHead(9);
+    final IbftEvent futureMessage = prepareEvent(messageFactory, 12, 0);
+    final IbftEvent nearFutureMessage = prepareEvent(messageFactory, 11, 0);
+    final IbftEvent currentMessage = prepareEvent(messageFactory, 10, 0);
+    final DummyIbftEvent dummyEvent = new DummyIbftEvent();
+
+    queue.add(newChainHead);
+    queue.add(futureMessage);
+    queue.add(nearFutureMessage);
+    queue.add(currentMessage);
+    queue.add(dummyEvent);
+
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(newChainHead);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(currentMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(dummyEvent);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(nearFutureMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(futureMessage);
+  }
+
+  @Test
+  public void queuedMessagesAreReprioritisedWhenChainHeadAdvances() throws InterruptedException {
+    final IbftEventQueue queue = new IbftEventQueue(MAX_QUEUE_SIZE);
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+    final IbftEvent completedHeightMessage = prepareEvent(messageFactory, 10, 0);
+    final IbftEvent nextHeightMessage = prepareEvent(messageFactory, 11, 0);
+    final DummyIbftEvent dummyEvent = new DummyIbftEvent();
+    final NewChainHead newChainHead = newChainHead(10);
+
+    queue.add(newChainHead(9));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+    queue.add(nextHeightMessage);
+    queue.add(completedHeightMessage);
+    queue.add(dummyEvent);
+    queue.add(newChainHead);
+
+    assertThat(queue.size()).isEqualTo(3);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(nextHeightMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(dummyEvent);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(newChainHead);
+  }
+
+  @Test
+  public void messagesForCompletedHeightsAreDiscarded() throws InterruptedException {
+    final IbftEventQueue queue = new IbftEventQueue(MAX_QUEUE_SIZE);
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+
+    queue.add(newChainHead(9));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+    queue.add(prepareEvent(messageFactory, 9, 0));
+
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void duplicateMessagesFromAnAuthorAreCoalesced() throws InterruptedException {
+    final IbftEventQueue queue = new IbftEventQueue(MAX_QUEUE_SIZE);
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+    final IbftEvent message = prepareEvent(messageFactory, 10, 0);
+    final IbftEvent otherRoundMessage = prepareEvent(messageFactory, 10, 1);
+
+    queue.add(message);
+    queue.add(prepareEvent(messageFactory, 10, 0));
+    queue.add(otherRoundMessage);
+
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(message);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(otherRoundMessage);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isNull();
+
+    // Once handed out the same message may be queued again
+    queue.add(message);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(message);
+  }
+
+  @Test
+  public void messagesBeyondAuthorLimitAreDiscarded() throws InterruptedException {
+    final IbftEventQueue queue = new IbftEventQueue(MAX_QUEUE_SIZE, 2, author -> true);
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+    final MessageFactory otherMessageFactory = new MessageFactory(KeyPair.generate());
+
+    queue.add(prepareEvent(messageFactory, 10, 0));
+    queue.add(prepareEvent(messageFactory, 10, 1));
+    queue.add(prepareEvent(messageFactory, 10, 2));
+    queue.add(prepareEvent(otherMessageFactory, 10, 0));
+    assertThat(queue.size()).isEqualTo(3);
+
+    queue.poll(0, TimeUnit.MICROSECONDS);
+    queue.add(prepareEvent(messageFactory, 10, 2));
+    assertThat(queue.size()).isEqualTo(3);
+  }
+
+  @Test
+  public void currentHeightMessagesFromNonValidatorsAreDiscarded() throws InterruptedException {
+    final MessageFactory messageFactory = new MessageFactory(KeyPair.generate());
+    final KeyPair nonValidatorKeys = KeyPair.generate();
+    final MessageFactory nonValidatorMessageFactory = new MessageFactory(nonValidatorKeys);
+    final Address nonValidator = Util.publicKeyToAddress(nonValidatorKeys.getPublicKey());
+    final IbftEventQueue queue =
+        new IbftEventQueue(MAX_QUEUE_SIZE, 1, author -> !author.equals(nonValidator));
+    queue.add(newChainHead(9));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+
+    queue.add(prepareEvent(nonValidatorMessageFactory, 10, 0));
+    assertThat(queue.size()).isZero();
+
+    final IbftEvent message = prepareEvent(messageFactory, 10, 0);
+    queue.add(message);
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(message);
+  }
+
+  @Test
+  public void futureHeightMessagesFromNonValidatorsAreOnlyLimitedByAuthorShare()
+      throws InterruptedException {
+    final KeyPair nonValidatorKeys = KeyPair.generate();
+    final MessageFactory nonValidatorMessageFactory = new MessageFactory(nonValidatorKeys);
+    final Address nonValidator = Util.publicKeyToAddress(nonValidatorKeys.getPublicKey());
+    final IbftEventQueue queue =
+        new IbftEventQueue(MAX_QUEUE_SIZE, 1, author -> !author.equals(nonValidator));
+    queue.add(newChainHead(9));
+    queue.poll(0, TimeUnit.MICROSECONDS);
+
+    final IbftEvent message = prepareEvent(nonValidatorMessageFactory, 11, 0);
+    queue.add(message);
+    queue.add(prepareEvent(nonValidatorMessageFactory, 12, 0));
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.poll(0, TimeUnit.MICROSECONDS)).isEqualTo(message);
+  }
+
+  private NewChainHead newChainHead(final long number) {
+    return new NewChainHead(new BlockHeaderTestFixture().number(number).buildHeader());
+  }
+
+  private IbftEvent prepareEvent(
+      final MessageFactory messageFactory, final long height, final int round) {
+    final Prepare prepare =
+        messageFactory.createPrepare(new ConsensusRoundIdentifier(height, round), Hash.ZERO);
+    return new IbftReceivedMessageEvent(
+        new DefaultMessage(null, PrepareMessageData.create(prepare)), prepare);
+  }
 }
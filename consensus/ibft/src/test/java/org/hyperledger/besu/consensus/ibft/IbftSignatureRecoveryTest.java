@@ -0,0 +1,90 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.consensus.ibft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.crypto.SECP256K1;
+import org.hyperledger.besu.crypto.SECP256K1.KeyPair;
+import org.hyperledger.besu.crypto.SECP256K1.Signature;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.After;
+import org.junit.Test;
+
+public class IbftSignatureRecoveryTest {
+
+  private static final Hash DATA_HASH = Hash.hash(Bytes.of(1, 2, 3));
+
+  @After
+  public void tearDown() {
+    IbftSignatureRecovery.clearCache();
+  }
+
+  @Test
+  public void recoversAddressOfSigner() {
+    final KeyPair keyPair = KeyPair.generate();
+    final Signature signature = SECP256K1.sign(DATA_HASH, keyPair);
+
+    assertThat(IbftSignatureRecovery.recoverAddress(signature, DATA_HASH))
+        .isEqualTo(Util.publicKeyToAddress(keyPair.getPublicKey()));
+    // Served from the cache the second time
+    assertThat(IbftSignatureRecovery.recoverAddress(signature, DATA_HASH))
+        .isEqualTo(Util.publicKeyToAddress(keyPair.getPublicKey()));
+  }
+
+  @Test
+  public void recoveredAddressDependsOnSignedData() {
+    final KeyPair keyPair = KeyPair.generate();
+    final Signature signature = SECP256K1.sign(DATA_HASH, keyPair);
+    final Hash otherHash = Hash.hash(Bytes.of(4, 5, 6));
+
+    IbftSignatureRecovery.recoverAddress(signature, DATA_HASH);
+
+    assertThat(IbftSignatureRecovery.recoverAddress(signature, otherHash))
+        .isEqualTo(Util.signatureToAddress(signature, otherHash))
+        .isNotEqualTo(Util.publicKeyToAddress(keyPair.getPublicKey()));
+  }
+
+  @Test
+  public void recoversBatchOfAddressesInSignatureOrder() {
+    final List<KeyPair> keyPairs =
+        IntStream.range(0, 20).mapToObj(i -> KeyPair.generate()).collect(Collectors.toList());
+    final List<Signature> signatures =
+        keyPairs.stream().map(k -> SECP256K1.sign(DATA_HASH, k)).collect(Collectors.toList());
+
+    final List<Address> expectedAddresses =
+        keyPairs.stream()
+            .map(k -> Util.publicKeyToAddress(k.getPublicKey()))
+            .collect(Collectors.toList());
+
+    assertThat(IbftSignatureRecovery.recoverAddresses(signatures, DATA_HASH))
+        .containsExactlyElementsOf(expectedAddresses);
+  }
+
+  @Test
+  public void recoversEmptyBatch() {
+    assertThat(IbftSignatureRecovery.recoverAddresses(Collections.emptyList(), DATA_HASH))
+        .isEmpty();
+  }
+}
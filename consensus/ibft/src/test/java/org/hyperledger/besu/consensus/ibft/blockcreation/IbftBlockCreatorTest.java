@@ -106,7 +106,8 @@ public class IbftBlockCreatorTest {
             protocolSchedule,
             parentGasLimit -> parentGasLimit,
             Wei.ZERO,
-            parentHeader);
+            parentHeader,
+            metricsSystem);
 
     final int secondsBetweenBlocks = 1;
     final Block block = blockCreator.createBlock(parentHeader.getTimestamp() + 1);
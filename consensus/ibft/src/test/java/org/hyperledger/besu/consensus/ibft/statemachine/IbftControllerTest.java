@@ -259,6 +259,21 @@ public class IbftControllerTest {
     verifyNoMoreInteractions(blockHeightManager);
   }
 
+  @Test
+  public void predecodedCommitForCurrentHeightIsPassedToBlockHeightManagerWithoutDecoding() {
+    when(commit.getAuthor()).thenReturn(validator);
+    when(commit.getRoundIdentifier()).thenReturn(roundIdentifier);
+    when(commitMessageData.getCode()).thenReturn(IbftV2.COMMIT);
+    commitMessage = new DefaultMessage(null, commitMessageData);
+    constructIbftController();
+    ibftController.start();
+    ibftController.handleMessageEvent(new IbftReceivedMessageEvent(commitMessage, commit));
+
+    verify(commitMessageData, never()).decode();
+    verify(blockHeightManager).handleCommitPayload(commit);
+    verify(ibftGossip).send(commitMessage);
+  }
+
   @Test
   public void commitForCurrentHeightIsPassedToBlockHeightManager() {
     setupCommit(roundIdentifier, validator);
@@ -33,6 +33,7 @@ import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.util.function.Function;
 
@@ -54,7 +55,8 @@ public class IbftBlockCreator extends AbstractBlockCreator<IbftContext> {
       final Function<Long, Long> gasLimitCalculator,
       final KeyPair nodeKeys,
       final Wei minTransactionGasPrice,
-      final BlockHeader parentHeader) {
+      final BlockHeader parentHeader,
+      final MetricsSystem metricsSystem) {
     super(
         coinbase,
         extraDataCalculator,
@@ -64,7 +66,8 @@ public class IbftBlockCreator extends AbstractBlockCreator<IbftContext> {
         gasLimitCalculator,
         minTransactionGasPrice,
         Util.publicKeyToAddress(nodeKeys.getPublicKey()),
-        parentHeader);
+        parentHeader,
+        metricsSystem);
     this.nodeKeys = nodeKeys;
   }
 
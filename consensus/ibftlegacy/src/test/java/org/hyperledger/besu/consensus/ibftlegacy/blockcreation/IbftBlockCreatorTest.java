@@ -108,7 +108,8 @@ public class IbftBlockCreatorTest {
             parentGasLimit -> parentGasLimit,
             nodeKeys,
             Wei.ZERO,
-            parentHeader);
+            parentHeader,
+            metricsSystem);
 
     final Block block = blockCreator.createBlock(Instant.now().getEpochSecond());
 
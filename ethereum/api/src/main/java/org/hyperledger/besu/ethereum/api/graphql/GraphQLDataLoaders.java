@@ -0,0 +1,158 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.AccountAdapter;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.google.common.base.MoreObjects;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
+/**
+ * Batches and caches the blocks, receipts and accounts looked up while executing a GraphQL request.
+ *
+ * <p>Adapters load these through the {@link DataLoader}s registered for the request rather than
+ * querying {@link BlockchainQueries} directly. Each key is only loaded once per request, and the
+ * keys requested at each level of the query are loaded together on the given executor. The
+ * receipts of transactions in the same block are read with a single lookup of the block's
+ * receipts, and accounts in the same block are read from a single world state.
+ */
+public class GraphQLDataLoaders {
+
+  public static final String BLOCK_BY_HASH = "blockByHash";
+  public static final String RECEIPT_BY_TRANSACTION_HASH = "receiptByTransactionHash";
+  public static final String ACCOUNT = "account";
+
+  private final Executor executor;
+
+  public GraphQLDataLoaders(final Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Creates the data loaders for a request. Data loaders cache everything they load, so a new
+   * registry must be created for each request to avoid serving stale chain data.
+   *
+   * @param blockchainQueries the queries to load data with
+   * @return the registry to execute a request with
+   */
+  public DataLoaderRegistry createRegistry(final BlockchainQueries blockchainQueries) {
+    final DataLoaderRegistry registry = new DataLoaderRegistry();
+    registry.register(
+        BLOCK_BY_HASH,
+        DataLoader.newDataLoader(
+            (final List<Hash> keys) -> loadBlocks(blockchainQueries, keys)));
+    registry.register(
+        RECEIPT_BY_TRANSACTION_HASH,
+        DataLoader.newDataLoader(
+            (final List<Hash> keys) -> loadReceipts(blockchainQueries, keys)));
+    registry.register(
+        ACCOUNT,
+        DataLoader.newDataLoader(
+            (final List<AccountKey> keys) -> loadAccounts(blockchainQueries, keys)));
+    return registry;
+  }
+
+  private CompletionStage<List<Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>>>
+      loadBlocks(final BlockchainQueries blockchainQueries, final List<Hash> blockHashes) {
+    return CompletableFuture.supplyAsync(
+        () -> blockHashes.stream().map(blockchainQueries::blockByHash).collect(Collectors.toList()),
+        executor);
+  }
+
+  private CompletionStage<List<Optional<TransactionReceiptWithMetadata>>> loadReceipts(
+      final BlockchainQueries blockchainQueries, final List<Hash> transactionHashes) {
+    return CompletableFuture.supplyAsync(
+        () -> blockchainQueries.transactionReceiptsByTransactionHashes(transactionHashes),
+        executor);
+  }
+
+  private CompletionStage<List<Optional<AccountAdapter>>> loadAccounts(
+      final BlockchainQueries blockchainQueries, final List<AccountKey> accountKeys) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final Map<Long, Optional<MutableWorldState>> worldStates = new HashMap<>();
+          return accountKeys.stream()
+              .map(
+                  key ->
+                      worldStates
+                          .computeIfAbsent(key.blockNumber, blockchainQueries::getWorldState)
+                          .map(worldState -> new AccountAdapter(worldState.get(key.address))))
+              .collect(Collectors.toList());
+        },
+        executor);
+  }
+
+  /** Identifies an account at a particular block. */
+  public static final class AccountKey {
+    private final long blockNumber;
+    private final Address address;
+
+    public AccountKey(final long blockNumber, final Address address) {
+      this.blockNumber = blockNumber;
+      this.address = address;
+    }
+
+    public long getBlockNumber() {
+      return blockNumber;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      final AccountKey that = (AccountKey) o;
+      return blockNumber == that.blockNumber && Objects.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(blockNumber, address);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("blockNumber", blockNumber)
+          .add("address", address)
+          .toString();
+    }
+  }
+}
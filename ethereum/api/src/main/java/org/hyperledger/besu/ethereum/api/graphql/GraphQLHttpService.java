@@ -24,8 +24,10 @@ import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLJsonRe
 import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLResponse;
 import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLResponseType;
 import org.hyperledger.besu.ethereum.api.graphql.internal.response.GraphQLSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonResponseStreamer;
 import org.hyperledger.besu.util.NetworkUtility;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.nio.file.Path;
@@ -35,12 +37,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import com.google.common.net.MediaType;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
@@ -71,6 +77,7 @@ public class GraphQLHttpService {
   private static final String GRAPH_QL_ROUTE = "/graphql";
   private static final MediaType MEDIA_TYPE_JUST_JSON = MediaType.JSON_UTF_8.withoutParameters();
   private static final String EMPTY_RESPONSE = "";
+  private static final int DATA_LOADER_THREADS = 4;
 
   private static final TypeReference<Map<String, Object>> MAP_TYPE =
       new TypeReference<Map<String, Object>>() {};
@@ -85,6 +92,8 @@ public class GraphQLHttpService {
 
   private final GraphQLDataFetcherContext dataFetcherContext;
 
+  private final GraphQLDataLoaders dataLoaders;
+
   /**
    * Construct a GraphQLHttpService handler
    *
@@ -107,6 +116,17 @@ public class GraphQLHttpService {
     this.vertx = vertx;
     this.graphQL = graphQL;
     this.dataFetcherContext = dataFetcherContext;
+    // Idle threads time out so the pool doesn't need to be shut down with the service
+    final ThreadPoolExecutor dataLoaderExecutor =
+        new ThreadPoolExecutor(
+            DATA_LOADER_THREADS,
+            DATA_LOADER_THREADS,
+            60,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("GraphQL-%d").build());
+    dataLoaderExecutor.allowCoreThreadTimeOut(true);
+    this.dataLoaders = new GraphQLDataLoaders(dataLoaderExecutor);
   }
 
   private void validateConfig(final GraphQLConfiguration config) {
@@ -340,7 +360,11 @@ public class GraphQLHttpService {
             } else {
               final GraphQLResponse graphQLResponse = (GraphQLResponse) res.result();
               response.setStatusCode(status(graphQLResponse).code());
-              response.end(serialise(graphQLResponse));
+              if (graphQLResponse.getType() == GraphQLResponseType.SUCCESS) {
+                streamResponse(response, graphQLResponse);
+              } else {
+                response.end(serialise(graphQLResponse));
+              }
             }
           });
 
@@ -363,6 +387,26 @@ public class GraphQLHttpService {
     }
   }
 
+  private void streamResponse(final HttpServerResponse response, final GraphQLResponse result) {
+    vertx.executeBlocking(
+        future -> {
+          try (final JsonResponseStreamer streamer = new JsonResponseStreamer(response)) {
+            Json.prettyMapper.writeValue(streamer, result.getResult());
+            future.complete();
+          } catch (final IOException e) {
+            future.fail(e);
+          }
+        },
+        false,
+        res -> {
+          if (res.failed()) {
+            // The status line has already been sent so the best we can do is drop the connection
+            LOG.debug("Failed to stream GraphQL response", res.cause());
+            response.close();
+          }
+        });
+  }
+
   private String serialise(final GraphQLResponse response) {
 
     if (response.getType() == GraphQLResponseType.NONE) {
@@ -380,6 +424,8 @@ public class GraphQLHttpService {
             .operationName(operationName)
             .variables(variables)
             .context(dataFetcherContext)
+            .dataLoaderRegistry(
+                dataLoaders.createRegistry(dataFetcherContext.getBlockchainQueries()))
             .build();
     final ExecutionResult result = graphQL.execute(executionInput);
     final Map<String, Object> toSpecificationResult = result.toSpecification();
@@ -18,10 +18,17 @@ import org.hyperledger.besu.ethereum.api.graphql.internal.Scalars;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
+import java.util.function.LongSupplier;
 
 import com.google.common.base.Charsets;
 import com.google.common.io.Resources;
 import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.schema.GraphQLSchema;
 import graphql.schema.idl.RuntimeWiring;
 import graphql.schema.idl.SchemaGenerator;
@@ -31,14 +38,41 @@ import graphql.schema.idl.TypeRuntimeWiring;
 
 public class GraphQLProvider {
 
+  static final int MAX_QUERY_DEPTH = 16;
+  static final int MAX_QUERY_COMPLEXITY = 50_000;
+
   private GraphQLProvider() {}
 
   public static GraphQL buildGraphQL(final GraphQLDataFetchers graphQLDataFetchers)
       throws IOException {
+    return buildGraphQL(graphQLDataFetchers, () -> 0L);
+  }
+
+  /**
+   * Builds the GraphQL engine. Queries that are nested too deeply or would select too many fields
+   * are rejected before they are executed.
+   *
+   * @param graphQLDataFetchers the data fetchers for the top level fields
+   * @param chainHeadBlockNumber the current chain head, used to estimate the cost of block ranges
+   *     without an end
+   * @return the GraphQL engine
+   * @throws IOException if the schema can't be read
+   */
+  public static GraphQL buildGraphQL(
+      final GraphQLDataFetchers graphQLDataFetchers, final LongSupplier chainHeadBlockNumber)
+      throws IOException {
     final URL url = Resources.getResource("schema.graphqls");
     final String sdl = Resources.toString(url, Charsets.UTF_8);
     final GraphQLSchema graphQLSchema = buildSchema(sdl, graphQLDataFetchers);
-    return GraphQL.newGraphQL(graphQLSchema).build();
+    final Instrumentation instrumentation =
+        new ChainedInstrumentation(
+            List.of(
+                new DataLoaderDispatcherInstrumentation(),
+                new MaxQueryDepthInstrumentation(MAX_QUERY_DEPTH),
+                new MaxQueryComplexityInstrumentation(
+                    MAX_QUERY_COMPLEXITY,
+                    new QueryComplexityCalculator(MAX_QUERY_COMPLEXITY, chainHeadBlockNumber))));
+    return GraphQL.newGraphQL(graphQLSchema).instrumentation(instrumentation).build();
   }
 
   private static GraphQLSchema buildSchema(
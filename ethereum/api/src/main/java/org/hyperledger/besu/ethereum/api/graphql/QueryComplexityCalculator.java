@@ -0,0 +1,59 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+
+/**
+ * Estimates the cost of a query as one for every field it selects, with the fields selected for
+ * each block of a block range counted once per block in the range.
+ *
+ * <p>Block ranges without an end run to the chain head, so their cost grows with the chain.
+ */
+class QueryComplexityCalculator implements FieldComplexityCalculator {
+
+  private static final String BLOCK_RANGE_FIELD = "blocks";
+
+  private final int maxComplexity;
+  private final LongSupplier chainHeadBlockNumber;
+
+  QueryComplexityCalculator(final int maxComplexity, final LongSupplier chainHeadBlockNumber) {
+    this.maxComplexity = maxComplexity;
+    this.chainHeadBlockNumber = chainHeadBlockNumber;
+  }
+
+  @Override
+  public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+    final int complexity = 1 + childComplexity;
+    if (!BLOCK_RANGE_FIELD.equals(environment.getField().getName())) {
+      return complexity;
+    }
+    final Map<String, Object> arguments = environment.getArguments();
+    final Object from = arguments.get("from");
+    final Object to = arguments.get("to");
+    if (!(from instanceof Number)) {
+      return complexity;
+    }
+    final long toBlock =
+        to instanceof Number ? ((Number) to).longValue() : chainHeadBlockNumber.getAsLong();
+    final long blockCount = Math.max(1, toBlock - ((Number) from).longValue() + 1);
+    // Cap the estimate so adding up the costs of several ranges can't overflow
+    return (int) Math.min(blockCount * complexity, maxComplexity + 1L);
+  }
+}
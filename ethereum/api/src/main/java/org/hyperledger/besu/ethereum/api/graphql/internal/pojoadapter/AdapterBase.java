@@ -15,12 +15,68 @@
 package org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter;
 
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetcherContext;
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders;
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders.AccountKey;
+import org.hyperledger.besu.ethereum.api.query.BlockWithMetadata;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import graphql.schema.DataFetchingEnvironment;
+import org.dataloader.DataLoader;
 
 abstract class AdapterBase {
   BlockchainQueries getBlockchainQueries(final DataFetchingEnvironment environment) {
     return ((GraphQLDataFetcherContext) environment.getContext()).getBlockchainQueries();
   }
+
+  CompletableFuture<Optional<BlockWithMetadata<TransactionWithMetadata, Hash>>> loadBlock(
+      final DataFetchingEnvironment environment, final Hash blockHash) {
+    return load(
+        environment,
+        GraphQLDataLoaders.BLOCK_BY_HASH,
+        blockHash,
+        () -> getBlockchainQueries(environment).blockByHash(blockHash));
+  }
+
+  CompletableFuture<Optional<TransactionReceiptWithMetadata>> loadReceipt(
+      final DataFetchingEnvironment environment, final Hash transactionHash) {
+    return load(
+        environment,
+        GraphQLDataLoaders.RECEIPT_BY_TRANSACTION_HASH,
+        transactionHash,
+        () ->
+            getBlockchainQueries(environment).transactionReceiptByTransactionHash(transactionHash));
+  }
+
+  CompletableFuture<Optional<AccountAdapter>> loadAccount(
+      final DataFetchingEnvironment environment, final long blockNumber, final Address address) {
+    return load(
+        environment,
+        GraphQLDataLoaders.ACCOUNT,
+        new AccountKey(blockNumber, address),
+        () ->
+            getBlockchainQueries(environment)
+                .getWorldState(blockNumber)
+                .map(worldState -> new AccountAdapter(worldState.get(address))));
+  }
+
+  /** Loads through the request's data loader, or directly if the request doesn't have one. */
+  private <K, V> CompletableFuture<V> load(
+      final DataFetchingEnvironment environment,
+      final String dataLoaderName,
+      final K key,
+      final Supplier<V> directLoad) {
+    final DataLoader<K, V> dataLoader = environment.getDataLoader(dataLoaderName);
+    if (dataLoader == null) {
+      return CompletableFuture.completedFuture(directLoad.get());
+    }
+    return dataLoader.load(key);
+  }
 }
@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import graphql.schema.DataFetchingEnvironment;
 import org.apache.tuweni.bytes.Bytes;
@@ -55,16 +56,14 @@ public class LogAdapter extends AdapterBase {
     return tran.map(TransactionAdapter::new);
   }
 
-  public Optional<AccountAdapter> getAccount(final DataFetchingEnvironment environment) {
-    final BlockchainQueries query = getBlockchainQueries(environment);
+  public CompletableFuture<Optional<AccountAdapter>> getAccount(
+      final DataFetchingEnvironment environment) {
     long blockNumber = logWithMetadata.getBlockNumber();
     final Long bn = environment.getArgument("block");
     if (bn != null) {
       blockNumber = bn;
     }
 
-    return query
-        .getWorldState(blockNumber)
-        .map(ws -> new AccountAdapter(ws.get(logWithMetadata.getLogger())));
+    return loadAccount(environment, blockNumber, logWithMetadata.getLogger());
   }
 }
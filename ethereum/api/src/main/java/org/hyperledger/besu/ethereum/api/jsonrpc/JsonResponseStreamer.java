@@ -0,0 +1,142 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * An {@link OutputStream} that writes serialized JSON to a {@link HttpServerResponse} in chunks as
+ * it is produced, rather than building the whole response in memory first.
+ *
+ * <p>Writes are expected to happen on a worker thread. When the response's write queue is full the
+ * writing thread blocks until the socket drains, so a slow client applies back-pressure to the
+ * serializer instead of causing the pending chunks to accumulate on the heap.
+ */
+public class JsonResponseStreamer extends OutputStream {
+
+  static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+  private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+  private final HttpServerResponse response;
+  private final byte[] chunk;
+  private int chunkLength = 0;
+  private volatile boolean closed = false;
+  private boolean ended = false;
+
+  public JsonResponseStreamer(final HttpServerResponse response) {
+    this(response, DEFAULT_CHUNK_SIZE);
+  }
+
+  JsonResponseStreamer(final HttpServerResponse response, final int chunkSize) {
+    checkArgument(chunkSize > 0, "Chunk size must be positive");
+    this.response = response;
+    this.chunk = new byte[chunkSize];
+    response.setChunked(true);
+    response.closeHandler(ignored -> closed = true);
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    if (chunkLength == chunk.length) {
+      flushChunk();
+    }
+    chunk[chunkLength++] = (byte) b;
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    int written = 0;
+    while (written < length) {
+      if (chunkLength == chunk.length) {
+        flushChunk();
+      }
+      final int count = Math.min(length - written, chunk.length - chunkLength);
+      System.arraycopy(bytes, offset + written, chunk, chunkLength, count);
+      chunkLength += count;
+      written += count;
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    flushChunk();
+  }
+
+  /**
+   * Writes any buffered bytes and ends the response. Subsequent calls have no effect, as the
+   * serializer may close the stream before the caller does.
+   */
+  @Override
+  public void close() throws IOException {
+    if (ended) {
+      return;
+    }
+    ended = true;
+    flushChunk();
+    if (!closed) {
+      response.end();
+    }
+  }
+
+  private void flushChunk() throws IOException {
+    if (chunkLength == 0) {
+      return;
+    }
+    if (closed) {
+      throw new IOException("Connection closed by client");
+    }
+    awaitDrain();
+    response.write(Buffer.buffer(chunkLength).appendBytes(chunk, 0, chunkLength));
+    chunkLength = 0;
+  }
+
+  private void awaitDrain() throws IOException {
+    if (!response.writeQueueFull()) {
+      return;
+    }
+    final CompletableFuture<Void> drained = new CompletableFuture<>();
+    response.drainHandler(ignored -> drained.complete(null));
+    response.closeHandler(
+        ignored -> {
+          closed = true;
+          drained.complete(null);
+        });
+    // The queue may have drained before the handler was registered.
+    if (!response.writeQueueFull()) {
+      drained.complete(null);
+    }
+    try {
+      drained.get(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for response to drain", e);
+    } catch (final ExecutionException | TimeoutException e) {
+      throw new IOException("Timed out waiting for response to drain", e);
+    }
+    if (closed) {
+      throw new IOException("Connection closed by client");
+    }
+  }
+}
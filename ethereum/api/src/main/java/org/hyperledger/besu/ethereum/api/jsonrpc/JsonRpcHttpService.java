@@ -39,17 +39,20 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.util.NetworkUtility;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.CompositeFuture;
@@ -80,6 +83,18 @@ public class JsonRpcHttpService {
   private static final String APPLICATION_JSON = "application/json";
   private static final JsonRpcResponse NO_RESPONSE = new JsonRpcNoResponse();
   private static final String EMPTY_RESPONSE = "";
+  // Methods whose successful results can be large enough to be worth streaming to the client
+  private static final Set<String> STREAMED_METHODS =
+      ImmutableSet.of(
+          RpcMethod.ETH_GET_LOGS.getMethodName(),
+          RpcMethod.ETH_GET_BLOCK_BY_HASH.getMethodName(),
+          RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName(),
+          RpcMethod.DEBUG_STORAGE_RANGE_AT.getMethodName(),
+          RpcMethod.DEBUG_TRACE_BLOCK.getMethodName(),
+          RpcMethod.DEBUG_TRACE_BLOCK_BY_HASH.getMethodName(),
+          RpcMethod.DEBUG_TRACE_BLOCK_BY_NUMBER.getMethodName(),
+          RpcMethod.DEBUG_TRACE_TRANSACTION.getMethodName(),
+          RpcMethod.TRACE_REPLAY_BLOCK_TRANSACTIONS.getMethodName());
 
   private final Vertx vertx;
   private final JsonRpcConfiguration config;
@@ -385,7 +400,36 @@ public class JsonRpcHttpService {
           final JsonRpcResponse jsonRpcResponse = (JsonRpcResponse) res.result();
           response.setStatusCode(status(jsonRpcResponse).code());
           response.putHeader("Content-Type", APPLICATION_JSON);
-          response.end(serialise(jsonRpcResponse));
+          if (isStreamed(request, jsonRpcResponse)) {
+            streamResponse(response, jsonRpcResponse);
+          } else {
+            response.end(serialise(jsonRpcResponse));
+          }
+        });
+  }
+
+  private boolean isStreamed(final JsonObject request, final JsonRpcResponse response) {
+    return response.getType() == JsonRpcResponseType.SUCCESS
+        && STREAMED_METHODS.contains(request.getValue("method"));
+  }
+
+  private void streamResponse(final HttpServerResponse response, final JsonRpcResponse result) {
+    vertx.executeBlocking(
+        future -> {
+          try (final JsonResponseStreamer streamer = new JsonResponseStreamer(response)) {
+            Json.prettyMapper.writeValue(streamer, result);
+            future.complete();
+          } catch (final IOException e) {
+            future.fail(e);
+          }
+        },
+        false,
+        res -> {
+          if (res.failed()) {
+            // The status line has already been sent so the best we can do is drop the connection
+            LOG.debug("Failed to stream JSON-RPC response", res.cause());
+            response.close();
+          }
         });
   }
 
@@ -50,7 +50,7 @@ public class FilterManager extends AbstractVerticle {
     this.filterIdGenerator = filterIdGenerator;
     this.filterRepository = filterRepository;
     checkNotNull(blockchainQueries.getBlockchain());
-    blockchainQueries.getBlockchain().observeBlockAdded(this::recordBlockEvent);
+    blockchainQueries.getBlockchain().observeBlockAddedAsync(this::recordBlockEvent);
     transactionPool.subscribePendingTransactions(this::recordPendingTransactionEvent);
     this.blockchainQueries = blockchainQueries;
   }
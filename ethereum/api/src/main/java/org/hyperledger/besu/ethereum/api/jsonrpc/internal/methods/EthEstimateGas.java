@@ -26,7 +26,6 @@ import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
-import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 
 import java.util.function.Function;
 
@@ -60,7 +59,7 @@ public class EthEstimateGas implements JsonRpcMethod {
         overrideGasLimitAndPrice(callParams, blockHeader.getGasLimit());
 
     return transactionSimulator
-        .process(modifiedCallParams, blockHeader.getNumber())
+        .estimateGas(modifiedCallParams, blockHeader.getNumber())
         .map(gasEstimateResponse(requestContext))
         .orElse(errorResponse(requestContext));
   }
@@ -81,11 +80,10 @@ public class EthEstimateGas implements JsonRpcMethod {
         callParams.getPayload() != null ? callParams.getPayload().toString() : null);
   }
 
-  private Function<TransactionSimulatorResult, JsonRpcResponse> gasEstimateResponse(
+  private Function<Long, JsonRpcResponse> gasEstimateResponse(
       final JsonRpcRequestContext request) {
-    return result ->
-        new JsonRpcSuccessResponse(
-            request.getRequest().getId(), Quantity.create(result.getGasEstimate()));
+    return gasEstimate ->
+        new JsonRpcSuccessResponse(request.getRequest().getId(), Quantity.create(gasEstimate));
   }
 
   private JsonRpcErrorResponse errorResponse(final JsonRpcRequestContext request) {
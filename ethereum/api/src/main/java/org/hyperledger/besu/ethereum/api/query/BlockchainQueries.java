@@ -43,7 +43,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -479,40 +481,71 @@ public class BlockchainQueries {
    */
   public Optional<TransactionReceiptWithMetadata> transactionReceiptByTransactionHash(
       final Hash transactionHash) {
-    final Optional<TransactionLocation> maybeLocation =
-        blockchain.getTransactionLocation(transactionHash);
-    if (maybeLocation.isEmpty()) {
-      return Optional.empty();
-    }
-    // getTransactionLocation should not return if the TX or block doesn't exist, so throwing
-    // on a missing optional is appropriate.
-    final TransactionLocation location = maybeLocation.get();
-    final BlockBody blockBody = blockchain.getBlockBody(location.getBlockHash()).orElseThrow();
-    final Transaction transaction = blockBody.getTransactions().get(location.getTransactionIndex());
-
-    final Hash blockhash = location.getBlockHash();
-    final BlockHeader header = blockchain.getBlockHeader(blockhash).orElseThrow();
-    final List<TransactionReceipt> transactionReceipts =
-        blockchain.getTxReceipts(blockhash).orElseThrow();
-    final TransactionReceipt transactionReceipt =
-        transactionReceipts.get(location.getTransactionIndex());
-
-    long gasUsed = transactionReceipt.getCumulativeGasUsed();
-    if (location.getTransactionIndex() > 0) {
-      gasUsed =
-          gasUsed
-              - transactionReceipts.get(location.getTransactionIndex() - 1).getCumulativeGasUsed();
-    }
+    return transactionReceiptsByTransactionHashes(List.of(transactionHash)).get(0);
+  }
 
-    return Optional.of(
-        TransactionReceiptWithMetadata.create(
-            transactionReceipt,
-            transaction,
-            transactionHash,
-            location.getTransactionIndex(),
-            gasUsed,
-            blockhash,
-            header.getNumber()));
+  /**
+   * Returns the transaction receipts associated with several transaction hashes. The body, header
+   * and receipts of each block are only read once, however many of the transactions are in it.
+   *
+   * @param transactionHashes The hashes of the transactions that correspond to the receipts to
+   *     retrieve.
+   * @return The transaction receipt associated with each referenced transaction, in the same order
+   *     as the hashes.
+   */
+  public List<Optional<TransactionReceiptWithMetadata>> transactionReceiptsByTransactionHashes(
+      final List<Hash> transactionHashes) {
+    final Map<Hash, BlockBody> blockBodies = new HashMap<>();
+    final Map<Hash, BlockHeader> blockHeaders = new HashMap<>();
+    final Map<Hash, List<TransactionReceipt>> blockReceipts = new HashMap<>();
+    final List<Optional<TransactionReceiptWithMetadata>> results = new ArrayList<>();
+    for (final Hash transactionHash : transactionHashes) {
+      final Optional<TransactionLocation> maybeLocation =
+          blockchain.getTransactionLocation(transactionHash);
+      if (maybeLocation.isEmpty()) {
+        results.add(Optional.empty());
+        continue;
+      }
+      // getTransactionLocation should not return if the TX or block doesn't exist, so throwing
+      // on a missing optional is appropriate.
+      final TransactionLocation location = maybeLocation.get();
+      final Hash blockhash = location.getBlockHash();
+      final BlockBody blockBody =
+          blockBodies.computeIfAbsent(
+              blockhash, hash -> blockchain.getBlockBody(hash).orElseThrow());
+      final Transaction transaction =
+          blockBody.getTransactions().get(location.getTransactionIndex());
+
+      final BlockHeader header =
+          blockHeaders.computeIfAbsent(
+              blockhash, hash -> blockchain.getBlockHeader(hash).orElseThrow());
+      final List<TransactionReceipt> transactionReceipts =
+          blockReceipts.computeIfAbsent(
+              blockhash, hash -> blockchain.getTxReceipts(hash).orElseThrow());
+      final TransactionReceipt transactionReceipt =
+          transactionReceipts.get(location.getTransactionIndex());
+
+      long gasUsed = transactionReceipt.getCumulativeGasUsed();
+      if (location.getTransactionIndex() > 0) {
+        gasUsed =
+            gasUsed
+                - transactionReceipts
+                    .get(location.getTransactionIndex() - 1)
+                    .getCumulativeGasUsed();
+      }
+
+      results.add(
+          Optional.of(
+              TransactionReceiptWithMetadata.create(
+                  transactionReceipt,
+                  transaction,
+                  transactionHash,
+                  location.getTransactionIndex(),
+                  gasUsed,
+                  blockhash,
+                  header.getNumber())));
+    }
+    return results;
   }
 
   /**
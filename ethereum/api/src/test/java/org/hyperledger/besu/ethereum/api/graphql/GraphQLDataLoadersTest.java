@@ -0,0 +1,109 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.graphql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataLoaders.AccountKey;
+import org.hyperledger.besu.ethereum.api.graphql.internal.pojoadapter.AccountAdapter;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.query.TransactionReceiptWithMetadata;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.Test;
+
+public class GraphQLDataLoadersTest {
+
+  private static final Hash HASH_1 = Hash.hash(Hash.ZERO);
+  private static final Hash HASH_2 = Hash.hash(HASH_1);
+
+  private final BlockchainQueries blockchainQueries = mock(BlockchainQueries.class);
+  private final DataLoaderRegistry registry =
+      new GraphQLDataLoaders(MoreExecutors.directExecutor()).createRegistry(blockchainQueries);
+
+  @Test
+  public void receiptsAreLoadedInOneBatchWithoutDuplicates() {
+    final TransactionReceiptWithMetadata receipt1 = mock(TransactionReceiptWithMetadata.class);
+    final TransactionReceiptWithMetadata receipt2 = mock(TransactionReceiptWithMetadata.class);
+    when(blockchainQueries.transactionReceiptsByTransactionHashes(List.of(HASH_1, HASH_2)))
+        .thenReturn(List.of(Optional.of(receipt1), Optional.of(receipt2)));
+    final DataLoader<Hash, Optional<TransactionReceiptWithMetadata>> dataLoader =
+        registry.getDataLoader(GraphQLDataLoaders.RECEIPT_BY_TRANSACTION_HASH);
+
+    final CompletableFuture<Optional<TransactionReceiptWithMetadata>> first =
+        dataLoader.load(HASH_1);
+    final CompletableFuture<Optional<TransactionReceiptWithMetadata>> second =
+        dataLoader.load(HASH_2);
+    final CompletableFuture<Optional<TransactionReceiptWithMetadata>> repeated =
+        dataLoader.load(HASH_1);
+    dataLoader.dispatchAndJoin();
+
+    assertThat(first.join()).contains(receipt1);
+    assertThat(second.join()).contains(receipt2);
+    assertThat(repeated.join()).contains(receipt1);
+    verify(blockchainQueries).transactionReceiptsByTransactionHashes(List.of(HASH_1, HASH_2));
+    verifyNoMoreInteractions(blockchainQueries);
+  }
+
+  @Test
+  public void loadedReceiptsAreNotLoadedAgain() {
+    when(blockchainQueries.transactionReceiptsByTransactionHashes(List.of(HASH_1)))
+        .thenReturn(List.of(Optional.empty()));
+    final DataLoader<Hash, Optional<TransactionReceiptWithMetadata>> dataLoader =
+        registry.getDataLoader(GraphQLDataLoaders.RECEIPT_BY_TRANSACTION_HASH);
+
+    dataLoader.load(HASH_1);
+    dataLoader.dispatchAndJoin();
+    final CompletableFuture<Optional<TransactionReceiptWithMetadata>> again =
+        dataLoader.load(HASH_1);
+    dataLoader.dispatchAndJoin();
+
+    assertThat(again.join()).isEmpty();
+    verify(blockchainQueries).transactionReceiptsByTransactionHashes(List.of(HASH_1));
+    verifyNoMoreInteractions(blockchainQueries);
+  }
+
+  @Test
+  public void accountsInTheSameBlockShareOneWorldState() {
+    final MutableWorldState worldState = mock(MutableWorldState.class);
+    when(blockchainQueries.getWorldState(1L)).thenReturn(Optional.of(worldState));
+    final DataLoader<AccountKey, Optional<AccountAdapter>> dataLoader =
+        registry.getDataLoader(GraphQLDataLoaders.ACCOUNT);
+
+    final CompletableFuture<Optional<AccountAdapter>> first =
+        dataLoader.load(new AccountKey(1L, Address.ZERO));
+    final CompletableFuture<Optional<AccountAdapter>> second =
+        dataLoader.load(new AccountKey(1L, Address.ECREC));
+    dataLoader.dispatchAndJoin();
+
+    assertThat(first.join()).isPresent();
+    assertThat(second.join()).isPresent();
+    verify(blockchainQueries).getWorldState(1L);
+    verifyNoMoreInteractions(blockchainQueries);
+  }
+}
@@ -189,6 +189,38 @@ public class GraphQLHttpServiceTest {
     }
   }
 
+  @Test
+  public void handleQueryOverComplexityLimit() throws Exception {
+    final RequestBody body =
+        RequestBody.create(GRAPHQL, "{blocks(from: 0, to: 1000000) {number hash gasUsed}}");
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      final JsonObject json = new JsonObject(resp.body().string());
+      testHelper.assertValidGraphQLError(json);
+      Assertions.assertThat(resp.code()).isEqualTo(400);
+    }
+  }
+
+  @Test
+  public void handleQueryOverDepthLimit() throws Exception {
+    final StringBuilder query = new StringBuilder("{block {");
+    for (int i = 0; i < GraphQLProvider.MAX_QUERY_DEPTH; i++) {
+      query.append("parent {");
+    }
+    query.append("number");
+    for (int i = 0; i <= GraphQLProvider.MAX_QUERY_DEPTH; i++) {
+      query.append("}");
+    }
+    query.append("}");
+    final RequestBody body = RequestBody.create(GRAPHQL, query.toString());
+
+    try (final Response resp = client.newCall(buildPostRequest(body)).execute()) {
+      final JsonObject json = new JsonObject(resp.body().string());
+      testHelper.assertValidGraphQLError(json);
+      Assertions.assertThat(resp.code()).isEqualTo(400);
+    }
+  }
+
   @Test
   public void query_get() throws Exception {
     final Wei price = Wei.of(16);
@@ -0,0 +1,134 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsonResponseStreamerTest {
+
+  private final HttpServerResponse response = mock(HttpServerResponse.class);
+  private final List<Buffer> chunks = new ArrayList<>();
+  private final AtomicReference<Handler<Void>> drainHandler = new AtomicReference<>();
+  private final AtomicReference<Handler<Void>> closeHandler = new AtomicReference<>();
+
+  @Before
+  public void setUp() {
+    when(response.write(any(Buffer.class)))
+        .thenAnswer(
+            invocation -> {
+              chunks.add(invocation.getArgument(0));
+              return response;
+            });
+    when(response.drainHandler(any()))
+        .thenAnswer(
+            invocation -> {
+              drainHandler.set(invocation.getArgument(0));
+              return response;
+            });
+    when(response.closeHandler(any()))
+        .thenAnswer(
+            invocation -> {
+              closeHandler.set(invocation.getArgument(0));
+              return response;
+            });
+  }
+
+  @Test
+  public void writesOutputInChunksAndEndsResponseOnClose() throws IOException {
+    try (final JsonResponseStreamer streamer = new JsonResponseStreamer(response, 4)) {
+      streamer.write("0123456789".getBytes(UTF_8));
+    }
+
+    verify(response).setChunked(true);
+    verify(response).end();
+    assertThat(chunks)
+        .extracting(chunk -> chunk.toString(UTF_8))
+        .containsExactly("0123", "4567", "89");
+  }
+
+  @Test
+  public void endsResponseOnceWhenSerializerClosesStreamBeforeCaller() throws IOException {
+    try (final JsonResponseStreamer streamer = new JsonResponseStreamer(response, 4)) {
+      // ObjectMapper closes the target stream itself (JsonGenerator.Feature.AUTO_CLOSE_TARGET).
+      new ObjectMapper().writeValue(streamer, ImmutableMap.of("result", "0x1"));
+    }
+
+    verify(response, times(1)).end();
+    assertThat(chunks.stream().map(chunk -> chunk.toString(UTF_8)).collect(Collectors.joining()))
+        .isEqualTo("{\"result\":\"0x1\"}");
+  }
+
+  @Test
+  public void waitsForDrainWhenWriteQueueIsFull() throws Exception {
+    when(response.writeQueueFull()).thenReturn(true);
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response, 2);
+
+    final CompletableFuture<Void> written =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                streamer.write("abc".getBytes(UTF_8));
+              } catch (final IOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    while (drainHandler.get() == null) {
+      Thread.sleep(10);
+    }
+    assertThat(written).isNotDone();
+    assertThat(chunks).isEmpty();
+
+    when(response.writeQueueFull()).thenReturn(false);
+    drainHandler.get().handle(null);
+    written.get(5, TimeUnit.SECONDS);
+
+    assertThat(chunks).extracting(chunk -> chunk.toString(UTF_8)).containsExactly("ab");
+  }
+
+  @Test
+  public void failsWhenClientHasClosedConnection() {
+    final JsonResponseStreamer streamer = new JsonResponseStreamer(response, 2);
+    closeHandler.get().handle(null);
+
+    assertThatThrownBy(() -> streamer.write("abc".getBytes(UTF_8)))
+        .isInstanceOf(IOException.class);
+    verify(response, never()).write(any(Buffer.class));
+  }
+}
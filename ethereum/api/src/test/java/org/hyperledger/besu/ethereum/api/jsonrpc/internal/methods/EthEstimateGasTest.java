@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
@@ -32,7 +31,6 @@ import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
-import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 
 import java.util.Optional;
 
@@ -72,7 +70,7 @@ public class EthEstimateGasTest {
   @Test
   public void shouldReturnErrorWhenTransientTransactionProcessorReturnsEmpty() {
     final JsonRpcRequestContext request = ethEstimateGasRequest(callParameter());
-    when(transactionSimulator.process(eq(modifiedCallParameter()), eq(1L)))
+    when(transactionSimulator.estimateGas(eq(modifiedCallParameter()), eq(1L)))
         .thenReturn(Optional.empty());
 
     final JsonRpcResponse expectedResponse =
@@ -94,10 +92,8 @@ public class EthEstimateGasTest {
   }
 
   private void mockTransientProcessorResultGasEstimate(final long gasEstimate) {
-    final TransactionSimulatorResult result = mock(TransactionSimulatorResult.class);
-    when(result.getGasEstimate()).thenReturn(gasEstimate);
-    when(transactionSimulator.process(eq(modifiedCallParameter()), eq(1L)))
-        .thenReturn(Optional.of(result));
+    when(transactionSimulator.estimateGas(eq(modifiedCallParameter()), eq(1L)))
+        .thenReturn(Optional.of(gasEstimate));
   }
 
   private JsonCallParameter callParameter() {
@@ -486,6 +486,45 @@ public class BlockchainQueriesTest {
     assertThat(retrievedOmmerBlockHeader).isEqualTo(ommerBlockHeader);
   }
 
+  @Test
+  public void transactionReceiptsByTransactionHashesShouldMatchGeneratedReceipts() {
+    final BlockchainWithData data = setupBlockchain(3);
+    final BlockchainQueries queries = data.blockchainQueries;
+
+    final List<Hash> hashes = new ArrayList<>();
+    for (final BlockData blockData : data.blockData) {
+      blockData.block.getBody().getTransactions().forEach(tx -> hashes.add(tx.getHash()));
+    }
+    // Look up a transaction twice and one that doesn't exist
+    hashes.add(hashes.get(0));
+    hashes.add(Hash.ZERO);
+
+    final List<Optional<TransactionReceiptWithMetadata>> result =
+        queries.transactionReceiptsByTransactionHashes(hashes);
+    assertThat(result).hasSize(hashes.size());
+    assertThat(result.get(result.size() - 1)).isEmpty();
+
+    int resultIndex = 0;
+    for (final BlockData blockData : data.blockData) {
+      final List<Transaction> transactions = blockData.block.getBody().getTransactions();
+      for (int i = 0; i < transactions.size(); i++) {
+        final long previousCumulativeGasUsed =
+            i == 0 ? 0 : blockData.receipts.get(i - 1).getCumulativeGasUsed();
+        final TransactionReceiptWithMetadata actual = result.get(resultIndex++).get();
+        assertThat(actual.getTransaction()).isEqualTo(transactions.get(i));
+        assertThat(actual.getTransactionHash()).isEqualTo(transactions.get(i).getHash());
+        assertThat(actual.getReceipt()).isEqualTo(blockData.receipts.get(i));
+        assertThat(actual.getBlockHash()).isEqualTo(blockData.block.getHash());
+        assertThat(actual.getBlockNumber()).isEqualTo(blockData.block.getHeader().getNumber());
+        assertThat(actual.getTransactionIndex()).isEqualTo(i);
+        assertThat(actual.getGasUsed())
+            .isEqualTo(
+                blockData.receipts.get(i).getCumulativeGasUsed() - previousCumulativeGasUsed);
+      }
+    }
+    assertThat(result.get(resultIndex).get().getTransactionHash()).isEqualTo(hashes.get(0));
+  }
+
   private void assertBlockMatchesResult(
       final Block targetBlock, final BlockWithMetadata<TransactionWithMetadata, Hash> result) {
     assertThat(result.getHeader()).isEqualTo(targetBlock.getHeader());
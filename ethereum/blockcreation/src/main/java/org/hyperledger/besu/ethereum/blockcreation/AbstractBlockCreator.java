@@ -38,6 +38,7 @@ import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.math.BigInteger;
 import java.util.List;
@@ -45,6 +46,7 @@ import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.google.common.collect.Lists;
 import org.apache.logging.log4j.LogManager;
@@ -60,6 +62,9 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /** How long to wait between calls to {@link #prepareCandidate(long)} while waiting for a slot. */
+  public static final long PREPARATION_INTERVAL_MILLIS = 50;
+
   protected final Address coinbase;
 
   private final Function<Long, Long> gasLimitCalculator;
@@ -72,9 +77,18 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
   private final Wei minTransactionGasPrice;
   private final Address miningBeneficiary;
   protected final BlockHeader parentHeader;
+  private final MetricsSystem metricsSystem;
 
   private final AtomicBoolean isCancelled = new AtomicBoolean(false);
 
+  private final Object candidateLock = new Object();
+  // Set once a block is created, after which no further candidates are prepared
+  private final AtomicBoolean preparationStopped = new AtomicBoolean(false);
+  // Guarded by candidateLock
+  private Optional<BlockCandidate> candidate = Optional.empty();
+  // Guarded by candidateLock, whether the caller of the preparation in progress wants it to stop
+  private Supplier<Boolean> isPreparationDeadlinePassed = () -> false;
+
   public AbstractBlockCreator(
       final Address coinbase,
       final ExtraDataCalculator extraDataCalculator,
@@ -84,7 +98,8 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
       final Function<Long, Long> gasLimitCalculator,
       final Wei minTransactionGasPrice,
       final Address miningBeneficiary,
-      final BlockHeader parentHeader) {
+      final BlockHeader parentHeader,
+      final MetricsSystem metricsSystem) {
     this.coinbase = coinbase;
     this.extraDataCalculator = extraDataCalculator;
     this.pendingTransactions = pendingTransactions;
@@ -94,6 +109,7 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     this.minTransactionGasPrice = minTransactionGasPrice;
     this.miningBeneficiary = miningBeneficiary;
     this.parentHeader = parentHeader;
+    this.metricsSystem = metricsSystem;
     blockHeaderFunctions = ScheduleBasedBlockHeaderFunctions.create(protocolSchedule);
   }
 
@@ -116,9 +132,106 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
    */
   @Override
   public Block createBlock(final long timestamp) {
+    final Optional<BlockCandidate> preparedCandidate = takeCandidate(timestamp);
+    if (preparedCandidate.isPresent()) {
+      return sealCandidate(preparedCandidate.get());
+    }
     return createBlock(Optional.empty(), Optional.empty(), timestamp);
   }
 
+  /**
+   * Builds a candidate block for the given timestamp ahead of {@link #createBlock(long)} being
+   * called, so the time spent selecting and executing transactions can overlap with waiting for the
+   * block's slot.
+   *
+   * <p>Repeated calls with the same timestamp extend the existing candidate with transactions added
+   * to the PendingTransactions since the previous call, rather than rebuilding it. A call to
+   * {@link #createBlock(long)} with a matching timestamp seals the candidate as it stands,
+   * interrupting any preparation still in progress. Once a block has been created, further calls
+   * do nothing.
+   *
+   * @param timestamp the timestamp the block is expected to be created with
+   */
+  public void prepareCandidate(final long timestamp) {
+    prepareCandidate(timestamp, () -> false);
+  }
+
+  /**
+   * Builds a candidate block as {@link #prepareCandidate(long)} does, but gives up extending it
+   * once the deadline has passed, keeping the transactions selected so far. This allows the
+   * candidate to be prepared on the thread which will go on to create the block, without delaying
+   * it past the block's slot.
+   *
+   * @param timestamp the timestamp the block is expected to be created with
+   * @param isDeadlinePassed whether preparation should stop so the block can be created
+   */
+  public void prepareCandidate(final long timestamp, final Supplier<Boolean> isDeadlinePassed) {
+    synchronized (candidateLock) {
+      if (preparationStopped.get() || isDeadlinePassed.get()) {
+        return;
+      }
+      isPreparationDeadlinePassed = isDeadlinePassed;
+      try {
+        if (candidate.map(c -> c.getTimestamp() != timestamp).orElse(true)) {
+          candidate = Optional.empty();
+          final ProcessableBlockHeader processableBlockHeader = createPendingBlockHeader(timestamp);
+          final MutableWorldState disposableWorldState = duplicateWorldStateAtParent();
+          candidate =
+              Optional.of(
+                  new BlockCandidate(
+                      processableBlockHeader,
+                      disposableWorldState,
+                      createTransactionSelector(processableBlockHeader, disposableWorldState)));
+        }
+        candidate.get().update(pendingTransactions.getTransactionsAddedCount());
+      } catch (final CancellationException ex) {
+        if (isCancelled.get()) {
+          throw ex;
+        }
+        LOG.trace("Preparation of candidate block was interrupted to seal the candidate.");
+      } catch (final RuntimeException ex) {
+        LOG.debug("Unable to prepare candidate block, it will be created when requested.", ex);
+        candidate = Optional.empty();
+      } finally {
+        isPreparationDeadlinePassed = () -> false;
+      }
+    }
+  }
+
+  private Optional<BlockCandidate> takeCandidate(final long timestamp) {
+    // Stops the selector of a pass in progress, so the lock is released after its transaction
+    preparationStopped.set(true);
+    synchronized (candidateLock) {
+      try {
+        return candidate.filter(c -> c.getTimestamp() == timestamp);
+      } finally {
+        candidate = Optional.empty();
+      }
+    }
+  }
+
+  /**
+   * Whether {@link #prepareCandidate(long)} has stopped preparing candidates because a block has
+   * been created.
+   *
+   * @return true once a block has been created
+   */
+  public boolean isPreparationStopped() {
+    return preparationStopped.get();
+  }
+
+  private Block sealCandidate(final BlockCandidate preparedCandidate) {
+    throwIfStopped();
+    LOG.trace(
+        "Sealing prepared candidate block with {} transactions",
+        preparedCandidate.getTransactionResults().getTransactions().size());
+    return sealBlock(
+        preparedCandidate.getProcessableBlockHeader(),
+        preparedCandidate.getWorldState(),
+        selectOmmers(),
+        preparedCandidate.getTransactionResults());
+  }
+
   @Override
   public Block createBlock(
       final List<Transaction> transactions, final List<BlockHeader> ommers, final long timestamp) {
@@ -147,37 +260,7 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
 
       throwIfStopped();
 
-      final ProtocolSpec<C> protocolSpec =
-          protocolSchedule.getByBlockNumber(processableBlockHeader.getNumber());
-
-      if (!rewardBeneficiary(
-          disposableWorldState,
-          processableBlockHeader,
-          ommers,
-          protocolSpec.getBlockReward(),
-          protocolSpec.isSkipZeroBlockRewards())) {
-        LOG.trace("Failed to apply mining reward, exiting.");
-        throw new RuntimeException("Failed to apply mining reward.");
-      }
-
-      throwIfStopped();
-
-      final SealableBlockHeader sealableBlockHeader =
-          BlockHeaderBuilder.create()
-              .populateFrom(processableBlockHeader)
-              .ommersHash(BodyValidation.ommersHash(ommers))
-              .stateRoot(disposableWorldState.rootHash())
-              .transactionsRoot(
-                  BodyValidation.transactionsRoot(transactionResults.getTransactions()))
-              .receiptsRoot(BodyValidation.receiptsRoot(transactionResults.getReceipts()))
-              .logsBloom(BodyValidation.logsBloom(transactionResults.getReceipts()))
-              .gasUsed(transactionResults.getCumulativeGasUsed())
-              .extraData(extraDataCalculator.get(parentHeader))
-              .buildSealableBlockHeader();
-
-      final BlockHeader blockHeader = createFinalBlockHeader(sealableBlockHeader);
-
-      return new Block(blockHeader, new BlockBody(transactionResults.getTransactions(), ommers));
+      return sealBlock(processableBlockHeader, disposableWorldState, ommers, transactionResults);
 
     } catch (final CancellationException ex) {
       LOG.trace("Attempt to create block was interrupted.");
@@ -189,11 +272,71 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     }
   }
 
+  private Block sealBlock(
+      final ProcessableBlockHeader processableBlockHeader,
+      final MutableWorldState disposableWorldState,
+      final List<BlockHeader> ommers,
+      final BlockTransactionSelector.TransactionSelectionResults transactionResults) {
+    final ProtocolSpec<C> protocolSpec =
+        protocolSchedule.getByBlockNumber(processableBlockHeader.getNumber());
+
+    if (!rewardBeneficiary(
+        disposableWorldState,
+        processableBlockHeader,
+        ommers,
+        protocolSpec.getBlockReward(),
+        protocolSpec.isSkipZeroBlockRewards())) {
+      LOG.trace("Failed to apply mining reward, exiting.");
+      throw new RuntimeException("Failed to apply mining reward.");
+    }
+
+    throwIfStopped();
+
+    final SealableBlockHeader sealableBlockHeader =
+        BlockHeaderBuilder.create()
+            .populateFrom(processableBlockHeader)
+            .ommersHash(BodyValidation.ommersHash(ommers))
+            .stateRoot(disposableWorldState.rootHash())
+            .transactionsRoot(BodyValidation.transactionsRoot(transactionResults.getTransactions()))
+            .receiptsRoot(BodyValidation.receiptsRoot(transactionResults.getReceipts()))
+            .logsBloom(BodyValidation.logsBloom(transactionResults.getReceipts()))
+            .gasUsed(transactionResults.getCumulativeGasUsed())
+            .extraData(extraDataCalculator.get(parentHeader))
+            .buildSealableBlockHeader();
+
+    final BlockHeader blockHeader = createFinalBlockHeader(sealableBlockHeader);
+
+    return new Block(blockHeader, new BlockBody(transactionResults.getTransactions(), ommers));
+  }
+
   private BlockTransactionSelector.TransactionSelectionResults selectTransactions(
       final ProcessableBlockHeader processableBlockHeader,
       final MutableWorldState disposableWorldState,
       final Optional<List<Transaction>> transactions)
       throws RuntimeException {
+    final BlockTransactionSelector selector =
+        createTransactionSelector(processableBlockHeader, disposableWorldState, isCancelled::get);
+
+    if (transactions.isPresent()) {
+      return selector.evaluateTransactions(transactions.get());
+    } else {
+      return selector.buildTransactionListForBlock();
+    }
+  }
+
+  private BlockTransactionSelector createTransactionSelector(
+      final ProcessableBlockHeader processableBlockHeader,
+      final MutableWorldState disposableWorldState) {
+    return createTransactionSelector(
+        processableBlockHeader,
+        disposableWorldState,
+        () -> isCancelled.get() || preparationStopped.get() || isPreparationDeadlinePassed.get());
+  }
+
+  private BlockTransactionSelector createTransactionSelector(
+      final ProcessableBlockHeader processableBlockHeader,
+      final MutableWorldState disposableWorldState,
+      final Supplier<Boolean> isCancelled) {
     final long blockNumber = processableBlockHeader.getNumber();
 
     final TransactionProcessor transactionProcessor =
@@ -202,23 +345,17 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
     final MainnetBlockProcessor.TransactionReceiptFactory transactionReceiptFactory =
         protocolSchedule.getByBlockNumber(blockNumber).getTransactionReceiptFactory();
 
-    final BlockTransactionSelector selector =
-        new BlockTransactionSelector(
-            transactionProcessor,
-            protocolContext.getBlockchain(),
-            disposableWorldState,
-            pendingTransactions,
-            processableBlockHeader,
-            transactionReceiptFactory,
-            minTransactionGasPrice,
-            isCancelled::get,
-            miningBeneficiary);
-
-    if (transactions.isPresent()) {
-      return selector.evaluateTransactions(transactions.get());
-    } else {
-      return selector.buildTransactionListForBlock();
-    }
+    return new BlockTransactionSelector(
+        transactionProcessor,
+        protocolContext.getBlockchain(),
+        disposableWorldState,
+        pendingTransactions,
+        processableBlockHeader,
+        transactionReceiptFactory,
+        minTransactionGasPrice,
+        isCancelled,
+        miningBeneficiary,
+        metricsSystem);
   }
 
   private MutableWorldState duplicateWorldStateAtParent() {
@@ -320,4 +457,49 @@ public abstract class AbstractBlockCreator<C> implements AsyncBlockCreator {
 
   protected abstract BlockHeader createFinalBlockHeader(
       final SealableBlockHeader sealableBlockHeader);
+
+  /**
+   * A block whose transactions have been selected and executed against its own copy of the world
+   * state, but which has not yet been rewarded or sealed.
+   */
+  private static class BlockCandidate {
+
+    private final ProcessableBlockHeader processableBlockHeader;
+    private final MutableWorldState worldState;
+    private final BlockTransactionSelector selector;
+    private long transactionsAddedCount = -1;
+
+    BlockCandidate(
+        final ProcessableBlockHeader processableBlockHeader,
+        final MutableWorldState worldState,
+        final BlockTransactionSelector selector) {
+      this.processableBlockHeader = processableBlockHeader;
+      this.worldState = worldState;
+      this.selector = selector;
+    }
+
+    long getTimestamp() {
+      return processableBlockHeader.getTimestamp();
+    }
+
+    ProcessableBlockHeader getProcessableBlockHeader() {
+      return processableBlockHeader;
+    }
+
+    MutableWorldState getWorldState() {
+      return worldState;
+    }
+
+    BlockTransactionSelector.TransactionSelectionResults getTransactionResults() {
+      return selector.getTransactionSelectionResults();
+    }
+
+    void update(final long currentTransactionsAddedCount) {
+      // Only revisit the pending transactions if some have arrived since the last selection.
+      if (currentTransactionsAddedCount != transactionsAddedCount) {
+        selector.buildTransactionListForBlock();
+        transactionsAddedCount = currentTransactionsAddedCount;
+      }
+    }
+  }
 }
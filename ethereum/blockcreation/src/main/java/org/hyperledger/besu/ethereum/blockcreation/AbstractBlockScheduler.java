@@ -17,9 +17,21 @@ package org.hyperledger.besu.ethereum.blockcreation;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 
 import java.time.Clock;
+import java.util.function.Supplier;
 
 public abstract class AbstractBlockScheduler {
 
+  /** Work to do on a block while waiting for its slot to begin. */
+  @FunctionalInterface
+  public interface BlockPreparation {
+
+    /**
+     * @param timestamp the timestamp of the block to be mined
+     * @param isSlotStarted whether the block can now be mined, so preparation should stop
+     */
+    void prepare(long timestamp, Supplier<Boolean> isSlotStarted);
+  }
+
   protected final Clock clock;
 
   public AbstractBlockScheduler(final Clock clock) {
@@ -35,6 +47,38 @@ public abstract class AbstractBlockScheduler {
     return result.timestampForHeader;
   }
 
+  /**
+   * Waits until a block can be mined on top of the parent, repeatedly invoking the supplied task
+   * with the new block's timestamp while waiting. This allows the block to be prepared while its
+   * slot has not yet begun. The task runs on the calling thread, so it is also told when the slot
+   * has begun, and should return promptly once it has.
+   *
+   * @param parentHeader the header of the block to be mined on top of
+   * @param whileWaiting invoked with the new block's timestamp until the block can be mined
+   * @return the timestamp of the block to be mined
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public long waitUntilNextBlockCanBeMined(
+      final BlockHeader parentHeader, final BlockPreparation whileWaiting)
+      throws InterruptedException {
+    final BlockCreationTimeResult result = getNextTimestamp(parentHeader);
+    final long validAt = clock.millis() + result.millisecondsUntilValid;
+    final Supplier<Boolean> isSlotStarted = () -> clock.millis() >= validAt;
+
+    long millisecondsUntilValid = result.millisecondsUntilValid;
+    while (millisecondsUntilValid > 0) {
+      whileWaiting.prepare(result.timestampForHeader, isSlotStarted);
+      millisecondsUntilValid = validAt - clock.millis();
+      if (millisecondsUntilValid > 0) {
+        Thread.sleep(
+            Math.min(millisecondsUntilValid, AbstractBlockCreator.PREPARATION_INTERVAL_MILLIS));
+        millisecondsUntilValid = validAt - clock.millis();
+      }
+    }
+
+    return result.timestampForHeader;
+  }
+
   public abstract BlockCreationTimeResult getNextTimestamp(final BlockHeader parentHeader);
 
   public static class BlockCreationTimeResult {
@@ -23,6 +23,7 @@ import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.Optional;
@@ -48,6 +49,7 @@ public abstract class AbstractMinerExecutor<
   protected final PendingTransactions pendingTransactions;
   protected final AbstractBlockScheduler blockScheduler;
   protected final Function<Long, Long> gasLimitCalculator;
+  protected final MetricsSystem metricsSystem;
 
   protected volatile Bytes extraData;
   protected volatile Wei minTransactionGasPrice;
@@ -60,7 +62,8 @@ public abstract class AbstractMinerExecutor<
       final PendingTransactions pendingTransactions,
       final MiningParameters miningParams,
       final AbstractBlockScheduler blockScheduler,
-      final Function<Long, Long> gasLimitCalculator) {
+      final Function<Long, Long> gasLimitCalculator,
+      final MetricsSystem metricsSystem) {
     this.protocolContext = protocolContext;
     this.protocolSchedule = protocolSchedule;
     this.pendingTransactions = pendingTransactions;
@@ -68,6 +71,7 @@ public abstract class AbstractMinerExecutor<
     this.minTransactionGasPrice = miningParams.getMinTransactionGasPrice();
     this.blockScheduler = blockScheduler;
     this.gasLimitCalculator = gasLimitCalculator;
+    this.metricsSystem = metricsSystem;
   }
 
   public Optional<M> startAsyncMining(
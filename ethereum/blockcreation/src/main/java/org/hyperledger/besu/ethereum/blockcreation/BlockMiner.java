@@ -116,7 +116,10 @@ public class BlockMiner<C, M extends AbstractBlockCreator<C>> implements Runnabl
     // ahead of the parent, and still within allowable clock tolerance.
     LOG.trace("Started a mining operation.");
 
-    final long newBlockTimestamp = scheduler.waitUntilNextBlockCanBeMined(parentHeader);
+    // While waiting, build a candidate block so it only needs sealing once the slot begins. The
+    // candidate is built on this thread, so its preparation stops when the slot begins.
+    final long newBlockTimestamp =
+        scheduler.waitUntilNextBlockCanBeMined(parentHeader, minerBlockCreator::prepareCandidate);
 
     final Stopwatch stopwatch = Stopwatch.createStarted();
     LOG.trace("Mining a new block with timestamp {}", newBlockTimestamp);
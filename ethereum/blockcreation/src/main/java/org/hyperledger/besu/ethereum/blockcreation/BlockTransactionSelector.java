@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.blockcreation;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -29,8 +30,17 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.function.Supplier;
 
@@ -53,8 +63,11 @@ import com.google.common.collect.Lists;
  *   <li>The amount of gas consumed when executing all transactions.
  * </ul>
  *
- * Once "used" this class must be discarded and another created. This class contains state which is
- * not cleared between executions of buildTransactionListForBlock().
+ * This class contains state which is not cleared between executions of
+ * buildTransactionListForBlock(). Repeated executions extend the existing selection: transactions
+ * which have already been selected are skipped, so only transactions added to the
+ * PendingTransactions since the previous execution (or previously skipped ones which have since
+ * become valid) are appended to the block.
  */
 public class BlockTransactionSelector {
 
@@ -96,9 +109,16 @@ public class BlockTransactionSelector {
   private final PendingTransactions pendingTransactions;
   private final MainnetBlockProcessor.TransactionReceiptFactory transactionReceiptFactory;
   private final Address miningBeneficiary;
+  private final OperationTimer transactionSelectionTimer;
+  private final Counter transactionsEvaluatedCounter;
 
   private final TransactionSelectionResults transactionSelectionResult =
       new TransactionSelectionResults();
+  private final Set<Hash> selectedTransactions = new HashSet<>();
+  // The lowest nonce found to be ahead of each sender's nonce in the block's world state.
+  private final Map<Address, Long> futureNonceBySender = new HashMap<>();
+  // Whether the world state already includes transactions selected by an earlier execution.
+  private boolean extendingEarlierSelection = false;
 
   public BlockTransactionSelector(
       final TransactionProcessor transactionProcessor,
@@ -109,7 +129,8 @@ public class BlockTransactionSelector {
       final MainnetBlockProcessor.TransactionReceiptFactory transactionReceiptFactory,
       final Wei minTransactionGasPrice,
       final Supplier<Boolean> isCancelled,
-      final Address miningBeneficiary) {
+      final Address miningBeneficiary,
+      final MetricsSystem metricsSystem) {
     this.transactionProcessor = transactionProcessor;
     this.blockchain = blockchain;
     this.worldState = worldState;
@@ -119,6 +140,16 @@ public class BlockTransactionSelector {
     this.isCancelled = isCancelled;
     this.minTransactionGasPrice = minTransactionGasPrice;
     this.miningBeneficiary = miningBeneficiary;
+    transactionSelectionTimer =
+        metricsSystem.createTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "transaction_selection_duration_seconds",
+            "Time taken to select transactions from the transaction pool for a block");
+    transactionsEvaluatedCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.TRANSACTION_POOL,
+            "transactions_evaluated_total",
+            "Count of transactions evaluated for inclusion in a block");
   }
 
   /*
@@ -126,9 +157,16 @@ public class BlockTransactionSelector {
   long running process.
   If running in a thread, it can be cancelled via the isCancelled supplier (which will result
   in this throwing an CancellationException).
+  Calling it again on the same selector still walks the whole pool, but transactions that were
+  already selected, or whose sender has a nonce gap, are skipped without being executed. Those
+  later executions never remove invalid transactions from the pool, as they may only be invalid
+  because of the transactions selected before them.
    */
   public TransactionSelectionResults buildTransactionListForBlock() {
-    pendingTransactions.selectTransactions(this::evaluateTransaction);
+    extendingEarlierSelection = !selectedTransactions.isEmpty();
+    try (final OperationTimer.TimingContext ignored = transactionSelectionTimer.startTimer()) {
+      pendingTransactions.selectTransactions(this::evaluateTransaction);
+    }
     return transactionSelectionResult;
   }
 
@@ -147,9 +185,9 @@ public class BlockTransactionSelector {
    * Passed into the PendingTransactions, and is called on each transaction until sufficient
    * transactions are found which fill a block worth of gas.
    *
-   * This function will continue to be called until the block under construction is suitably
-   * full (in terms of gasLimit) and the provided transaction's gasLimit does not fit within
-   * the space remaining in the block.
+   * This function will continue to be called until the provided transaction's gasLimit does not
+   * fit within the space remaining in the block, and either the block under construction is
+   * suitably full (in terms of gasLimit) or no pending transaction would fit in the space left.
    *
    */
   private TransactionSelectionResult evaluateTransaction(final Transaction transaction) {
@@ -157,8 +195,14 @@ public class BlockTransactionSelector {
       throw new CancellationException("Cancelled during transaction selection.");
     }
 
+    if (selectedTransactions.contains(transaction.getHash())
+        || senderNonceNotYetReached(transaction)) {
+      return TransactionSelectionResult.CONTINUE;
+    }
+    transactionsEvaluatedCounter.inc();
+
     if (transactionTooLargeForBlock(transaction)) {
-      if (blockOccupancyAboveThreshold()) {
+      if (blockOccupancyAboveThreshold() || noPendingTransactionFitsInBlock()) {
         return TransactionSelectionResult.COMPLETE_OPERATION;
       } else {
         return TransactionSelectionResult.CONTINUE;
@@ -194,6 +238,12 @@ public class BlockTransactionSelector {
           .getValidationResult()
           .getInvalidReason()
           .equals(TransactionValidator.TransactionInvalidReason.INCORRECT_NONCE)) {
+        futureNonceBySender.merge(transaction.getSender(), transaction.getNonce(), Math::min);
+        return TransactionSelectionResult.CONTINUE;
+      }
+      // Transactions selected by an earlier execution, such as one this transaction replaced in
+      // the pool, may be why it is invalid, so leave it to be judged against the parent state.
+      if (extendingEarlierSelection) {
         return TransactionSelectionResult.CONTINUE;
       }
       // If the transaction was invalid for any other reason, delete it, and continue.
@@ -216,12 +266,35 @@ public class BlockTransactionSelector {
         transaction,
         transactionReceiptFactory.create(result, worldState, cumulativeGasUsed),
         gasUsedByTransaction);
+    selectedTransactions.add(transaction.getHash());
+    // The sender's nonce has advanced, so its later transactions may now be valid.
+    futureNonceBySender.remove(transaction.getSender());
+  }
+
+  /*
+  A transaction whose nonce is at or beyond one already found to be ahead of its sender's nonce
+  cannot be valid until another transaction from the sender is selected, so is not executed.
+   */
+  private boolean senderNonceNotYetReached(final Transaction transaction) {
+    final Long futureNonce = futureNonceBySender.get(transaction.getSender());
+    return futureNonce != null && transaction.getNonce() >= futureNonce;
+  }
+
+  TransactionSelectionResults getTransactionSelectionResults() {
+    return transactionSelectionResult;
   }
 
   private boolean transactionTooLargeForBlock(final Transaction transaction) {
-    final long blockGasRemaining =
-        processableBlockHeader.getGasLimit() - transactionSelectionResult.getCumulativeGasUsed();
-    return (transaction.getGasLimit() > blockGasRemaining);
+    return (transaction.getGasLimit() > blockGasRemaining());
+  }
+
+  private boolean noPendingTransactionFitsInBlock() {
+    final OptionalLong lowestGasLimit = pendingTransactions.getLowestGasLimit();
+    return lowestGasLimit.isPresent() && lowestGasLimit.getAsLong() > blockGasRemaining();
+  }
+
+  private long blockGasRemaining() {
+    return processableBlockHeader.getGasLimit() - transactionSelectionResult.getCumulativeGasUsed();
   }
 
   private boolean blockOccupancyAboveThreshold() {
@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.mainnet.EthHashSolution;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolver;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolverInputs;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.math.BigInteger;
 import java.util.Optional;
@@ -48,7 +49,8 @@ public class EthHashBlockCreator extends AbstractBlockCreator<Void> {
       final Function<Long, Long> gasLimitCalculator,
       final EthHashSolver nonceSolver,
       final Wei minTransactionGasPrice,
-      final BlockHeader parentHeader) {
+      final BlockHeader parentHeader,
+      final MetricsSystem metricsSystem) {
     super(
         coinbase,
         extraDataCalculator,
@@ -58,7 +60,8 @@ public class EthHashBlockCreator extends AbstractBlockCreator<Void> {
         gasLimitCalculator,
         minTransactionGasPrice,
         coinbase,
-        parentHeader);
+        parentHeader,
+        metricsSystem);
 
     this.nonceSolver = nonceSolver;
   }
@@ -21,9 +21,11 @@ import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.MiningParameters;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
+import org.hyperledger.besu.ethereum.mainnet.EthHashCacheFactory;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolver;
 import org.hyperledger.besu.ethereum.mainnet.EthHasher;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.Subscribers;
 
 import java.util.Optional;
@@ -33,6 +35,8 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<Void, EthHashBlo
 
   private volatile Optional<Address> coinbase;
   private boolean stratumMiningEnabled;
+  private final EthHasher ethHasher;
+  private final int solverThreads;
 
   public EthHashMinerExecutor(
       final ProtocolContext<Void> protocolContext,
@@ -40,15 +44,41 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<Void, EthHashBlo
       final PendingTransactions pendingTransactions,
       final MiningParameters miningParams,
       final AbstractBlockScheduler blockScheduler,
-      final Function<Long, Long> gasLimitCalculator) {
+      final Function<Long, Long> gasLimitCalculator,
+      final MetricsSystem metricsSystem) {
+    this(
+        protocolContext,
+        protocolSchedule,
+        pendingTransactions,
+        miningParams,
+        blockScheduler,
+        gasLimitCalculator,
+        new EthHasher.Light(new EthHashCacheFactory()),
+        1,
+        metricsSystem);
+  }
+
+  public EthHashMinerExecutor(
+      final ProtocolContext<Void> protocolContext,
+      final ProtocolSchedule<Void> protocolSchedule,
+      final PendingTransactions pendingTransactions,
+      final MiningParameters miningParams,
+      final AbstractBlockScheduler blockScheduler,
+      final Function<Long, Long> gasLimitCalculator,
+      final EthHasher ethHasher,
+      final int solverThreads,
+      final MetricsSystem metricsSystem) {
     super(
         protocolContext,
         protocolSchedule,
         pendingTransactions,
         miningParams,
         blockScheduler,
-        gasLimitCalculator);
+        gasLimitCalculator,
+        metricsSystem);
     this.coinbase = miningParams.getCoinbase();
+    this.ethHasher = ethHasher;
+    this.solverThreads = solverThreads;
   }
 
   @Override
@@ -70,9 +100,10 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<Void, EthHashBlo
     final EthHashSolver solver =
         new EthHashSolver(
             new RandomNonceGenerator(),
-            new EthHasher.Light(),
+            ethHasher,
             stratumMiningEnabled,
-            ethHashObservers);
+            ethHashObservers,
+            solverThreads);
     final Function<BlockHeader, EthHashBlockCreator> blockCreator =
         (header) ->
             new EthHashBlockCreator(
@@ -84,7 +115,8 @@ public class EthHashMinerExecutor extends AbstractMinerExecutor<Void, EthHashBlo
                 gasLimitCalculator,
                 solver,
                 minTransactionGasPrice,
-                parentHeader);
+                parentHeader,
+                metricsSystem);
 
     return new EthHashBlockMiner(
         blockCreator, protocolSchedule, protocolContext, observers, blockScheduler, parentHeader);
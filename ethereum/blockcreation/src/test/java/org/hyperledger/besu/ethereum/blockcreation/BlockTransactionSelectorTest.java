@@ -19,6 +19,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.config.GenesisConfigFile;
@@ -47,6 +50,7 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidator;
 import org.hyperledger.besu.ethereum.mainnet.ValidationResult;
 import org.hyperledger.besu.ethereum.vm.TestBlockchain;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.testutil.TestClock;
@@ -112,7 +116,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -148,7 +153,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -202,7 +208,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -243,7 +250,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
@@ -260,6 +268,139 @@ public class BlockTransactionSelectorTest {
     Assertions.assertThat(results.getReceipts().get(2).getCumulativeGasUsed()).isEqualTo(300);
   }
 
+  @Test
+  public void repeatedSelectionOnlyEvaluatesTransactionsNotAlreadySelected() {
+    final Transaction firstTransaction = createTransaction(0);
+    final Transaction secondTransaction = createTransaction(1);
+    pendingTransactions.addRemoteTransaction(firstTransaction);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final Address miningBeneficiary = AddressHelpers.ofValue(1);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            miningBeneficiary,
+            metricsSystem);
+
+    assertThat(selector.buildTransactionListForBlock().getTransactions())
+        .containsExactly(firstTransaction);
+
+    pendingTransactions.addRemoteTransaction(secondTransaction);
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).containsExactly(firstTransaction, secondTransaction);
+    assertThat(results.getCumulativeGasUsed()).isEqualTo(200);
+    verify(transactionProcessor, times(2))
+        .processTransaction(any(), any(), any(), any(), any(), any(), anyBoolean(), any());
+  }
+
+  @Test
+  public void onlyTransactionsActuallyEvaluatedAreCounted() {
+    final StubMetricsSystem stubMetricsSystem = new StubMetricsSystem();
+    pendingTransactions.addRemoteTransaction(createTransaction(0));
+    pendingTransactions.addRemoteTransaction(createTransaction(1));
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final Address miningBeneficiary = AddressHelpers.ofValue(1);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            miningBeneficiary,
+            stubMetricsSystem);
+
+    selector.buildTransactionListForBlock();
+    selector.buildTransactionListForBlock();
+
+    assertThat(stubMetricsSystem.getCounterValue("transactions_evaluated_total")).isEqualTo(2);
+  }
+
+  @Test
+  public void replacementForSelectedTransactionIsNotRemovedByRepeatedSelection() {
+    final Transaction selectedTransaction = createTransaction(0);
+    final Transaction replacementTransaction =
+        new TransactionTestFixture()
+            .nonce(0)
+            .gasLimit(100)
+            .gasPrice(Wei.of(10))
+            .createTransaction(keyPair);
+    pendingTransactions.addRemoteTransaction(selectedTransaction);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), eq(selectedTransaction), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, Bytes.EMPTY, ValidationResult.valid()));
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), eq(replacementTransaction), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.invalid(
+                ValidationResult.invalid(
+                    TransactionValidator.TransactionInvalidReason.NONCE_TOO_LOW)));
+
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final Address miningBeneficiary = AddressHelpers.ofValue(1);
+
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            miningBeneficiary,
+            metricsSystem);
+
+    assertThat(selector.buildTransactionListForBlock().getTransactions())
+        .containsExactly(selectedTransaction);
+
+    pendingTransactions.addRemoteTransaction(replacementTransaction);
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).containsExactly(selectedTransaction);
+    verify(transactionProcessor)
+        .processTransaction(
+            any(), any(), any(), eq(replacementTransaction), any(), any(), anyBoolean(), any());
+    assertThat(pendingTransactions.getTransactionByHash(replacementTransaction.getHash()))
+        .isPresent();
+    assertThat(pendingTransactions.getTransactionByHash(selectedTransaction.getHash())).isEmpty();
+  }
+
   @Test
   public void transactionOfferingGasPriceLessThanMinimumIsIdentifiedAndRemovedFromPending() {
     final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(301);
@@ -275,7 +416,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.of(6),
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final Transaction tx = createTransaction(1);
     pendingTransactions.addRemoteTransaction(tx);
@@ -308,7 +450,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final TransactionTestFixture txTestFixture = new TransactionTestFixture();
     // Add 3 transactions to the Pending Transactions, 79% of block, 100% of block and 10% of block
@@ -362,7 +505,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final TransactionTestFixture txTestFixture = new TransactionTestFixture();
     // Add 4 transactions to the Pending Transactions 15% (ok), 79% (ok), 25% (too large), 10%
@@ -405,6 +549,128 @@ public class BlockTransactionSelectorTest {
     assertThat(results.getTransactions().contains(transaction3)).isFalse();
   }
 
+  @Test
+  public void transactionSelectionStopsWhenNoPendingTransactionFitsInRemainingGas() {
+    final TransactionTestFixture txTestFixture = new TransactionTestFixture();
+    // The block is only 70% full after the first transaction, but neither of the remaining
+    // transactions fit so selection completes without executing either of them.
+    final Transaction transaction1 =
+        txTestFixture.gasLimit(700).nonce(1).createTransaction(keyPair);
+    final Transaction transaction2 =
+        txTestFixture.gasLimit(400).nonce(2).createTransaction(keyPair);
+    final Transaction transaction3 =
+        txTestFixture.gasLimit(400).nonce(3).createTransaction(keyPair);
+
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selectTransactionsWithGasLimit(1000, transaction1, transaction2, transaction3);
+
+    assertThat(results.getTransactions()).containsExactly(transaction1);
+    verify(transactionProcessor, times(1))
+        .processTransaction(any(), any(), any(), any(), any(), any(), anyBoolean(), any());
+  }
+
+  @Test
+  public void transactionSelectionContinuesWhileAPendingTransactionFitsInRemainingGas() {
+    final TransactionTestFixture txTestFixture = new TransactionTestFixture();
+    final Transaction transaction1 =
+        txTestFixture.gasLimit(700).nonce(1).createTransaction(keyPair);
+    final Transaction transaction2 =
+        txTestFixture.gasLimit(400).nonce(2).createTransaction(keyPair);
+    final Transaction smallTransaction =
+        txTestFixture.gasLimit(200).nonce(1).createTransaction(KeyPair.generate());
+
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selectTransactionsWithGasLimit(1000, transaction1, transaction2, smallTransaction);
+
+    assertThat(results.getTransactions()).containsExactlyInAnyOrder(transaction1, smallTransaction);
+    verify(transactionProcessor)
+        .processTransaction(
+            any(), any(), any(), eq(smallTransaction), any(), any(), anyBoolean(), any());
+    verify(transactionProcessor, never())
+        .processTransaction(
+            any(), any(), any(), eq(transaction2), any(), any(), anyBoolean(), any());
+  }
+
+  private BlockTransactionSelector.TransactionSelectionResults selectTransactionsWithGasLimit(
+      final long gasLimit, final Transaction... transactions) {
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(gasLimit);
+
+    // TransactionProcessor mock assumes all gas in the transaction was used (i.e. gasLimit).
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.successful(
+                new ArrayList<>(), 0, Bytes.EMPTY, ValidationResult.valid()));
+
+    final Address miningBeneficiary = AddressHelpers.ofValue(1);
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            miningBeneficiary,
+            metricsSystem);
+
+    for (final Transaction transaction : transactions) {
+      pendingTransactions.addRemoteTransaction(transaction);
+    }
+    return selector.buildTransactionListForBlock();
+  }
+
+  @Test
+  public void laterTransactionsFromSenderWithNonceGapAreNotExecuted() {
+    final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(5000);
+
+    final TransactionTestFixture txTestFixture = new TransactionTestFixture();
+    final Transaction futureTransaction =
+        txTestFixture.nonce(5).gasLimit(1).createTransaction(keyPair);
+    final Transaction laterFutureTransaction =
+        txTestFixture.nonce(6).gasLimit(1).createTransaction(keyPair);
+
+    pendingTransactions.addRemoteTransaction(futureTransaction);
+    pendingTransactions.addRemoteTransaction(laterFutureTransaction);
+
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenReturn(
+            MainnetTransactionProcessor.Result.invalid(
+                ValidationResult.invalid(
+                    TransactionValidator.TransactionInvalidReason.INCORRECT_NONCE)));
+
+    final Address miningBeneficiary = AddressHelpers.ofValue(1);
+    final BlockTransactionSelector selector =
+        new BlockTransactionSelector(
+            transactionProcessor,
+            blockchain,
+            worldState,
+            pendingTransactions,
+            blockHeader,
+            this::createReceipt,
+            Wei.ZERO,
+            isCancelled,
+            miningBeneficiary,
+            metricsSystem);
+
+    selector.buildTransactionListForBlock();
+    final BlockTransactionSelector.TransactionSelectionResults results =
+        selector.buildTransactionListForBlock();
+
+    assertThat(results.getTransactions()).isEmpty();
+    assertThat(pendingTransactions.getTransactionByHash(laterFutureTransaction.getHash()))
+        .isPresent();
+    verify(transactionProcessor, times(1))
+        .processTransaction(
+            any(), any(), any(), eq(futureTransaction), any(), any(), anyBoolean(), any());
+    verify(transactionProcessor, never())
+        .processTransaction(
+            any(), any(), any(), eq(laterFutureTransaction), any(), any(), anyBoolean(), any());
+  }
+
   @Test
   public void shouldDiscardTransactionsThatFailValidation() {
     final ProcessableBlockHeader blockHeader = createBlockWithGasLimit(300);
@@ -420,7 +686,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final TransactionTestFixture txTestFixture = new TransactionTestFixture();
     final Transaction validTransaction =
@@ -500,7 +767,8 @@ public class BlockTransactionSelectorTest {
             this::createReceipt,
             Wei.ZERO,
             isCancelled,
-            miningBeneficiary);
+            miningBeneficiary,
+            metricsSystem);
 
     final BlockTransactionSelector.TransactionSelectionResults results =
         selector.buildTransactionListForBlock();
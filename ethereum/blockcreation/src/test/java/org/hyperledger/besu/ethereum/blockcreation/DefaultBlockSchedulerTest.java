@@ -22,6 +22,8 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -84,6 +86,49 @@ public class DefaultBlockSchedulerTest {
     assertThat(result.getMillisecondsUntilValid()).isEqualTo(interBlockSeconds * 1000);
   }
 
+  @Test
+  public void taskIsRunWithNewBlockTimestampWhileWaitingForNextBlock() throws InterruptedException {
+    final Clock clock = mock(Clock.class);
+    final DefaultBlockScheduler scheduler =
+        new DefaultBlockScheduler(interBlockSeconds, acceptableClockDrift, clock);
+
+    final long startTime = (parentTimeStamp - acceptableClockDrift) * 1000;
+    when(clock.millis())
+        .thenReturn(startTime, startTime, startTime + 400, startTime + 400, startTime + 1000);
+
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parentBlock = headerBuilder.timestamp(parentTimeStamp).buildHeader();
+    final List<Long> preparedTimestamps = new ArrayList<>();
+    final long timestamp =
+        scheduler.waitUntilNextBlockCanBeMined(
+            parentBlock, (blockTimestamp, isSlotStarted) -> preparedTimestamps.add(blockTimestamp));
+
+    assertThat(timestamp).isEqualTo(parentTimeStamp + interBlockSeconds);
+    assertThat(preparedTimestamps).containsExactly(timestamp, timestamp);
+  }
+
+  @Test
+  public void taskIsToldWhenTheNextBlockCanBeMined() throws InterruptedException {
+    final Clock clock = mock(Clock.class);
+    final DefaultBlockScheduler scheduler =
+        new DefaultBlockScheduler(interBlockSeconds, acceptableClockDrift, clock);
+
+    final long startTime = (parentTimeStamp - acceptableClockDrift) * 1000;
+    when(clock.millis()).thenReturn(startTime, startTime, startTime + 400, startTime + 1000);
+
+    final BlockHeaderTestFixture headerBuilder = new BlockHeaderTestFixture();
+    final BlockHeader parentBlock = headerBuilder.timestamp(parentTimeStamp).buildHeader();
+    final List<Boolean> slotStarted = new ArrayList<>();
+    scheduler.waitUntilNextBlockCanBeMined(
+        parentBlock,
+        (blockTimestamp, isSlotStarted) -> {
+          slotStarted.add(isSlotStarted.get());
+          slotStarted.add(isSlotStarted.get());
+        });
+
+    assertThat(slotStarted).containsExactly(false, true);
+  }
+
   @Test
   public void ifParentTimestampIsBehindCurrentTimeChildUsesCurrentTime() {
     final long secondsSinceEpoch = parentTimeStamp + 5L; // i.e. time is ahead of blockchain
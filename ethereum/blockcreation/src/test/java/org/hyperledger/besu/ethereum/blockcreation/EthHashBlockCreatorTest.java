@@ -29,6 +29,7 @@ import org.hyperledger.besu.ethereum.core.ProcessableBlockHeader;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
+import org.hyperledger.besu.ethereum.mainnet.EthHashCacheFactory;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolver;
 import org.hyperledger.besu.ethereum.mainnet.EthHasher;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolScheduleBuilder;
@@ -49,6 +50,8 @@ import org.junit.Test;
 
 public class EthHashBlockCreatorTest {
 
+  private static final EthHasher ETH_HASHER = new EthHasher.Light(new EthHashCacheFactory());
+
   private final Address BLOCK_1_COINBASE =
       Address.fromHexString("0x05a56e2d52c817161883f50c441c3228cfe54d9f");
 
@@ -62,40 +65,7 @@ public class EthHashBlockCreatorTest {
 
   @Test
   public void createMainnetBlock1() throws IOException {
-    final ExecutionContextTestFixture executionContextTestFixture =
-        ExecutionContextTestFixture.builder()
-            .protocolSchedule(
-                new ProtocolScheduleBuilder<>(
-                        GenesisConfigFile.DEFAULT.getConfigOptions(),
-                        BigInteger.valueOf(42),
-                        Function.identity(),
-                        PrivacyParameters.DEFAULT,
-                        false)
-                    .createProtocolSchedule())
-            .build();
-
-    final EthHashSolver solver =
-        new EthHashSolver(
-            Lists.newArrayList(BLOCK_1_NONCE), new EthHasher.Light(), false, Subscribers.none());
-
-    final PendingTransactions pendingTransactions =
-        new PendingTransactions(
-            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
-            1,
-            TestClock.fixed(),
-            metricsSystem);
-
-    final EthHashBlockCreator blockCreator =
-        new EthHashBlockCreator(
-            BLOCK_1_COINBASE,
-            parent -> BLOCK_1_EXTRA_DATA,
-            pendingTransactions,
-            executionContextTestFixture.getProtocolContext(),
-            executionContextTestFixture.getProtocolSchedule(),
-            gasLimit -> gasLimit,
-            solver,
-            Wei.ZERO,
-            executionContextTestFixture.getBlockchain().getChainHeadHeader());
+    final EthHashBlockCreator blockCreator = createMainnetBlock1Creator();
 
     // A Hashrate should not exist in the block creator prior to creating a block
     assertThat(blockCreator.getHashesPerSecond().isPresent()).isFalse();
@@ -107,6 +77,19 @@ public class EthHashBlockCreatorTest {
     assertThat(blockCreator.getHashesPerSecond().isPresent()).isTrue();
   }
 
+  @Test
+  public void createMainnetBlock1FromPreparedCandidate() throws IOException {
+    final EthHashBlockCreator blockCreator = createMainnetBlock1Creator();
+
+    blockCreator.prepareCandidate(BLOCK_1_TIMESTAMP);
+    blockCreator.prepareCandidate(BLOCK_1_TIMESTAMP);
+
+    final Block actualBlock = blockCreator.createBlock(BLOCK_1_TIMESTAMP);
+    final Block expectedBlock = ValidationTestUtils.readBlock(1);
+
+    assertThat(actualBlock).isEqualTo(expectedBlock);
+  }
+
   @Test
   public void createMainnetBlock1_fixedDifficulty1() {
     final ExecutionContextTestFixture executionContextTestFixture =
@@ -124,8 +107,7 @@ public class EthHashBlockCreatorTest {
             .build();
 
     final EthHashSolver solver =
-        new EthHashSolver(
-            Lists.newArrayList(BLOCK_1_NONCE), new EthHasher.Light(), false, Subscribers.none());
+        new EthHashSolver(Lists.newArrayList(BLOCK_1_NONCE), ETH_HASHER, false, Subscribers.none());
 
     final PendingTransactions pendingTransactions =
         new PendingTransactions(
@@ -144,7 +126,8 @@ public class EthHashBlockCreatorTest {
             gasLimit -> gasLimit,
             solver,
             Wei.ZERO,
-            executionContextTestFixture.getBlockchain().getChainHeadHeader());
+            executionContextTestFixture.getBlockchain().getChainHeadHeader(),
+            metricsSystem);
 
     blockCreator.createBlock(BLOCK_1_TIMESTAMP);
     // If we weren't setting difficulty to 2^256-1 a difficulty of 1 would have caused a
@@ -168,8 +151,7 @@ public class EthHashBlockCreatorTest {
             .build();
 
     final EthHashSolver solver =
-        new EthHashSolver(
-            Lists.newArrayList(BLOCK_1_NONCE), new EthHasher.Light(), false, Subscribers.none());
+        new EthHashSolver(Lists.newArrayList(BLOCK_1_NONCE), ETH_HASHER, false, Subscribers.none());
 
     final PendingTransactions pendingTransactions =
         new PendingTransactions(
@@ -188,7 +170,8 @@ public class EthHashBlockCreatorTest {
             gasLimit -> gasLimit,
             solver,
             Wei.ZERO,
-            executionContextTestFixture.getBlockchain().getChainHeadHeader());
+            executionContextTestFixture.getBlockchain().getChainHeadHeader(),
+            metricsSystem);
 
     final MutableWorldState mutableWorldState =
         executionContextTestFixture.getStateArchive().getMutable();
@@ -228,8 +211,7 @@ public class EthHashBlockCreatorTest {
             .build();
 
     final EthHashSolver solver =
-        new EthHashSolver(
-            Lists.newArrayList(BLOCK_1_NONCE), new EthHasher.Light(), false, Subscribers.none());
+        new EthHashSolver(Lists.newArrayList(BLOCK_1_NONCE), ETH_HASHER, false, Subscribers.none());
 
     final PendingTransactions pendingTransactions =
         new PendingTransactions(
@@ -248,7 +230,8 @@ public class EthHashBlockCreatorTest {
             gasLimit -> gasLimit,
             solver,
             Wei.ZERO,
-            executionContextTestFixture.getBlockchain().getChainHeadHeader());
+            executionContextTestFixture.getBlockchain().getChainHeadHeader(),
+            metricsSystem);
 
     final MutableWorldState mutableWorldState =
         executionContextTestFixture.getStateArchive().getMutable();
@@ -269,4 +252,40 @@ public class EthHashBlockCreatorTest {
 
     assertThat(mutableWorldState.get(BLOCK_1_COINBASE)).isNull();
   }
+
+  private EthHashBlockCreator createMainnetBlock1Creator() {
+    final ExecutionContextTestFixture executionContextTestFixture =
+        ExecutionContextTestFixture.builder()
+            .protocolSchedule(
+                new ProtocolScheduleBuilder<>(
+                        GenesisConfigFile.DEFAULT.getConfigOptions(),
+                        BigInteger.valueOf(42),
+                        Function.identity(),
+                        PrivacyParameters.DEFAULT,
+                        false)
+                    .createProtocolSchedule())
+            .build();
+
+    final EthHashSolver solver =
+        new EthHashSolver(Lists.newArrayList(BLOCK_1_NONCE), ETH_HASHER, false, Subscribers.none());
+
+    final PendingTransactions pendingTransactions =
+        new PendingTransactions(
+            TransactionPoolConfiguration.DEFAULT_TX_RETENTION_HOURS,
+            1,
+            TestClock.fixed(),
+            metricsSystem);
+
+    return new EthHashBlockCreator(
+        BLOCK_1_COINBASE,
+        parent -> BLOCK_1_EXTRA_DATA,
+        pendingTransactions,
+        executionContextTestFixture.getProtocolContext(),
+        executionContextTestFixture.getProtocolSchedule(),
+        gasLimit -> gasLimit,
+        solver,
+        Wei.ZERO,
+        executionContextTestFixture.getBlockchain().getChainHeadHeader(),
+        metricsSystem);
+  }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage;
+
+import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.MutableAccount;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStatePreimageKeyValueStorage;
+import org.hyperledger.besu.ethereum.worldstate.DefaultMutableWorldState;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfigurationBuilder;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.segmented.RocksDBColumnarKeyValueStorage;
+import org.hyperledger.besu.services.kvstore.SegmentedKeyValueStorageAdapter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the storage side of importing a block: updating and persisting the world state, then
+ * appending the block and its receipts to the blockchain, with and without RocksDB transactions.
+ */
+@State(Scope.Thread)
+public class BlockImportStorageBenchmark {
+
+  private static final int ACCOUNTS_PER_BLOCK = 200;
+  private static final int STORAGE_SLOTS_PER_ACCOUNT = 4;
+
+  @Param({"true", "false"})
+  public boolean transactionsEnabled;
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private Path storageDirectory;
+  private RocksDBColumnarKeyValueStorage storage;
+  private MutableBlockchain blockchain;
+  private MutableWorldState worldState;
+
+  private Block block;
+  private List<TransactionReceipt> receipts;
+  private List<Address> touchedAccounts;
+  private List<UInt256> storageKeys;
+
+  @Setup
+  public void prepare() throws Exception {
+    storageDirectory = Files.createTempDirectory("benchmark");
+    storage =
+        new RocksDBColumnarKeyValueStorage(
+            new RocksDBConfigurationBuilder()
+                .databaseDir(storageDirectory)
+                .transactionsEnabled(transactionsEnabled)
+                .build(),
+            Arrays.asList(KeyValueSegmentIdentifier.values()),
+            new NoOpMetricsSystem(),
+            RocksDBMetricsFactory.PUBLIC_ROCKS_DB_METRICS);
+    blockchain =
+        DefaultBlockchain.createMutable(
+            gen.genesisBlock(),
+            new KeyValueStoragePrefixedKeyBlockchainStorage(
+                new SegmentedKeyValueStorageAdapter<>(
+                    KeyValueSegmentIdentifier.BLOCKCHAIN, storage),
+                new MainnetBlockHeaderFunctions()),
+            new NoOpMetricsSystem());
+    final KeyValueStorage worldStateStorage =
+        new SegmentedKeyValueStorageAdapter<>(KeyValueSegmentIdentifier.WORLD_STATE, storage);
+    worldState =
+        new DefaultMutableWorldState(
+            new WorldStateKeyValueStorage(worldStateStorage),
+            new WorldStatePreimageKeyValueStorage(worldStateStorage));
+  }
+
+  @Setup(Level.Invocation)
+  public void prepareBlock() {
+    block = gen.nextBlock(blockchain.getChainHeadBlock());
+    receipts = gen.receipts(block);
+    touchedAccounts = new ArrayList<>(ACCOUNTS_PER_BLOCK);
+    storageKeys = new ArrayList<>(ACCOUNTS_PER_BLOCK * STORAGE_SLOTS_PER_ACCOUNT);
+    for (int i = 0; i < ACCOUNTS_PER_BLOCK; i++) {
+      touchedAccounts.add(gen.address());
+      for (int j = 0; j < STORAGE_SLOTS_PER_ACCOUNT; j++) {
+        storageKeys.add(gen.storageKey());
+      }
+    }
+  }
+
+  @TearDown
+  public void cleanUp() throws Exception {
+    storage.close();
+    MoreFiles.deleteRecursively(storageDirectory, RecursiveDeleteOption.ALLOW_INSECURE);
+  }
+
+  @Benchmark
+  public void importBlock() {
+    final WorldUpdater updater = worldState.updater();
+    for (int i = 0; i < touchedAccounts.size(); i++) {
+      final MutableAccount account = updater.getOrCreate(touchedAccounts.get(i)).getMutable();
+      account.setBalance(Wei.of(block.getHeader().getNumber()));
+      for (int j = 0; j < STORAGE_SLOTS_PER_ACCOUNT; j++) {
+        account.setStorageValue(
+            storageKeys.get(i * STORAGE_SLOTS_PER_ACCOUNT + j), UInt256.valueOf(j + 1));
+      }
+    }
+    updater.commit();
+    worldState.persist();
+    blockchain.appendBlock(block, receipts);
+  }
+}
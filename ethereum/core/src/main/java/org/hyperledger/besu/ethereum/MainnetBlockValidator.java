@@ -28,6 +28,7 @@ import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.apache.logging.log4j.Logger;
 
@@ -85,7 +86,15 @@ public class MainnetBlockValidator<C> implements BlockValidator<C> {
       return Optional.empty();
     }
     final MutableWorldState worldState = maybeWorldState.get();
-    final BlockProcessor.Result result = blockProcessor.processBlock(blockchain, worldState, block);
+    // Warm the storage caches with the accounts the transactions touch while they are executed
+    final CompletableFuture<Void> prefetch =
+        context.getWorldStateArchive().prefetch(parentHeader.getStateRoot(), block);
+    final BlockProcessor.Result result;
+    try {
+      result = blockProcessor.processBlock(blockchain, worldState, block);
+    } finally {
+      prefetch.cancel(false);
+    }
     if (!result.isSuccessful()) {
       return Optional.empty();
     }
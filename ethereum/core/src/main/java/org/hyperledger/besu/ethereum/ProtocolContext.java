@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStatePreimageStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorage;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 
 /**
@@ -54,6 +55,7 @@ public class ProtocolContext<C> {
       final GenesisState genesisState,
       final ProtocolSchedule<T> protocolSchedule,
       final MetricsSystem metricsSystem,
+      final Executor prefetchExecutor,
       final BiFunction<Blockchain, WorldStateArchive, T> consensusContextFactory) {
     final BlockchainStorage blockchainStorage =
         storageProvider.createBlockchainStorage(protocolSchedule);
@@ -65,7 +67,7 @@ public class ProtocolContext<C> {
         DefaultBlockchain.createMutable(genesisState.getBlock(), blockchainStorage, metricsSystem);
 
     final WorldStateArchive worldStateArchive =
-        new WorldStateArchive(worldStateStorage, preimageStorage);
+        new WorldStateArchive(worldStateStorage, preimageStorage, prefetchExecutor);
     genesisState.writeStateTo(worldStateArchive.getMutable());
 
     return new ProtocolContext<>(
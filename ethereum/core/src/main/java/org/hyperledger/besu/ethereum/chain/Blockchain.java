@@ -22,11 +22,14 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 
+import org.apache.tuweni.bytes.Bytes;
+
 /** An interface for reading data from the blockchain. */
 public interface Blockchain {
   /**
@@ -143,6 +146,52 @@ public interface Blockchain {
    */
   Optional<List<TransactionReceipt>> getTxReceipts(Hash blockHeaderHash);
 
+  /**
+   * Returns the RLP encoding of the block header corresponding to the given block hash, as sent
+   * over the wire. Implementations backed by storage return the stored bytes without decoding them.
+   *
+   * @param blockHeaderHash The hash of the block whose header we want to retrieve.
+   * @return The RLP encoded block header corresponding to this block hash.
+   */
+  default Optional<Bytes> getBlockHeaderRlp(final Hash blockHeaderHash) {
+    return getBlockHeader(blockHeaderHash).map(header -> RLP.encode(header::writeTo));
+  }
+
+  /**
+   * Returns the RLP encoding of the block header at the given height in the canonical chain, as
+   * sent over the wire.
+   *
+   * @param blockNumber The height of the block whose header we want to retrieve.
+   * @return The RLP encoded block header corresponding to this block number.
+   */
+  default Optional<Bytes> getBlockHeaderRlp(final long blockNumber) {
+    return getBlockHashByNumber(blockNumber).flatMap(this::getBlockHeaderRlp);
+  }
+
+  /**
+   * Returns the RLP encoding of the block body corresponding to the given block header hash, as
+   * sent over the wire.
+   *
+   * @param blockHeaderHash The block header hash identifying the block whose body should be
+   *     returned.
+   * @return The RLP encoded block body corresponding to the target block.
+   */
+  default Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return getBlockBody(blockHeaderHash).map(body -> RLP.encode(body::writeTo));
+  }
+
+  /**
+   * Returns the RLP encoding of the list of transaction receipts of the given block, as sent over
+   * the wire, that is without any revert reasons.
+   *
+   * @param blockHeaderHash The header hash of the block we're querying.
+   * @return The RLP encoded transaction receipts corresponding to block hash.
+   */
+  default Optional<Bytes> getTxReceiptsRlp(final Hash blockHeaderHash) {
+    return getTxReceipts(blockHeaderHash)
+        .map(receipts -> RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeTo)));
+  }
+
   /**
    * Retrieves the header hash of the block at the given height in the canonical chain.
    *
@@ -186,6 +235,23 @@ public interface Blockchain {
    */
   long observeBlockAdded(BlockAddedObserver observer);
 
+  /**
+   * Adds an observer that will get called when a new block is added, without delaying the import
+   * of the block.
+   *
+   * <p>Events are delivered on a separate thread in the order the blocks were added, so by the time
+   * the observer is called the chain head may have moved on. Suitable for observers whose work
+   * doesn't need to be complete before the next block is imported, such as filters and
+   * subscriptions. Implementations that can't deliver events asynchronously call the observer as
+   * part of adding the block.
+   *
+   * @param observer the observer to call
+   * @return the observer ID that can be used to remove it later.
+   */
+  default long observeBlockAddedAsync(final BlockAddedObserver observer) {
+    return observeBlockAdded(observer);
+  }
+
   /**
    * Adds an observer that will get called on for every added and removed log when a new block is
    * added.
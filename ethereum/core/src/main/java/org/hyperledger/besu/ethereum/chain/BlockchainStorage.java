@@ -19,11 +19,14 @@ import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.tuweni.bytes.Bytes;
+
 public interface BlockchainStorage {
 
   Optional<Hash> getChainHead();
@@ -36,6 +39,29 @@ public interface BlockchainStorage {
 
   Optional<List<TransactionReceipt>> getTransactionReceipts(Hash blockHash);
 
+  default Optional<Bytes> getBlockHeaderRlp(final Hash blockHash) {
+    return getBlockHeader(blockHash).map(header -> RLP.encode(header::writeTo));
+  }
+
+  default Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return getBlockBody(blockHash).map(body -> RLP.encode(body::writeTo));
+  }
+
+  /**
+   * Returns the RLP encoded transaction receipts of a block in the form they are stored, which
+   * includes any revert reasons.
+   *
+   * @param blockHash the hash of the block
+   * @return the encoded transaction receipts, if present.
+   */
+  default Optional<Bytes> getTransactionReceiptsRlp(final Hash blockHash) {
+    return getTransactionReceipts(blockHash)
+        .map(
+            receipts ->
+                RLP.encode(
+                    out -> out.writeList(receipts, TransactionReceipt::writeToWithRevertReason)));
+  }
+
   Optional<Hash> getBlockHash(long blockNumber);
 
   Optional<Difficulty> getTotalDifficulty(Hash blockHash);
@@ -66,6 +92,10 @@ public interface BlockchainStorage {
 
     void removeTransactionLocation(Hash transactionHash);
 
+    void removeBlockBody(Hash blockHash);
+
+    void removeTransactionReceipts(Hash blockHash);
+
     void commit();
 
     void rollback();
@@ -0,0 +1,384 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.chain;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Log;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A {@link BlockchainStorage} that keeps recently written and recently read block data in a single
+ * cache bounded by the estimated in-memory size of its entries.
+ *
+ * <p>Headers, bodies and receipts are keyed by block hash so never become stale and are cached on
+ * both reads and writes. The block number to hash mapping and transaction locations change when
+ * the canonical chain is reorganized, so these are only cached from committed updates, where the
+ * cache is updated to match exactly what was written to the underlying storage.
+ */
+class CachingBlockchainStorage implements BlockchainStorage {
+
+  static final long DEFAULT_CACHE_SIZE_BYTES = 32 * 1024 * 1024;
+
+  private static final int HASH_SIZE_ESTIMATE = 64;
+  private static final int TRANSACTION_LOCATION_SIZE_ESTIMATE = 96;
+  private static final int HEADER_SIZE_ESTIMATE = 640;
+  private static final int TRANSACTION_SIZE_ESTIMATE = 256;
+  private static final int RECEIPT_SIZE_ESTIMATE = 384;
+  private static final int LOG_SIZE_ESTIMATE = 96;
+  private static final int TOPIC_SIZE_ESTIMATE = 48;
+
+  private enum EntryType {
+    BLOCK_HEADER,
+    BLOCK_BODY,
+    TRANSACTION_RECEIPTS,
+    BLOCK_HASH,
+    TRANSACTION_LOCATION
+  }
+
+  private final BlockchainStorage storage;
+  private final Cache<CacheKey, Object> cache;
+  private final AtomicLong estimatedSize = new AtomicLong();
+  private final LabelledMetric<Counter> lookupCounter;
+
+  CachingBlockchainStorage(final BlockchainStorage storage, final MetricsSystem metricsSystem) {
+    this(storage, metricsSystem, DEFAULT_CACHE_SIZE_BYTES);
+  }
+
+  CachingBlockchainStorage(
+      final BlockchainStorage storage,
+      final MetricsSystem metricsSystem,
+      final long maximumSizeBytes) {
+    checkArgument(maximumSizeBytes > 0, "Cache size must be positive");
+    this.storage = storage;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maximumSizeBytes)
+            .<CacheKey, Object>weigher(CachingBlockchainStorage::weigh)
+            .removalListener(this::onRemoval)
+            .build();
+
+    lookupCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "cache_lookups_total",
+            "Number of blockchain cache lookups",
+            "type",
+            "result");
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "cache_entries",
+        "Number of entries in the blockchain cache",
+        cache::size);
+    metricsSystem.createLongGauge(
+        BesuMetricCategory.BLOCKCHAIN,
+        "cache_size_bytes",
+        "Estimated in-memory size of the entries in the blockchain cache",
+        estimatedSize::get);
+  }
+
+  @Override
+  public Optional<Hash> getChainHead() {
+    return storage.getChainHead();
+  }
+
+  @Override
+  public Collection<Hash> getForkHeads() {
+    return storage.getForkHeads();
+  }
+
+  @Override
+  public Optional<BlockHeader> getBlockHeader(final Hash blockHash) {
+    return getOrLoad(EntryType.BLOCK_HEADER, blockHash, storage::getBlockHeader);
+  }
+
+  @Override
+  public Optional<BlockBody> getBlockBody(final Hash blockHash) {
+    return getOrLoad(EntryType.BLOCK_BODY, blockHash, storage::getBlockBody);
+  }
+
+  @Override
+  public Optional<List<TransactionReceipt>> getTransactionReceipts(final Hash blockHash) {
+    return getOrLoad(EntryType.TRANSACTION_RECEIPTS, blockHash, storage::getTransactionReceipts);
+  }
+
+  // Encoded data is only read to serve peers, which mostly request old blocks, so it is read
+  // straight from storage to avoid evicting the recent blocks cached for import and queries.
+
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final Hash blockHash) {
+    return storage.getBlockHeaderRlp(blockHash);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return storage.getBlockBodyRlp(blockHash);
+  }
+
+  @Override
+  public Optional<Bytes> getTransactionReceiptsRlp(final Hash blockHash) {
+    return storage.getTransactionReceiptsRlp(blockHash);
+  }
+
+  @Override
+  public Optional<Hash> getBlockHash(final long blockNumber) {
+    return getOrRead(EntryType.BLOCK_HASH, blockNumber, storage::getBlockHash);
+  }
+
+  @Override
+  public Optional<Difficulty> getTotalDifficulty(final Hash blockHash) {
+    return storage.getTotalDifficulty(blockHash);
+  }
+
+  @Override
+  public Optional<TransactionLocation> getTransactionLocation(final Hash transactionHash) {
+    return getOrRead(
+        EntryType.TRANSACTION_LOCATION, transactionHash, storage::getTransactionLocation);
+  }
+
+  @Override
+  public Updater updater() {
+    return new CachingUpdater(storage.updater());
+  }
+
+  /** Looks up immutable data, caching it on a miss. */
+  @SuppressWarnings("unchecked")
+  private <K, V> Optional<V> getOrLoad(
+      final EntryType type, final K id, final Function<K, Optional<V>> loader) {
+    final V cached = (V) cache.getIfPresent(new CacheKey(type, id));
+    if (cached != null) {
+      recordLookup(type, true);
+      return Optional.of(cached);
+    }
+    recordLookup(type, false);
+    final Optional<V> loaded = loader.apply(id);
+    loaded.ifPresent(value -> put(type, id, value));
+    return loaded;
+  }
+
+  /** Looks up data that may change on a reorg, without caching it on a miss. */
+  @SuppressWarnings("unchecked")
+  private <K, V> Optional<V> getOrRead(
+      final EntryType type, final K id, final Function<K, Optional<V>> reader) {
+    final V cached = (V) cache.getIfPresent(new CacheKey(type, id));
+    recordLookup(type, cached != null);
+    return cached != null ? Optional.of(cached) : reader.apply(id);
+  }
+
+  private void recordLookup(final EntryType type, final boolean hit) {
+    lookupCounter.labels(type.name().toLowerCase(), hit ? "hit" : "miss").inc();
+  }
+
+  private void onRemoval(final RemovalNotification<CacheKey, Object> notification) {
+    estimatedSize.addAndGet(-weigh(notification.getKey(), notification.getValue()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static int weigh(final CacheKey key, final Object value) {
+    switch (key.type) {
+      case BLOCK_HEADER:
+        return HEADER_SIZE_ESTIMATE + ((BlockHeader) value).getExtraData().size();
+      case BLOCK_BODY:
+        return weighBody((BlockBody) value);
+      case TRANSACTION_RECEIPTS:
+        return weighReceipts((List<TransactionReceipt>) value);
+      case BLOCK_HASH:
+        return HASH_SIZE_ESTIMATE;
+      case TRANSACTION_LOCATION:
+        return TRANSACTION_LOCATION_SIZE_ESTIMATE;
+      default:
+        throw new IllegalStateException("Unknown cache entry type " + key.type);
+    }
+  }
+
+  private static int weighBody(final BlockBody body) {
+    int size = body.getOmmers().size() * HEADER_SIZE_ESTIMATE;
+    for (final Transaction transaction : body.getTransactions()) {
+      size += TRANSACTION_SIZE_ESTIMATE + transaction.getPayload().size();
+    }
+    return size;
+  }
+
+  private static int weighReceipts(final List<TransactionReceipt> receipts) {
+    int size = 0;
+    for (final TransactionReceipt receipt : receipts) {
+      size += RECEIPT_SIZE_ESTIMATE;
+      for (final Log log : receipt.getLogs()) {
+        size +=
+            LOG_SIZE_ESTIMATE + log.getData().size() + log.getTopics().size() * TOPIC_SIZE_ESTIMATE;
+      }
+    }
+    return size;
+  }
+
+  private void put(final EntryType type, final Object id, final Object value) {
+    final CacheKey key = new CacheKey(type, id);
+    cache.put(key, value);
+    estimatedSize.addAndGet(weigh(key, value));
+  }
+
+  private void invalidate(final EntryType type, final Object id) {
+    cache.invalidate(new CacheKey(type, id));
+  }
+
+  private static class CacheKey {
+    private final EntryType type;
+    private final Object id;
+
+    CacheKey(final EntryType type, final Object id) {
+      this.type = type;
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CacheKey)) {
+        return false;
+      }
+      final CacheKey other = (CacheKey) o;
+      return type == other.type && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, id);
+    }
+  }
+
+  /**
+   * Records the changes made through the wrapped updater and applies them to the cache once they
+   * have been committed to the underlying storage.
+   */
+  private class CachingUpdater implements Updater {
+
+    private final Updater updater;
+    private final List<Runnable> cacheUpdates = new ArrayList<>();
+
+    CachingUpdater(final Updater updater) {
+      this.updater = updater;
+    }
+
+    @Override
+    public void putBlockHeader(final Hash blockHash, final BlockHeader blockHeader) {
+      updater.putBlockHeader(blockHash, blockHeader);
+      cacheUpdates.add(() -> put(EntryType.BLOCK_HEADER, blockHash, blockHeader));
+    }
+
+    @Override
+    public void putBlockBody(final Hash blockHash, final BlockBody blockBody) {
+      updater.putBlockBody(blockHash, blockBody);
+      cacheUpdates.add(() -> put(EntryType.BLOCK_BODY, blockHash, blockBody));
+    }
+
+    @Override
+    public void putTransactionLocation(
+        final Hash transactionHash, final TransactionLocation transactionLocation) {
+      updater.putTransactionLocation(transactionHash, transactionLocation);
+      cacheUpdates.add(
+          () -> put(EntryType.TRANSACTION_LOCATION, transactionHash, transactionLocation));
+    }
+
+    @Override
+    public void putTransactionReceipts(
+        final Hash blockHash, final List<TransactionReceipt> transactionReceipts) {
+      updater.putTransactionReceipts(blockHash, transactionReceipts);
+      cacheUpdates.add(
+          () -> put(EntryType.TRANSACTION_RECEIPTS, blockHash, transactionReceipts));
+    }
+
+    @Override
+    public void putBlockHash(final long blockNumber, final Hash blockHash) {
+      updater.putBlockHash(blockNumber, blockHash);
+      cacheUpdates.add(() -> put(EntryType.BLOCK_HASH, blockNumber, blockHash));
+    }
+
+    @Override
+    public void putTotalDifficulty(final Hash blockHash, final Difficulty totalDifficulty) {
+      updater.putTotalDifficulty(blockHash, totalDifficulty);
+    }
+
+    @Override
+    public void setChainHead(final Hash blockHash) {
+      updater.setChainHead(blockHash);
+    }
+
+    @Override
+    public void setForkHeads(final Collection<Hash> forkHeadHashes) {
+      updater.setForkHeads(forkHeadHashes);
+    }
+
+    @Override
+    public void removeBlockHash(final long blockNumber) {
+      updater.removeBlockHash(blockNumber);
+      cacheUpdates.add(() -> invalidate(EntryType.BLOCK_HASH, blockNumber));
+    }
+
+    @Override
+    public void removeTransactionLocation(final Hash transactionHash) {
+      updater.removeTransactionLocation(transactionHash);
+      cacheUpdates.add(() -> invalidate(EntryType.TRANSACTION_LOCATION, transactionHash));
+    }
+
+    @Override
+    public void removeBlockBody(final Hash blockHash) {
+      updater.removeBlockBody(blockHash);
+      cacheUpdates.add(() -> invalidate(EntryType.BLOCK_BODY, blockHash));
+    }
+
+    @Override
+    public void removeTransactionReceipts(final Hash blockHash) {
+      updater.removeTransactionReceipts(blockHash);
+      cacheUpdates.add(() -> invalidate(EntryType.TRANSACTION_RECEIPTS, blockHash));
+    }
+
+    @Override
+    public void commit() {
+      updater.commit();
+      cacheUpdates.forEach(Runnable::run);
+      cacheUpdates.clear();
+    }
+
+    @Override
+    public void rollback() {
+      updater.rollback();
+      cacheUpdates.clear();
+    }
+  }
+}
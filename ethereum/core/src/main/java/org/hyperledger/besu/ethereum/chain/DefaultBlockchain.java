@@ -28,6 +28,8 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.InvalidConfigurationException;
@@ -42,22 +44,31 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 
 public class DefaultBlockchain implements MutableBlockchain {
 
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int RECEIPT_FIELDS_WITHOUT_REVERT_REASON = 4;
+
   protected final BlockchainStorage blockchainStorage;
 
   private final Subscribers<BlockAddedObserver> blockAddedObservers = Subscribers.create();
+  private ExecutorService asyncObserverExecutor;
 
-  private volatile BlockHeader chainHeader;
-  private volatile Difficulty totalDifficulty;
-  private volatile int chainHeadTransactionCount;
-  private volatile int chainHeadOmmerCount;
+  // Replaced as a whole so readers always see a consistent view of the chain head
+  private volatile ChainHeadState chainHeadState;
 
   private DefaultBlockchain(
       final Optional<Block> genesisBlock,
@@ -67,15 +78,15 @@ public class DefaultBlockchain implements MutableBlockchain {
     checkNotNull(blockchainStorage);
     checkNotNull(metricsSystem);
 
-    this.blockchainStorage = blockchainStorage;
+    this.blockchainStorage = new CachingBlockchainStorage(blockchainStorage, metricsSystem);
     genesisBlock.ifPresent(this::setGenesis);
 
     final Hash chainHead = blockchainStorage.getChainHead().get();
-    chainHeader = blockchainStorage.getBlockHeader(chainHead).get();
-    totalDifficulty = blockchainStorage.getTotalDifficulty(chainHead).get();
-    final BlockBody chainHeadBody = blockchainStorage.getBlockBody(chainHead).get();
-    chainHeadTransactionCount = chainHeadBody.getTransactions().size();
-    chainHeadOmmerCount = chainHeadBody.getOmmers().size();
+    chainHeadState =
+        new ChainHeadState(
+            blockchainStorage.getBlockHeader(chainHead).get(),
+            blockchainStorage.getBlockBody(chainHead).get(),
+            blockchainStorage.getTotalDifficulty(chainHead).get());
 
     metricsSystem.createLongGauge(
         BesuMetricCategory.ETHEREUM,
@@ -110,13 +121,13 @@ public class DefaultBlockchain implements MutableBlockchain {
         BesuMetricCategory.BLOCKCHAIN,
         "chain_head_transaction_count",
         "Number of transactions in the current chain head block",
-        () -> chainHeadTransactionCount);
+        () -> chainHeadState.transactionCount);
 
     metricsSystem.createIntegerGauge(
         BesuMetricCategory.BLOCKCHAIN,
         "chain_head_ommer_count",
         "Number of ommers in the current chain head block",
-        () -> chainHeadOmmerCount);
+        () -> chainHeadState.ommerCount);
   }
 
   public static MutableBlockchain createMutable(
@@ -145,26 +156,28 @@ public class DefaultBlockchain implements MutableBlockchain {
 
   @Override
   public ChainHead getChainHead() {
-    return new ChainHead(chainHeader.getHash(), totalDifficulty, chainHeader.getNumber());
+    final ChainHeadState state = chainHeadState;
+    return new ChainHead(state.header.getHash(), state.totalDifficulty, state.header.getNumber());
   }
 
   @Override
   public Hash getChainHeadHash() {
-    return chainHeader.getHash();
+    return chainHeadState.header.getHash();
   }
 
   @Override
   public long getChainHeadBlockNumber() {
-    return chainHeader.getNumber();
+    return chainHeadState.header.getNumber();
   }
 
   @Override
   public BlockHeader getChainHeadHeader() {
-    return chainHeader;
+    return chainHeadState.header;
   }
 
   @Override
   public Block getChainHeadBlock() {
+    final BlockHeader chainHeader = chainHeadState.header;
     return new Block(chainHeader, blockchainStorage.getBlockBody(chainHeader.getHash()).get());
   }
 
@@ -188,6 +201,28 @@ public class DefaultBlockchain implements MutableBlockchain {
     return blockchainStorage.getTransactionReceipts(blockHeaderHash);
   }
 
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockHeaderRlp(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final long blockNumber) {
+    return blockchainStorage.getBlockHash(blockNumber).flatMap(this::getBlockHeaderRlp);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHeaderHash) {
+    return blockchainStorage.getBlockBodyRlp(blockHeaderHash);
+  }
+
+  @Override
+  public Optional<Bytes> getTxReceiptsRlp(final Hash blockHeaderHash) {
+    return blockchainStorage
+        .getTransactionReceiptsRlp(blockHeaderHash)
+        .map(DefaultBlockchain::withoutRevertReasons);
+  }
+
   @Override
   public Optional<Hash> getBlockHashByNumber(final long number) {
     return blockchainStorage.getBlockHash(number);
@@ -322,7 +357,7 @@ public class DefaultBlockchain implements MutableBlockchain {
 
   private BlockAddedEvent handleChainReorg(
       final BlockchainStorage.Updater updater, final BlockWithReceipts newChainHeadWithReceipts) {
-    BlockWithReceipts oldChainWithReceipts = getBlockWithReceipts(chainHeader).get();
+    BlockWithReceipts oldChainWithReceipts = getBlockWithReceipts(chainHeadState.header).get();
     BlockWithReceipts currentOldChainWithReceipts = oldChainWithReceipts;
     BlockWithReceipts currentNewChainWithReceipts = newChainHeadWithReceipts;
 
@@ -405,7 +440,7 @@ public class DefaultBlockchain implements MutableBlockchain {
   }
 
   @Override
-  public boolean rewindToBlock(final long blockNumber) {
+  public synchronized boolean rewindToBlock(final long blockNumber) {
     final Optional<Hash> blockHash = blockchainStorage.getBlockHash(blockNumber);
     if (blockHash.isEmpty()) {
       return false;
@@ -431,10 +466,7 @@ public class DefaultBlockchain implements MutableBlockchain {
   }
 
   void updateCacheForNewCanonicalHead(final Block block, final Difficulty uInt256) {
-    chainHeader = block.getHeader();
-    totalDifficulty = uInt256;
-    chainHeadTransactionCount = block.getBody().getTransactions().size();
-    chainHeadOmmerCount = block.getBody().getOmmers().size();
+    chainHeadState = new ChainHeadState(block.getHeader(), block.getBody(), uInt256);
   }
 
   private static void indexTransactionForBlock(
@@ -489,7 +521,7 @@ public class DefaultBlockchain implements MutableBlockchain {
   }
 
   private boolean blockIsAlreadyTracked(final Block block) {
-    if (block.getHeader().getParentHash().equals(chainHeader.getHash())) {
+    if (block.getHeader().getParentHash().equals(getChainHeadHash())) {
       // If this block builds on our chain head it would have a higher TD and be the chain head
       // but since it isn't we mustn't have imported it yet.
       // Saves a db read for the most common case
@@ -542,6 +574,14 @@ public class DefaultBlockchain implements MutableBlockchain {
     return blockAddedObservers.subscribe(observer);
   }
 
+  @Override
+  public long observeBlockAddedAsync(final BlockAddedObserver observer) {
+    checkNotNull(observer);
+    return blockAddedObservers.subscribe(
+        (event, blockchain) ->
+            getAsyncObserverExecutor().execute(() -> notifyAsync(observer, event, blockchain)));
+  }
+
   @Override
   public boolean removeObserver(final long observerId) {
     return blockAddedObservers.unsubscribe(observerId);
@@ -555,4 +595,58 @@ public class DefaultBlockchain implements MutableBlockchain {
   private void notifyBlockAdded(final BlockAddedEvent event) {
     blockAddedObservers.forEach(observer -> observer.onBlockAdded(event, this));
   }
+
+  /**
+   * Stored receipts include revert reasons, which are not part of the wire format. They are rarely
+   * present so the stored encoding is only rebuilt when at least one receipt has one.
+   */
+  private static Bytes withoutRevertReasons(final Bytes receiptsRlp) {
+    final RLPInput input = RLP.input(receiptsRlp);
+    input.enterList();
+    while (!input.isEndOfCurrentList()) {
+      if (input.readAsRlp().enterList() > RECEIPT_FIELDS_WITHOUT_REVERT_REASON) {
+        final List<TransactionReceipt> receipts =
+            RLP.input(receiptsRlp).readList(TransactionReceipt::readFrom);
+        return RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeTo));
+      }
+    }
+    return receiptsRlp;
+  }
+
+  private void notifyAsync(
+      final BlockAddedObserver observer, final BlockAddedEvent event, final Blockchain blockchain) {
+    try {
+      observer.onBlockAdded(event, blockchain);
+    } catch (final RuntimeException e) {
+      LOG.error("Block added observer failed to handle block {}", event.getBlock().getHash(), e);
+    }
+  }
+
+  private synchronized ExecutorService getAsyncObserverExecutor() {
+    if (asyncObserverExecutor == null) {
+      // A single thread delivers events to every async observer in the order blocks were added
+      asyncObserverExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("BlockAddedObservers")
+                  .build());
+    }
+    return asyncObserverExecutor;
+  }
+
+  private static class ChainHeadState {
+    private final BlockHeader header;
+    private final Difficulty totalDifficulty;
+    private final int transactionCount;
+    private final int ommerCount;
+
+    private ChainHeadState(
+        final BlockHeader header, final BlockBody body, final Difficulty totalDifficulty) {
+      this.header = header;
+      this.totalDifficulty = totalDifficulty;
+      this.transactionCount = body.getTransactions().size();
+      this.ommerCount = body.getOmmers().size();
+    }
+  }
 }
@@ -29,6 +29,7 @@ public class MiningParameters {
   private final String stratumNetworkInterface;
   private final int stratumPort;
   private final String stratumExtranonce;
+  private final boolean fullDatasetEnabled;
 
   public MiningParameters(
       final Address coinbase,
@@ -47,6 +48,28 @@ public class MiningParameters {
       final String stratumNetworkInterface,
       final int stratumPort,
       final String stratumExtranonce) {
+    this(
+        coinbase,
+        minTransactionGasPrice,
+        extraData,
+        enabled,
+        stratumMiningEnabled,
+        stratumNetworkInterface,
+        stratumPort,
+        stratumExtranonce,
+        false);
+  }
+
+  public MiningParameters(
+      final Address coinbase,
+      final Wei minTransactionGasPrice,
+      final Bytes extraData,
+      final boolean enabled,
+      final boolean stratumMiningEnabled,
+      final String stratumNetworkInterface,
+      final int stratumPort,
+      final String stratumExtranonce,
+      final boolean fullDatasetEnabled) {
     this.coinbase = Optional.ofNullable(coinbase);
     this.minTransactionGasPrice = minTransactionGasPrice;
     this.extraData = extraData;
@@ -55,6 +78,7 @@ public class MiningParameters {
     this.stratumNetworkInterface = stratumNetworkInterface;
     this.stratumPort = stratumPort;
     this.stratumExtranonce = stratumExtranonce;
+    this.fullDatasetEnabled = fullDatasetEnabled;
   }
 
   public Optional<Address> getCoinbase() {
@@ -89,6 +113,10 @@ public class MiningParameters {
     return stratumExtranonce;
   }
 
+  public boolean isFullDatasetEnabled() {
+    return fullDatasetEnabled;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -101,7 +129,8 @@ public class MiningParameters {
         && Objects.equals(enabled, that.enabled)
         && Objects.equals(stratumMiningEnabled, that.stratumMiningEnabled)
         && Objects.equals(stratumNetworkInterface, that.stratumNetworkInterface)
-        && Objects.equals(stratumExtranonce, that.stratumExtranonce);
+        && Objects.equals(stratumExtranonce, that.stratumExtranonce)
+        && fullDatasetEnabled == that.fullDatasetEnabled;
   }
 
   @Override
@@ -114,7 +143,8 @@ public class MiningParameters {
         stratumMiningEnabled,
         stratumNetworkInterface,
         stratumPort,
-        stratumExtranonce);
+        stratumExtranonce,
+        fullDatasetEnabled);
   }
 
   @Override
@@ -138,6 +168,8 @@ public class MiningParameters {
         + ", stratumExtranonce='"
         + stratumExtranonce
         + '\''
+        + ", fullDatasetEnabled="
+        + fullDatasetEnabled
         + '}';
   }
 }
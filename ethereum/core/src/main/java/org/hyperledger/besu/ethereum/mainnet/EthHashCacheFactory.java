@@ -14,14 +14,52 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+/**
+ * Creates the light verification cache for each EthHash epoch.
+ *
+ * <p>Building a cache takes long enough to visibly stall block import, so once the chain gets
+ * within {@link #PRECOMPUTE_DISTANCE} blocks of the next epoch its cache is built in the background.
+ * If a cache directory is given, caches are also written to disk and mapped back in after a restart
+ * rather than built again. Each file ends with a CRC32 checksum of the cache, and files that don't
+ * match it are rebuilt.
+ */
 public class EthHashCacheFactory {
 
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final long PRECOMPUTE_DISTANCE = 2000;
+  private static final int PERSISTED_EPOCHS = 3;
+  private static final String FILENAME_PREFIX = "cache-";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int CHECKSUM_BYTES = Long.BYTES;
+
   public static class EthHashDescriptor {
     private final long datasetSize;
     private final int[] cache;
@@ -42,18 +80,174 @@ public class EthHashCacheFactory {
 
   Cache<Long, EthHashDescriptor> descriptorCache = CacheBuilder.newBuilder().maximumSize(5).build();
 
+  private final Executor precomputeExecutor;
+  private final Set<Long> precomputingEpochs = ConcurrentHashMap.newKeySet();
+  private final Optional<Path> cacheDirectory;
+
+  /** Creates a factory that only keeps caches in memory. */
+  public EthHashCacheFactory() {
+    this(Optional.empty(), createPrecomputeExecutor());
+  }
+
+  /**
+   * Creates a factory that persists caches to a directory.
+   *
+   * @param cacheDirectory the directory to read and write cache files in
+   */
+  public EthHashCacheFactory(final Path cacheDirectory) {
+    this(Optional.of(cacheDirectory), createPrecomputeExecutor());
+  }
+
+  EthHashCacheFactory(final Optional<Path> cacheDirectory, final Executor precomputeExecutor) {
+    this.cacheDirectory = cacheDirectory;
+    this.precomputeExecutor = precomputeExecutor;
+  }
+
+  private static Executor createPrecomputeExecutor() {
+    return Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("EthHashCachePrecompute-%d")
+            .build());
+  }
+
   public EthHashDescriptor ethHashCacheFor(final long blockNumber) {
     final long epochIndex = EthHash.epoch(blockNumber);
+    final EthHashDescriptor descriptor = getOrCreate(epochIndex);
+    if (blockNumber % EthHash.EPOCH_LENGTH >= EthHash.EPOCH_LENGTH - PRECOMPUTE_DISTANCE) {
+      precompute(epochIndex + 1);
+    }
+    return descriptor;
+  }
+
+  private EthHashDescriptor getOrCreate(final long epochIndex) {
     try {
-      return descriptorCache.get(epochIndex, () -> createHashCache(epochIndex, blockNumber));
+      // Waits for a background computation of the same epoch rather than repeating it
+      return descriptorCache.get(epochIndex, () -> loadOrCreateHashCache(epochIndex));
     } catch (final ExecutionException ex) {
       throw new RuntimeException("Failed to create a suitable cache for EthHash calculations.", ex);
     }
   }
 
-  private EthHashDescriptor createHashCache(final long epochIndex, final long blockNumber) {
-    final int[] cache =
-        EthHash.mkCache(Ints.checkedCast(EthHash.cacheSize(epochIndex)), blockNumber);
-    return new EthHashDescriptor(EthHash.datasetSize(epochIndex), cache);
+  private void precompute(final long epochIndex) {
+    if (descriptorCache.getIfPresent(epochIndex) != null || !precomputingEpochs.add(epochIndex)) {
+      return;
+    }
+    precomputeExecutor.execute(
+        () -> {
+          try {
+            getOrCreate(epochIndex);
+            LOG.debug("Precomputed EthHash cache for epoch {}", epochIndex);
+          } catch (final RuntimeException e) {
+            LOG.warn("Failed to precompute EthHash cache for epoch {}", epochIndex, e);
+          } finally {
+            precomputingEpochs.remove(epochIndex);
+          }
+        });
+  }
+
+  private EthHashDescriptor loadOrCreateHashCache(final long epochIndex) {
+    final long datasetSize = EthHash.datasetSize(epochIndex);
+    final int cacheSize = Ints.checkedCast(EthHash.cacheSize(epochIndex));
+    if (cacheDirectory.isPresent()) {
+      final Optional<int[]> persistedCache = load(cacheDirectory.get(), epochIndex, cacheSize);
+      if (persistedCache.isPresent()) {
+        return new EthHashDescriptor(datasetSize, persistedCache.get());
+      }
+    }
+    final int[] cache = EthHash.mkCache(cacheSize, epochIndex * EthHash.EPOCH_LENGTH);
+    cacheDirectory.ifPresent(path -> persist(path, epochIndex, cache));
+    return new EthHashDescriptor(datasetSize, cache);
+  }
+
+  static Path cachePath(final Path directory, final long epochIndex) {
+    return directory.resolve(FILENAME_PREFIX + epochIndex);
+  }
+
+  private static Optional<int[]> load(
+      final Path directory, final long epochIndex, final int cacheSize) {
+    final Path path = cachePath(directory, epochIndex);
+    if (!Files.exists(path)) {
+      return Optional.empty();
+    }
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() != cacheSize + CHECKSUM_BYTES) {
+        LOG.warn("Ignoring EthHash cache file {} with unexpected size {}", path, channel.size());
+        return Optional.empty();
+      }
+      final ByteBuffer buffer =
+          channel.map(MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+      final CRC32 checksum = new CRC32();
+      checksum.update(buffer.duplicate().limit(cacheSize));
+      if (checksum.getValue() != buffer.getLong(cacheSize)) {
+        LOG.warn("Ignoring EthHash cache file {} with invalid checksum", path);
+        return Optional.empty();
+      }
+      final int[] cache = new int[cacheSize / Integer.BYTES];
+      buffer.asIntBuffer().get(cache);
+      LOG.debug("Loaded EthHash cache for epoch {} from {}", epochIndex, path);
+      return Optional.of(cache);
+    } catch (final IOException e) {
+      LOG.warn("Unable to read EthHash cache file {}", path, e);
+      return Optional.empty();
+    }
+  }
+
+  private static void persist(final Path directory, final long epochIndex, final int[] cache) {
+    final Path path = cachePath(directory, epochIndex);
+    final Path tempPath = directory.resolve(path.getFileName() + TEMP_SUFFIX);
+    try {
+      Files.createDirectories(directory);
+      final int cacheSize = cache.length * Integer.BYTES;
+      final ByteBuffer buffer =
+          ByteBuffer.allocate(cacheSize + CHECKSUM_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+      buffer.asIntBuffer().put(cache);
+      final CRC32 checksum = new CRC32();
+      checksum.update(buffer.array(), 0, cacheSize);
+      buffer.putLong(cacheSize, checksum.getValue());
+      try (final FileChannel channel =
+          FileChannel.open(
+              tempPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      // Only complete files are ever visible under the final name
+      Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+      deleteOldCaches(directory, epochIndex);
+    } catch (final IOException e) {
+      LOG.warn("Unable to write EthHash cache file {}", path, e);
+    }
+  }
+
+  private static void deleteOldCaches(final Path directory, final long newestEpoch)
+      throws IOException {
+    final List<Path> oldFiles;
+    try (final Stream<Path> files = Files.list(directory)) {
+      oldFiles =
+          files
+              .filter(path -> path.getFileName().toString().startsWith(FILENAME_PREFIX))
+              .filter(path -> epochOf(path) <= newestEpoch - PERSISTED_EPOCHS)
+              .collect(Collectors.toList());
+    }
+    for (final Path path : oldFiles) {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  private static long epochOf(final Path path) {
+    String filename = path.getFileName().toString();
+    if (filename.endsWith(TEMP_SUFFIX)) {
+      filename = filename.substring(0, filename.length() - TEMP_SUFFIX.length());
+    }
+    try {
+      return Long.parseLong(filename.substring(FILENAME_PREFIX.length()));
+    } catch (final NumberFormatException e) {
+      return Long.MAX_VALUE;
+    }
   }
 }
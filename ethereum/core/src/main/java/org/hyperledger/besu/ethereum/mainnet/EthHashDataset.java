@@ -0,0 +1,319 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The full EthHash dataset for one epoch, stored in a memory-mapped file.
+ *
+ * <p>Looking up an item in the full dataset is a memory read, where computing it from the light
+ * cache takes 256 parent lookups and two Keccak-512 hashes. Mining against the full dataset is
+ * therefore much faster, at the cost of generating and storing a file of a few gigabytes per epoch.
+ *
+ * <p>The dataset is generated into a temporary file that is only moved into place once it is
+ * complete, so a file with the expected name and size can be mapped again after a restart.
+ */
+public class EthHashDataset {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+  private static final String FILENAME_PREFIX = "full-";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int ITEMS_PER_GENERATION_TASK = 1 << 16;
+
+  private final long epoch;
+  private final long datasetSize;
+  private final int itemsPerSegment;
+  private final MappedByteBuffer[] segments;
+
+  private EthHashDataset(
+      final long epoch,
+      final long datasetSize,
+      final int itemsPerSegment,
+      final MappedByteBuffer[] segments) {
+    this.epoch = epoch;
+    this.datasetSize = datasetSize;
+    this.itemsPerSegment = itemsPerSegment;
+    this.segments = segments;
+  }
+
+  /**
+   * Maps the dataset for an epoch from the directory, generating it first if no complete dataset
+   * file exists.
+   *
+   * @param directory the directory dataset files are stored in
+   * @param epoch the epoch the dataset is for
+   * @param descriptor the light cache and dataset size for the epoch
+   * @param generationThreads the number of threads to generate the dataset with
+   * @return the mapped dataset
+   * @throws IOException if the dataset file could not be read or written
+   */
+  public static EthHashDataset loadOrGenerate(
+      final Path directory,
+      final long epoch,
+      final EthHashCacheFactory.EthHashDescriptor descriptor,
+      final int generationThreads)
+      throws IOException {
+    return loadOrGenerate(directory, epoch, descriptor, generationThreads, DEFAULT_SEGMENT_SIZE);
+  }
+
+  static EthHashDataset loadOrGenerate(
+      final Path directory,
+      final long epoch,
+      final EthHashCacheFactory.EthHashDescriptor descriptor,
+      final int generationThreads,
+      final long segmentSize)
+      throws IOException {
+    checkArgument(generationThreads > 0, "At least one generation thread is required");
+    final ExecutorService generationExecutor = createGenerationExecutor(generationThreads);
+    try {
+      return loadOrGenerate(directory, epoch, descriptor, generationExecutor, segmentSize);
+    } finally {
+      generationExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Maps the dataset for an epoch from the directory, generating it first on the given executor if
+   * no complete dataset file exists. The executor is not shut down afterwards.
+   */
+  static EthHashDataset loadOrGenerate(
+      final Path directory,
+      final long epoch,
+      final EthHashCacheFactory.EthHashDescriptor descriptor,
+      final ExecutorService generationExecutor,
+      final long segmentSize)
+      throws IOException {
+    checkArgument(
+        segmentSize % EthHash.HASH_BYTES == 0, "Segment size must be a multiple of the item size");
+    final Path path = datasetPath(directory, epoch);
+    if (Files.exists(path)) {
+      if (Files.size(path) == descriptor.getDatasetSize()) {
+        final EthHashDataset existing =
+            map(path, epoch, descriptor.getDatasetSize(), segmentSize);
+        if (existing.isValid(descriptor.getCache())) {
+          LOG.info("Loaded EthHash dataset for epoch {} from {}", epoch, path);
+          return existing;
+        }
+      }
+      LOG.warn("Discarding invalid EthHash dataset file {}", path);
+      Files.delete(path);
+    }
+
+    LOG.info("Generating EthHash dataset for epoch {}", epoch);
+    Files.createDirectories(directory);
+    final Path tempPath = directory.resolve(path.getFileName() + TEMP_SUFFIX);
+    generate(tempPath, descriptor, generationExecutor, segmentSize);
+    Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+    LOG.info("Generated EthHash dataset for epoch {}", epoch);
+    return map(path, epoch, descriptor.getDatasetSize(), segmentSize);
+  }
+
+  /**
+   * Creates a pool to generate a dataset on. Its size can be raised while a dataset is being
+   * generated, and the extra threads pick up the items that haven't been generated yet.
+   *
+   * @param threads the number of threads to start with
+   * @return the generation pool
+   */
+  static ThreadPoolExecutor createGenerationExecutor(final int threads) {
+    return new ThreadPoolExecutor(
+        threads,
+        threads,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("EthHashDatasetGenerator-%d")
+            .build());
+  }
+
+  static Path datasetPath(final Path directory, final long epoch) {
+    return directory.resolve(FILENAME_PREFIX + epoch);
+  }
+
+  /**
+   * Parses the epoch from the name of a dataset file, including incomplete temporary files.
+   *
+   * @param path the path of a file in the dataset directory
+   * @return the epoch the file holds the dataset for, or -1 if it isn't a dataset file
+   */
+  static long epochOf(final Path path) {
+    String filename = path.getFileName().toString();
+    if (!filename.startsWith(FILENAME_PREFIX)) {
+      return -1;
+    }
+    if (filename.endsWith(TEMP_SUFFIX)) {
+      filename = filename.substring(0, filename.length() - TEMP_SUFFIX.length());
+    }
+    try {
+      return Long.parseLong(filename.substring(FILENAME_PREFIX.length()));
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  public long getEpoch() {
+    return epoch;
+  }
+
+  public long getDatasetSize() {
+    return datasetSize;
+  }
+
+  /**
+   * Copies a dataset item into a buffer. Safe to call from multiple threads.
+   *
+   * @param buffer the buffer to copy the 64 byte item into
+   * @param index the index of the item in the dataset
+   */
+  public void lookup(final byte[] buffer, final int index) {
+    final MappedByteBuffer segment = segments[index / itemsPerSegment];
+    final int offset = (index % itemsPerSegment) * EthHash.HASH_BYTES;
+    for (int i = 0; i < EthHash.HASH_BYTES; i++) {
+      buffer[i] = segment.get(offset + i);
+    }
+  }
+
+  /** Spot checks the first and last items, which catches files left over from other code. */
+  private boolean isValid(final int[] cache) {
+    final int lastIndex = (int) (datasetSize / EthHash.HASH_BYTES) - 1;
+    for (final int index : new int[] {0, lastIndex}) {
+      final byte[] expected = new byte[EthHash.HASH_BYTES];
+      final byte[] actual = new byte[EthHash.HASH_BYTES];
+      EthHash.calcDatasetItem(expected, cache, index);
+      lookup(actual, index);
+      if (!Arrays.equals(expected, actual)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void generate(
+      final Path path,
+      final EthHashCacheFactory.EthHashDescriptor descriptor,
+      final ExecutorService executor,
+      final long segmentSize)
+      throws IOException {
+    final long datasetSize = descriptor.getDatasetSize();
+    final int itemCount = (int) (datasetSize / EthHash.HASH_BYTES);
+    final int itemsPerSegment = (int) (segmentSize / EthHash.HASH_BYTES);
+    final MappedByteBuffer[] segments;
+    try (final FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      segments = mapSegments(channel, MapMode.READ_WRITE, datasetSize, segmentSize);
+    }
+
+    final List<Future<?>> tasks = new ArrayList<>();
+    try {
+      for (int start = 0; start < itemCount; start += ITEMS_PER_GENERATION_TASK) {
+        final int firstItem = start;
+        final int endItem = (int) Math.min((long) start + ITEMS_PER_GENERATION_TASK, itemCount);
+        tasks.add(
+            executor.submit(
+                () ->
+                    generateItems(
+                        descriptor.getCache(), segments, itemsPerSegment, firstItem, endItem)));
+      }
+      for (final Future<?> task : tasks) {
+        task.get();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while generating EthHash dataset", e);
+    } catch (final ExecutionException e) {
+      throw new IOException("Failed to generate EthHash dataset", e.getCause());
+    } finally {
+      // Stop the remaining tasks if generation failed, the executor may outlive this dataset
+      tasks.forEach(task -> task.cancel(true));
+    }
+
+    for (final MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+  }
+
+  private static void generateItems(
+      final int[] cache,
+      final MappedByteBuffer[] segments,
+      final int itemsPerSegment,
+      final int firstItem,
+      final int endItem) {
+    final byte[] item = new byte[EthHash.HASH_BYTES];
+    for (int index = firstItem; index < endItem; index++) {
+      EthHash.calcDatasetItem(item, cache, index);
+      // Each task writes through its own view so positions aren't shared between threads
+      final ByteBuffer segment = segments[index / itemsPerSegment].duplicate();
+      segment.position((index % itemsPerSegment) * EthHash.HASH_BYTES);
+      segment.put(item);
+    }
+  }
+
+  private static EthHashDataset map(
+      final Path path, final long epoch, final long datasetSize, final long segmentSize)
+      throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new EthHashDataset(
+          epoch,
+          datasetSize,
+          (int) (segmentSize / EthHash.HASH_BYTES),
+          mapSegments(channel, MapMode.READ_ONLY, datasetSize, segmentSize));
+    }
+  }
+
+  private static MappedByteBuffer[] mapSegments(
+      final FileChannel channel, final MapMode mode, final long size, final long segmentSize)
+      throws IOException {
+    final int segmentCount = (int) ((size + segmentSize - 1) / segmentSize);
+    final MappedByteBuffer[] segments = new MappedByteBuffer[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      final long offset = i * segmentSize;
+      segments[i] = channel.map(mode, offset, Math.min(segmentSize, size - offset));
+    }
+    return segments;
+  }
+}
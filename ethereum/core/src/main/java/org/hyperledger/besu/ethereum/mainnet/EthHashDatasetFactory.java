@@ -0,0 +1,179 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Provides the full EthHash dataset for the epoch being mined, generating it in the background.
+ *
+ * <p>Generating a dataset takes minutes even when spread across all cores, so {@link
+ * #datasetFor(long)} never waits for it and miners fall back to the light cache in the meantime.
+ * Once the dataset for the current epoch is available, the dataset for the next epoch is generated
+ * on a single thread so that it is usually ready by the time mining moves on to it, and the
+ * datasets for any other epochs are released and their files deleted. If mining reaches the next
+ * epoch before its dataset is ready, the remaining generation is spread across all threads.
+ *
+ * <p>A dataset that fails to generate is forgotten, so the next request for it tries again.
+ */
+public class EthHashDatasetFactory {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Path directory;
+  private final EthHashCacheFactory cacheFactory;
+  private final int generationThreads;
+  private final Executor executor;
+  private final Map<Long, CompletableFuture<EthHashDataset>> datasets = new ConcurrentHashMap<>();
+  private final Map<Long, ThreadPoolExecutor> generationExecutors = new ConcurrentHashMap<>();
+
+  public EthHashDatasetFactory(final Path directory, final EthHashCacheFactory cacheFactory) {
+    this(
+        directory,
+        cacheFactory,
+        Runtime.getRuntime().availableProcessors(),
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("EthHashDatasetFactory-%d")
+                .build()));
+  }
+
+  EthHashDatasetFactory(
+      final Path directory,
+      final EthHashCacheFactory cacheFactory,
+      final int generationThreads,
+      final Executor executor) {
+    this.directory = directory;
+    this.cacheFactory = cacheFactory;
+    this.generationThreads = generationThreads;
+    this.executor = executor;
+  }
+
+  /**
+   * Returns the full dataset for the epoch of a block, starting to generate it if it isn't
+   * available yet.
+   *
+   * @param blockNumber the number of the block being mined
+   * @return the dataset, or empty if it is still being generated or could not be generated
+   */
+  public Optional<EthHashDataset> datasetFor(final long blockNumber) {
+    final long epoch = EthHash.epoch(blockNumber);
+    final CompletableFuture<EthHashDataset> dataset =
+        datasets.computeIfAbsent(epoch, e -> generate(e, blockNumber, generationThreads));
+    if (dataset.isCompletedExceptionally()) {
+      datasets.remove(epoch, dataset);
+      return Optional.empty();
+    }
+    if (!dataset.isDone()) {
+      // This may be the next epoch's dataset, which was started on a single thread
+      useAllGenerationThreads(epoch);
+      return Optional.empty();
+    }
+    if (!datasets.containsKey(epoch + 1)) {
+      releaseOtherEpochs(epoch);
+      datasets.computeIfAbsent(
+          epoch + 1, e -> generate(e, blockNumber + EthHash.EPOCH_LENGTH, 1));
+    }
+    return Optional.of(dataset.join());
+  }
+
+  private CompletableFuture<EthHashDataset> generate(
+      final long epoch, final long blockNumber, final int threads) {
+    final CompletableFuture<EthHashDataset> result = new CompletableFuture<>();
+    final ThreadPoolExecutor generationExecutor = EthHashDataset.createGenerationExecutor(threads);
+    generationExecutors.put(epoch, generationExecutor);
+    executor.execute(
+        () -> {
+          try {
+            result.complete(
+                EthHashDataset.loadOrGenerate(
+                    directory,
+                    epoch,
+                    cacheFactory.ethHashCacheFor(blockNumber),
+                    generationExecutor,
+                    EthHashDataset.DEFAULT_SEGMENT_SIZE));
+          } catch (final IOException | RuntimeException e) {
+            LOG.warn("Unable to create EthHash dataset for epoch {}", epoch, e);
+            result.completeExceptionally(e);
+          } finally {
+            generationExecutors.remove(epoch, generationExecutor);
+            generationExecutor.shutdownNow();
+          }
+        });
+    return result;
+  }
+
+  private void useAllGenerationThreads(final long epoch) {
+    final ThreadPoolExecutor generationExecutor = generationExecutors.get(epoch);
+    if (generationExecutor != null && generationExecutor.getCorePoolSize() < generationThreads) {
+      LOG.info(
+          "Generating EthHash dataset for epoch {} using {} threads", epoch, generationThreads);
+      // Raise the maximum first, the core size can't exceed it
+      generationExecutor.setMaximumPoolSize(generationThreads);
+      generationExecutor.setCorePoolSize(generationThreads);
+    }
+  }
+
+  @VisibleForTesting
+  int generationThreadsFor(final long epoch) {
+    final ThreadPoolExecutor generationExecutor = generationExecutors.get(epoch);
+    return generationExecutor == null ? 0 : generationExecutor.getCorePoolSize();
+  }
+
+  private void releaseOtherEpochs(final long currentEpoch) {
+    datasets.keySet().removeIf(epoch -> epoch != currentEpoch && epoch != currentEpoch + 1);
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    final List<Path> staleFiles;
+    try (final Stream<Path> files = Files.list(directory)) {
+      staleFiles =
+          files
+              .filter(path -> EthHashDataset.epochOf(path) >= 0)
+              .filter(path -> EthHashDataset.epochOf(path) < currentEpoch)
+              .collect(Collectors.toList());
+    } catch (final IOException e) {
+      LOG.debug("Unable to list EthHash dataset files", e);
+      return;
+    }
+    for (final Path path : staleFiles) {
+      try {
+        // Mapped buffers stay valid after the file is deleted, until they are garbage collected
+        Files.deleteIfExists(path);
+        LOG.info("Deleted EthHash dataset file {}", path);
+      } catch (final IOException e) {
+        LOG.debug("Unable to delete EthHash dataset file {}", path, e);
+      }
+    }
+  }
+}
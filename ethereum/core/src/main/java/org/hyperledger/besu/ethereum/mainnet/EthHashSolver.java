@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.apache.logging.log4j.LogManager.getLogger;
 
 import org.hyperledger.besu.ethereum.chain.EthHashObserver;
@@ -25,6 +26,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import com.google.common.base.Stopwatch;
 import org.apache.logging.log4j.Logger;
@@ -80,6 +82,7 @@ public class EthHashSolver {
 
   private final Iterable<Long> nonceGenerator;
   private final EthHasher ethHasher;
+  private final int threadCount;
   private volatile long hashesPerSecond = NO_MINING_CONDUCTED;
   private final Boolean stratumMiningEnabled;
   private final Subscribers<EthHashObserver> ethHashObservers;
@@ -90,8 +93,27 @@ public class EthHashSolver {
       final EthHasher ethHasher,
       final Boolean stratumMiningEnabled,
       final Subscribers<EthHashObserver> ethHashObservers) {
+    this(nonceGenerator, ethHasher, stratumMiningEnabled, ethHashObservers, 1);
+  }
+
+  /**
+   * @param nonceGenerator the nonces to try. When searching with multiple threads each thread
+   *     iterates over its own iterator, so these should be random rather than sequential.
+   * @param ethHasher the hasher to test nonces with
+   * @param stratumMiningEnabled whether work is handed out to external miners instead
+   * @param ethHashObservers the observers notified of new work
+   * @param threadCount the number of threads to search for a valid nonce with
+   */
+  public EthHashSolver(
+      final Iterable<Long> nonceGenerator,
+      final EthHasher ethHasher,
+      final Boolean stratumMiningEnabled,
+      final Subscribers<EthHashObserver> ethHashObservers,
+      final int threadCount) {
+    checkArgument(threadCount > 0, "At least one solver thread is required");
     this.nonceGenerator = nonceGenerator;
     this.ethHasher = ethHasher;
+    this.threadCount = threadCount;
     this.stratumMiningEnabled = stratumMiningEnabled;
     this.ethHashObservers = ethHashObservers;
     ethHashObservers.forEach(observer -> observer.setSubmitWorkCallback(this::submitSolution));
@@ -111,7 +133,19 @@ public class EthHashSolver {
   private void findValidNonce() {
     final Stopwatch operationTimer = Stopwatch.createStarted();
     final EthHashSolverJob job = currentJob.get();
-    long hashesExecuted = 0;
+    final LongAdder hashesExecuted = new LongAdder();
+    for (int i = 1; i < threadCount; i++) {
+      final Thread worker =
+          new Thread(
+              () -> searchNonces(job, operationTimer, hashesExecuted), "EthHashSolver-" + i);
+      worker.setDaemon(true);
+      worker.start();
+    }
+    searchNonces(job, operationTimer, hashesExecuted);
+  }
+
+  private void searchNonces(
+      final EthHashSolverJob job, final Stopwatch operationTimer, final LongAdder hashesExecuted) {
     final byte[] hashBuffer = new byte[64];
     for (final Long n : nonceGenerator) {
 
@@ -122,9 +156,9 @@ public class EthHashSolver {
       final Optional<EthHashSolution> solution = testNonce(job.getInputs(), n, hashBuffer);
       solution.ifPresent(job::solvedWith);
 
-      hashesExecuted++;
+      hashesExecuted.increment();
       final double operationDurationSeconds = operationTimer.elapsed(TimeUnit.NANOSECONDS) / 1e9;
-      hashesPerSecond = (long) (hashesExecuted / operationDurationSeconds);
+      hashesPerSecond = (long) (hashesExecuted.sum() / operationDurationSeconds);
     }
     job.failed(new IllegalStateException("No valid nonce found."));
   }
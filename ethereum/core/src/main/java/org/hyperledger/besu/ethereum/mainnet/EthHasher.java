@@ -14,6 +14,9 @@
  */
 package org.hyperledger.besu.ethereum.mainnet;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public interface EthHasher {
 
   /**
@@ -26,7 +29,11 @@ public interface EthHasher {
 
   final class Light implements EthHasher {
 
-    private static final EthHashCacheFactory cacheFactory = new EthHashCacheFactory();
+    private final EthHashCacheFactory cacheFactory;
+
+    public Light(final EthHashCacheFactory cacheFactory) {
+      this.cacheFactory = cacheFactory;
+    }
 
     @Override
     public void hash(
@@ -37,4 +44,35 @@ public interface EthHasher {
       System.arraycopy(hash, 0, buffer, 0, hash.length);
     }
   }
+
+  /**
+   * Hashes using the full dataset for the block's epoch, stored in the given directory. Falls back
+   * to computing dataset items from the light cache while the full dataset is being generated.
+   */
+  final class Full implements EthHasher {
+
+    private final EthHashCacheFactory cacheFactory;
+    private final EthHashDatasetFactory datasetFactory;
+
+    public Full(final Path datasetDirectory, final EthHashCacheFactory cacheFactory) {
+      this.cacheFactory = cacheFactory;
+      this.datasetFactory = new EthHashDatasetFactory(datasetDirectory, cacheFactory);
+    }
+
+    @Override
+    public void hash(
+        final byte[] buffer, final long nonce, final long number, final byte[] headerHash) {
+      final Optional<EthHashDataset> dataset = datasetFactory.datasetFor(number);
+      final byte[] hash;
+      if (dataset.isPresent()) {
+        hash =
+            EthHash.hashimoto(
+                headerHash, dataset.get().getDatasetSize(), nonce, dataset.get()::lookup);
+      } else {
+        final EthHashCacheFactory.EthHashDescriptor cache = cacheFactory.ethHashCacheFor(number);
+        hash = EthHash.hashimotoLight(cache.getDatasetSize(), cache.getCache(), headerHash, nonce);
+      }
+      System.arraycopy(hash, 0, buffer, 0, hash.length);
+    }
+  }
 }
@@ -38,13 +38,13 @@ public final class MainnetBlockHeaderValidator {
       Bytes.fromHexString("0x94365e3a8c0b35089c1d1195081fe7489b528a84b22199c916180db8b28ade7f");
 
   public static BlockHeaderValidator<Void> create(
-      final DifficultyCalculator<Void> difficultyCalculator) {
-    return createValidator(difficultyCalculator).build();
+      final DifficultyCalculator<Void> difficultyCalculator, final EthHasher hasher) {
+    return createValidator(difficultyCalculator, hasher).build();
   }
 
   public static BlockHeaderValidator<Void> createDaoValidator(
-      final DifficultyCalculator<Void> difficultyCalculator) {
-    return createValidator(difficultyCalculator)
+      final DifficultyCalculator<Void> difficultyCalculator, final EthHasher hasher) {
+    return createValidator(difficultyCalculator, hasher)
         .addRule(
             new ConstantFieldValidationRule<>(
                 "extraData", BlockHeader::getExtraData, DAO_EXTRA_DATA))
@@ -52,8 +52,8 @@ public final class MainnetBlockHeaderValidator {
   }
 
   public static BlockHeaderValidator<Void> createClassicValidator(
-      final DifficultyCalculator<Void> difficultyCalculator) {
-    return createValidator(difficultyCalculator)
+      final DifficultyCalculator<Void> difficultyCalculator, final EthHasher hasher) {
+    return createValidator(difficultyCalculator, hasher)
         .addRule(
             new ConstantFieldValidationRule<>(
                 "hash",
@@ -71,7 +71,7 @@ public final class MainnetBlockHeaderValidator {
   }
 
   static BlockHeaderValidator<Void> createOmmerValidator(
-      final DifficultyCalculator<Void> difficultyCalculator) {
+      final DifficultyCalculator<Void> difficultyCalculator, final EthHasher hasher) {
     return new BlockHeaderValidator.Builder<Void>()
         .addRule(new CalculatedDifficultyValidationRule<>(difficultyCalculator))
         .addRule(new AncestryValidationRule())
@@ -79,12 +79,12 @@ public final class MainnetBlockHeaderValidator {
         .addRule(new GasUsageValidationRule())
         .addRule(new TimestampMoreRecentThanParent(MINIMUM_SECONDS_SINCE_PARENT))
         .addRule(new ExtraDataMaxLengthValidationRule(BlockHeader.MAX_EXTRA_DATA_BYTES))
-        .addRule(new ProofOfWorkValidationRule())
+        .addRule(new ProofOfWorkValidationRule(hasher))
         .build();
   }
 
   private static BlockHeaderValidator.Builder<Void> createValidator(
-      final DifficultyCalculator<Void> difficultyCalculator) {
+      final DifficultyCalculator<Void> difficultyCalculator, final EthHasher hasher) {
     return new BlockHeaderValidator.Builder<Void>()
         .addRule(new CalculatedDifficultyValidationRule<>(difficultyCalculator))
         .addRule(new AncestryValidationRule())
@@ -93,6 +93,6 @@ public final class MainnetBlockHeaderValidator {
         .addRule(new TimestampMoreRecentThanParent(MINIMUM_SECONDS_SINCE_PARENT))
         .addRule(new TimestampBoundedByFutureParameter(TIMESTAMP_TOLERANCE_S))
         .addRule(new ExtraDataMaxLengthValidationRule(BlockHeader.MAX_EXTRA_DATA_BYTES))
-        .addRule(new ProofOfWorkValidationRule());
+        .addRule(new ProofOfWorkValidationRule(hasher));
   }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.mainnet.precompiles.privacy.PrivacyPrecompiledContract;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Processes blocks with another block processor, after starting to fetch the private transactions
+ * of the block's privacy marker transactions from the enclave.
+ */
+public class PrivacyBlockProcessor implements BlockProcessor {
+
+  private final BlockProcessor blockProcessor;
+  private final PrivacyPrecompiledContract privacyPrecompiledContract;
+  private final Address privacyPrecompileAddress;
+
+  public PrivacyBlockProcessor(
+      final BlockProcessor blockProcessor,
+      final PrivacyPrecompiledContract privacyPrecompiledContract,
+      final Address privacyPrecompileAddress) {
+    this.blockProcessor = blockProcessor;
+    this.privacyPrecompiledContract = privacyPrecompiledContract;
+    this.privacyPrecompileAddress = privacyPrecompileAddress;
+  }
+
+  @Override
+  public Result processBlock(
+      final Blockchain blockchain,
+      final MutableWorldState worldState,
+      final BlockHeader blockHeader,
+      final List<Transaction> transactions,
+      final List<BlockHeader> ommers) {
+    final List<Transaction> privacyMarkerTransactions =
+        transactions.stream()
+            .filter(
+                transaction ->
+                    transaction.getTo().map(privacyPrecompileAddress::equals).orElse(false))
+            .collect(Collectors.toList());
+    if (!privacyMarkerTransactions.isEmpty()) {
+      privacyPrecompiledContract.prefetchPayloads(privacyMarkerTransactions);
+    }
+    return blockProcessor.processBlock(blockchain, worldState, blockHeader, transactions, ommers);
+  }
+}
@@ -34,6 +34,7 @@ public class ProtocolScheduleBuilder<C> {
   private final Optional<BigInteger> defaultChainId;
   private final PrivacyParameters privacyParameters;
   private final boolean isRevertReasonEnabled;
+  private final EthHasher ethHasher;
 
   public ProtocolScheduleBuilder(
       final GenesisConfigOptions config,
@@ -41,12 +42,29 @@ public class ProtocolScheduleBuilder<C> {
       final Function<ProtocolSpecBuilder<Void>, ProtocolSpecBuilder<C>> protocolSpecAdapter,
       final PrivacyParameters privacyParameters,
       final boolean isRevertReasonEnabled) {
+    this(
+        config,
+        defaultChainId,
+        protocolSpecAdapter,
+        privacyParameters,
+        isRevertReasonEnabled,
+        new EthHasher.Light(new EthHashCacheFactory()));
+  }
+
+  public ProtocolScheduleBuilder(
+      final GenesisConfigOptions config,
+      final BigInteger defaultChainId,
+      final Function<ProtocolSpecBuilder<Void>, ProtocolSpecBuilder<C>> protocolSpecAdapter,
+      final PrivacyParameters privacyParameters,
+      final boolean isRevertReasonEnabled,
+      final EthHasher ethHasher) {
     this(
         config,
         Optional.of(defaultChainId),
         protocolSpecAdapter,
         privacyParameters,
-        isRevertReasonEnabled);
+        isRevertReasonEnabled,
+        ethHasher);
   }
 
   public ProtocolScheduleBuilder(
@@ -54,7 +72,27 @@ public class ProtocolScheduleBuilder<C> {
       final Function<ProtocolSpecBuilder<Void>, ProtocolSpecBuilder<C>> protocolSpecAdapter,
       final PrivacyParameters privacyParameters,
       final boolean isRevertReasonEnabled) {
-    this(config, Optional.empty(), protocolSpecAdapter, privacyParameters, isRevertReasonEnabled);
+    this(
+        config,
+        protocolSpecAdapter,
+        privacyParameters,
+        isRevertReasonEnabled,
+        new EthHasher.Light(new EthHashCacheFactory()));
+  }
+
+  public ProtocolScheduleBuilder(
+      final GenesisConfigOptions config,
+      final Function<ProtocolSpecBuilder<Void>, ProtocolSpecBuilder<C>> protocolSpecAdapter,
+      final PrivacyParameters privacyParameters,
+      final boolean isRevertReasonEnabled,
+      final EthHasher ethHasher) {
+    this(
+        config,
+        Optional.empty(),
+        protocolSpecAdapter,
+        privacyParameters,
+        isRevertReasonEnabled,
+        ethHasher);
   }
 
   private ProtocolScheduleBuilder(
@@ -62,12 +100,14 @@ public class ProtocolScheduleBuilder<C> {
       final Optional<BigInteger> defaultChainId,
       final Function<ProtocolSpecBuilder<Void>, ProtocolSpecBuilder<C>> protocolSpecAdapter,
       final PrivacyParameters privacyParameters,
-      final boolean isRevertReasonEnabled) {
+      final boolean isRevertReasonEnabled,
+      final EthHasher ethHasher) {
     this.config = config;
     this.defaultChainId = defaultChainId;
     this.protocolSpecAdapter = protocolSpecAdapter;
     this.privacyParameters = privacyParameters;
     this.isRevertReasonEnabled = isRevertReasonEnabled;
+    this.ethHasher = ethHasher;
   }
 
   public ProtocolSchedule<C> createProtocolSchedule() {
@@ -227,6 +267,7 @@ public class ProtocolScheduleBuilder<C> {
                 protocolSpecAdapter
                     .apply(definition)
                     .privacyParameters(privacyParameters)
+                    .ethHasher(ethHasher)
                     .privateTransactionValidatorBuilder(
                         () -> new PrivateTransactionValidator(protocolSchedule.getChainId()))
                     .build(protocolSchedule)));
@@ -42,8 +42,11 @@ public class ProtocolSpecBuilder<T> {
   private DifficultyCalculator<T> difficultyCalculator;
   private Function<GasCalculator, EVM> evmBuilder;
   private Function<GasCalculator, TransactionValidator> transactionValidatorBuilder;
-  private Function<DifficultyCalculator<T>, BlockHeaderValidator<T>> blockHeaderValidatorBuilder;
-  private Function<DifficultyCalculator<T>, BlockHeaderValidator<T>> ommerHeaderValidatorBuilder;
+  private BiFunction<DifficultyCalculator<T>, EthHasher, BlockHeaderValidator<T>>
+      blockHeaderValidatorBuilder;
+  private BiFunction<DifficultyCalculator<T>, EthHasher, BlockHeaderValidator<T>>
+      ommerHeaderValidatorBuilder;
+  private EthHasher ethHasher;
   private Function<ProtocolSchedule<T>, BlockBodyValidator<T>> blockBodyValidatorBuilder;
   private BiFunction<GasCalculator, EVM, AbstractMessageProcessor> contractCreationProcessorBuilder;
   private Function<PrecompiledContractConfiguration, PrecompileContractRegistry>
@@ -107,6 +110,13 @@ public class ProtocolSpecBuilder<T> {
   public ProtocolSpecBuilder<T> blockHeaderValidatorBuilder(
       final Function<DifficultyCalculator<T>, BlockHeaderValidator<T>>
           blockHeaderValidatorBuilder) {
+    return blockHeaderValidatorBuilder(
+        (calculator, hasher) -> blockHeaderValidatorBuilder.apply(calculator));
+  }
+
+  public ProtocolSpecBuilder<T> blockHeaderValidatorBuilder(
+      final BiFunction<DifficultyCalculator<T>, EthHasher, BlockHeaderValidator<T>>
+          blockHeaderValidatorBuilder) {
     this.blockHeaderValidatorBuilder = blockHeaderValidatorBuilder;
     return this;
   }
@@ -114,10 +124,29 @@ public class ProtocolSpecBuilder<T> {
   public ProtocolSpecBuilder<T> ommerHeaderValidatorBuilder(
       final Function<DifficultyCalculator<T>, BlockHeaderValidator<T>>
           ommerHeaderValidatorBuilder) {
+    return ommerHeaderValidatorBuilder(
+        (calculator, hasher) -> ommerHeaderValidatorBuilder.apply(calculator));
+  }
+
+  public ProtocolSpecBuilder<T> ommerHeaderValidatorBuilder(
+      final BiFunction<DifficultyCalculator<T>, EthHasher, BlockHeaderValidator<T>>
+          ommerHeaderValidatorBuilder) {
     this.ommerHeaderValidatorBuilder = ommerHeaderValidatorBuilder;
     return this;
   }
 
+  /**
+   * Sets the hasher that proof of work header validation uses. Protocol schedules share one hasher
+   * between all of their specs, so each epoch's cache is only built once.
+   *
+   * @param ethHasher the hasher used to check proof of work
+   * @return this builder
+   */
+  public ProtocolSpecBuilder<T> ethHasher(final EthHasher ethHasher) {
+    this.ethHasher = ethHasher;
+    return this;
+  }
+
   public ProtocolSpecBuilder<T> blockBodyValidatorBuilder(
       final Function<ProtocolSchedule<T>, BlockBodyValidator<T>> blockBodyValidatorBuilder) {
     this.blockBodyValidatorBuilder = blockBodyValidatorBuilder;
@@ -222,6 +251,7 @@ public class ProtocolSpecBuilder<T> {
         .privateTransactionValidatorBuilder(privateTransactionValidatorBuilder)
         .contractCreationProcessorBuilder(contractCreationProcessorBuilder)
         .privacyParameters(privacyParameters)
+        .ethHasher(ethHasher)
         .precompileContractRegistryBuilder(precompileContractRegistryBuilder)
         .messageCallProcessorBuilder(messageCallProcessorBuilder)
         .transactionProcessorBuilder(transactionProcessorBuilder)
@@ -283,6 +313,7 @@ public class ProtocolSpecBuilder<T> {
 
     // Set private Tx Processor
     PrivateTransactionProcessor privateTransactionProcessor = null;
+    PrivacyPrecompiledContract privacyPrecompiledContract = null;
     if (privacyParameters.isEnabled()) {
       final PrivateTransactionValidator privateTransactionValidator =
           privateTransactionValidatorBuilder.apply();
@@ -294,25 +325,33 @@ public class ProtocolSpecBuilder<T> {
               messageCallProcessor,
               privateTransactionValidator);
       final Address address = Address.privacyPrecompiled(privacyParameters.getPrivacyAddress());
-      final PrivacyPrecompiledContract privacyPrecompiledContract =
+      privacyPrecompiledContract =
           (PrivacyPrecompiledContract)
               precompileContractRegistry.get(address, Account.DEFAULT_VERSION);
       privacyPrecompiledContract.setPrivateTransactionProcessor(privateTransactionProcessor);
     }
 
     final BlockHeaderValidator<T> blockHeaderValidator =
-        blockHeaderValidatorBuilder.apply(difficultyCalculator);
+        blockHeaderValidatorBuilder.apply(difficultyCalculator, ethHasher);
     final BlockHeaderValidator<T> ommerHeaderValidator =
-        ommerHeaderValidatorBuilder.apply(difficultyCalculator);
+        ommerHeaderValidatorBuilder.apply(difficultyCalculator, ethHasher);
     final BlockBodyValidator<T> blockBodyValidator =
         blockBodyValidatorBuilder.apply(protocolSchedule);
-    final BlockProcessor blockProcessor =
+    BlockProcessor blockProcessor =
         blockProcessorBuilder.apply(
             transactionProcessor,
             transactionReceiptFactory,
             blockReward,
             miningBeneficiaryCalculator,
             skipZeroBlockRewards);
+    if (privacyPrecompiledContract != null) {
+      // Fetch the payloads of the block's private transactions before they are executed
+      blockProcessor =
+          new PrivacyBlockProcessor(
+              blockProcessor,
+              privacyPrecompiledContract,
+              Address.privacyPrecompiled(privacyParameters.getPrivacyAddress()));
+    }
     final BlockValidator<T> blockValidator =
         blockValidatorBuilder.apply(blockHeaderValidator, blockBodyValidator, blockProcessor);
     final BlockImporter<T> blockImporter = blockImporterBuilder.apply(blockValidator);
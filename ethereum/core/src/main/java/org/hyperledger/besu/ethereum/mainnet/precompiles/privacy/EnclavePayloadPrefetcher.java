@@ -0,0 +1,109 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.precompiles.privacy;
+
+import org.hyperledger.besu.enclave.Enclave;
+import org.hyperledger.besu.enclave.EnclaveClientException;
+import org.hyperledger.besu.enclave.types.ReceiveResponse;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Fetches the payloads of the private transactions in a block from the enclave concurrently, ahead
+ * of the block being executed.
+ *
+ * <p>Executing a privacy marker transaction needs its payload, and fetching it is a blocking
+ * round-trip to the enclave. Requesting the payloads of all marker transactions in a block up
+ * front overlaps those round-trips, so the privacy precompile only waits on the slowest one.
+ * Fetched payloads are held until they are read, up to a fixed number of them.
+ */
+public class EnclavePayloadPrefetcher {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int DEFAULT_THREADS = 8;
+  private static final int MAX_PENDING_PAYLOADS = 1_000;
+
+  private final Enclave enclave;
+  private final Executor executor;
+  private final Cache<String, CompletableFuture<ReceiveResponse>> payloads =
+      CacheBuilder.newBuilder().maximumSize(MAX_PENDING_PAYLOADS).build();
+
+  public EnclavePayloadPrefetcher(final Enclave enclave) {
+    this(
+        enclave,
+        Executors.newFixedThreadPool(
+            DEFAULT_THREADS,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("EnclavePayloadPrefetcher-%d")
+                .build()));
+  }
+
+  public EnclavePayloadPrefetcher(final Enclave enclave, final Executor executor) {
+    this.enclave = enclave;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts fetching the payloads for enclave keys in the background.
+   *
+   * @param enclaveKeys the base64 encoded enclave keys to fetch the payloads of
+   */
+  public void prefetch(final Collection<String> enclaveKeys) {
+    for (final String enclaveKey : enclaveKeys) {
+      payloads
+          .asMap()
+          .computeIfAbsent(
+              enclaveKey,
+              key -> CompletableFuture.supplyAsync(() -> enclave.receive(key), executor));
+    }
+  }
+
+  /**
+   * Returns the payload for an enclave key, waiting for it if it is still being prefetched or
+   * fetching it directly if it wasn't prefetched.
+   *
+   * @param enclaveKey the base64 encoded enclave key
+   * @return the enclave's response
+   * @throws EnclaveClientException if the enclave doesn't have the payload
+   */
+  public ReceiveResponse receive(final String enclaveKey) {
+    final CompletableFuture<ReceiveResponse> prefetched = payloads.asMap().remove(enclaveKey);
+    if (prefetched == null) {
+      return enclave.receive(enclaveKey);
+    }
+    try {
+      return prefetched.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof EnclaveClientException) {
+        throw (EnclaveClientException) e.getCause();
+      }
+      // The enclave may have been unavailable at the time, ask again so the error is current
+      LOG.debug("Prefetching private transaction payload with key {} failed", enclaveKey, e);
+      return enclave.receive(enclaveKey);
+    }
+  }
+}
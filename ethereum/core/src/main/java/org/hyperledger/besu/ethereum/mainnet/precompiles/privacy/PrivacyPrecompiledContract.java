@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.Log;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.PrivacyParameters;
+import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.mainnet.AbstractPrecompiledContract;
@@ -43,6 +44,7 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Base64;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -51,7 +53,7 @@ import org.apache.tuweni.bytes.Bytes32;
 
 public class PrivacyPrecompiledContract extends AbstractPrecompiledContract {
 
-  private final Enclave enclave;
+  private final EnclavePayloadPrefetcher payloadPrefetcher;
   private final WorldStateArchive privateWorldStateArchive;
   private final PrivateStateStorage privateStateStorage;
   private PrivateTransactionProcessor privateTransactionProcessor;
@@ -74,7 +76,7 @@ public class PrivacyPrecompiledContract extends AbstractPrecompiledContract {
       final WorldStateArchive worldStateArchive,
       final PrivateStateStorage privateStateStorage) {
     super("Privacy", gasCalculator);
-    this.enclave = enclave;
+    this.payloadPrefetcher = new EnclavePayloadPrefetcher(enclave);
     this.privateWorldStateArchive = worldStateArchive;
     this.privateStateStorage = privateStateStorage;
   }
@@ -84,6 +86,19 @@ public class PrivacyPrecompiledContract extends AbstractPrecompiledContract {
     this.privateTransactionProcessor = privateTransactionProcessor;
   }
 
+  /**
+   * Starts fetching the private transactions of privacy marker transactions from the enclave, so
+   * they are available by the time the marker transactions are executed.
+   *
+   * @param privacyMarkerTransactions the transactions that call this precompile
+   */
+  public void prefetchPayloads(final List<Transaction> privacyMarkerTransactions) {
+    payloadPrefetcher.prefetch(
+        privacyMarkerTransactions.stream()
+            .map(transaction -> transaction.getPayload().toBase64String())
+            .collect(Collectors.toList()));
+  }
+
   @Override
   public Gas gasRequirement(final Bytes input) {
     return Gas.of(40_000L); // Not sure
@@ -95,7 +110,7 @@ public class PrivacyPrecompiledContract extends AbstractPrecompiledContract {
 
     final ReceiveResponse receiveResponse;
     try {
-      receiveResponse = enclave.receive(key);
+      receiveResponse = payloadPrefetcher.receive(key);
     } catch (final EnclaveClientException e) {
       LOG.debug("Can not fetch private transaction payload with key {}", key, e);
       return Bytes.EMPTY;
@@ -0,0 +1,341 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
+import org.hyperledger.besu.ethereum.chain.TransactionLocation;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.core.Difficulty;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A {@link BlockchainStorage} that moves the bodies and receipts of canonical blocks older than a
+ * configurable depth out of the key-value store and into an append-only {@link
+ * AncientSegmentStore}.
+ *
+ * <p>Headers, total difficulties and the canonical and transaction indexes remain in the key-value
+ * store. They are small and are needed to find the block number that locates a block's data in the
+ * ancient store. Bodies and receipts make up the bulk of the chain data and, once deep enough that
+ * they can no longer be reorganized, never change, so keeping them out of the key-value store
+ * avoids paying compaction costs for them indefinitely.
+ *
+ * <p>Blocks are moved on a separate executor after each committed update so block import never
+ * waits for them. They are moved a limited number at a time, each batch committed separately, so a
+ * node with a long existing chain catches up gradually. With an ancient block depth of zero no
+ * blocks are moved, but those moved earlier can still be read.
+ */
+public class AncientBlockchainStorage implements BlockchainStorage {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Blocks this deep are not expected to be reorganized, so are safe to move. */
+  public static final long MIN_ANCIENT_BLOCK_DEPTH = 90_000;
+
+  static final int MAX_BLOCKS_MOVED_PER_UPDATE = 1000;
+
+  private final BlockchainStorage storage;
+  private final AncientSegmentStore ancientStore;
+  private final BlockHeaderFunctions blockHeaderFunctions;
+  private final long ancientBlockDepth;
+  private final Executor moveExecutor;
+  private final AtomicBoolean moveScheduled = new AtomicBoolean(false);
+
+  /**
+   * @param storage the key-value blockchain storage to move blocks out of
+   * @param ancientStore the store to move blocks into
+   * @param blockHeaderFunctions the functions used to decode stored blocks
+   * @param ancientBlockDepth how far behind the chain head a block must be to be moved, or zero to
+   *     not move any blocks
+   * @param moveExecutor the executor to move blocks on
+   */
+  public AncientBlockchainStorage(
+      final BlockchainStorage storage,
+      final AncientSegmentStore ancientStore,
+      final BlockHeaderFunctions blockHeaderFunctions,
+      final long ancientBlockDepth,
+      final Executor moveExecutor) {
+    checkArgument(ancientBlockDepth >= 0, "Ancient block depth must not be negative");
+    this.storage = storage;
+    this.ancientStore = ancientStore;
+    this.blockHeaderFunctions = blockHeaderFunctions;
+    this.ancientBlockDepth = ancientBlockDepth;
+    this.moveExecutor = moveExecutor;
+  }
+
+  @Override
+  public Optional<Hash> getChainHead() {
+    return storage.getChainHead();
+  }
+
+  @Override
+  public Collection<Hash> getForkHeads() {
+    return storage.getForkHeads();
+  }
+
+  @Override
+  public Optional<BlockHeader> getBlockHeader(final Hash blockHash) {
+    return storage.getBlockHeader(blockHash);
+  }
+
+  @Override
+  public Optional<BlockBody> getBlockBody(final Hash blockHash) {
+    return storage
+        .getBlockBody(blockHash)
+        .or(() -> getAncientBlock(blockHash).map(this::readBody));
+  }
+
+  @Override
+  public Optional<List<TransactionReceipt>> getTransactionReceipts(final Hash blockHash) {
+    return storage
+        .getTransactionReceipts(blockHash)
+        .or(() -> getAncientBlock(blockHash).map(this::readReceipts));
+  }
+
+  @Override
+  public Optional<Bytes> getBlockHeaderRlp(final Hash blockHash) {
+    return storage.getBlockHeaderRlp(blockHash);
+  }
+
+  @Override
+  public Optional<Bytes> getBlockBodyRlp(final Hash blockHash) {
+    return storage
+        .getBlockBodyRlp(blockHash)
+        .or(() -> getAncientBlock(blockHash).map(input -> readItemRlp(input, 0)));
+  }
+
+  @Override
+  public Optional<Bytes> getTransactionReceiptsRlp(final Hash blockHash) {
+    return storage
+        .getTransactionReceiptsRlp(blockHash)
+        .or(() -> getAncientBlock(blockHash).map(input -> readItemRlp(input, 1)));
+  }
+
+  @Override
+  public Optional<Hash> getBlockHash(final long blockNumber) {
+    return storage.getBlockHash(blockNumber);
+  }
+
+  @Override
+  public Optional<Difficulty> getTotalDifficulty(final Hash blockHash) {
+    return storage.getTotalDifficulty(blockHash);
+  }
+
+  @Override
+  public Optional<TransactionLocation> getTransactionLocation(final Hash transactionHash) {
+    return storage.getTransactionLocation(transactionHash);
+  }
+
+  @Override
+  public Updater updater() {
+    return new AncientUpdater(storage.updater());
+  }
+
+  private Optional<RLPInput> getAncientBlock(final Hash blockHash) {
+    return storage
+        .getBlockHeader(blockHash)
+        .flatMap(header -> ancientStore.get(header.getNumber(), blockHash))
+        .map(RLP::input);
+  }
+
+  private BlockBody readBody(final RLPInput input) {
+    input.enterList();
+    return BlockBody.readFrom(input, blockHeaderFunctions);
+  }
+
+  private List<TransactionReceipt> readReceipts(final RLPInput input) {
+    input.enterList();
+    input.skipNext();
+    return input.readList(TransactionReceipt::readFrom);
+  }
+
+  private Bytes readItemRlp(final RLPInput input, final int index) {
+    input.enterList();
+    for (int i = 0; i < index; i++) {
+      input.skipNext();
+    }
+    return input.readAsRlp().raw();
+  }
+
+  private static Bytes encodeAncientBlock(
+      final BlockBody body, final List<TransactionReceipt> receipts) {
+    return RLP.encode(
+        out -> {
+          out.startList();
+          body.writeTo(out);
+          out.writeList(receipts, TransactionReceipt::writeToWithRevertReason);
+          out.endList();
+        });
+  }
+
+  private void scheduleMove() {
+    if (ancientBlockDepth == 0 || !moveScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    moveExecutor.execute(
+        () -> {
+          // Allow the next commit to schedule another pass for blocks that become ancient meanwhile
+          moveScheduled.set(false);
+          try {
+            boolean moreToMove = true;
+            while (moreToMove && !Thread.currentThread().isInterrupted()) {
+              moreToMove = moveAncientBlocks();
+            }
+          } catch (final RuntimeException e) {
+            LOG.error("Failed to move blocks to ancient block storage", e);
+          }
+        });
+  }
+
+  /**
+   * Moves a batch of canonical blocks that are now deep enough from the key-value to the ancient
+   * store.
+   *
+   * @return true if there may be more blocks to move
+   */
+  private synchronized boolean moveAncientBlocks() {
+    final long chainHeadNumber =
+        storage
+            .getChainHead()
+            .flatMap(storage::getBlockHeader)
+            .map(BlockHeader::getNumber)
+            .orElse(0L);
+    final long firstBlock = ancientStore.size();
+    final long endBlock =
+        Math.min(
+            chainHeadNumber - ancientBlockDepth + 1, firstBlock + MAX_BLOCKS_MOVED_PER_UPDATE);
+    if (endBlock <= firstBlock) {
+      return false;
+    }
+
+    final Updater updater = storage.updater();
+    for (long blockNumber = firstBlock; blockNumber < endBlock; blockNumber++) {
+      final Hash blockHash = storage.getBlockHash(blockNumber).orElseThrow(this::missingData);
+      final BlockBody body = storage.getBlockBody(blockHash).orElseThrow(this::missingData);
+      final List<TransactionReceipt> receipts =
+          storage.getTransactionReceipts(blockHash).orElseThrow(this::missingData);
+      ancientStore.append(blockNumber, blockHash, encodeAncientBlock(body, receipts));
+      updater.removeBlockBody(blockHash);
+      updater.removeTransactionReceipts(blockHash);
+    }
+    // Make sure the data is safely on disk before removing it from the key-value store
+    ancientStore.sync();
+    updater.commit();
+    LOG.debug("Moved blocks {} to {} to ancient block storage", firstBlock, endBlock - 1);
+    return endBlock - firstBlock == MAX_BLOCKS_MOVED_PER_UPDATE;
+  }
+
+  private IllegalStateException missingData() {
+    return new IllegalStateException("Blockchain is missing data that should be present.");
+  }
+
+  private class AncientUpdater implements Updater {
+
+    private final Updater updater;
+
+    AncientUpdater(final Updater updater) {
+      this.updater = updater;
+    }
+
+    @Override
+    public void putBlockHeader(final Hash blockHash, final BlockHeader blockHeader) {
+      updater.putBlockHeader(blockHash, blockHeader);
+    }
+
+    @Override
+    public void putBlockBody(final Hash blockHash, final BlockBody blockBody) {
+      updater.putBlockBody(blockHash, blockBody);
+    }
+
+    @Override
+    public void putTransactionLocation(
+        final Hash transactionHash, final TransactionLocation transactionLocation) {
+      updater.putTransactionLocation(transactionHash, transactionLocation);
+    }
+
+    @Override
+    public void putTransactionReceipts(
+        final Hash blockHash, final List<TransactionReceipt> transactionReceipts) {
+      updater.putTransactionReceipts(blockHash, transactionReceipts);
+    }
+
+    @Override
+    public void putBlockHash(final long blockNumber, final Hash blockHash) {
+      updater.putBlockHash(blockNumber, blockHash);
+    }
+
+    @Override
+    public void putTotalDifficulty(final Hash blockHash, final Difficulty totalDifficulty) {
+      updater.putTotalDifficulty(blockHash, totalDifficulty);
+    }
+
+    @Override
+    public void setChainHead(final Hash blockHash) {
+      updater.setChainHead(blockHash);
+    }
+
+    @Override
+    public void setForkHeads(final Collection<Hash> forkHeadHashes) {
+      updater.setForkHeads(forkHeadHashes);
+    }
+
+    @Override
+    public void removeBlockHash(final long blockNumber) {
+      updater.removeBlockHash(blockNumber);
+    }
+
+    @Override
+    public void removeTransactionLocation(final Hash transactionHash) {
+      updater.removeTransactionLocation(transactionHash);
+    }
+
+    @Override
+    public void removeBlockBody(final Hash blockHash) {
+      updater.removeBlockBody(blockHash);
+    }
+
+    @Override
+    public void removeTransactionReceipts(final Hash blockHash) {
+      updater.removeTransactionReceipts(blockHash);
+    }
+
+    @Override
+    public void commit() {
+      updater.commit();
+      scheduleMove();
+    }
+
+    @Override
+    public void rollback() {
+      updater.rollback();
+    }
+  }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.plugin.services.exception.StorageException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * An append-only store of items indexed by block number, starting from the genesis block.
+ *
+ * <p>Items are split across segment files holding a fixed number of blocks each. Every segment has
+ * a data file containing the items back to back, and an index file with a fixed size entry per
+ * block holding the block hash and the offset and length of its item. Once a segment is full it is
+ * never written again and is memory-mapped for reads.
+ *
+ * <p>Items are appended by a single writer but may be read concurrently from any thread. Data is
+ * always written before its index entry so after a crash any partially written item is discarded
+ * when the store is reopened.
+ */
+public class AncientSegmentStore implements Closeable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int DEFAULT_BLOCKS_PER_SEGMENT = 8192;
+  private static final int INDEX_ENTRY_SIZE = Bytes32.SIZE + Long.BYTES + Integer.BYTES;
+
+  private final Path directory;
+  private final String name;
+  private final int blocksPerSegment;
+  private final List<Segment> segments = new CopyOnWriteArrayList<>();
+  private volatile long itemCount;
+
+  public AncientSegmentStore(final Path directory, final String name) {
+    this(directory, name, DEFAULT_BLOCKS_PER_SEGMENT);
+  }
+
+  @VisibleForTesting
+  AncientSegmentStore(final Path directory, final String name, final int blocksPerSegment) {
+    checkArgument(blocksPerSegment > 0, "Blocks per segment must be positive");
+    this.directory = directory;
+    this.name = name;
+    this.blocksPerSegment = blocksPerSegment;
+    try {
+      Files.createDirectories(directory);
+      itemCount = openExistingSegments();
+    } catch (final IOException e) {
+      throw new StorageException("Unable to open ancient block store " + name, e);
+    }
+  }
+
+  /**
+   * The number of blocks held in this store, which is also the number of the next block to be
+   * appended.
+   *
+   * @return the number of blocks stored.
+   */
+  public long size() {
+    return itemCount;
+  }
+
+  /**
+   * Appends the item for the next block.
+   *
+   * @param blockNumber the block number, which must be equal to {@link #size()}
+   * @param blockHash the hash of the block, checked when the item is read
+   * @param item the data to store
+   */
+  public void append(final long blockNumber, final Hash blockHash, final Bytes item) {
+    checkArgument(
+        blockNumber == itemCount,
+        "Expected to append block %s but got block %s",
+        itemCount,
+        blockNumber);
+    final int segmentNumber = (int) (blockNumber / blocksPerSegment);
+    try {
+      if (segmentNumber == segments.size()) {
+        if (segmentNumber > 0) {
+          segments.get(segmentNumber - 1).seal();
+        }
+        segments.add(openSegment(segmentNumber));
+      }
+      segments.get(segmentNumber).append(blockHash, item);
+      itemCount = blockNumber + 1;
+    } catch (final IOException e) {
+      throw new StorageException("Unable to append block " + blockNumber + " to " + name, e);
+    }
+  }
+
+  /**
+   * Gets the item for a block.
+   *
+   * @param blockNumber the number of the block
+   * @param blockHash the hash of the block, if it doesn't match the stored hash nothing is returned
+   * @return the stored item, if present.
+   */
+  public Optional<Bytes> get(final long blockNumber, final Hash blockHash) {
+    if (blockNumber < 0 || blockNumber >= itemCount) {
+      return Optional.empty();
+    }
+    final Segment segment = segments.get((int) (blockNumber / blocksPerSegment));
+    try {
+      return segment.get((int) (blockNumber % blocksPerSegment), blockHash);
+    } catch (final IOException e) {
+      throw new StorageException("Unable to read block " + blockNumber + " from " + name, e);
+    }
+  }
+
+  /** Forces all appended items to be written to disk. */
+  public void sync() {
+    if (segments.isEmpty()) {
+      return;
+    }
+    try {
+      segments.get(segments.size() - 1).sync();
+    } catch (final IOException e) {
+      throw new StorageException("Unable to sync " + name, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    try {
+      for (final Segment segment : segments) {
+        segment.close();
+      }
+    } catch (final IOException e) {
+      throw new StorageException("Unable to close " + name, e);
+    }
+  }
+
+  private long openExistingSegments() throws IOException {
+    long count = 0;
+    while (Files.exists(pathFor(segments.size(), "idx"))) {
+      final Segment segment = openSegment(segments.size());
+      segments.add(segment);
+      final int entries = segment.recover();
+      count += entries;
+      if (entries < blocksPerSegment) {
+        break;
+      }
+      segment.seal();
+    }
+    LOG.debug("Opened ancient block store {} containing {} blocks", name, count);
+    return count;
+  }
+
+  private Segment openSegment(final int segmentNumber) throws IOException {
+    return Segment.open(pathFor(segmentNumber, "idx"), pathFor(segmentNumber, "dat"));
+  }
+
+  private Path pathFor(final int segmentNumber, final String extension) {
+    return directory.resolve(String.format("%s.%06d.%s", name, segmentNumber, extension));
+  }
+
+  private static class Segment {
+    private final FileChannel index;
+    private final FileChannel data;
+    private volatile MappedByteBuffer mappedIndex;
+    private volatile MappedByteBuffer mappedData;
+    private long dataSize;
+    private int entries;
+
+    private Segment(final FileChannel index, final FileChannel data) throws IOException {
+      this.index = index;
+      this.data = data;
+      this.dataSize = data.size();
+      this.entries = (int) (index.size() / INDEX_ENTRY_SIZE);
+    }
+
+    static Segment open(final Path indexPath, final Path dataPath) throws IOException {
+      return new Segment(openChannel(indexPath), openChannel(dataPath));
+    }
+
+    private static FileChannel openChannel(final Path path) throws IOException {
+      return FileChannel.open(
+          path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /** Drops any trailing data that is not covered by a complete index entry. */
+    int recover() throws IOException {
+      long validDataSize = 0;
+      while (entries > 0) {
+        final ByteBuffer entry = readIndexEntry(entries - 1);
+        final long end = entry.getLong(Bytes32.SIZE) + entry.getInt(Bytes32.SIZE + Long.BYTES);
+        if (end <= data.size()) {
+          validDataSize = end;
+          break;
+        }
+        entries--;
+      }
+      index.truncate((long) entries * INDEX_ENTRY_SIZE);
+      data.truncate(validDataSize);
+      dataSize = validDataSize;
+      return entries;
+    }
+
+    void append(final Hash blockHash, final Bytes item) throws IOException {
+      data.write(ByteBuffer.wrap(item.toArrayUnsafe()), dataSize);
+      final ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+      entry.put(blockHash.toArrayUnsafe()).putLong(dataSize).putInt(item.size()).flip();
+      index.write(entry, (long) entries * INDEX_ENTRY_SIZE);
+      dataSize += item.size();
+      entries++;
+    }
+
+    Optional<Bytes> get(final int entryNumber, final Hash blockHash) throws IOException {
+      final ByteBuffer entry = readIndexEntry(entryNumber);
+      if (!Bytes.wrapByteBuffer(entry, 0, Bytes32.SIZE).equals(blockHash)) {
+        return Optional.empty();
+      }
+      final long offset = entry.getLong(Bytes32.SIZE);
+      final int length = entry.getInt(Bytes32.SIZE + Long.BYTES);
+      final MappedByteBuffer mapped = mappedData;
+      if (mapped != null) {
+        final ByteBuffer slice = mapped.duplicate();
+        slice.position((int) offset).limit((int) offset + length);
+        return Optional.of(Bytes.wrapByteBuffer(slice.slice()));
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate(length);
+      readFully(data, buffer, offset);
+      return Optional.of(Bytes.wrap(buffer.array()));
+    }
+
+    private ByteBuffer readIndexEntry(final int entryNumber) throws IOException {
+      final long offset = (long) entryNumber * INDEX_ENTRY_SIZE;
+      final MappedByteBuffer mapped = mappedIndex;
+      if (mapped != null) {
+        final ByteBuffer slice = mapped.duplicate();
+        slice.position((int) offset).limit((int) offset + INDEX_ENTRY_SIZE);
+        return slice.slice();
+      }
+      final ByteBuffer buffer = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+      readFully(index, buffer, offset);
+      return buffer.flip();
+    }
+
+    private static void readFully(
+        final FileChannel channel, final ByteBuffer buffer, final long offset) throws IOException {
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, offset + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of ancient block store file");
+        }
+      }
+    }
+
+    /** Marks the segment as complete and memory-maps it for reads. */
+    void seal() throws IOException {
+      if (mappedIndex != null) {
+        return;
+      }
+      sync();
+      // A single mapping is limited to 2GB, larger segments continue to be read through the channel
+      if (dataSize <= Integer.MAX_VALUE) {
+        mappedData = data.map(FileChannel.MapMode.READ_ONLY, 0, dataSize);
+      }
+      mappedIndex = index.map(FileChannel.MapMode.READ_ONLY, 0, index.size());
+    }
+
+    void sync() throws IOException {
+      data.force(false);
+      index.force(false);
+    }
+
+    void close() throws IOException {
+      index.close();
+      data.close();
+    }
+  }
+}
@@ -15,40 +15,127 @@
 package org.hyperledger.besu.ethereum.storage.keyvalue;
 
 import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockchainStorage;
+import org.hyperledger.besu.ethereum.storage.ancient.AncientSegmentStore;
 import org.hyperledger.besu.ethereum.worldstate.WorldStatePreimageStorage;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class KeyValueStorageProvider implements StorageProvider {
+  private static final Logger LOG = LogManager.getLogger();
 
   private final KeyValueStorage blockchainStorage;
   private final KeyValueStorage worldStateStorage;
   private final KeyValueStorage worldStatePreimageStorage;
   private final KeyValueStorage pruningStorage;
+  private final KeyValueStorage voteTallyStorage;
   private final boolean isWorldStateIterable;
+  private final Optional<Path> ancientBlockDataPath;
+  private final long ancientBlockDepth;
+  private AncientSegmentStore ancientSegmentStore;
+  private ExecutorService ancientBlockMoveExecutor;
 
   public KeyValueStorageProvider(
       final KeyValueStorage blockchainStorage,
       final KeyValueStorage worldStateStorage,
       final KeyValueStorage worldStatePreimageStorage,
       final KeyValueStorage pruningStorage,
+      final KeyValueStorage voteTallyStorage,
       final boolean isWorldStateIterable) {
+    this(
+        blockchainStorage,
+        worldStateStorage,
+        worldStatePreimageStorage,
+        pruningStorage,
+        voteTallyStorage,
+        isWorldStateIterable,
+        Optional.empty(),
+        0);
+  }
+
+  /**
+   * Creates a storage provider which keeps the bodies and receipts of old blocks in ancient block
+   * storage rather than the blockchain key-value storage.
+   *
+   * @param blockchainStorage the key-value storage for blockchain data
+   * @param worldStateStorage the key-value storage for world state data
+   * @param worldStatePreimageStorage the key-value storage for world state preimages
+   * @param pruningStorage the key-value storage for pruning data
+   * @param voteTallyStorage the key-value storage for vote tally snapshots
+   * @param isWorldStateIterable whether the world state storage supports iteration
+   * @param ancientBlockDataPath the directory for ancient block storage, if enabled
+   * @param ancientBlockDepth how far behind the chain head a block must be to be moved to ancient
+   *     block storage, or zero to only read blocks that were moved earlier
+   */
+  public KeyValueStorageProvider(
+      final KeyValueStorage blockchainStorage,
+      final KeyValueStorage worldStateStorage,
+      final KeyValueStorage worldStatePreimageStorage,
+      final KeyValueStorage pruningStorage,
+      final KeyValueStorage voteTallyStorage,
+      final boolean isWorldStateIterable,
+      final Optional<Path> ancientBlockDataPath,
+      final long ancientBlockDepth) {
     this.blockchainStorage = blockchainStorage;
     this.worldStateStorage = worldStateStorage;
     this.worldStatePreimageStorage = worldStatePreimageStorage;
     this.pruningStorage = pruningStorage;
+    this.voteTallyStorage = voteTallyStorage;
     this.isWorldStateIterable = isWorldStateIterable;
+    this.ancientBlockDataPath = ancientBlockDataPath;
+    this.ancientBlockDepth = ancientBlockDepth;
   }
 
   @Override
   public BlockchainStorage createBlockchainStorage(final ProtocolSchedule<?> protocolSchedule) {
-    return new KeyValueStoragePrefixedKeyBlockchainStorage(
-        blockchainStorage, ScheduleBasedBlockHeaderFunctions.create(protocolSchedule));
+    final BlockHeaderFunctions blockHeaderFunctions =
+        ScheduleBasedBlockHeaderFunctions.create(protocolSchedule);
+    final BlockchainStorage keyValueBlockchainStorage =
+        new KeyValueStoragePrefixedKeyBlockchainStorage(blockchainStorage, blockHeaderFunctions);
+    if (ancientBlockDataPath.isEmpty()) {
+      return keyValueBlockchainStorage;
+    }
+    return new AncientBlockchainStorage(
+        keyValueBlockchainStorage,
+        getAncientSegmentStore(ancientBlockDataPath.get()),
+        blockHeaderFunctions,
+        ancientBlockDepth,
+        getAncientBlockMoveExecutor());
+  }
+
+  private synchronized AncientSegmentStore getAncientSegmentStore(final Path path) {
+    if (ancientSegmentStore == null) {
+      ancientSegmentStore = new AncientSegmentStore(path, "blocks");
+    }
+    return ancientSegmentStore;
+  }
+
+  private synchronized ExecutorService getAncientBlockMoveExecutor() {
+    if (ancientBlockMoveExecutor == null) {
+      ancientBlockMoveExecutor =
+          Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setPriority(Thread.MIN_PRIORITY)
+                  .setNameFormat("AncientBlockMover-%d")
+                  .build());
+    }
+    return ancientBlockMoveExecutor;
   }
 
   @Override
@@ -66,6 +153,11 @@ public class KeyValueStorageProvider implements StorageProvider {
     return pruningStorage;
   }
 
+  @Override
+  public KeyValueStorage createVoteTallyStorage() {
+    return voteTallyStorage;
+  }
+
   @Override
   public boolean isWorldStateIterable() {
     return isWorldStateIterable;
@@ -73,8 +165,23 @@ public class KeyValueStorageProvider implements StorageProvider {
 
   @Override
   public void close() throws IOException {
+    if (ancientBlockMoveExecutor != null) {
+      // Blocks are moved in batches which each complete before the executor stops
+      ancientBlockMoveExecutor.shutdownNow();
+      try {
+        if (!ancientBlockMoveExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+          LOG.error("Failed to stop moving blocks to ancient block storage.");
+        }
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (ancientSegmentStore != null) {
+      ancientSegmentStore.close();
+    }
     blockchainStorage.close();
     worldStateStorage.close();
     pruningStorage.close();
+    voteTallyStorage.close();
   }
 }
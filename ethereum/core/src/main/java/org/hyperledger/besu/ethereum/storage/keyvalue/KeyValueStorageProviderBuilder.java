@@ -14,24 +14,32 @@
  */
 package org.hyperledger.besu.ethereum.storage.keyvalue;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.BLOCKCHAIN;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.PRUNING_STATE;
+import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.VOTE_TALLY;
 import static org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier.WORLD_STATE;
 
+import org.hyperledger.besu.ethereum.storage.ancient.AncientBlockchainStorage;
 import org.hyperledger.besu.plugin.services.BesuConfiguration;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorageFactory;
 import org.hyperledger.besu.services.kvstore.LimitedInMemoryKeyValueStorage;
 
+import java.nio.file.Path;
+import java.util.Optional;
+
 public class KeyValueStorageProviderBuilder {
 
   private static final long DEFAULT_WORLD_STATE_PRE_IMAGE_CACHE_SIZE = 5_000L;
+  private static final String ANCIENT_BLOCK_DIRECTORY = "ancient";
 
   private KeyValueStorageFactory storageFactory;
   private BesuConfiguration commonConfiguration;
   private MetricsSystem metricsSystem;
+  private long ancientBlockDepth = 0;
 
   public KeyValueStorageProviderBuilder withStorageFactory(
       final KeyValueStorageFactory storageFactory) {
@@ -50,6 +58,25 @@ public class KeyValueStorageProviderBuilder {
     return this;
   }
 
+  /**
+   * Moves the bodies and receipts of blocks this far behind the chain head to ancient block
+   * storage. A depth of zero, the default, stops moving blocks, though any moved earlier are still
+   * read from ancient block storage.
+   *
+   * @param ancientBlockDepth the number of blocks behind the chain head, at least {@link
+   *     AncientBlockchainStorage#MIN_ANCIENT_BLOCK_DEPTH} unless zero
+   * @return this builder
+   */
+  public KeyValueStorageProviderBuilder withAncientBlockDepth(final long ancientBlockDepth) {
+    checkArgument(
+        ancientBlockDepth == 0
+            || ancientBlockDepth >= AncientBlockchainStorage.MIN_ANCIENT_BLOCK_DEPTH,
+        "Ancient block depth must be zero or at least %s",
+        AncientBlockchainStorage.MIN_ANCIENT_BLOCK_DEPTH);
+    this.ancientBlockDepth = ancientBlockDepth;
+    return this;
+  }
+
   public KeyValueStorageProvider build() {
     checkNotNull(storageFactory, "Cannot build a storage provider without a storage factory.");
     checkNotNull(
@@ -59,12 +86,21 @@ public class KeyValueStorageProviderBuilder {
 
     final KeyValueStorage worldStatePreImageStorage =
         new LimitedInMemoryKeyValueStorage(DEFAULT_WORLD_STATE_PRE_IMAGE_CACHE_SIZE);
+    // Blocks already moved to ancient block storage can only be read from there, so keep using it
+    // even if moving blocks is no longer enabled
+    final Path ancientBlockDataPath =
+        commonConfiguration.getDataPath().resolve(ANCIENT_BLOCK_DIRECTORY);
 
     return new KeyValueStorageProvider(
         storageFactory.create(BLOCKCHAIN, commonConfiguration, metricsSystem),
         storageFactory.create(WORLD_STATE, commonConfiguration, metricsSystem),
         worldStatePreImageStorage,
         storageFactory.create(PRUNING_STATE, commonConfiguration, metricsSystem),
-        storageFactory.isSegmentIsolationSupported());
+        storageFactory.create(VOTE_TALLY, commonConfiguration, metricsSystem),
+        storageFactory.isSegmentIsolationSupported(),
+        ancientBlockDepth > 0 || ancientBlockDataPath.toFile().exists()
+            ? Optional.of(ancientBlockDataPath)
+            : Optional.empty(),
+        ancientBlockDepth);
   }
 }
@@ -20,7 +20,6 @@ import org.hyperledger.besu.ethereum.core.Account;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
-import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
@@ -28,6 +27,7 @@ import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.vm.BlockHashLookup;
+import org.hyperledger.besu.ethereum.worldstate.ReadOnlyWorldState;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
@@ -85,18 +85,74 @@ public class TransactionSimulator {
     if (header == null) {
       return Optional.empty();
     }
-    final MutableWorldState worldState =
-        worldStateArchive.getMutable(header.getStateRoot()).orElse(null);
+    final ReadOnlyWorldState worldState =
+        worldStateArchive.getReadOnly(header.getStateRoot()).orElse(null);
     if (worldState == null) {
       return Optional.empty();
     }
 
+    return Optional.of(process(callParams, gasLimit(callParams, header), header, worldState));
+  }
+
+  /**
+   * Estimates the lowest gas limit a call succeeds with.
+   *
+   * <p>The gas used by a successful run at the call's gas limit is a lower bound, as execution
+   * needs at least as much gas as it uses before refunds are applied. It is also usually the
+   * answer, so it is tried first. When it isn't enough, for example because the call forwards 63/64
+   * of the remaining gas to another call, the lowest successful gas limit is found by binary search
+   * between the two. Every run executes against the same world state view.
+   *
+   * @param callParams the call to estimate the gas for
+   * @param blockNumber the block whose state to execute the call against
+   * @return the estimated gas limit, or the gas used if the call fails even at its own gas
+   *     limit, or empty if the block or its world state is not available
+   */
+  public Optional<Long> estimateGas(final CallParameter callParams, final long blockNumber) {
+    final BlockHeader header = blockchain.getBlockHeader(blockNumber).orElse(null);
+    if (header == null) {
+      return Optional.empty();
+    }
+    final ReadOnlyWorldState worldState =
+        worldStateArchive.getReadOnly(header.getStateRoot()).orElse(null);
+    if (worldState == null) {
+      return Optional.empty();
+    }
+
+    final long gasLimit = gasLimit(callParams, header);
+    final TransactionSimulatorResult initialResult =
+        process(callParams, gasLimit, header, worldState);
+    if (!initialResult.isSuccessful()) {
+      return Optional.of(initialResult.getGasEstimate());
+    }
+
+    long failingGasLimit = initialResult.getGasEstimate() - 1;
+    long succeedingGasLimit = gasLimit;
+    long candidate = initialResult.getGasEstimate();
+    while (succeedingGasLimit - failingGasLimit > 1) {
+      if (process(callParams, candidate, header, worldState).isSuccessful()) {
+        succeedingGasLimit = candidate;
+      } else {
+        failingGasLimit = candidate;
+      }
+      candidate = failingGasLimit + (succeedingGasLimit - failingGasLimit) / 2;
+    }
+    return Optional.of(succeedingGasLimit);
+  }
+
+  private long gasLimit(final CallParameter callParams, final BlockHeader header) {
+    return callParams.getGasLimit() >= 0 ? callParams.getGasLimit() : header.getGasLimit();
+  }
+
+  private TransactionSimulatorResult process(
+      final CallParameter callParams,
+      final long gasLimit,
+      final BlockHeader header,
+      final ReadOnlyWorldState worldState) {
     final Address senderAddress =
         callParams.getFrom() != null ? callParams.getFrom() : DEFAULT_FROM;
     final Account sender = worldState.get(senderAddress);
     final long nonce = sender != null ? sender.getNonce() : 0L;
-    final long gasLimit =
-        callParams.getGasLimit() >= 0 ? callParams.getGasLimit() : header.getGasLimit();
     final Wei gasPrice = callParams.getGasPrice() != null ? callParams.getGasPrice() : Wei.ZERO;
     final Wei value = callParams.getValue() != null ? callParams.getValue() : Wei.ZERO;
     final Bytes payload = callParams.getPayload() != null ? callParams.getPayload() : Bytes.EMPTY;
@@ -128,7 +184,7 @@ public class TransactionSimulator {
             false,
             TransactionValidationParams.transactionSimulator());
 
-    return Optional.of(new TransactionSimulatorResult(transaction, result));
+    return new TransactionSimulatorResult(transaction, result);
   }
 
   public Optional<Boolean> doesAddressExistAtHead(final Address address) {
@@ -140,12 +196,22 @@ public class TransactionSimulator {
       return Optional.empty();
     }
 
-    final MutableWorldState worldState =
-        worldStateArchive.getMutable(header.getStateRoot()).orElse(null);
+    final ReadOnlyWorldState worldState =
+        worldStateArchive.getReadOnly(header.getStateRoot()).orElse(null);
     if (worldState == null) {
       return Optional.empty();
     }
 
     return Optional.of(worldState.get(address) != null);
   }
+
+  /**
+   * Returns the world state root at the chain head, which changes whenever any account or storage
+   * does.
+   *
+   * @return the state root of the chain head
+   */
+  public Hash getStateRootAtHead() {
+    return blockchain.getChainHeadHeader().getStateRoot();
+  }
 }
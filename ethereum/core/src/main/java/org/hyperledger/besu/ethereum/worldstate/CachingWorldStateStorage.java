@@ -0,0 +1,105 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Caches the nodes and code read from a world state storage. Everything in world state storage is
+ * keyed by its hash, so cached values never go stale and one cache can serve the views of every
+ * world state, up to {@link #MAX_CACHED_BYTES}.
+ *
+ * <p>Values are cached as they are stored rather than decoded, since decoded trie nodes are lazily
+ * resolved and hold references to their loaded children, so a shared node would keep growing to
+ * everything read through it and could not be weighed when added.
+ */
+class CachingWorldStateStorage implements WorldStateStorage {
+
+  static final long MAX_CACHED_BYTES = 16 * 1024 * 1024;
+
+  private final WorldStateStorage storage;
+  private final Cache<Bytes32, Bytes> cache =
+      CacheBuilder.newBuilder()
+          .maximumWeight(MAX_CACHED_BYTES)
+          .weigher((final Bytes32 hash, final Bytes value) -> Bytes32.SIZE + value.size())
+          .build();
+
+  CachingWorldStateStorage(final WorldStateStorage storage) {
+    this.storage = storage;
+  }
+
+  @Override
+  public Optional<Bytes> getCode(final Bytes32 codeHash) {
+    return getCached(codeHash, storage::getCode);
+  }
+
+  @Override
+  public Optional<Bytes> getAccountStateTrieNode(final Bytes32 nodeHash) {
+    return getCached(nodeHash, storage::getAccountStateTrieNode);
+  }
+
+  @Override
+  public Optional<Bytes> getAccountStorageTrieNode(final Bytes32 nodeHash) {
+    return getCached(nodeHash, storage::getAccountStorageTrieNode);
+  }
+
+  @Override
+  public Optional<Bytes> getNodeData(final Bytes32 hash) {
+    return getCached(hash, storage::getNodeData);
+  }
+
+  private Optional<Bytes> getCached(
+      final Bytes32 hash, final Function<Bytes32, Optional<Bytes>> loader) {
+    final Bytes cached = cache.getIfPresent(hash);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    final Optional<Bytes> value = loader.apply(hash);
+    value.ifPresent(data -> cache.put(hash, data));
+    return value;
+  }
+
+  @Override
+  public boolean isWorldStateAvailable(final Bytes32 rootHash) {
+    return storage.isWorldStateAvailable(rootHash);
+  }
+
+  @Override
+  public WorldStateStorage.Updater updater() {
+    throw new UnsupportedOperationException("Cannot update a read-only world state");
+  }
+
+  @Override
+  public long prune(final Predicate<byte[]> inUseCheck) {
+    throw new UnsupportedOperationException("Cannot prune a read-only world state");
+  }
+
+  @Override
+  public long addNodeAddedListener(final NodesAddedListener listener) {
+    return storage.addNodeAddedListener(listener);
+  }
+
+  @Override
+  public void removeNodeAddedListener(final long id) {
+    storage.removeNodeAddedListener(id);
+  }
+}
@@ -33,12 +33,18 @@ import org.hyperledger.besu.ethereum.trie.StoredMerklePatriciaTrie;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -47,12 +53,19 @@ import org.apache.tuweni.units.bigints.UInt256;
 
 public class DefaultMutableWorldState implements MutableWorldState {
 
+  private static final ForkJoinPool TRIE_HASHING_POOL =
+      new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
   private final WorldStateStorage worldStateStorage;
   private final WorldStatePreimageStorage preimageStorage;
 
   private final MerklePatriciaTrie<Bytes32, Bytes> accountStateTrie;
   private final Map<Address, MerklePatriciaTrie<Bytes32, Bytes>> updatedStorageTries =
       new HashMap<>();
+  // Accounts whose storage was modified since their storage root was last written to the account
+  // trie. Storage roots are computed when the root hash is needed, so all of them can be hashed at
+  // once rather than one after the other as each update is committed.
+  private final Set<Address> accountsWithPendingStorageRoot = new HashSet<>();
   private final Map<Address, Bytes> updatedAccountCode = new HashMap<>();
   private final Map<Bytes32, UInt256> newStorageKeyPreimages = new HashMap<>();
   private final Map<Bytes32, Address> newAccountKeyPreimages = new HashMap<>();
@@ -82,7 +95,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
     final DefaultMutableWorldState other = (DefaultMutableWorldState) worldState;
     this.worldStateStorage = other.worldStateStorage;
     this.preimageStorage = other.preimageStorage;
-    this.accountStateTrie = newAccountStateTrie(other.accountStateTrie.getRootHash());
+    this.accountStateTrie = newAccountStateTrie(other.rootHash());
   }
 
   private MerklePatriciaTrie<Bytes32, Bytes> newAccountStateTrie(final Bytes32 rootHash) {
@@ -97,6 +110,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
 
   @Override
   public Hash rootHash() {
+    updatePendingStorageRoots();
     return Hash.wrap(accountStateTrie.getRootHash());
   }
 
@@ -139,6 +153,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
 
   @Override
   public Stream<StreamableAccount> streamAccounts(final Bytes32 startKeyHash, final int limit) {
+    updatePendingStorageRoots();
     return accountStateTrie.entriesFrom(startKeyHash, limit).entrySet().stream()
         .map(
             entry -> {
@@ -167,6 +182,9 @@ public class DefaultMutableWorldState implements MutableWorldState {
 
   @Override
   public void persist() {
+    updatePendingStorageRoots();
+    TRIE_HASHING_POOL.invoke(accountStateTrie.rootHashTask());
+
     final WorldStateStorage.Updater stateUpdater = worldStateStorage.updater();
     // Store updated code
     for (final Bytes code : updatedAccountCode.values()) {
@@ -194,6 +212,36 @@ public class DefaultMutableWorldState implements MutableWorldState {
     stateUpdater.commit();
   }
 
+  /**
+   * Writes the storage roots of accounts whose storage was modified into the account trie. The
+   * storage tries are independent of each other so they are all hashed concurrently first.
+   */
+  private void updatePendingStorageRoots() {
+    if (accountsWithPendingStorageRoot.isEmpty()) {
+      return;
+    }
+    final List<ForkJoinTask<Bytes32>> hashingTasks =
+        accountsWithPendingStorageRoot.stream()
+            .map(address -> updatedStorageTries.get(address).rootHashTask())
+            .collect(Collectors.toList());
+    TRIE_HASHING_POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(hashingTasks)));
+
+    for (final Address address : accountsWithPendingStorageRoot) {
+      final Hash addressHash = Hash.hash(address);
+      final StateTrieAccountValue accountValue =
+          StateTrieAccountValue.readFrom(RLP.input(accountStateTrie.get(addressHash).get()));
+      accountStateTrie.put(
+          addressHash,
+          serializeAccount(
+              accountValue.getNonce(),
+              accountValue.getBalance(),
+              Hash.wrap(updatedStorageTries.get(address).getRootHash()),
+              accountValue.getCodeHash(),
+              accountValue.getVersion()));
+    }
+    accountsWithPendingStorageRoot.clear();
+  }
+
   private Optional<UInt256> getStorageTrieKeyPreimage(final Bytes32 trieKey) {
     return Optional.ofNullable(newStorageKeyPreimages.get(trieKey))
         .or(() -> preimageStorage.getStorageTrieKeyPreimage(trieKey));
@@ -212,6 +260,8 @@ public class DefaultMutableWorldState implements MutableWorldState {
     private final Hash addressHash;
 
     final StateTrieAccountValue accountValue;
+    // The storage trie whose root hash is yet to be written to the account trie, if any.
+    private final MerklePatriciaTrie<Bytes32, Bytes> pendingStorageTrie;
 
     // Lazily initialized since we don't always access storage.
     private volatile MerklePatriciaTrie<Bytes32, Bytes> storageTrie;
@@ -222,6 +272,10 @@ public class DefaultMutableWorldState implements MutableWorldState {
       this.address = address;
       this.addressHash = addressHash;
       this.accountValue = accountValue;
+      this.pendingStorageTrie =
+          accountsWithPendingStorageRoot.contains(address)
+              ? updatedStorageTries.get(address)
+              : null;
     }
 
     private MerklePatriciaTrie<Bytes32, Bytes> storageTrie() {
@@ -256,7 +310,9 @@ public class DefaultMutableWorldState implements MutableWorldState {
     }
 
     Hash getStorageRoot() {
-      return accountValue.getStorageRoot();
+      return pendingStorageTrie == null
+          ? accountValue.getStorageRoot()
+          : Hash.wrap(pendingStorageTrie.getRootHash());
     }
 
     @Override
@@ -377,6 +433,7 @@ public class DefaultMutableWorldState implements MutableWorldState {
         wrapped.accountStateTrie.remove(addressHash);
         wrapped.updatedStorageTries.remove(address);
         wrapped.updatedAccountCode.remove(address);
+        wrapped.accountsWithPendingStorageRoot.remove(address);
       }
 
       for (final UpdateTrackingAccount<WorldStateAccount> updated : updatedAccounts()) {
@@ -390,9 +447,9 @@ public class DefaultMutableWorldState implements MutableWorldState {
         }
         // ...and storage in the account trie first.
         final boolean freshState = origin == null || updated.getStorageWasCleared();
-        Hash storageRoot = freshState ? Hash.EMPTY_TRIE_HASH : origin.getStorageRoot();
         if (freshState) {
           wrapped.updatedStorageTries.remove(updated.getAddress());
+          wrapped.accountsWithPendingStorageRoot.remove(updated.getAddress());
         }
         final SortedMap<UInt256, UInt256> updatedStorage = updated.getUpdatedStorage();
         if (!updatedStorage.isEmpty()) {
@@ -413,8 +470,13 @@ public class DefaultMutableWorldState implements MutableWorldState {
                   keyHash, RLP.encode(out -> out.writeBytes(entry.getValue().toMinimalBytes())));
             }
           }
-          storageRoot = Hash.wrap(storageTrie.getRootHash());
+          wrapped.accountsWithPendingStorageRoot.add(updated.getAddress());
         }
+        // Updated storage roots are only computed once the root hash is needed.
+        final Hash storageRoot =
+            freshState || wrapped.accountsWithPendingStorageRoot.contains(updated.getAddress())
+                ? Hash.EMPTY_TRIE_HASH
+                : origin.getStorageRoot();
 
         // Save address preimage
         wrapped.newAccountKeyPreimages.put(updated.getAddressHash(), updated.getAddress());
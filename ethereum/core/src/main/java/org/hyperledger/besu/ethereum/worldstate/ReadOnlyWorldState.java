@@ -0,0 +1,112 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import org.hyperledger.besu.ethereum.core.AbstractWorldUpdater;
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.WorldState;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * A world state that can be read by many threads at once, such as the state of a recent block
+ * that several {@code eth_call} requests execute against.
+ *
+ * <p>Reads go through the node cache of the {@link WorldStateArchive} the view came from, which is
+ * shared by the views of all states, so nodes common to recent blocks are only loaded from storage
+ * once. Each read decodes the nodes it needs afresh, so decoded nodes are only held for as long as
+ * the account read is. Changes can only be made through {@link #updater()}, whose changes are
+ * discarded with it.
+ */
+public class ReadOnlyWorldState implements WorldState {
+
+  private final Hash rootHash;
+  private final WorldStateStorage worldStateStorage;
+  private final WorldStatePreimageStorage preimageStorage;
+
+  ReadOnlyWorldState(
+      final Hash rootHash,
+      final WorldStateStorage worldStateStorage,
+      final WorldStatePreimageStorage preimageStorage) {
+    this.rootHash = rootHash;
+    this.worldStateStorage = worldStateStorage;
+    this.preimageStorage = preimageStorage;
+  }
+
+  @Override
+  public Hash rootHash() {
+    return rootHash;
+  }
+
+  @Override
+  public Account get(final Address address) {
+    return worldState().get(address);
+  }
+
+  @Override
+  public Stream<StreamableAccount> streamAccounts(final Bytes32 startKeyHash, final int limit) {
+    return worldState().streamAccounts(startKeyHash, limit);
+  }
+
+  private DefaultMutableWorldState worldState() {
+    return new DefaultMutableWorldState(rootHash, worldStateStorage, preimageStorage);
+  }
+
+  /**
+   * Creates an updater to execute transactions against this world state. Only updaters stacked on
+   * top of the returned one can be committed; the changes they make are never applied to this
+   * world state.
+   *
+   * @return a new updater over this world state
+   */
+  public WorldUpdater updater() {
+    return new Updater(this);
+  }
+
+  private static class Updater extends AbstractWorldUpdater<ReadOnlyWorldState, Account> {
+
+    private Updater(final ReadOnlyWorldState world) {
+      super(world);
+    }
+
+    @Override
+    protected Account getForMutation(final Address address) {
+      return wrappedWorldView().get(address);
+    }
+
+    @Override
+    public Collection<Account> getTouchedAccounts() {
+      return new ArrayList<>(updatedAccounts());
+    }
+
+    @Override
+    public void revert() {
+      deletedAccounts().clear();
+      updatedAccounts().clear();
+    }
+
+    @Override
+    public void commit() {
+      throw new UnsupportedOperationException("Cannot commit changes to a read-only world state");
+    }
+  }
+}
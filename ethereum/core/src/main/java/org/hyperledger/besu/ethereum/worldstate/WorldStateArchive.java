@@ -15,6 +15,7 @@
 package org.hyperledger.besu.ethereum.worldstate;
 
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.WorldState;
@@ -24,22 +25,58 @@ import org.hyperledger.besu.ethereum.trie.MerklePatriciaTrie;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt256;
 
 public class WorldStateArchive {
   private final WorldStateStorage worldStateStorage;
   private final WorldStatePreimageStorage preimageStorage;
+  private final WorldStateStorage readOnlyWorldStateStorage;
   private final WorldStateProofProvider worldStateProof;
+  private final Optional<WorldStatePrefetcher> prefetcher;
+  private final Cache<Hash, ReadOnlyWorldState> readOnlyWorldStates =
+      CacheBuilder.newBuilder().maximumSize(READ_ONLY_WORLD_STATE_CACHE_SIZE).build();
 
   private static final Hash EMPTY_ROOT_HASH = Hash.wrap(MerklePatriciaTrie.EMPTY_TRIE_NODE_HASH);
+  private static final int READ_ONLY_WORLD_STATE_CACHE_SIZE = 4;
 
   public WorldStateArchive(
       final WorldStateStorage worldStateStorage, final WorldStatePreimageStorage preimageStorage) {
+    this(worldStateStorage, preimageStorage, Optional.empty());
+  }
+
+  /**
+   * Creates an archive that prefetches the world state data blocks are likely to touch before
+   * they are executed.
+   *
+   * @param worldStateStorage the world state storage
+   * @param preimageStorage the preimage storage
+   * @param prefetchExecutor the executor to run prefetch reads on, shut down by its owner
+   */
+  public WorldStateArchive(
+      final WorldStateStorage worldStateStorage,
+      final WorldStatePreimageStorage preimageStorage,
+      final Executor prefetchExecutor) {
+    this(
+        worldStateStorage,
+        preimageStorage,
+        Optional.of(new WorldStatePrefetcher(worldStateStorage, prefetchExecutor)));
+  }
+
+  private WorldStateArchive(
+      final WorldStateStorage worldStateStorage,
+      final WorldStatePreimageStorage preimageStorage,
+      final Optional<WorldStatePrefetcher> prefetcher) {
     this.worldStateStorage = worldStateStorage;
     this.preimageStorage = preimageStorage;
+    this.readOnlyWorldStateStorage = new CachingWorldStateStorage(worldStateStorage);
     this.worldStateProof = new WorldStateProofProvider(worldStateStorage);
+    this.prefetcher = prefetcher;
   }
 
   public Optional<WorldState> get(final Hash rootHash) {
@@ -57,6 +94,28 @@ public class WorldStateArchive {
     return Optional.of(new DefaultMutableWorldState(rootHash, worldStateStorage, preimageStorage));
   }
 
+  /**
+   * Returns a view of a world state that is shared with other callers reading the same state. All
+   * views read through one node cache, so reads of recent blocks reuse the trie nodes already read
+   * from storage for any of them.
+   *
+   * @param rootHash the root hash of the world state
+   * @return a read-only view of the world state, or empty if the state is not available
+   */
+  public Optional<ReadOnlyWorldState> getReadOnly(final Hash rootHash) {
+    if (!worldStateStorage.isWorldStateAvailable(rootHash)) {
+      return Optional.empty();
+    }
+    final ReadOnlyWorldState cached = readOnlyWorldStates.getIfPresent(rootHash);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    final ReadOnlyWorldState worldState =
+        new ReadOnlyWorldState(rootHash, readOnlyWorldStateStorage, preimageStorage);
+    // Another caller may have added a view for the same state meanwhile, in which case use that
+    return Optional.of(readOnlyWorldStates.asMap().merge(rootHash, worldState, (a, b) -> a));
+  }
+
   public WorldState get() {
     return get(EMPTY_ROOT_HASH).get();
   }
@@ -65,6 +124,12 @@ public class WorldStateArchive {
     return getMutable(EMPTY_ROOT_HASH).get();
   }
 
+  public CompletableFuture<Void> prefetch(final Hash rootHash, final Block block) {
+    return prefetcher
+        .map(p -> p.prefetch(rootHash, block))
+        .orElseGet(() -> CompletableFuture.completedFuture(null));
+  }
+
   public Optional<Bytes> getNodeData(final Hash hash) {
     return worldStateStorage.getNodeData(hash);
   }
@@ -0,0 +1,149 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.trie.MerklePatriciaTrie;
+import org.hyperledger.besu.ethereum.trie.StoredMerklePatriciaTrie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Reads the world state data that a block's transactions are likely to touch in the background, so
+ * that the reads made while executing the block are served from the storage caches rather than
+ * waiting on disk.
+ *
+ * <p>For every transaction the account trie paths of the sender, the recipient (or created
+ * contract) and the block's coinbase are loaded, along with the code and storage trie root of
+ * those accounts. Nothing read here is used directly, so failures are ignored and the prefetch can
+ * be abandoned at any point by cancelling the returned future.
+ *
+ * <p>Reads run on an executor owned by the caller, which is responsible for shutting it down.
+ */
+public class WorldStatePrefetcher {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int DEFAULT_THREADS = 4;
+
+  private final WorldStateStorage worldStateStorage;
+  private final Executor executor;
+
+  public WorldStatePrefetcher(final WorldStateStorage worldStateStorage, final Executor executor) {
+    this.worldStateStorage = worldStateStorage;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates an executor suitable for running prefetch reads on.
+   *
+   * @return a new executor, which the caller must shut down once it is no longer needed
+   */
+  public static ExecutorService createExecutor() {
+    return Executors.newFixedThreadPool(
+        DEFAULT_THREADS,
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("WorldStatePrefetcher-%d")
+            .build());
+  }
+
+  /**
+   * Starts loading the accounts touched by the transactions in a block.
+   *
+   * @param worldStateRootHash the root hash of the world state the block will be executed against
+   * @param block the block about to be executed
+   * @return a future completed once all reads are done. Cancelling it skips any reads that haven't
+   *     started yet.
+   */
+  public CompletableFuture<Void> prefetch(final Hash worldStateRootHash, final Block block) {
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    final List<CompletableFuture<Void>> reads = new ArrayList<>();
+    reads.add(submit(result, worldStateRootHash, () -> List.of(block.getHeader().getCoinbase())));
+    for (final Transaction transaction : block.getBody().getTransactions()) {
+      // Senders are recovered on the prefetch threads too, the result is cached on the transaction
+      reads.add(submit(result, worldStateRootHash, () -> touchedAccounts(transaction)));
+    }
+    CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new))
+        .whenComplete((r, error) -> result.complete(null));
+    return result;
+  }
+
+  private CompletableFuture<Void> submit(
+      final CompletableFuture<Void> prefetch,
+      final Hash worldStateRootHash,
+      final Supplier<List<Address>> accounts) {
+    return CompletableFuture.runAsync(
+        () -> {
+          if (prefetch.isDone()) {
+            return;
+          }
+          try {
+            // Each read uses its own trie as stored nodes are not safe to load concurrently
+            final MerklePatriciaTrie<Bytes32, Bytes> accountStateTrie =
+                new StoredMerklePatriciaTrie<>(
+                    worldStateStorage::getAccountStateTrieNode,
+                    worldStateRootHash,
+                    b -> b,
+                    b -> b);
+            accounts.get().forEach(address -> prefetchAccount(accountStateTrie, address));
+          } catch (final RuntimeException e) {
+            LOG.trace("Failed to prefetch world state data", e);
+          }
+        },
+        executor);
+  }
+
+  private static List<Address> touchedAccounts(final Transaction transaction) {
+    final Address sender = transaction.getSender();
+    final Address recipient =
+        transaction
+            .getTo()
+            .orElseGet(() -> Address.contractAddress(sender, transaction.getNonce()));
+    return List.of(sender, recipient);
+  }
+
+  private void prefetchAccount(
+      final MerklePatriciaTrie<Bytes32, Bytes> accountStateTrie, final Address address) {
+    accountStateTrie
+        .get(Hash.hash(address))
+        .map(encoded -> StateTrieAccountValue.readFrom(RLP.input(encoded)))
+        .ifPresent(
+            account -> {
+              if (!account.getCodeHash().equals(Hash.EMPTY)) {
+                worldStateStorage.getCode(account.getCodeHash());
+              }
+              if (!account.getStorageRoot().equals(MerklePatriciaTrie.EMPTY_TRIE_NODE_HASH)) {
+                worldStateStorage.getAccountStorageTrieNode(account.getStorageRoot());
+              }
+            });
+  }
+}
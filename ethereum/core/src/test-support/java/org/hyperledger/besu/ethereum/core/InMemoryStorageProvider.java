@@ -80,6 +80,11 @@ public class InMemoryStorageProvider implements StorageProvider {
     return new InMemoryKeyValueStorage();
   }
 
+  @Override
+  public KeyValueStorage createVoteTallyStorage() {
+    return new InMemoryKeyValueStorage();
+  }
+
   @Override
   public boolean isWorldStateIterable() {
     return true;
@@ -0,0 +1,137 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.chain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import org.junit.Test;
+
+public class CachingBlockchainStorageTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final BlockchainStorage storage =
+      spy(
+          new KeyValueStoragePrefixedKeyBlockchainStorage(
+              new InMemoryKeyValueStorage(), new MainnetBlockHeaderFunctions()));
+  private final CachingBlockchainStorage cachingStorage =
+      new CachingBlockchainStorage(storage, new NoOpMetricsSystem());
+
+  @Test
+  public void cachesBlockDataOnRead() {
+    final Block block = gen.block();
+    final BlockchainStorage.Updater updater = storage.updater();
+    updater.putBlockHeader(block.getHash(), block.getHeader());
+    updater.putBlockBody(block.getHash(), block.getBody());
+    updater.commit();
+
+    assertThat(cachingStorage.getBlockHeader(block.getHash())).contains(block.getHeader());
+    assertThat(cachingStorage.getBlockHeader(block.getHash())).contains(block.getHeader());
+    assertThat(cachingStorage.getBlockBody(block.getHash())).contains(block.getBody());
+    assertThat(cachingStorage.getBlockBody(block.getHash())).contains(block.getBody());
+
+    verify(storage, times(1)).getBlockHeader(block.getHash());
+    verify(storage, times(1)).getBlockBody(block.getHash());
+  }
+
+  @Test
+  public void cachesBlockDataOnCommit() {
+    final Block block = gen.block();
+    final BlockchainStorage.Updater updater = cachingStorage.updater();
+    updater.putBlockHeader(block.getHash(), block.getHeader());
+    updater.putBlockHash(block.getHeader().getNumber(), block.getHash());
+    updater.commit();
+
+    assertThat(cachingStorage.getBlockHeader(block.getHash())).contains(block.getHeader());
+    assertThat(cachingStorage.getBlockHash(block.getHeader().getNumber()))
+        .contains(block.getHash());
+
+    verify(storage, times(0)).getBlockHeader(block.getHash());
+    verify(storage, times(0)).getBlockHash(block.getHeader().getNumber());
+  }
+
+  @Test
+  public void doesNotCacheBlockHashOnRead() {
+    final Hash hash = gen.hash();
+    final BlockchainStorage.Updater updater = storage.updater();
+    updater.putBlockHash(1, hash);
+    updater.commit();
+
+    assertThat(cachingStorage.getBlockHash(1)).contains(hash);
+    assertThat(cachingStorage.getBlockHash(1)).contains(hash);
+
+    verify(storage, times(2)).getBlockHash(1);
+  }
+
+  @Test
+  public void removesCanonicalMappingsOnCommit() {
+    final Hash blockHash = gen.hash();
+    final Hash transactionHash = gen.hash();
+    final BlockchainStorage.Updater updater = cachingStorage.updater();
+    updater.putBlockHash(1, blockHash);
+    updater.putTransactionLocation(transactionHash, new TransactionLocation(blockHash, 0));
+    updater.commit();
+
+    final BlockchainStorage.Updater reorgUpdater = cachingStorage.updater();
+    reorgUpdater.removeBlockHash(1);
+    reorgUpdater.removeTransactionLocation(transactionHash);
+    reorgUpdater.commit();
+
+    assertThat(cachingStorage.getBlockHash(1)).isEmpty();
+    assertThat(cachingStorage.getTransactionLocation(transactionHash)).isEmpty();
+  }
+
+  @Test
+  public void doesNotUpdateCacheOnRollback() {
+    final BlockchainStorage storage = mock(BlockchainStorage.class);
+    final BlockchainStorage.Updater updater = mock(BlockchainStorage.Updater.class);
+    when(storage.updater()).thenReturn(updater);
+    final CachingBlockchainStorage cachingStorage =
+        new CachingBlockchainStorage(storage, new NoOpMetricsSystem());
+
+    final Hash hash = gen.hash();
+    final BlockchainStorage.Updater cachingUpdater = cachingStorage.updater();
+    cachingUpdater.putBlockHash(1, hash);
+    cachingUpdater.rollback();
+
+    assertThat(cachingStorage.getBlockHash(1)).isEmpty();
+    verify(updater).rollback();
+  }
+
+  @Test
+  public void evictsEntriesWhenSizeLimitIsExceeded() {
+    final CachingBlockchainStorage smallCache =
+        new CachingBlockchainStorage(storage, new NoOpMetricsSystem(), 1);
+    final Block block = gen.block();
+    final BlockchainStorage.Updater updater = smallCache.updater();
+    updater.putBlockHeader(block.getHash(), block.getHeader());
+    updater.commit();
+
+    assertThat(smallCache.getBlockHeader(block.getHash())).contains(block.getHeader());
+    verify(storage, times(1)).getBlockHeader(block.getHash());
+  }
+}
@@ -26,6 +26,7 @@ import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
@@ -36,10 +37,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class DefaultBlockchainTest {
@@ -175,6 +179,33 @@ public class DefaultBlockchainTest {
     assertThat(blockchain.getForks()).isEmpty();
   }
 
+  @Test
+  public void readsStoredRlpInWireFormat() {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+
+    final KeyValueStorage kvStore = new InMemoryKeyValueStorage();
+    final Block genesisBlock = gen.genesisBlock();
+    final DefaultBlockchain blockchain = createMutableBlockchain(kvStore, genesisBlock);
+
+    final BlockDataGenerator.BlockOptions options =
+        new BlockDataGenerator.BlockOptions()
+            .setBlockNumber(1L)
+            .addTransaction(gen.transactions(2))
+            .setParentHash(genesisBlock.getHash());
+    final Block newBlock = gen.block(options);
+    final List<TransactionReceipt> receipts =
+        Lists.newArrayList(gen.receipt(Bytes.of(1)), gen.receipt());
+    blockchain.appendBlock(newBlock, receipts);
+
+    assertThat(blockchain.getBlockHeaderRlp(1L))
+        .contains(RLP.encode(newBlock.getHeader()::writeTo));
+    assertThat(blockchain.getBlockBodyRlp(newBlock.getHash()))
+        .contains(RLP.encode(newBlock.getBody()::writeTo));
+    // Revert reasons are stored but not part of the wire format
+    assertThat(blockchain.getTxReceiptsRlp(newBlock.getHash()))
+        .contains(RLP.encode(out -> out.writeList(receipts, TransactionReceipt::writeTo)));
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void appendUnconnectedBlock() {
     final BlockDataGenerator gen = new BlockDataGenerator();
@@ -768,6 +799,37 @@ public class DefaultBlockchainTest {
     assertThat(blockchain.observerCount()).isEqualTo(0);
   }
 
+  @Test
+  public void blockAddedObserver_asyncObserverReceivesBlocksInOrder() throws Exception {
+    final BlockDataGenerator gen = new BlockDataGenerator();
+    final List<Block> chain = gen.blockSequence(4);
+
+    final KeyValueStorage kvStore = new InMemoryKeyValueStorage();
+    final DefaultBlockchain blockchain = createMutableBlockchain(kvStore, chain.get(0));
+
+    final List<Hash> observedBlocks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch allBlocksObserved = new CountDownLatch(chain.size() - 1);
+    final long observerId =
+        blockchain.observeBlockAddedAsync(
+            (event, __) -> {
+              observedBlocks.add(event.getBlock().getHash());
+              allBlocksObserved.countDown();
+            });
+    assertThat(blockchain.observerCount()).isEqualTo(1);
+
+    for (final Block block : chain.subList(1, chain.size())) {
+      blockchain.appendBlock(block, gen.receipts(block));
+    }
+
+    assertThat(allBlocksObserved.await(5, TimeUnit.SECONDS)).isTrue();
+    final List<Hash> appendedBlocks =
+        chain.subList(1, chain.size()).stream().map(Block::getHash).collect(Collectors.toList());
+    assertThat(observedBlocks).containsExactlyElementsOf(appendedBlocks);
+
+    assertThat(blockchain.removeObserver(observerId)).isTrue();
+    assertThat(blockchain.observerCount()).isEqualTo(0);
+  }
+
   @Test(expected = NullPointerException.class)
   public void blockAddedObserver_nullObserver() {
     final BlockDataGenerator gen = new BlockDataGenerator();
@@ -0,0 +1,122 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EthHashCacheFactoryTest {
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final List<Runnable> precomputeTasks = new ArrayList<>();
+  private Path directory;
+  private EthHashCacheFactory factory;
+
+  @Before
+  public void setUp() throws Exception {
+    directory = folder.newFolder().toPath();
+    factory = createFactory();
+  }
+
+  @Test
+  public void createdCacheIsPersisted() throws Exception {
+    final int[] cache = factory.ethHashCacheFor(0).getCache();
+
+    assertThat(readCacheFile(0)).isEqualTo(cache);
+  }
+
+  @Test
+  public void persistedCacheIsLoaded() {
+    final int[] cache = factory.ethHashCacheFor(0).getCache();
+
+    final EthHashCacheFactory.EthHashDescriptor descriptor = createFactory().ethHashCacheFor(1);
+
+    assertThat(descriptor.getCache()).isNotSameAs(cache).isEqualTo(cache);
+    assertThat(descriptor.getDatasetSize()).isEqualTo(EthHash.datasetSize(0));
+  }
+
+  @Test
+  public void corruptedCacheIsRebuilt() throws Exception {
+    writeCacheFile(0, 42);
+    final Path path = EthHashCacheFactory.cachePath(directory, 0);
+    final byte[] bytes = Files.readAllBytes(path);
+    bytes[Integer.BYTES] ^= 1;
+    Files.write(path, bytes);
+
+    final int[] cache = factory.ethHashCacheFor(0).getCache();
+
+    assertThat(cache[0]).isNotEqualTo(42);
+    assertThat(readCacheFile(0)).isEqualTo(cache);
+  }
+
+  @Test
+  public void nextEpochIsPrecomputedNearEpochBoundary() throws Exception {
+    writeCacheFile(0, 1);
+    writeCacheFile(1, 2);
+
+    factory.ethHashCacheFor(EthHash.EPOCH_LENGTH - EthHashCacheFactory.PRECOMPUTE_DISTANCE - 1);
+    assertThat(precomputeTasks).isEmpty();
+
+    factory.ethHashCacheFor(EthHash.EPOCH_LENGTH - EthHashCacheFactory.PRECOMPUTE_DISTANCE);
+    factory.ethHashCacheFor(EthHash.EPOCH_LENGTH - 1);
+    assertThat(precomputeTasks).hasSize(1);
+
+    precomputeTasks.get(0).run();
+    assertThat(factory.descriptorCache.getIfPresent(1L)).isNotNull();
+    assertThat(factory.ethHashCacheFor(EthHash.EPOCH_LENGTH).getCache()[0]).isEqualTo(2);
+  }
+
+  private EthHashCacheFactory createFactory() {
+    return new EthHashCacheFactory(Optional.of(directory), precomputeTasks::add);
+  }
+
+  private int[] readCacheFile(final long epoch) throws Exception {
+    final byte[] bytes = Files.readAllBytes(EthHashCacheFactory.cachePath(directory, epoch));
+    final int cacheSize = bytes.length - Long.BYTES;
+    final CRC32 checksum = new CRC32();
+    checksum.update(bytes, 0, cacheSize);
+    final ByteBuffer persisted = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    assertThat(persisted.getLong(cacheSize)).isEqualTo(checksum.getValue());
+
+    final int[] cache = new int[cacheSize / Integer.BYTES];
+    persisted.asIntBuffer().get(cache);
+    return cache;
+  }
+
+  private void writeCacheFile(final long epoch, final int firstValue) throws Exception {
+    final int cacheSize = (int) EthHash.cacheSize(epoch);
+    final ByteBuffer buffer =
+        ByteBuffer.allocate(cacheSize + Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(0, firstValue);
+    final CRC32 checksum = new CRC32();
+    checksum.update(buffer.array(), 0, cacheSize);
+    buffer.putLong(cacheSize, checksum.getValue());
+    Files.write(EthHashCacheFactory.cachePath(directory, epoch), buffer.array());
+  }
+}
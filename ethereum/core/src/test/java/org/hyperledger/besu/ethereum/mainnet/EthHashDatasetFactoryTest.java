@@ -0,0 +1,93 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EthHashDatasetFactoryTest {
+
+  private static final int GENERATION_THREADS = 4;
+  // A full sized dataset is over a gigabyte so use a small cache and dataset
+  private static final EthHashCacheFactory.EthHashDescriptor DESCRIPTOR =
+      new EthHashCacheFactory.EthHashDescriptor(128 * 100, EthHash.mkCache(64 * 64, 0));
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final EthHashCacheFactory cacheFactory = mock(EthHashCacheFactory.class);
+  private final Queue<Runnable> pendingGenerations = new ArrayDeque<>();
+
+  @Test
+  public void failedGenerationIsRetried() throws Exception {
+    when(cacheFactory.ethHashCacheFor(anyLong())).thenReturn(DESCRIPTOR);
+    // A file in place of the dataset directory makes generation fail
+    final Path directory = folder.newFile().toPath();
+    final EthHashDatasetFactory factory = createFactory(directory);
+
+    assertThat(factory.datasetFor(0)).isEmpty();
+    runPendingGenerations();
+    assertThat(factory.datasetFor(0)).isEmpty();
+
+    Files.delete(directory);
+    assertThat(factory.datasetFor(0)).isEmpty();
+    runPendingGenerations();
+
+    assertThat(factory.datasetFor(0)).isPresent();
+    verify(cacheFactory, times(2)).ethHashCacheFor(0);
+  }
+
+  @Test
+  public void nextEpochUsesAllThreadsOnceItIsNeeded() throws Exception {
+    when(cacheFactory.ethHashCacheFor(anyLong())).thenReturn(DESCRIPTOR);
+    final EthHashDatasetFactory factory = createFactory(folder.newFolder().toPath());
+
+    assertThat(factory.datasetFor(0)).isEmpty();
+    assertThat(factory.generationThreadsFor(0)).isEqualTo(GENERATION_THREADS);
+    runPendingGenerations();
+
+    assertThat(factory.datasetFor(0)).isPresent();
+    assertThat(factory.generationThreadsFor(1)).isEqualTo(1);
+
+    assertThat(factory.datasetFor(EthHash.EPOCH_LENGTH)).isEmpty();
+    assertThat(factory.generationThreadsFor(1)).isEqualTo(GENERATION_THREADS);
+
+    runPendingGenerations();
+    assertThat(factory.datasetFor(EthHash.EPOCH_LENGTH)).isPresent();
+  }
+
+  private EthHashDatasetFactory createFactory(final Path directory) {
+    return new EthHashDatasetFactory(
+        directory, cacheFactory, GENERATION_THREADS, pendingGenerations::add);
+  }
+
+  private void runPendingGenerations() {
+    while (!pendingGenerations.isEmpty()) {
+      pendingGenerations.remove().run();
+    }
+  }
+}
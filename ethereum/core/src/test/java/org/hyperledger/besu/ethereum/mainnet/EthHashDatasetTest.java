@@ -0,0 +1,106 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class EthHashDatasetTest {
+
+  private static final long EPOCH = 0;
+  // A full sized dataset is over a gigabyte so use a small cache and dataset with small segments
+  private static final int[] CACHE = EthHash.mkCache(64 * 64, 0);
+  private static final long DATASET_SIZE = 128 * 100;
+  private static final long SEGMENT_SIZE = EthHash.HASH_BYTES * 30;
+  private static final EthHashCacheFactory.EthHashDescriptor DESCRIPTOR =
+      new EthHashCacheFactory.EthHashDescriptor(DATASET_SIZE, CACHE);
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void generatedItemsMatchLightCacheItems() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(directory, EPOCH, DESCRIPTOR, 4, SEGMENT_SIZE);
+
+    assertThat(dataset.getEpoch()).isEqualTo(EPOCH);
+    assertThat(dataset.getDatasetSize()).isEqualTo(DATASET_SIZE);
+    assertAllItemsMatch(dataset);
+  }
+
+  @Test
+  public void hashimotoResultMatchesLightHashimoto() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(directory, EPOCH, DESCRIPTOR, 2, SEGMENT_SIZE);
+    final byte[] headerHash = new byte[32];
+    headerHash[0] = 1;
+
+    for (long nonce = 0; nonce < 10; nonce++) {
+      assertThat(EthHash.hashimoto(headerHash, DATASET_SIZE, nonce, dataset::lookup))
+          .isEqualTo(EthHash.hashimotoLight(DATASET_SIZE, CACHE, headerHash, nonce));
+    }
+  }
+
+  @Test
+  public void existingDatasetIsReused() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    EthHashDataset.loadOrGenerate(directory, EPOCH, DESCRIPTOR, 1, SEGMENT_SIZE);
+    final Path path = EthHashDataset.datasetPath(directory, EPOCH);
+    final long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(directory, EPOCH, DESCRIPTOR, 1, SEGMENT_SIZE);
+
+    assertThat(Files.getLastModifiedTime(path).toMillis()).isEqualTo(lastModified);
+    assertAllItemsMatch(dataset);
+  }
+
+  @Test
+  public void invalidDatasetIsRegenerated() throws Exception {
+    final Path directory = folder.newFolder().toPath();
+    final Path path = EthHashDataset.datasetPath(directory, EPOCH);
+    Files.write(path, new byte[(int) DATASET_SIZE]);
+
+    final EthHashDataset dataset =
+        EthHashDataset.loadOrGenerate(directory, EPOCH, DESCRIPTOR, 1, SEGMENT_SIZE);
+
+    assertAllItemsMatch(dataset);
+  }
+
+  @Test
+  public void epochIsParsedFromDatasetFilenames() {
+    final Path directory = folder.getRoot().toPath();
+    assertThat(EthHashDataset.epochOf(EthHashDataset.datasetPath(directory, 42))).isEqualTo(42);
+    assertThat(EthHashDataset.epochOf(directory.resolve("full-7.tmp"))).isEqualTo(7);
+    assertThat(EthHashDataset.epochOf(directory.resolve("other"))).isEqualTo(-1);
+  }
+
+  private void assertAllItemsMatch(final EthHashDataset dataset) {
+    final byte[] expected = new byte[EthHash.HASH_BYTES];
+    final byte[] actual = new byte[EthHash.HASH_BYTES];
+    for (int index = 0; index < DATASET_SIZE / EthHash.HASH_BYTES; index++) {
+      EthHash.calcDatasetItem(expected, CACHE, index);
+      dataset.lookup(actual, index);
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+}
@@ -36,11 +36,13 @@ import org.junit.Test;
 
 public class EthHashSolverTest {
 
+  private static final EthHasher ETH_HASHER = new EthHasher.Light(new EthHashCacheFactory());
+
   @Test
   public void emptyHashRateAndWorkDefinitionIsReportedPriorToSolverStarting() {
     final List<Long> noncesToTry = Arrays.asList(1L, 1L, 1L, 1L, 1L, 1L, 0L);
     final EthHashSolver solver =
-        new EthHashSolver(noncesToTry, new EthHasher.Light(), false, Subscribers.none());
+        new EthHashSolver(noncesToTry, ETH_HASHER, false, Subscribers.none());
 
     assertThat(solver.hashesPerSecond()).isEqualTo(Optional.empty());
     assertThat(solver.getWorkDefinition()).isEqualTo(Optional.empty());
@@ -78,6 +80,32 @@ public class EthHashSolverTest {
     assertThat(solver.getWorkDefinition().equals(Optional.of(inputs))).isTrue();
   }
 
+  @Test
+  public void solutionIsFoundWithMultipleThreads() throws InterruptedException, ExecutionException {
+    final List<Long> noncesToTry = Arrays.asList(1L, 1L, 1L, 1L, 1L, 1L, 0L);
+
+    final EthHasher hasher = mock(EthHasher.class);
+    doAnswer(
+            invocation -> {
+              final Object[] args = invocation.getArguments();
+              final byte[] headerHash = ((byte[]) args[0]);
+              final long nonce = ((long) args[1]);
+              headerHash[32] = (byte) (nonce & 0xFF);
+              return null;
+            })
+        .when(hasher)
+        .hash(any(), anyLong(), anyLong(), any());
+
+    final EthHashSolver solver =
+        new EthHashSolver(noncesToTry, hasher, false, Subscribers.none(), 4);
+
+    final EthHashSolverInputs inputs = new EthHashSolverInputs(UInt256.ONE, new byte[0], 5);
+    final EthHashSolution solution =
+        solver.solveFor(EthHashSolver.EthHashSolverJob.createFromInputs(inputs));
+
+    assertThat(solution.getNonce()).isEqualTo(0L);
+  }
+
   @Test
   public void ifInvokedTwiceProducesCorrectAnswerForSecondInvocation()
       throws InterruptedException, ExecutionException {
@@ -120,7 +148,7 @@ public class EthHashSolverTest {
     final EthHashSolver solver =
         new EthHashSolver(
             Lists.newArrayList(expectedFirstOutput.getNonce(), 0L, expectedSecondOutput.getNonce()),
-            new EthHasher.Light(),
+            ETH_HASHER,
             false,
             Subscribers.none());
 
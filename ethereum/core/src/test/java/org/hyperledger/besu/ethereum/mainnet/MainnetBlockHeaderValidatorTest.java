@@ -24,13 +24,15 @@ import org.junit.Test;
 /** Tests for {@link MainnetBlockHeaderValidator}. */
 public final class MainnetBlockHeaderValidatorTest {
 
+  private static final EthHasher HASHER = new EthHasher.Light(new EthHashCacheFactory());
+
   @SuppressWarnings("unchecked")
   private final ProtocolContext<Void> protocolContext = mock(ProtocolContext.class);
 
   @Test
   public void validHeaderFrontier() throws Exception {
     final BlockHeaderValidator<Void> headerValidator =
-        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.FRONTIER);
+        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.FRONTIER, HASHER);
     assertThat(
             headerValidator.validateHeader(
                 ValidationTestUtils.readHeader(300006),
@@ -43,7 +45,7 @@ public final class MainnetBlockHeaderValidatorTest {
   @Test
   public void validHeaderHomestead() throws Exception {
     final BlockHeaderValidator<Void> headerValidator =
-        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.HOMESTEAD);
+        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.HOMESTEAD, HASHER);
     assertThat(
             headerValidator.validateHeader(
                 ValidationTestUtils.readHeader(1200001),
@@ -56,7 +58,7 @@ public final class MainnetBlockHeaderValidatorTest {
   @Test
   public void invalidParentHash() throws Exception {
     final BlockHeaderValidator<Void> headerValidator =
-        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.HOMESTEAD);
+        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.HOMESTEAD, HASHER);
     assertThat(
             headerValidator.validateHeader(
                 ValidationTestUtils.readHeader(1200001),
@@ -69,7 +71,7 @@ public final class MainnetBlockHeaderValidatorTest {
   @Test
   public void validHeaderByzantium() throws Exception {
     final BlockHeaderValidator<Void> headerValidator =
-        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.BYZANTIUM);
+        MainnetBlockHeaderValidator.create(MainnetDifficultyCalculators.BYZANTIUM, HASHER);
     assertThat(
             headerValidator.validateHeader(
                 ValidationTestUtils.readHeader(4400001),
@@ -21,6 +21,8 @@ import org.hyperledger.besu.ethereum.core.BlockHeaderBuilder;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.mainnet.EthHashCacheFactory;
+import org.hyperledger.besu.ethereum.mainnet.EthHasher;
 import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
@@ -42,6 +44,9 @@ import org.junit.runners.Parameterized.Parameters;
 @RunWith(Parameterized.class)
 public class ProofOfWorkValidationRuleTest {
 
+  // Shared between the parameterized runs so each epoch's cache is only built once
+  private static final EthHasher HASHER = new EthHasher.Light(new EthHashCacheFactory());
+
   private final BlockHeader blockHeader;
   private final BlockHeader parentHeader;
   private final ProofOfWorkValidationRule validationRule;
@@ -50,7 +55,7 @@ public class ProofOfWorkValidationRuleTest {
       throws IOException {
     blockHeader = ValidationTestUtils.readHeader(parentBlockNum);
     parentHeader = ValidationTestUtils.readHeader(blockNum);
-    validationRule = new ProofOfWorkValidationRule();
+    validationRule = new ProofOfWorkValidationRule(HASHER);
   }
 
   @Parameters(name = "block {1}")
@@ -90,8 +95,7 @@ public class ProofOfWorkValidationRuleTest {
     final BlockHeader preHeader = headerBuilder.buildBlockHeader();
     final byte[] hashBuffer = new byte[64];
     final Hash headerHash = validationRule.hashHeader(preHeader);
-    ProofOfWorkValidationRule.HASHER.hash(
-        hashBuffer, preHeader.getNonce(), preHeader.getNumber(), headerHash.getByteArray());
+    HASHER.hash(hashBuffer, preHeader.getNonce(), preHeader.getNumber(), headerHash.getByteArray());
 
     final BlockHeader header =
         headerBuilder
@@ -0,0 +1,121 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.mainnet.precompiles.privacy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.enclave.Enclave;
+import org.hyperledger.besu.enclave.EnclaveClientException;
+import org.hyperledger.besu.enclave.EnclaveIOException;
+import org.hyperledger.besu.enclave.types.ReceiveResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class EnclavePayloadPrefetcherTest {
+
+  private final Enclave enclave = mock(Enclave.class);
+
+  @Test
+  public void shouldFetchPayloadsConcurrently() {
+    final List<String> keys = List.of("key1", "key2", "key3");
+    final CountDownLatch allRequested = new CountDownLatch(keys.size());
+    when(enclave.receive(any()))
+        .thenAnswer(
+            invocation -> {
+              allRequested.countDown();
+              // Only returns if every payload is being fetched at the same time
+              assertThat(allRequested.await(10, TimeUnit.SECONDS)).isTrue();
+              return response(invocation.getArgument(0));
+            });
+    final EnclavePayloadPrefetcher prefetcher =
+        new EnclavePayloadPrefetcher(enclave, Executors.newFixedThreadPool(keys.size()));
+
+    prefetcher.prefetch(keys);
+
+    for (final String key : keys) {
+      assertThat(prefetcher.receive(key).getPayload()).isEqualTo(payload(key));
+    }
+    verify(enclave, times(keys.size())).receive(any());
+  }
+
+  @Test
+  public void shouldFetchPayloadDirectlyWhenNotPrefetched() {
+    when(enclave.receive("key")).thenReturn(response("key"));
+    final EnclavePayloadPrefetcher prefetcher =
+        new EnclavePayloadPrefetcher(enclave, Runnable::run);
+
+    assertThat(prefetcher.receive("key").getPayload()).isEqualTo(payload("key"));
+  }
+
+  @Test
+  public void shouldOnlyUsePrefetchedPayloadOnce() {
+    when(enclave.receive("key")).thenReturn(response("key"));
+    final EnclavePayloadPrefetcher prefetcher =
+        new EnclavePayloadPrefetcher(enclave, Runnable::run);
+
+    prefetcher.prefetch(List.of("key"));
+    prefetcher.receive("key");
+    verify(enclave, times(1)).receive("key");
+
+    prefetcher.receive("key");
+    verify(enclave, times(2)).receive("key");
+  }
+
+  @Test
+  public void shouldThrowWhenEnclaveDoesNotHavePayload() {
+    when(enclave.receive("key")).thenThrow(new EnclaveClientException(404, "Not found"));
+    final EnclavePayloadPrefetcher prefetcher =
+        new EnclavePayloadPrefetcher(enclave, Runnable::run);
+
+    prefetcher.prefetch(List.of("key"));
+
+    assertThatThrownBy(() -> prefetcher.receive("key"))
+        .isInstanceOf(EnclaveClientException.class);
+    verify(enclave, times(1)).receive("key");
+  }
+
+  @Test
+  public void shouldFetchAgainWhenPrefetchFailed() {
+    when(enclave.receive("key"))
+        .thenThrow(new EnclaveIOException("Enclave unavailable"))
+        .thenReturn(response("key"));
+    final EnclavePayloadPrefetcher prefetcher =
+        new EnclavePayloadPrefetcher(enclave, Runnable::run);
+
+    prefetcher.prefetch(List.of("key"));
+
+    assertThat(prefetcher.receive("key").getPayload()).isEqualTo(payload("key"));
+  }
+
+  private static ReceiveResponse response(final String key) {
+    return new ReceiveResponse(payload(key), "");
+  }
+
+  private static byte[] payload(final String key) {
+    return ("payload for " + key).getBytes(StandardCharsets.UTF_8);
+  }
+}
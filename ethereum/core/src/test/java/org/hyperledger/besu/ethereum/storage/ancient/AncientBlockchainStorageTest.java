@@ -0,0 +1,152 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.ethereum.chain.BlockchainStorage;
+import org.hyperledger.besu.ethereum.chain.DefaultBlockchain;
+import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueStoragePrefixedKeyBlockchainStorage;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AncientBlockchainStorageTest {
+
+  private static final long ANCIENT_BLOCK_DEPTH = 5;
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final BlockHeaderFunctions blockHeaderFunctions = new MainnetBlockHeaderFunctions();
+  private final BlockchainStorage keyValueStorage =
+      new KeyValueStoragePrefixedKeyBlockchainStorage(
+          new InMemoryKeyValueStorage(), blockHeaderFunctions);
+  private final Map<Hash, List<TransactionReceipt>> receipts = new HashMap<>();
+
+  @Test
+  public void movesBlocksBeyondDepthToAncientStore() {
+    final AncientSegmentStore ancientStore =
+        new AncientSegmentStore(folder.getRoot().toPath(), "blocks", 4);
+    final AncientBlockchainStorage storage =
+        new AncientBlockchainStorage(
+            keyValueStorage,
+            ancientStore,
+            blockHeaderFunctions,
+            ANCIENT_BLOCK_DEPTH,
+            Runnable::run);
+
+    final List<Block> blocks = appendBlocks(storage);
+
+    // Blocks 0 to 14 are at least 5 blocks behind the chain head at 19
+    assertThat(ancientStore.size()).isEqualTo(15);
+    for (final Block block : blocks) {
+      final boolean isAncient = block.getHeader().getNumber() < 15;
+      assertThat(keyValueStorage.getBlockBody(block.getHash()).isPresent())
+          .isEqualTo(!isAncient);
+      assertThat(keyValueStorage.getTransactionReceipts(block.getHash()).isPresent())
+          .isEqualTo(!isAncient);
+      assertThat(storage.getBlockBody(block.getHash())).contains(block.getBody());
+      assertThat(storage.getTransactionReceipts(block.getHash()))
+          .contains(receipts.get(block.getHash()));
+    }
+    ancientStore.close();
+  }
+
+  @Test
+  public void movesBlocksOnMoveExecutor() {
+    final AncientSegmentStore ancientStore =
+        new AncientSegmentStore(folder.getRoot().toPath(), "blocks", 4);
+    final List<Runnable> pendingMoves = new ArrayList<>();
+    final AncientBlockchainStorage storage =
+        new AncientBlockchainStorage(
+            keyValueStorage,
+            ancientStore,
+            blockHeaderFunctions,
+            ANCIENT_BLOCK_DEPTH,
+            pendingMoves::add);
+
+    appendBlocks(storage);
+
+    // Only one move is scheduled at a time and nothing is moved until it runs
+    assertThat(pendingMoves).hasSize(1);
+    assertThat(ancientStore.size()).isZero();
+
+    pendingMoves.get(0).run();
+
+    assertThat(ancientStore.size()).isEqualTo(15);
+    ancientStore.close();
+  }
+
+  @Test
+  public void readsMovedBlocksWhenNoLongerMovingBlocks() {
+    final AncientSegmentStore ancientStore =
+        new AncientSegmentStore(folder.getRoot().toPath(), "blocks", 4);
+    final List<Block> blocks =
+        appendBlocks(
+            new AncientBlockchainStorage(
+                keyValueStorage,
+                ancientStore,
+                blockHeaderFunctions,
+                ANCIENT_BLOCK_DEPTH,
+                Runnable::run));
+
+    final AncientBlockchainStorage storage =
+        new AncientBlockchainStorage(
+            keyValueStorage, ancientStore, blockHeaderFunctions, 0, Runnable::run);
+    final MutableBlockchain blockchain =
+        DefaultBlockchain.createMutable(blocks.get(0), storage, new NoOpMetricsSystem());
+    final Block nextBlock =
+        gen.block(
+            new BlockDataGenerator.BlockOptions()
+                .setBlockNumber(blocks.size())
+                .setParentHash(blocks.get(blocks.size() - 1).getHash()));
+    blockchain.appendBlock(nextBlock, gen.receipts(nextBlock));
+
+    assertThat(ancientStore.size()).isEqualTo(15);
+    for (final Block block : blocks) {
+      assertThat(storage.getBlockBody(block.getHash())).contains(block.getBody());
+    }
+    ancientStore.close();
+  }
+
+  private List<Block> appendBlocks(final BlockchainStorage storage) {
+    final List<Block> blocks = gen.blockSequence(20);
+    receipts.put(blocks.get(0).getHash(), Collections.emptyList());
+    final MutableBlockchain blockchain =
+        DefaultBlockchain.createMutable(blocks.get(0), storage, new NoOpMetricsSystem());
+    for (final Block block : blocks.subList(1, blocks.size())) {
+      receipts.put(block.getHash(), gen.receipts(block));
+      blockchain.appendBlock(block, receipts.get(block.getHash()));
+    }
+    return blocks;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.storage.ancient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AncientSegmentStoreTest {
+
+  private static final int BLOCKS_PER_SEGMENT = 4;
+
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final List<Hash> hashes = new ArrayList<>();
+  private final List<Bytes> items = new ArrayList<>();
+
+  @Test
+  public void readsAppendedItemsAcrossSegments() {
+    final AncientSegmentStore store = createStore(folder.getRoot().toPath());
+    appendItems(store, 10);
+
+    assertThat(store.size()).isEqualTo(10);
+    for (int i = 0; i < 10; i++) {
+      assertThat(store.get(i, hashes.get(i))).contains(items.get(i));
+    }
+    assertThat(store.get(10, gen.hash())).isEmpty();
+    store.close();
+  }
+
+  @Test
+  public void returnsEmptyWhenHashDoesNotMatch() {
+    final AncientSegmentStore store = createStore(folder.getRoot().toPath());
+    appendItems(store, 2);
+
+    assertThat(store.get(1, hashes.get(0))).isEmpty();
+    store.close();
+  }
+
+  @Test
+  public void rejectsOutOfOrderAppends() {
+    final AncientSegmentStore store = createStore(folder.getRoot().toPath());
+
+    assertThatThrownBy(() -> store.append(1, gen.hash(), gen.bytesValue()))
+        .isInstanceOf(IllegalArgumentException.class);
+    store.close();
+  }
+
+  @Test
+  public void reopensExistingStore() {
+    final Path directory = folder.getRoot().toPath();
+    final AncientSegmentStore store = createStore(directory);
+    appendItems(store, 9);
+    store.sync();
+    store.close();
+
+    final AncientSegmentStore reopened = createStore(directory);
+    assertThat(reopened.size()).isEqualTo(9);
+    for (int i = 0; i < 9; i++) {
+      assertThat(reopened.get(i, hashes.get(i))).contains(items.get(i));
+    }
+    appendItems(reopened, 3);
+    assertThat(reopened.get(11, hashes.get(11))).contains(items.get(11));
+    reopened.close();
+  }
+
+  @Test
+  public void discardsPartiallyWrittenItemsWhenReopened() throws IOException {
+    final Path directory = folder.getRoot().toPath();
+    final AncientSegmentStore store = createStore(directory);
+    appendItems(store, 6);
+    store.close();
+
+    // Simulate a crash part way through writing the last item's data
+    try (final RandomAccessFile data =
+        new RandomAccessFile(directory.resolve("test.000001.dat").toFile(), "rw")) {
+      data.setLength(data.length() - 1);
+    }
+
+    final AncientSegmentStore reopened = createStore(directory);
+    assertThat(reopened.size()).isEqualTo(5);
+    assertThat(reopened.get(4, hashes.get(4))).contains(items.get(4));
+    assertThat(reopened.get(5, hashes.get(5))).isEmpty();
+    reopened.close();
+  }
+
+  private AncientSegmentStore createStore(final Path directory) {
+    return new AncientSegmentStore(directory, "test", BLOCKS_PER_SEGMENT);
+  }
+
+  private void appendItems(final AncientSegmentStore store, final int count) {
+    for (int i = 0; i < count; i++) {
+      final Hash hash = gen.hash();
+      final Bytes item = gen.bytesValue(1, 64);
+      store.append(store.size(), hash, item);
+      hashes.add(hash);
+      items.add(item);
+    }
+  }
+}
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,16 +29,19 @@ import org.hyperledger.besu.ethereum.core.Account;
 import org.hyperledger.besu.ethereum.core.Address;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
-import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.mainnet.MainnetTransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSpec;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor.Result;
 import org.hyperledger.besu.ethereum.mainnet.TransactionProcessor.Result.Status;
+import org.hyperledger.besu.ethereum.mainnet.ValidationResult;
+import org.hyperledger.besu.ethereum.worldstate.ReadOnlyWorldState;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
+import java.util.ArrayList;
 import java.util.Optional;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -64,7 +68,7 @@ public class TransactionSimulatorTest {
 
   @Mock private Blockchain blockchain;
   @Mock private WorldStateArchive worldStateArchive;
-  @Mock private MutableWorldState worldState;
+  @Mock private ReadOnlyWorldState worldState;
   @Mock private ProtocolSchedule<?> protocolSchedule;
   @Mock private ProtocolSpec protocolSpec;
   @Mock private TransactionProcessor transactionProcessor;
@@ -303,16 +307,52 @@ public class TransactionSimulatorTest {
     verifyTransactionWasProcessed(expectedTransaction);
   }
 
+  @Test
+  public void shouldEstimateGasUsedWhenItIsEnoughToSucceed() {
+    mockBlockchainForBlockHeader(Hash.ZERO, 1L);
+    mockWorldStateForAbsentAccount(Hash.ZERO);
+    mockProcessorForGasUsage(21_000L, 21_000L);
+
+    assertThat(transactionSimulator.estimateGas(callParameter(100_000L), 1L)).contains(21_000L);
+    verifyTransactionsProcessed(2);
+  }
+
+  @Test
+  public void shouldSearchForLowestSucceedingGasLimitWhenGasUsedIsNotEnough() {
+    mockBlockchainForBlockHeader(Hash.ZERO, 1L);
+    mockWorldStateForAbsentAccount(Hash.ZERO);
+    mockProcessorForGasUsage(21_000L, 32_123L);
+
+    assertThat(transactionSimulator.estimateGas(callParameter(100_000L), 1L)).contains(32_123L);
+  }
+
+  @Test
+  public void shouldEstimateGasLimitWhenFailingAtGasLimit() {
+    mockBlockchainForBlockHeader(Hash.ZERO, 1L);
+    mockWorldStateForAbsentAccount(Hash.ZERO);
+    mockProcessorForGasUsage(21_000L, 200_000L);
+
+    assertThat(transactionSimulator.estimateGas(callParameter(100_000L), 1L)).contains(100_000L);
+    verifyTransactionsProcessed(1);
+  }
+
+  @Test
+  public void shouldReturnEmptyEstimateWhenBlockDoesNotExist() {
+    when(blockchain.getBlockHeader(eq(1L))).thenReturn(Optional.empty());
+
+    assertThat(transactionSimulator.estimateGas(callParameter(), 1L)).isEmpty();
+  }
+
   private void mockWorldStateForAccount(
       final Hash stateRoot, final Address address, final long nonce) {
     final Account account = mock(Account.class);
     when(account.getNonce()).thenReturn(nonce);
-    when(worldStateArchive.getMutable(eq(stateRoot))).thenReturn(Optional.of(worldState));
+    when(worldStateArchive.getReadOnly(eq(stateRoot))).thenReturn(Optional.of(worldState));
     when(worldState.get(eq(address))).thenReturn(account);
   }
 
   private void mockWorldStateForAbsentAccount(final Hash stateRoot) {
-    when(worldStateArchive.getMutable(eq(stateRoot))).thenReturn(Optional.of(worldState));
+    when(worldStateArchive.getReadOnly(eq(stateRoot))).thenReturn(Optional.of(worldState));
     when(worldState.get(any())).thenReturn(null);
   }
 
@@ -357,11 +397,39 @@ public class TransactionSimulatorTest {
             any(), any(), any(), eq(expectedTransaction), any(), any(), anyBoolean(), any());
   }
 
+  private void mockProcessorForGasUsage(final long gasUsed, final long gasRequired) {
+    when(protocolSchedule.getByBlockNumber(eq(1L))).thenReturn(protocolSpec);
+    when(protocolSpec.getTransactionProcessor()).thenReturn(transactionProcessor);
+    when(protocolSpec.getMiningBeneficiaryCalculator()).thenReturn(BlockHeader::getCoinbase);
+    when(transactionProcessor.processTransaction(
+            any(), any(), any(), any(), any(), any(), anyBoolean(), any()))
+        .thenAnswer(
+            invocation -> {
+              final Transaction transaction = invocation.getArgument(3);
+              final long gasLimit = transaction.getGasLimit();
+              if (gasLimit < gasRequired) {
+                return MainnetTransactionProcessor.Result.failed(
+                    0, ValidationResult.valid(), Optional.empty());
+              }
+              return MainnetTransactionProcessor.Result.successful(
+                  new ArrayList<>(), gasLimit - gasUsed, Bytes.EMPTY, ValidationResult.valid());
+            });
+  }
+
+  private void verifyTransactionsProcessed(final int times) {
+    verify(transactionProcessor, times(times))
+        .processTransaction(any(), any(), any(), any(), any(), any(), anyBoolean(), any());
+  }
+
   private CallParameter callParameter() {
+    return callParameter(0);
+  }
+
+  private CallParameter callParameter(final long gasLimit) {
     return new CallParameter(
         Address.fromHexString("0x0"),
         Address.fromHexString("0x0"),
-        0,
+        gasLimit,
         Wei.of(0),
         Wei.of(0),
         Bytes.EMPTY);
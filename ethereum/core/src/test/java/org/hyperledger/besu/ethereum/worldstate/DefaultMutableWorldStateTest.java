@@ -398,6 +398,40 @@ public class DefaultMutableWorldStateTest {
                 "0xa3e1c133a5a51b03399ed9ad0380f3182e9e18322f232b816dd4b9094f871e1b"));
   }
 
+  @Test
+  public void storageUpdatedAcrossCommitsMatchesSingleCommit() {
+    final Address otherAddress =
+        Address.fromHexString("0x1000000000000000000000000000000000000001");
+    final MutableWorldState expectedWorldState = createEmpty();
+    final WorldUpdater expectedUpdater = expectedWorldState.updater();
+    final MutableAccount account = expectedUpdater.createAccount(ADDRESS).getMutable();
+    account.setBalance(Wei.of(200000));
+    account.setStorageValue(UInt256.ONE, UInt256.ONE);
+    expectedUpdater
+        .createAccount(otherAddress)
+        .getMutable()
+        .setStorageValue(UInt256.ONE, UInt256.valueOf(2));
+    expectedUpdater.commit();
+
+    final MutableWorldState worldState = createEmpty();
+    WorldUpdater updater = worldState.updater();
+    updater.createAccount(ADDRESS).getMutable().setStorageValue(UInt256.ONE, UInt256.ONE);
+    updater.createAccount(otherAddress).getMutable().setStorageValue(UInt256.ONE, UInt256.ONE);
+    updater.commit();
+    updater = worldState.updater();
+    updater.getAccount(ADDRESS).getMutable().setBalance(Wei.of(200000));
+    updater.getAccount(otherAddress).getMutable().setStorageValue(UInt256.ONE, UInt256.valueOf(2));
+    updater.commit();
+
+    assertThat(worldState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.ONE);
+    assertThat(worldState.rootHash()).isEqualTo(expectedWorldState.rootHash());
+
+    worldState.persist();
+    assertThat(worldState.rootHash()).isEqualTo(expectedWorldState.rootHash());
+    assertThat(worldState.get(otherAddress).getStorageValue(UInt256.ONE))
+        .isEqualTo(UInt256.valueOf(2));
+  }
+
   @Test
   public void getOriginalStorageValue() {
     final MutableWorldState worldState = createEmpty();
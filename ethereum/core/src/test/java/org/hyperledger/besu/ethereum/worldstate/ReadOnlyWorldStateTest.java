@@ -0,0 +1,141 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Hash;
+import org.hyperledger.besu.ethereum.core.MutableAccount;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStatePreimageKeyValueStorage;
+import org.hyperledger.besu.ethereum.trie.MerkleTrieException;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReadOnlyWorldStateTest {
+
+  private static final Address ADDRESS =
+      Address.fromHexString("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b");
+
+  private final WorldStateStorage worldStateStorage =
+      spy(new WorldStateKeyValueStorage(new InMemoryKeyValueStorage()));
+  private final WorldStatePreimageStorage preimageStorage =
+      new WorldStatePreimageKeyValueStorage(new InMemoryKeyValueStorage());
+  private final WorldStateArchive archive =
+      new WorldStateArchive(worldStateStorage, preimageStorage);
+  private Hash rootHash;
+
+  @Before
+  public void setUp() {
+    final MutableWorldState worldState = archive.getMutable();
+    final WorldUpdater updater = worldState.updater();
+    final MutableAccount account = updater.createAccount(ADDRESS).getMutable();
+    account.setBalance(Wei.of(100));
+    account.setStorageValue(UInt256.ONE, UInt256.valueOf(2));
+    updater.commit();
+    worldState.persist();
+    rootHash = worldState.rootHash();
+  }
+
+  @Test
+  public void shouldReadAccountsFromWorldState() {
+    final ReadOnlyWorldState worldState = archive.getReadOnly(rootHash).get();
+
+    assertThat(worldState.rootHash()).isEqualTo(rootHash);
+    assertThat(worldState.get(ADDRESS).getBalance()).isEqualTo(Wei.of(100));
+    assertThat(worldState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.valueOf(2));
+    assertThat(worldState.get(Address.ZERO)).isNull();
+  }
+
+  @Test
+  public void shouldShareViewOfSameWorldState() {
+    assertThat(archive.getReadOnly(rootHash).get()).isSameAs(archive.getReadOnly(rootHash).get());
+  }
+
+  @Test
+  public void shouldReturnEmptyWhenWorldStateIsNotAvailable() {
+    assertThat(archive.getReadOnly(Hash.ZERO)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotApplyUpdatesToWorldState() {
+    final ReadOnlyWorldState worldState = archive.getReadOnly(rootHash).get();
+    final WorldUpdater updater = worldState.updater();
+
+    final WorldUpdater child = updater.updater();
+    child.getAccount(ADDRESS).getMutable().setBalance(Wei.of(5));
+    child.createAccount(Address.ZERO);
+    child.commit();
+
+    assertThat(updater.get(ADDRESS).getBalance()).isEqualTo(Wei.of(5));
+    assertThat(updater.get(Address.ZERO)).isNotNull();
+    assertThat(worldState.get(ADDRESS).getBalance()).isEqualTo(Wei.of(100));
+    assertThat(worldState.get(Address.ZERO)).isNull();
+    assertThat(archive.getReadOnly(rootHash).get().updater().get(ADDRESS).getBalance())
+        .isEqualTo(Wei.of(100));
+    assertThatThrownBy(updater::commit).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void shouldOnlyReadEachNodeFromStorageOnce() {
+    final ReadOnlyWorldState worldState = archive.getReadOnly(rootHash).get();
+    clearInvocations(worldStateStorage);
+
+    assertThat(worldState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.valueOf(2));
+    assertThat(worldState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.valueOf(2));
+
+    verify(worldStateStorage, times(1)).getAccountStateTrieNode(rootHash);
+  }
+
+  @Test
+  public void shouldShareCachedNodesBetweenViewsOfDifferentStates() {
+    final MutableWorldState nextWorldState = archive.getMutable(rootHash).get();
+    final WorldUpdater updater = nextWorldState.updater();
+    updater.createAccount(Address.ZERO);
+    updater.commit();
+    nextWorldState.persist();
+    final ReadOnlyWorldState worldState = archive.getReadOnly(rootHash).get();
+    final ReadOnlyWorldState nextState = archive.getReadOnly(nextWorldState.rootHash()).get();
+    clearInvocations(worldStateStorage);
+
+    assertThat(worldState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.valueOf(2));
+    assertThat(nextState.get(ADDRESS).getStorageValue(UInt256.ONE)).isEqualTo(UInt256.valueOf(2));
+
+    verify(worldStateStorage, times(1)).getAccountStorageTrieNode(any());
+  }
+
+  @Test
+  public void shouldPropagateMissingNodeErrors() {
+    final Hash missingRootHash = Hash.hash(UInt256.ONE.toBytes());
+    final ReadOnlyWorldState worldState =
+        new ReadOnlyWorldState(
+            missingRootHash, new CachingWorldStateStorage(worldStateStorage), preimageStorage);
+
+    assertThatThrownBy(() -> worldState.get(ADDRESS)).isInstanceOf(MerkleTrieException.class);
+  }
+}
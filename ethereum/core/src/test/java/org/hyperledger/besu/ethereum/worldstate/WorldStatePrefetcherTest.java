@@ -0,0 +1,99 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.worldstate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import org.hyperledger.besu.ethereum.core.Account;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
+import org.hyperledger.besu.ethereum.core.MutableAccount;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStateKeyValueStorage;
+import org.hyperledger.besu.ethereum.storage.keyvalue.WorldStatePreimageKeyValueStorage;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.Test;
+
+public class WorldStatePrefetcherTest {
+
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final WorldStateStorage worldStateStorage =
+      spy(new WorldStateKeyValueStorage(new InMemoryKeyValueStorage()));
+  private final MutableWorldState worldState =
+      new DefaultMutableWorldState(
+          worldStateStorage, new WorldStatePreimageKeyValueStorage(new InMemoryKeyValueStorage()));
+
+  @Test
+  public void loadsCodeAndStorageOfTransactionRecipients() {
+    final Transaction transaction = gen.transaction();
+    final Account recipient = createContract(transaction);
+    final Block block = gen.block(new BlockOptions().addTransaction(transaction));
+    reset(worldStateStorage);
+
+    final WorldStatePrefetcher prefetcher =
+        new WorldStatePrefetcher(worldStateStorage, Runnable::run);
+    final CompletableFuture<Void> result = prefetcher.prefetch(worldState.rootHash(), block);
+
+    assertThat(result).isDone();
+    verify(worldStateStorage, atLeastOnce()).getAccountStateTrieNode(worldState.rootHash());
+    verify(worldStateStorage).getCode(recipient.getCodeHash());
+    verify(worldStateStorage).getAccountStorageTrieNode(any());
+  }
+
+  @Test
+  public void skipsReadsThatHaveNotStartedWhenCancelled() {
+    final Transaction transaction = gen.transaction();
+    createContract(transaction);
+    final Block block = gen.block(new BlockOptions().addTransaction(transaction));
+    reset(worldStateStorage);
+
+    final List<Runnable> queuedReads = new ArrayList<>();
+    final WorldStatePrefetcher prefetcher =
+        new WorldStatePrefetcher(worldStateStorage, queuedReads::add);
+    final CompletableFuture<Void> result = prefetcher.prefetch(worldState.rootHash(), block);
+    result.cancel(false);
+    queuedReads.forEach(Runnable::run);
+
+    verify(worldStateStorage, never()).getAccountStateTrieNode(any());
+    verify(worldStateStorage, never()).getCode(any());
+  }
+
+  private Account createContract(final Transaction transaction) {
+    final WorldUpdater updater = worldState.updater();
+    final MutableAccount account =
+        updater.createAccount(transaction.getTo().orElseThrow()).getMutable();
+    account.setCode(Bytes.fromHexString("0x6001"));
+    account.setStorageValue(UInt256.ONE, UInt256.ONE);
+    updater.commit();
+    worldState.persist();
+    return worldState.get(transaction.getTo().orElseThrow());
+  }
+}
@@ -31,12 +31,14 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -51,6 +53,10 @@ public class EthPeer {
 
   private static final int MAX_OUTSTANDING_REQUESTS = 5;
 
+  // Requests are sized so that responses take roughly this long to arrive
+  static final long TARGET_RESPONSE_TIME_MILLIS = 1000;
+  static final Duration MIN_REQUEST_TIMEOUT = Duration.ofSeconds(2);
+
   private final PeerConnection connection;
 
   private final int maxTrackedSeenBlocks = 300;
@@ -63,14 +69,15 @@ public class EthPeer {
   private final AtomicBoolean statusHasBeenReceivedFromPeer = new AtomicBoolean(false);
 
   private volatile long lastRequestTimestamp = 0;
-  private final RequestManager headersRequestManager = new RequestManager(this);
-  private final RequestManager bodiesRequestManager = new RequestManager(this);
-  private final RequestManager receiptsRequestManager = new RequestManager(this);
-  private final RequestManager nodeDataRequestManager = new RequestManager(this);
+  private final RequestManager headersRequestManager;
+  private final RequestManager bodiesRequestManager;
+  private final RequestManager receiptsRequestManager;
+  private final RequestManager nodeDataRequestManager;
 
   private final AtomicReference<Consumer<EthPeer>> onStatusesExchanged = new AtomicReference<>();
   private final PeerReputation reputation = new PeerReputation();
   private final Map<PeerValidator, Boolean> validationStatus = new HashMap<>();
+  private final Map<Integer, PeerResponseStats> responseStats = new ConcurrentHashMap<>();
 
   EthPeer(
       final PeerConnection connection,
@@ -81,6 +88,10 @@ public class EthPeer {
     this.connection = connection;
     this.protocolName = protocolName;
     this.clock = clock;
+    this.headersRequestManager = createRequestManager(EthPV62.GET_BLOCK_HEADERS);
+    this.bodiesRequestManager = createRequestManager(EthPV62.GET_BLOCK_BODIES);
+    this.receiptsRequestManager = createRequestManager(EthPV63.GET_RECEIPTS);
+    this.nodeDataRequestManager = createRequestManager(EthPV63.GET_NODE_DATA);
     knownBlocks =
         Collections.newSetFromMap(
             Collections.synchronizedMap(
@@ -97,6 +108,10 @@ public class EthPeer {
     }
   }
 
+  private RequestManager createRequestManager(final int requestCode) {
+    return new RequestManager(this, clock, responseStats(requestCode));
+  }
+
   public void markValidated(final PeerValidator validator) {
     if (!validationStatus.containsKey(validator)) {
       throw new IllegalArgumentException("Attempt to update unknown validation status");
@@ -183,6 +198,74 @@ public class EthPeer {
         () -> connection.sendForProtocol(protocolName, messageData));
   }
 
+  private PeerResponseStats responseStats(final int requestCode) {
+    return responseStats.computeIfAbsent(requestCode, code -> new PeerResponseStats());
+  }
+
+  /**
+   * Estimates how long this peer will take to respond to a new request, including the time spent
+   * working through requests already sent to it.
+   *
+   * @param requestCode the message code of the request
+   * @return the estimated response time in milliseconds, or 0 if no responses have been measured
+   *     yet so that new peers get a chance to show how fast they are.
+   */
+  public long estimatedResponseTimeMillis(final int requestCode) {
+    final PeerResponseStats stats = responseStats(requestCode);
+    if (!stats.hasLatencySamples()) {
+      return 0;
+    }
+    return Math.round(stats.getLatencyMillis() * (outstandingRequests() + 1));
+  }
+
+  /**
+   * Chooses how many items to request from this peer so that it responds in roughly {@link
+   * #TARGET_RESPONSE_TIME_MILLIS}.
+   *
+   * @param requestCode the message code of the request
+   * @param maxItems the number of items wanted
+   * @return the number of items to request, at least 1 and at most {@code maxItems}.
+   */
+  public int adaptRequestSize(final int requestCode, final int maxItems) {
+    final PeerResponseStats stats = responseStats(requestCode);
+    if (!stats.hasRateSamples()) {
+      return maxItems;
+    }
+    final long itemsInTargetTime =
+        Math.round(stats.getItemsPerSecond() * TARGET_RESPONSE_TIME_MILLIS / 1000);
+    return (int) Math.min(maxItems, Math.max(1, itemsInTargetTime));
+  }
+
+  /**
+   * Chooses how long to wait for this peer to respond to a request, based on how long it has taken
+   * to respond so far.
+   *
+   * @param requestCode the message code of the request
+   * @param maxTimeout the longest time to wait
+   * @return the timeout to use, between {@link #MIN_REQUEST_TIMEOUT} and {@code maxTimeout}.
+   */
+  public Duration adaptTimeout(final int requestCode, final Duration maxTimeout) {
+    final PeerResponseStats stats = responseStats(requestCode);
+    if (!stats.hasLatencySamples() || maxTimeout.compareTo(MIN_REQUEST_TIMEOUT) <= 0) {
+      return maxTimeout;
+    }
+    final Duration timeout = Duration.ofMillis(Math.round(stats.getLatencyUpperBoundMillis()));
+    if (timeout.compareTo(MIN_REQUEST_TIMEOUT) < 0) {
+      return MIN_REQUEST_TIMEOUT;
+    }
+    return timeout.compareTo(maxTimeout) < 0 ? timeout : maxTimeout;
+  }
+
+  /**
+   * The rate at which this peer has been returning data for a type of request.
+   *
+   * @param requestCode the message code of the request
+   * @return the average number of bytes per second received in responses.
+   */
+  public double responseBytesPerSecond(final int requestCode) {
+    return responseStats(requestCode).getBytesPerSecond();
+  }
+
   public RequestManager.ResponseStream getBodies(final List<Hash> blockHashes)
       throws PeerNotConnected {
     final GetBlockBodiesMessage message = GetBlockBodiesMessage.create(blockHashes);
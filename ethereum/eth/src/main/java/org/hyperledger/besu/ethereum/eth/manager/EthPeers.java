@@ -46,6 +46,18 @@ public class EthPeers {
       Comparator.comparing(EthPeer::outstandingRequests)
           .thenComparing(EthPeer::getLastRequestTimestamp);
 
+  /**
+   * Orders peers by how soon they are expected to respond to a new request of the given type.
+   * Peers that are expected to respond equally soon are ordered from least to most busy.
+   *
+   * @param requestCode the message code of the request
+   * @return a comparator ordering peers from fastest to slowest
+   */
+  public static Comparator<EthPeer> fastestResponse(final int requestCode) {
+    return Comparator.comparingLong((final EthPeer p) -> p.estimatedResponseTimeMillis(requestCode))
+        .thenComparing(LEAST_TO_MOST_BUSY);
+  }
+
   private final Map<PeerConnection, EthPeer> connections = new ConcurrentHashMap<>();
   private final String protocolName;
   private final Clock clock;
@@ -85,9 +97,12 @@ public class EthPeers {
   }
 
   public PendingPeerRequest executePeerRequest(
-      final PeerRequest request, final long minimumBlockNumber, final Optional<EthPeer> peer) {
+      final PeerRequest request,
+      final int requestCode,
+      final long minimumBlockNumber,
+      final Optional<EthPeer> peer) {
     final PendingPeerRequest pendingPeerRequest =
-        new PendingPeerRequest(this, request, minimumBlockNumber, peer);
+        new PendingPeerRequest(this, request, requestCode, minimumBlockNumber, peer);
     synchronized (this) {
       if (!pendingPeerRequest.attemptExecution()) {
         pendingRequests.add(pendingPeerRequest);
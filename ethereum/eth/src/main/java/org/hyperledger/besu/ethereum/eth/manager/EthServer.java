@@ -15,10 +15,8 @@
 package org.hyperledger.besu.ethereum.eth.manager;
 
 import org.hyperledger.besu.ethereum.chain.Blockchain;
-import org.hyperledger.besu.ethereum.core.BlockBody;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.Hash;
-import org.hyperledger.besu.ethereum.core.TransactionReceipt;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
 import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.BlockHeadersMessage;
@@ -33,16 +31,14 @@ import org.hyperledger.besu.ethereum.eth.messages.ReceiptsMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-import com.google.common.collect.Lists;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -50,6 +46,10 @@ import org.apache.tuweni.bytes.Bytes;
 class EthServer {
   private static final Logger LOG = LogManager.getLogger();
 
+  // Responses stop growing once they pass this size, so a single response to a peer requesting
+  // large blocks doesn't tie up memory and bandwidth, the peer requests the rest separately.
+  static final int SOFT_RESPONSE_SIZE_LIMIT = 2 * 1024 * 1024;
+
   private final Blockchain blockchain;
   private final WorldStateArchive worldStateArchive;
   private final EthMessages ethMessages;
@@ -150,34 +150,36 @@ class EthServer {
     final int skip = getHeaders.skip();
     final int maxHeaders = Math.min(requestLimit, getHeaders.maxHeaders());
     final boolean reversed = getHeaders.reverse();
-    final BlockHeader firstHeader;
+    final List<Bytes> resp = new ArrayList<>();
+    int responseSize = 0;
+    final long firstNumber;
     if (hash.isPresent()) {
-      final Hash startHash = hash.get();
-      firstHeader = blockchain.getBlockHeader(startHash).orElse(null);
+      // The first header may not be on the canonical chain so must be looked up by hash
+      final Optional<BlockHeader> firstHeader = blockchain.getBlockHeader(hash.get());
+      if (firstHeader.isEmpty()) {
+        return BlockHeadersMessage.createUnsafe(resp);
+      }
+      firstNumber = firstHeader.get().getNumber();
+      final Bytes firstHeaderRlp = RLP.encode(firstHeader.get()::writeTo);
+      resp.add(firstHeaderRlp);
+      responseSize += firstHeaderRlp.size();
     } else {
-      final long firstNumber = getHeaders.blockNumber().getAsLong();
-      firstHeader = blockchain.getBlockHeader(firstNumber).orElse(null);
+      firstNumber = getHeaders.blockNumber().getAsLong();
     }
-    final Collection<BlockHeader> resp;
-    if (firstHeader == null) {
-      resp = Collections.emptyList();
-    } else {
-      resp = Lists.newArrayList(firstHeader);
-      final long numberDelta = reversed ? -(skip + 1) : (skip + 1);
-      for (int i = 1; i < maxHeaders; i++) {
-        final long blockNumber = firstHeader.getNumber() + i * numberDelta;
-        if (blockNumber < BlockHeader.GENESIS_BLOCK_NUMBER) {
-          break;
-        }
-        final Optional<BlockHeader> maybeHeader = blockchain.getBlockHeader(blockNumber);
-        if (maybeHeader.isPresent()) {
-          resp.add(maybeHeader.get());
-        } else {
-          break;
-        }
+    final long numberDelta = reversed ? -(skip + 1) : (skip + 1);
+    for (int i = resp.size(); i < maxHeaders && responseSize < SOFT_RESPONSE_SIZE_LIMIT; i++) {
+      final long blockNumber = firstNumber + i * numberDelta;
+      if (blockNumber < BlockHeader.GENESIS_BLOCK_NUMBER) {
+        break;
       }
+      final Optional<Bytes> maybeHeader = blockchain.getBlockHeaderRlp(blockNumber);
+      if (maybeHeader.isEmpty()) {
+        break;
+      }
+      resp.add(maybeHeader.get());
+      responseSize += maybeHeader.get().size();
     }
-    return BlockHeadersMessage.create(resp);
+    return BlockHeadersMessage.createUnsafe(resp);
   }
 
   static MessageData constructGetBodiesResponse(
@@ -185,20 +187,22 @@ class EthServer {
     final GetBlockBodiesMessage getBlockBodiesMessage = GetBlockBodiesMessage.readFrom(message);
     final Iterable<Hash> hashes = getBlockBodiesMessage.hashes();
 
-    final Collection<BlockBody> bodies = new ArrayList<>();
+    final List<Bytes> bodies = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= SOFT_RESPONSE_SIZE_LIMIT) {
         break;
       }
       count++;
-      final Optional<BlockBody> maybeBody = blockchain.getBlockBody(hash);
-      if (!maybeBody.isPresent()) {
+      final Optional<Bytes> maybeBody = blockchain.getBlockBodyRlp(hash);
+      if (maybeBody.isEmpty()) {
         continue;
       }
       bodies.add(maybeBody.get());
+      responseSize += maybeBody.get().size();
     }
-    return BlockBodiesMessage.create(bodies);
+    return BlockBodiesMessage.createUnsafe(bodies);
   }
 
   static MessageData constructGetReceiptsResponse(
@@ -206,20 +210,22 @@ class EthServer {
     final GetReceiptsMessage getReceipts = GetReceiptsMessage.readFrom(message);
     final Iterable<Hash> hashes = getReceipts.hashes();
 
-    final List<List<TransactionReceipt>> receipts = new ArrayList<>();
+    final List<Bytes> receipts = new ArrayList<>();
     int count = 0;
+    int responseSize = 0;
     for (final Hash hash : hashes) {
-      if (count >= requestLimit) {
+      if (count >= requestLimit || responseSize >= SOFT_RESPONSE_SIZE_LIMIT) {
         break;
       }
       count++;
-      final Optional<List<TransactionReceipt>> maybeReceipts = blockchain.getTxReceipts(hash);
-      if (!maybeReceipts.isPresent()) {
+      final Optional<Bytes> maybeReceipts = blockchain.getTxReceiptsRlp(hash);
+      if (maybeReceipts.isEmpty()) {
         continue;
       }
       receipts.add(maybeReceipts.get());
+      responseSize += maybeReceipts.get().size();
     }
-    return ReceiptsMessage.create(receipts);
+    return ReceiptsMessage.createUnsafe(receipts);
   }
 
   static MessageData constructGetNodeDataResponse(
@@ -0,0 +1,121 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.manager;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPException;
+
+/**
+ * Tracks how quickly a peer responds to one type of request.
+ *
+ * <p>Keeps exponentially weighted moving averages of the response latency, how much that latency
+ * varies, and the rate at which items and bytes are returned. How long each request took is
+ * measured by the {@link RequestManager} that sent it.
+ *
+ * <p>Empty responses usually mean the peer doesn't have the data rather than that it is slow, so
+ * they only count towards the latency.
+ */
+class PeerResponseStats {
+
+  static final double SMOOTHING_FACTOR = 0.25;
+
+  private boolean hasLatencySamples = false;
+  private boolean hasRateSamples = false;
+  private double latencyMillis;
+  private double latencyDeviationMillis;
+  private double itemsPerSecond;
+  private double bytesPerSecond;
+
+  synchronized void recordResponse(final long elapsedMillis, final MessageData response) {
+    final long latency = Math.max(1, elapsedMillis);
+    addLatencySample(latency);
+    final int itemCount = countItems(response);
+    if (itemCount > 0) {
+      addRateSample(latency, itemCount, response.getSize());
+    }
+  }
+
+  synchronized void recordTimeout(final long elapsedMillis) {
+    addLatencySample(Math.max(1, elapsedMillis));
+  }
+
+  synchronized boolean hasLatencySamples() {
+    return hasLatencySamples;
+  }
+
+  synchronized boolean hasRateSamples() {
+    return hasRateSamples;
+  }
+
+  synchronized double getLatencyMillis() {
+    return latencyMillis;
+  }
+
+  /**
+   * The time after which a response is unlikely to arrive, based on the average latency and how
+   * much it varies.
+   *
+   * @return the expected upper bound of the response latency in milliseconds.
+   */
+  synchronized double getLatencyUpperBoundMillis() {
+    return latencyMillis + 4 * latencyDeviationMillis;
+  }
+
+  synchronized double getItemsPerSecond() {
+    return itemsPerSecond;
+  }
+
+  synchronized double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  private void addLatencySample(final long latency) {
+    if (!hasLatencySamples) {
+      latencyMillis = latency;
+      latencyDeviationMillis = latency / 2.0;
+      hasLatencySamples = true;
+      return;
+    }
+    latencyDeviationMillis = smooth(latencyDeviationMillis, Math.abs(latency - latencyMillis));
+    latencyMillis = smooth(latencyMillis, latency);
+  }
+
+  private void addRateSample(final long latency, final int itemCount, final int byteCount) {
+    final double sampleItemsPerSecond = itemCount * 1000.0 / latency;
+    final double sampleBytesPerSecond = byteCount * 1000.0 / latency;
+    if (!hasRateSamples) {
+      itemsPerSecond = sampleItemsPerSecond;
+      bytesPerSecond = sampleBytesPerSecond;
+      hasRateSamples = true;
+      return;
+    }
+    itemsPerSecond = smooth(itemsPerSecond, sampleItemsPerSecond);
+    bytesPerSecond = smooth(bytesPerSecond, sampleBytesPerSecond);
+  }
+
+  private static double smooth(final double average, final double sample) {
+    return average + SMOOTHING_FACTOR * (sample - average);
+  }
+
+  private static int countItems(final MessageData response) {
+    try {
+      return RLP.input(response.getData()).enterList();
+    } catch (final RLPException e) {
+      // Malformed responses are dealt with by whoever requested the data
+      return 0;
+    }
+  }
+}
@@ -19,15 +19,18 @@ import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersExce
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 public class PendingPeerRequest {
   private final EthPeers ethPeers;
   private final PeerRequest request;
+  private final int requestCode;
   private final CompletableFuture<ResponseStream> result = new CompletableFuture<>();
   private final long minimumBlockNumber;
   private final Optional<EthPeer> peer;
@@ -35,10 +38,12 @@ public class PendingPeerRequest {
   PendingPeerRequest(
       final EthPeers ethPeers,
       final PeerRequest request,
+      final int requestCode,
       final long minimumBlockNumber,
       final Optional<EthPeer> peer) {
     this.ethPeers = ethPeers;
     this.request = request;
+    this.requestCode = requestCode;
     this.minimumBlockNumber = minimumBlockNumber;
     this.peer = peer;
   }
@@ -52,15 +57,17 @@ public class PendingPeerRequest {
     if (result.isDone()) {
       return true;
     }
-    final Optional<EthPeer> leastBusySuitablePeer = getLeastBusySuitablePeer();
-    if (!leastBusySuitablePeer.isPresent()) {
+    final List<EthPeer> suitablePeers = getSuitablePeers();
+    if (suitablePeers.isEmpty()) {
       // No peers have the required height.
       result.completeExceptionally(new NoAvailablePeersException());
       return true;
     } else {
-      // At least one peer has the required height, but we not be able to use it if it's busy
+      // At least one peer has the required height, but we may not be able to use it if it's busy
       final Optional<EthPeer> selectedPeer =
-          leastBusySuitablePeer.filter(EthPeer::hasAvailableRequestCapacity);
+          suitablePeers.stream()
+              .filter(EthPeer::hasAvailableRequestCapacity)
+              .min(EthPeers.fastestResponse(requestCode));
 
       selectedPeer.ifPresent(this::sendRequest);
       return selectedPeer.isPresent();
@@ -79,13 +86,13 @@ public class PendingPeerRequest {
     }
   }
 
-  private Optional<EthPeer> getLeastBusySuitablePeer() {
+  private List<EthPeer> getSuitablePeers() {
     return peer.isPresent()
-        ? peer
+        ? List.of(peer.get())
         : ethPeers
             .streamAvailablePeers()
             .filter(peer -> peer.chainState().getEstimatedHeight() >= minimumBlockNumber)
-            .min(EthPeers.LEAST_TO_MOST_BUSY);
+            .collect(Collectors.toList());
   }
 
   /**
@@ -17,24 +17,35 @@ package org.hyperledger.besu.ethereum.eth.manager;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class RequestManager {
   private final AtomicLong responseStreamId = new AtomicLong(0L);
   private final Map<Long, ResponseStream> responseStreams = new ConcurrentHashMap<>();
+  // Requests still waiting for their response, by stream id. Peers respond in the order requests
+  // were sent, so each response belongs to the oldest of these.
+  private final NavigableMap<Long, PendingRequest> pendingRequests = new ConcurrentSkipListMap<>();
   private final EthPeer peer;
+  private final Clock clock;
+  private final PeerResponseStats responseStats;
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
 
-  public RequestManager(final EthPeer peer) {
+  RequestManager(final EthPeer peer, final Clock clock, final PeerResponseStats responseStats) {
     this.peer = peer;
+    this.clock = clock;
+    this.responseStats = responseStats;
   }
 
   public int outstandingRequests() {
@@ -43,8 +54,14 @@ public class RequestManager {
 
   public ResponseStream dispatchRequest(final RequestSender sender) throws PeerNotConnected {
     outstandingRequests.incrementAndGet();
-    final ResponseStream stream = createStream();
-    sender.send();
+    final long streamId = nextStreamId();
+    final ResponseStream stream = createStream(streamId);
+    try {
+      sender.send();
+    } catch (final PeerNotConnected e) {
+      pendingRequests.remove(streamId);
+      throw e;
+    }
     return stream;
   }
 
@@ -52,6 +69,12 @@ public class RequestManager {
     final Collection<ResponseStream> streams = new ArrayList<>(responseStreams.values());
     final int count = outstandingRequests.decrementAndGet();
 
+    final Map.Entry<Long, PendingRequest> request = pendingRequests.pollFirstEntry();
+    if (request != null && request.getValue().complete()) {
+      responseStats.recordResponse(
+          clock.millis() - request.getValue().requestTimestamp, message.getData());
+    }
+
     streams.forEach(s -> s.processMessage(message.getData()));
     if (count == 0) {
       // No possibility of any remaining outstanding messages
@@ -63,13 +86,22 @@ public class RequestManager {
     closeOutstandingStreams(responseStreams.values());
   }
 
-  private ResponseStream createStream() {
-    final long listenerId = nextStreamId();
-    final ResponseStream stream = new ResponseStream(peer, () -> deregisterStream(listenerId));
+  private ResponseStream createStream(final long listenerId) {
+    final ResponseStream stream =
+        new ResponseStream(peer, () -> deregisterStream(listenerId), () -> timeout(listenerId));
+    pendingRequests.put(listenerId, new PendingRequest(clock.millis()));
     responseStreams.put(listenerId, stream);
     return stream;
   }
 
+  private void timeout(final long id) {
+    // The request stays pending so that a late response is still matched to it
+    final PendingRequest request = pendingRequests.get(id);
+    if (request != null && request.complete()) {
+      responseStats.recordTimeout(clock.millis() - request.requestTimestamp);
+    }
+  }
+
   /** Close all current streams. This will be called when the peer disconnects. */
   private void closeOutstandingStreams(final Collection<ResponseStream> outstandingStreams) {
     outstandingStreams.forEach(ResponseStream::close);
@@ -77,6 +109,8 @@ public class RequestManager {
 
   private void deregisterStream(final long id) {
     responseStreams.remove(id);
+    // A stream closed before its response arrived no longer has a request to measure
+    pendingRequests.remove(id);
   }
 
   private long nextStreamId() {
@@ -107,6 +141,29 @@ public class RequestManager {
     void exec();
   }
 
+  @FunctionalInterface
+  public interface TimeoutProcessor {
+    void exec();
+  }
+
+  private static class PendingRequest {
+    final long requestTimestamp;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private PendingRequest(final long requestTimestamp) {
+      this.requestTimestamp = requestTimestamp;
+    }
+
+    /**
+     * Marks the request as answered or timed out.
+     *
+     * @return true if this is the first time the request completed, and so should be measured.
+     */
+    boolean complete() {
+      return completed.compareAndSet(false, true);
+    }
+  }
+
   private static class Response {
     final boolean closed;
     final MessageData message;
@@ -120,13 +177,18 @@ public class RequestManager {
   public static class ResponseStream {
     private final EthPeer peer;
     private final DeregistrationProcessor deregisterCallback;
+    private final TimeoutProcessor timeoutCallback;
     private final Queue<Response> bufferedResponses = new ConcurrentLinkedQueue<>();
     private volatile boolean closed = false;
     private volatile ResponseCallback responseCallback = null;
 
-    public ResponseStream(final EthPeer peer, final DeregistrationProcessor deregisterCallback) {
+    public ResponseStream(
+        final EthPeer peer,
+        final DeregistrationProcessor deregisterCallback,
+        final TimeoutProcessor timeoutCallback) {
       this.peer = peer;
       this.deregisterCallback = deregisterCallback;
+      this.timeoutCallback = timeoutCallback;
     }
 
     public ResponseStream then(final ResponseCallback callback) {
@@ -150,6 +212,14 @@ public class RequestManager {
       dispatchBufferedResponses();
     }
 
+    /**
+     * Records that the peer failed to respond to the request in time, so the time waited counts
+     * towards the peer's response latency.
+     */
+    public void recordTimeout() {
+      timeoutCallback.exec();
+    }
+
     public EthPeer getPeer() {
       return peer;
     }
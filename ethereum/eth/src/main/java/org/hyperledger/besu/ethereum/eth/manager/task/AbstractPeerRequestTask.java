@@ -60,7 +60,9 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
     responseStream.then(
         stream -> {
           // Start the timeout now that the request has actually been sent
-          ethContext.getScheduler().failAfterTimeout(promise, timeout);
+          ethContext
+              .getScheduler()
+              .failAfterTimeout(promise, stream.getPeer().adaptTimeout(requestCode, timeout));
 
           stream.then(
               (streamClosed, message, peer1) ->
@@ -75,6 +77,7 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
           if (t != null) {
             t = ExceptionUtils.rootCause(t);
             if (t instanceof TimeoutException && responseStream.isPresent()) {
+              responseStream.get().recordTimeout();
               responseStream.get().getPeer().recordRequestTimeout(requestCode);
             }
             result.get().completeExceptionally(t);
@@ -87,7 +90,9 @@ public abstract class AbstractPeerRequestTask<R> extends AbstractPeerTask<R> {
 
   public PendingPeerRequest sendRequestToPeer(
       final PeerRequest request, final long minimumBlockNumber) {
-    return ethContext.getEthPeers().executePeerRequest(request, minimumBlockNumber, assignedPeer);
+    return ethContext
+        .getEthPeers()
+        .executePeerRequest(request, requestCode, minimumBlockNumber, assignedPeer);
   }
 
   private void handleMessage(
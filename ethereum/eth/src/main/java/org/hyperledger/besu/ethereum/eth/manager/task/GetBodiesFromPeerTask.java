@@ -90,8 +90,10 @@ public class GetBodiesFromPeerTask<C> extends AbstractPeerRequestTask<List<Block
 
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} bodies from peer {}.", blockHashes.size(), peer);
-          return peer.getBodies(blockHashes);
+          final int requestSize =
+              peer.adaptRequestSize(EthPV62.GET_BLOCK_BODIES, blockHashes.size());
+          LOG.debug("Requesting {} bodies from peer {}.", requestSize, peer);
+          return peer.getBodies(blockHashes.subList(0, requestSize));
         },
         minimumRequiredBlockNumber);
   }
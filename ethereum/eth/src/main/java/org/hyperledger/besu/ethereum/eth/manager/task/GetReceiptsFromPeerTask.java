@@ -83,8 +83,9 @@ public class GetReceiptsFromPeerTask
             .collect(toList());
     return sendRequestToPeer(
         peer -> {
-          LOG.debug("Requesting {} receipts from peer {}.", blockHeaders.size(), peer);
-          return peer.getReceipts(blockHashes);
+          final int requestSize = peer.adaptRequestSize(EthPV63.GET_RECEIPTS, blockHashes.size());
+          LOG.debug("Requesting {} receipts from peer {}.", requestSize, peer);
+          return peer.getReceipts(blockHashes.subList(0, requestSize));
         },
         maximumRequiredBlockNumber);
   }
@@ -49,6 +49,21 @@ public final class BlockBodiesMessage extends AbstractMessageData {
     return new BlockBodiesMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from already RLP encoded block bodies, for example as read from storage. The
+   * bodies are not validated so they must be valid RLP.
+   *
+   * @param encodedBlockBodies the RLP encoding of each body
+   * @return the message
+   */
+  public static BlockBodiesMessage createUnsafe(final Iterable<Bytes> encodedBlockBodies) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedBlockBodies.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new BlockBodiesMessage(tmp.encoded());
+  }
+
   private BlockBodiesMessage(final Bytes data) {
     super(data);
   }
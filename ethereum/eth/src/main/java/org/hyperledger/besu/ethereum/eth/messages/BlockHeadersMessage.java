@@ -56,6 +56,21 @@ public final class BlockHeadersMessage extends AbstractMessageData {
     return new BlockHeadersMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from already RLP encoded block headers, for example as read from storage.
+   * The headers are not validated so they must be valid RLP.
+   *
+   * @param encodedBlockHeaders the RLP encoding of each header
+   * @return the message
+   */
+  public static BlockHeadersMessage createUnsafe(final Iterable<Bytes> encodedBlockHeaders) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedBlockHeaders.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new BlockHeadersMessage(tmp.encoded());
+  }
+
   private BlockHeadersMessage(final Bytes data) {
     super(data);
   }
@@ -53,6 +53,21 @@ public final class ReceiptsMessage extends AbstractMessageData {
     return new ReceiptsMessage(tmp.encoded());
   }
 
+  /**
+   * Creates a message from already RLP encoded lists of receipts, one list per block, for example
+   * as read from storage. The lists are not validated so they must be valid RLP.
+   *
+   * @param encodedReceipts the RLP encoding of the receipts of each block
+   * @return the message
+   */
+  public static ReceiptsMessage createUnsafe(final Iterable<Bytes> encodedReceipts) {
+    final BytesValueRLPOutput tmp = new BytesValueRLPOutput();
+    tmp.startList();
+    encodedReceipts.forEach(tmp::writeRLPUnsafe);
+    tmp.endList();
+    return new ReceiptsMessage(tmp.encoded());
+  }
+
   private ReceiptsMessage(final Bytes data) {
     super(data);
   }
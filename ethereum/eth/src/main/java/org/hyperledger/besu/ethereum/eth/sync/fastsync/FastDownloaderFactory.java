@@ -28,7 +28,7 @@ import org.hyperledger.besu.ethereum.worldstate.WorldStateStorage;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.services.tasks.CachingTaskCollection;
-import org.hyperledger.besu.services.tasks.FlatFileTaskCollection;
+import org.hyperledger.besu.services.tasks.MappedTaskCollection;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -72,7 +72,8 @@ public class FastDownloaderFactory {
         createWorldStateDownloaderTaskCollection(
             getStateQueueDirectory(dataDirectory),
             metricsSystem,
-            syncConfig.getWorldStateTaskCacheSize());
+            syncConfig.getWorldStateTaskCacheSize(),
+            fastSyncState.getPivotBlockHeader().isPresent());
     final WorldStateDownloader worldStateDownloader =
         new WorldStateDownloader(
             ethContext,
@@ -122,12 +123,23 @@ public class FastDownloaderFactory {
   private static CachingTaskCollection<NodeDataRequest> createWorldStateDownloaderTaskCollection(
       final Path dataDirectory,
       final MetricsSystem metricsSystem,
-      final int worldStateTaskCacheSize) {
+      final int worldStateTaskCacheSize,
+      final boolean resumingDownload) {
+    final MappedTaskCollection<NodeDataRequest> storedRequests =
+        new MappedTaskCollection<>(
+            dataDirectory, NodeDataRequest::serialize, NodeDataRequest::deserialize);
+    if (!resumingDownload || !storedRequests.wasClosedBeforeOpening()) {
+      // Queued requests are only useful when resuming the download for the same pivot block. If
+      // the queue wasn't closed, requests that were only held in memory have been lost, so start
+      // again from the root and load the nodes that were already downloaded from local storage.
+      storedRequests.clear();
+    }
     final CachingTaskCollection<NodeDataRequest> taskCollection =
         new CachingTaskCollection<>(
-            new FlatFileTaskCollection<>(
-                dataDirectory, NodeDataRequest::serialize, NodeDataRequest::deserialize),
-            worldStateTaskCacheSize);
+            storedRequests,
+            worldStateTaskCacheSize,
+            // Finishing off the deepest nodes first keeps the number of queued requests down
+            NodeDataRequest::getDepth);
 
     metricsSystem.createLongGauge(
         BesuMetricCategory.SYNCHRONIZER,
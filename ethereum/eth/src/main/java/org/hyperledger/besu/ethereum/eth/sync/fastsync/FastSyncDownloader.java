@@ -99,6 +99,12 @@ public class FastSyncDownloader<C> {
       if (running.compareAndSet(true, false)) {
         // Cancelling the world state download will also cause the chain download to be cancelled.
         worldStateDownloader.cancel();
+        try {
+          // Closing the queue stores the requests held in memory so the download can be resumed
+          taskCollection.close();
+        } catch (final IOException e) {
+          LOG.error("Unable to store fast sync world state requests", e);
+        }
       }
     }
   }
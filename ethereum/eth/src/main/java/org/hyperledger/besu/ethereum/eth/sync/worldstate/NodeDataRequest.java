@@ -32,6 +32,8 @@ public abstract class NodeDataRequest {
   private final Hash hash;
   private Bytes data;
   private boolean requiresPersisting = true;
+  // How far below the state root this node is, used to download deeper nodes first
+  private int depth = 0;
 
   protected NodeDataRequest(final RequestType requestType, final Hash hash) {
     this.requestType = requestType;
@@ -59,6 +61,8 @@ public abstract class NodeDataRequest {
     in.enterList();
     final RequestType requestType = RequestType.fromValue(in.readByte());
     final Hash hash = Hash.wrap(in.readBytes32());
+    // Requests persisted by earlier versions don't include a depth
+    final int depth = in.isEndOfCurrentList() ? 0 : in.readIntScalar();
     in.leaveList();
 
     final NodeDataRequest deserialized;
@@ -78,13 +82,14 @@ public abstract class NodeDataRequest {
                 + NodeDataRequest.class.getSimpleName());
     }
 
-    return deserialized;
+    return deserialized.setDepth(depth);
   }
 
   private void writeTo(final RLPOutput out) {
     out.startList();
     out.writeByte(requestType.getValue());
     out.writeBytes(hash);
+    out.writeIntScalar(depth);
     out.endList();
   }
 
@@ -105,6 +110,15 @@ public abstract class NodeDataRequest {
     return this;
   }
 
+  public int getDepth() {
+    return depth;
+  }
+
+  public NodeDataRequest setDepth(final int depth) {
+    this.depth = depth;
+    return this;
+  }
+
   public NodeDataRequest setRequiresPersisting(final boolean requiresPersisting) {
     this.requiresPersisting = requiresPersisting;
     return this;
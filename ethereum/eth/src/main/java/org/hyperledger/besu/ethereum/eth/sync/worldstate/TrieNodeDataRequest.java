@@ -48,7 +48,8 @@ abstract class TrieNodeDataRequest extends NodeDataRequest {
                     .map(this::getRequestsFromTrieNodeValue)
                     .orElseGet(Stream::empty);
               }
-            });
+            })
+        .map(childRequest -> childRequest.setDepth(getDepth() + 1));
   }
 
   private boolean nodeIsHashReferencedDescendant(final Node<Bytes> node) {
@@ -29,6 +29,8 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
@@ -46,8 +48,9 @@ class WorldDownloadState {
       Collections.newSetFromMap(new ConcurrentHashMap<>());
   private final CompletableFuture<Void> internalFuture;
   private final CompletableFuture<Void> downloadFuture;
-  // Volatile so monitoring can access it without having to synchronize.
-  private volatile int requestsSinceLastProgress = 0;
+  private final AtomicInteger requestsSinceLastProgress = new AtomicInteger();
+  // The number of threads waiting for a request to become available
+  private final AtomicInteger waitingThreads = new AtomicInteger();
   private final long minMillisBeforeStalling;
   private volatile long timestampOfLastProgress;
   private Bytes rootNodeData;
@@ -89,7 +92,11 @@ class WorldDownloadState {
     for (final EthTask<?> outstandingRequest : outstandingRequests) {
       outstandingRequest.cancel();
     }
-    pendingRequests.clear();
+    // A cancelled download is resumed from the pending requests after a restart, so they are only
+    // discarded once the download has finished or failed.
+    if (!internalFuture.isCancelled()) {
+      pendingRequests.clear();
+    }
 
     if (error != null) {
       if (worldStateDownloadProcess != null) {
@@ -121,31 +128,41 @@ class WorldDownloadState {
     return downloadFuture;
   }
 
-  public synchronized void enqueueRequest(final NodeDataRequest request) {
+  public void enqueueRequest(final NodeDataRequest request) {
     if (!internalFuture.isDone()) {
       pendingRequests.add(request);
-      notifyAll();
+      notifyTaskAvailable();
     }
   }
 
-  public synchronized void enqueueRequests(final Stream<NodeDataRequest> requests) {
+  public void enqueueRequests(final Stream<NodeDataRequest> requests) {
     if (!internalFuture.isDone()) {
-      requests.forEach(pendingRequests::add);
-      notifyAll();
+      pendingRequests.addAll(requests.collect(Collectors.toList()));
+      notifyTaskAvailable();
     }
   }
 
-  public synchronized Task<NodeDataRequest> dequeueRequestBlocking() {
+  public Task<NodeDataRequest> dequeueRequestBlocking() {
     while (!internalFuture.isDone()) {
-      final Task<NodeDataRequest> task = pendingRequests.remove();
+      Task<NodeDataRequest> task = pendingRequests.remove();
       if (task != null) {
         return task;
       }
-      try {
-        wait();
-      } catch (final InterruptedException e) {
-        Thread.currentThread().interrupt();
-        return null;
+      synchronized (this) {
+        waitingThreads.incrementAndGet();
+        try {
+          // Check again now that anything enqueued from here on will notify us
+          task = pendingRequests.remove();
+          if (task != null || internalFuture.isDone()) {
+            return task;
+          }
+          wait();
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return null;
+        } finally {
+          waitingThreads.decrementAndGet();
+        }
       }
     }
     return null;
@@ -155,13 +172,12 @@ class WorldDownloadState {
     this.rootNodeData = rootNodeData;
   }
 
-  public synchronized void requestComplete(final boolean madeProgress) {
+  public void requestComplete(final boolean madeProgress) {
     if (madeProgress) {
-      requestsSinceLastProgress = 0;
+      requestsSinceLastProgress.set(0);
       timestampOfLastProgress = clock.millis();
     } else {
-      requestsSinceLastProgress++;
-      if (requestsSinceLastProgress >= maxRequestsWithoutProgress
+      if (requestsSinceLastProgress.incrementAndGet() >= maxRequestsWithoutProgress
           && timestampOfLastProgress + minMillisBeforeStalling < clock.millis()) {
         markAsStalled(maxRequestsWithoutProgress);
       }
@@ -169,10 +185,10 @@ class WorldDownloadState {
   }
 
   public int getRequestsSinceLastProgress() {
-    return requestsSinceLastProgress;
+    return requestsSinceLastProgress.get();
   }
 
-  private synchronized void markAsStalled(final int maxNodeRequestRetries) {
+  private void markAsStalled(final int maxNodeRequestRetries) {
     final String message =
         "Download stalled due to too many failures to retrieve node data (>"
             + maxNodeRequestRetries
@@ -181,7 +197,16 @@ class WorldDownloadState {
     internalFuture.completeExceptionally(e);
   }
 
-  public synchronized boolean checkCompletion(
+  public boolean checkCompletion(
+      final WorldStateStorage worldStateStorage, final BlockHeader header) {
+    // Called after every request so avoid taking the lock while there is still work to do
+    if (internalFuture.isDone() || !pendingRequests.allTasksCompleted()) {
+      return false;
+    }
+    return completeIfFinished(worldStateStorage, header);
+  }
+
+  private synchronized boolean completeIfFinished(
       final WorldStateStorage worldStateStorage, final BlockHeader header) {
     if (!internalFuture.isDone() && pendingRequests.allTasksCompleted()) {
       if (rootNodeData == null) {
@@ -211,8 +236,14 @@ class WorldDownloadState {
     this.worldStateDownloadProcess = worldStateDownloadProcess;
   }
 
-  public synchronized void notifyTaskAvailable() {
-    notifyAll();
+  public void notifyTaskAvailable() {
+    // Waiting threads register before their final check of the queue so either they see the new
+    // task or we see them waiting.
+    if (waitingThreads.get() > 0) {
+      synchronized (this) {
+        notifyAll();
+      }
+    }
   }
 
   public CompletableFuture<Void> startDownload(
@@ -45,6 +45,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.TreeMultiset;
+
 /**
  * Holds the current set of pending transactions with the ability to iterate them based on priority
  * for mining or look-up by hash.
@@ -64,6 +66,7 @@ public class PendingTransactions {
               .reversed());
   private final Map<Address, SortedMap<Long, TransactionInfo>> transactionsBySender =
       new HashMap<>();
+  private final TreeMultiset<Long> pendingGasLimits = TreeMultiset.create();
 
   private final Subscribers<PendingTransactionListener> pendingTransactionSubscribers =
       Subscribers.create();
@@ -76,6 +79,7 @@ public class PendingTransactions {
   private final Counter remoteTransactionAddedCounter;
 
   private final long maxPendingTransactions;
+  private final AtomicLong transactionsAdded = new AtomicLong();
 
   public PendingTransactions(
       final int maxTransactionRetentionHours,
@@ -153,6 +157,7 @@ public class PendingTransactions {
           pendingTransactions.remove(transaction.getHash());
       if (removedTransactionInfo != null) {
         prioritizedTransactions.remove(removedTransactionInfo);
+        pendingGasLimits.remove(transaction.getGasLimit());
         removeTransactionTrackedBySenderAndNonce(transaction);
         incrementTransactionRemovedCounter(
             removedTransactionInfo.isReceivedFromLocalSource(), addedToBlock);
@@ -221,6 +226,8 @@ public class PendingTransactions {
       }
       prioritizedTransactions.add(transactionInfo);
       pendingTransactions.put(transactionInfo.getHash(), transactionInfo);
+      pendingGasLimits.add(transactionInfo.getTransaction().getGasLimit());
+      transactionsAdded.incrementAndGet();
 
       if (pendingTransactions.size() > maxPendingTransactions) {
         final TransactionInfo toRemove = prioritizedTransactions.last();
@@ -295,6 +302,30 @@ public class PendingTransactions {
     return pendingTransactions.size();
   }
 
+  /**
+   * Returns the lowest gas limit of any pending transaction. A block with less gas than this
+   * remaining cannot fit any further pending transaction.
+   *
+   * @return the lowest gas limit of the pending transactions, or empty if there are none
+   */
+  public OptionalLong getLowestGasLimit() {
+    synchronized (pendingTransactions) {
+      return pendingGasLimits.isEmpty()
+          ? OptionalLong.empty()
+          : OptionalLong.of(pendingGasLimits.firstEntry().getElement());
+    }
+  }
+
+  /**
+   * Returns the number of transactions which have been added to the pool, allowing callers to
+   * detect that new transactions have arrived since they last selected transactions.
+   *
+   * @return the number of transactions added to the pool since it was created
+   */
+  public long getTransactionsAddedCount() {
+    return transactionsAdded.get();
+  }
+
   public boolean containsTransaction(final Hash transactionHash) {
     return pendingTransactions.containsKey(transactionHash);
   }
@@ -24,6 +24,8 @@ import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.BlockHeadersMessage;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.ReceiptsMessage;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
@@ -33,6 +35,7 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.testutil.TestClock;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -43,6 +46,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.Test;
 
 public class EthPeerTest {
@@ -148,6 +152,56 @@ public class EthPeerTest {
     assertThat(peer.getLastRequestTimestamp()).isEqualTo(clock.millis());
   }
 
+  @Test
+  public void shouldSizeRequestsToMeasuredResponseRate() throws PeerNotConnected {
+    final EthPeer peer = createPeer();
+    assertThat(peer.adaptRequestSize(EthPV63.GET_NODE_DATA, 100)).isEqualTo(100);
+
+    peer.getNodeData(asList(gen.hash(), gen.hash()));
+    clock.stepMillis(2000);
+    final List<Bytes> nodeData =
+        Stream.generate(gen::bytesValue).limit(10).collect(Collectors.toList());
+    peer.dispatch(new EthMessage(peer, NodeDataMessage.create(nodeData)));
+
+    // 10 items in 2 seconds means 5 items can be returned within the target response time
+    assertThat(peer.adaptRequestSize(EthPV63.GET_NODE_DATA, 100)).isEqualTo(5);
+    assertThat(peer.adaptRequestSize(EthPV63.GET_NODE_DATA, 3)).isEqualTo(3);
+    assertThat(peer.adaptRequestSize(EthPV62.GET_BLOCK_BODIES, 100)).isEqualTo(100);
+  }
+
+  @Test
+  public void shouldAdaptTimeoutToMeasuredLatency() throws PeerNotConnected {
+    final EthPeer peer = createPeer();
+    final Duration maxTimeout = Duration.ofSeconds(5);
+    assertThat(peer.adaptTimeout(EthPV62.GET_BLOCK_BODIES, maxTimeout)).isEqualTo(maxTimeout);
+
+    peer.getBodies(asList(gen.hash(), gen.hash()));
+    clock.stepMillis(100);
+    peer.dispatch(new EthMessage(peer, BlockBodiesMessage.create(singletonList(gen.body()))));
+    assertThat(peer.adaptTimeout(EthPV62.GET_BLOCK_BODIES, maxTimeout))
+        .isEqualTo(EthPeer.MIN_REQUEST_TIMEOUT);
+
+    final RequestManager.ResponseStream stream = peer.getBodies(asList(gen.hash(), gen.hash()));
+    clock.stepMillis(10_000);
+    stream.recordTimeout();
+    assertThat(peer.adaptTimeout(EthPV62.GET_BLOCK_BODIES, maxTimeout)).isEqualTo(maxTimeout);
+  }
+
+  @Test
+  public void shouldEstimateResponseTimeFromLatencyAndOutstandingRequests()
+      throws PeerNotConnected {
+    final EthPeer peer = createPeer();
+    assertThat(peer.estimatedResponseTimeMillis(EthPV63.GET_RECEIPTS)).isEqualTo(0);
+
+    peer.getReceipts(asList(gen.hash(), gen.hash()));
+    clock.stepMillis(200);
+    peer.dispatch(new EthMessage(peer, ReceiptsMessage.create(emptyList())));
+    assertThat(peer.estimatedResponseTimeMillis(EthPV63.GET_RECEIPTS)).isEqualTo(200);
+
+    peer.getBodies(asList(gen.hash(), gen.hash()));
+    assertThat(peer.estimatedResponseTimeMillis(EthPV63.GET_RECEIPTS)).isEqualTo(400);
+  }
+
   @Test
   public void closeStreamsOnPeerDisconnect() throws PeerNotConnected {
     final EthPeer peer = createPeer();
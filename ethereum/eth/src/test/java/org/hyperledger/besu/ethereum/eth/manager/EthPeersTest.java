@@ -28,6 +28,7 @@ import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.NoAvailablePeersException;
 import org.hyperledger.besu.ethereum.eth.manager.exceptions.PeerDisconnectedException;
+import org.hyperledger.besu.ethereum.eth.messages.EthPV63;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
@@ -42,6 +43,8 @@ import org.junit.Test;
 
 public class EthPeersTest {
 
+  private static final int REQUEST_CODE = EthPV63.GET_NODE_DATA;
+
   private EthProtocolManager ethProtocolManager;
   private EthPeers ethPeers;
   private final PeerRequest peerRequest = mock(PeerRequest.class);
@@ -110,7 +113,7 @@ public class EthPeersTest {
   public void shouldExecutePeerRequestImmediatelyWhenPeerIsAvailable() throws Exception {
     final RespondingEthPeer peer = EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 10, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 10, Optional.empty());
 
     verify(peerRequest).sendRequest(peer.getEthPeer());
     assertRequestSuccessful(pendingRequest);
@@ -125,12 +128,44 @@ public class EthPeersTest {
     useRequestSlot(workingPeer.getEthPeer());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 10, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 10, Optional.empty());
 
     verify(peerRequest).sendRequest(idlePeer.getEthPeer());
     assertRequestSuccessful(pendingRequest);
   }
 
+  @Test
+  public void shouldUseFastestPeerForRequest() throws Exception {
+    final RespondingEthPeer slowPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer fastPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    final RespondingEthPeer unmeasuredPeer =
+        EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
+    useRequestSlot(slowPeer.getEthPeer());
+    useRequestSlot(fastPeer.getEthPeer());
+    freeUpCapacity(fastPeer.getEthPeer());
+    // Leave a request outstanding so the slow peer is expected to take twice as long to respond
+    useRequestSlot(slowPeer.getEthPeer());
+    freeUpCapacity(slowPeer.getEthPeer());
+
+    assertThat(
+            EthPeers.fastestResponse(REQUEST_CODE)
+                .compare(fastPeer.getEthPeer(), slowPeer.getEthPeer()))
+        .isLessThan(0);
+    assertThat(
+            EthPeers.fastestResponse(REQUEST_CODE)
+                .compare(unmeasuredPeer.getEthPeer(), fastPeer.getEthPeer()))
+        .isLessThan(0);
+
+    useAllAvailableCapacity(unmeasuredPeer.getEthPeer());
+    final PendingPeerRequest pendingRequest =
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 10, Optional.empty());
+
+    verify(peerRequest).sendRequest(fastPeer.getEthPeer());
+    assertRequestSuccessful(pendingRequest);
+  }
+
   @Test
   public void shouldUseLeastRecentlyUsedPeerWhenBothHaveSameNumberOfOutstandingRequests()
       throws Exception {
@@ -145,7 +180,7 @@ public class EthPeersTest {
         .isEqualTo(mostRecentlyUsedPeer.getEthPeer().outstandingRequests());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 10, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 10, Optional.empty());
 
     verify(peerRequest).sendRequest(leastRecentlyUsedPeer.getEthPeer());
     assertRequestSuccessful(pendingRequest);
@@ -154,7 +189,7 @@ public class EthPeersTest {
   @Test
   public void shouldFailWithNoAvailablePeersWhenNoPeersConnected() {
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 10, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 10, Optional.empty());
 
     verifyZeroInteractions(peerRequest);
     assertRequestFailure(pendingRequest, NoAvailablePeersException.class);
@@ -164,7 +199,7 @@ public class EthPeersTest {
   public void shouldFailWhenNoPeerWithSufficientHeight() {
     EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 100);
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 200, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 200, Optional.empty());
 
     verifyZeroInteractions(peerRequest);
     assertRequestFailure(pendingRequest, NoAvailablePeersException.class);
@@ -178,7 +213,7 @@ public class EthPeersTest {
     useAllAvailableCapacity(suitablePeer.getEthPeer());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 200, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 200, Optional.empty());
 
     verifyZeroInteractions(peerRequest);
     assertNotDone(pendingRequest);
@@ -192,7 +227,7 @@ public class EthPeersTest {
     final RespondingEthPeer peer = EthProtocolManagerTestUtil.createPeer(ethProtocolManager, 1000);
     when(peerRequest.sendRequest(peer.getEthPeer())).thenThrow(new PeerNotConnected("Oh dear"));
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 100, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 100, Optional.empty());
 
     assertRequestFailure(pendingRequest, PeerDisconnectedException.class);
   }
@@ -203,7 +238,7 @@ public class EthPeersTest {
     useAllAvailableCapacity(peer.getEthPeer());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 100, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 100, Optional.empty());
     verifyZeroInteractions(peerRequest);
 
     freeUpCapacity(peer.getEthPeer());
@@ -221,7 +256,7 @@ public class EthPeersTest {
     useAllAvailableCapacity(peer.getEthPeer());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 100, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 100, Optional.empty());
     verifyZeroInteractions(peerRequest);
 
     freeUpCapacity(peer.getEthPeer());
@@ -236,7 +271,7 @@ public class EthPeersTest {
     useAllAvailableCapacity(peer.getEthPeer());
 
     final PendingPeerRequest pendingRequest =
-        ethPeers.executePeerRequest(peerRequest, 100, Optional.empty());
+        ethPeers.executePeerRequest(peerRequest, REQUEST_CODE, 100, Optional.empty());
     verifyZeroInteractions(peerRequest);
 
     pendingRequest.abort();
@@ -23,8 +23,11 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.Hash;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
+import org.hyperledger.besu.ethereum.eth.messages.BlockBodiesMessage;
+import org.hyperledger.besu.ethereum.eth.messages.GetBlockBodiesMessage;
 import org.hyperledger.besu.ethereum.eth.messages.GetNodeDataMessage;
 import org.hyperledger.besu.ethereum.eth.messages.NodeDataMessage;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 
 import java.util.Optional;
@@ -91,4 +94,27 @@ public class EthServerTest {
 
     verify(ethPeer).send(NodeDataMessage.create(singletonList(VALUE1)));
   }
+
+  @Test
+  public void shouldRespondToBlockBodiesRequestsWithStoredRlp() throws Exception {
+    final Bytes body1 = RLP.encodeOne(VALUE1);
+    final Bytes body2 = RLP.encodeOne(VALUE2);
+    when(blockchain.getBlockBodyRlp(HASH1)).thenReturn(Optional.of(body1));
+    when(blockchain.getBlockBodyRlp(HASH2)).thenReturn(Optional.of(body2));
+    ethMessages.dispatch(
+        new EthMessage(ethPeer, GetBlockBodiesMessage.create(asList(HASH1, HASH2))));
+
+    verify(ethPeer).send(BlockBodiesMessage.createUnsafe(asList(body1, body2)));
+  }
+
+  @Test
+  public void shouldStopAddingBlockBodiesOnceSoftResponseSizeLimitIsReached() throws Exception {
+    final Bytes largeBody = RLP.encodeOne(Bytes.wrap(new byte[EthServer.SOFT_RESPONSE_SIZE_LIMIT]));
+    when(blockchain.getBlockBodyRlp(HASH1)).thenReturn(Optional.of(largeBody));
+    when(blockchain.getBlockBodyRlp(HASH2)).thenReturn(Optional.of(RLP.encodeOne(VALUE2)));
+    ethMessages.dispatch(
+        new EthMessage(ethPeer, GetBlockBodiesMessage.create(asList(HASH1, HASH2))));
+
+    verify(ethPeer).send(BlockBodiesMessage.createUnsafe(singletonList(largeBody)));
+  }
 }
@@ -39,7 +39,7 @@ public class RequestManagerTest {
   @Test
   public void dispatchesMessagesReceivedAfterRegisteringCallback() throws Exception {
     final EthPeer peer = createPeer();
-    final RequestManager requestManager = new RequestManager(peer);
+    final RequestManager requestManager = createRequestManager(peer);
 
     final AtomicInteger sendCount = new AtomicInteger(0);
     final RequestManager.RequestSender sender = sendCount::incrementAndGet;
@@ -72,7 +72,7 @@ public class RequestManagerTest {
   @Test
   public void dispatchesMessagesReceivedBeforeRegisteringCallback() throws Exception {
     final EthPeer peer = createPeer();
-    final RequestManager requestManager = new RequestManager(peer);
+    final RequestManager requestManager = createRequestManager(peer);
 
     final AtomicInteger sendCount = new AtomicInteger(0);
     final RequestManager.RequestSender sender = sendCount::incrementAndGet;
@@ -105,7 +105,7 @@ public class RequestManagerTest {
   @Test
   public void dispatchesMessagesReceivedBeforeAndAfterRegisteringCallback() throws Exception {
     final EthPeer peer = createPeer();
-    final RequestManager requestManager = new RequestManager(peer);
+    final RequestManager requestManager = createRequestManager(peer);
 
     final AtomicInteger sendCount = new AtomicInteger(0);
     final RequestManager.RequestSender sender = sendCount::incrementAndGet;
@@ -149,7 +149,7 @@ public class RequestManagerTest {
   @Test
   public void dispatchesMessagesToMultipleStreams() throws Exception {
     final EthPeer peer = createPeer();
-    final RequestManager requestManager = new RequestManager(peer);
+    final RequestManager requestManager = createRequestManager(peer);
 
     final AtomicInteger sendCount = new AtomicInteger(0);
     final RequestManager.RequestSender sender = sendCount::incrementAndGet;
@@ -211,6 +211,68 @@ public class RequestManagerTest {
     assertThat(closedCountB.get()).isEqualTo(1);
   }
 
+  @Test
+  public void measuresEachResponseFromItsOwnRequest() throws Exception {
+    final TestClock clock = new TestClock();
+    final PeerResponseStats responseStats = new PeerResponseStats();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, clock, responseStats);
+
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchResponse(mockMessage(peer));
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(200);
+
+    clock.stepMillis(300);
+    requestManager.dispatchResponse(mockMessage(peer));
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(250);
+  }
+
+  @Test
+  public void doesNotMeasureRequestsClosedBeforeTheirResponse() throws Exception {
+    final TestClock clock = new TestClock();
+    final PeerResponseStats responseStats = new PeerResponseStats();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, clock, responseStats);
+
+    final RequestManager.ResponseStream closedStream = requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(100);
+    requestManager.dispatchRequest(() -> {});
+    closedStream.close();
+    clock.stepMillis(100);
+    requestManager.dispatchResponse(mockMessage(peer));
+
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(100);
+  }
+
+  @Test
+  public void measuresTimedOutRequestOnlyOnce() throws Exception {
+    final TestClock clock = new TestClock();
+    final PeerResponseStats responseStats = new PeerResponseStats();
+    final EthPeer peer = createPeer();
+    final RequestManager requestManager = new RequestManager(peer, clock, responseStats);
+
+    final RequestManager.ResponseStream timedOutStream = requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(1000);
+    timedOutStream.recordTimeout();
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(1000);
+
+    requestManager.dispatchRequest(() -> {});
+    clock.stepMillis(200);
+    // The late response to the timed out request has already been measured
+    requestManager.dispatchResponse(mockMessage(peer));
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(1000);
+
+    requestManager.dispatchResponse(mockMessage(peer));
+    assertThat(responseStats.getLatencyMillis()).isEqualTo(800);
+  }
+
+  private RequestManager createRequestManager(final EthPeer peer) {
+    return new RequestManager(peer, TestClock.fixed(), new PeerResponseStats());
+  }
+
   private EthMessage mockMessage(final EthPeer peer) {
     return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
   }
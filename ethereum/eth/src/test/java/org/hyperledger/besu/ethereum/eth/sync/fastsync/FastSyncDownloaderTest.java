@@ -127,6 +127,18 @@ public class FastSyncDownloaderTest {
     assertThat(result).isCompletedWithValue(fastSyncState);
   }
 
+  @Test
+  public void shouldStoreQueuedWorldStateRequestsWhenStopped() throws Exception {
+    when(fastSyncActions.waitForSuitablePeers(FastSyncState.EMPTY_SYNC_STATE))
+        .thenReturn(new CompletableFuture<>());
+    downloader.start();
+
+    downloader.stop();
+
+    verify(worldStateDownloader).cancel();
+    verify(taskCollection).close();
+  }
+
   @Test
   public void shouldAbortIfWaitForSuitablePeersFails() {
     when(fastSyncActions.waitForSuitablePeers(FastSyncState.EMPTY_SYNC_STATE))
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
 import org.hyperledger.besu.ethereum.eth.manager.EthProtocolManager;
@@ -30,6 +31,7 @@ import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer.Responder;
 import org.hyperledger.besu.ethereum.eth.sync.fastsync.PivotBlockConfirmer.ContestedPivotBlockException;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 
@@ -291,13 +293,11 @@ public class PivotBlockConfirmerTest {
   private Responder responderForFakeBlocks(final long... blockNumbers) {
     final Blockchain mockBlockchain = spy(blockchain);
     for (long blockNumber : blockNumbers) {
-      when(mockBlockchain.getBlockHeader(blockNumber))
-          .thenReturn(
-              Optional.of(
-                  new BlockHeaderTestFixture()
-                      .number(blockNumber)
-                      .extraData(Bytes.of(1))
-                      .buildHeader()));
+      final BlockHeader fakeHeader =
+          new BlockHeaderTestFixture().number(blockNumber).extraData(Bytes.of(1)).buildHeader();
+      when(mockBlockchain.getBlockHeader(blockNumber)).thenReturn(Optional.of(fakeHeader));
+      when(mockBlockchain.getBlockHeaderRlp(blockNumber))
+          .thenReturn(Optional.of(RLP.encode(fakeHeader::writeTo)));
     }
 
     return RespondingEthPeer.blockchainResponder(mockBlockchain);
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import org.hyperledger.besu.ethereum.ProtocolContext;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
 import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
 import org.hyperledger.besu.ethereum.core.Difficulty;
@@ -32,6 +33,7 @@ import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer;
 import org.hyperledger.besu.ethereum.eth.manager.RespondingEthPeer.Responder;
 import org.hyperledger.besu.ethereum.eth.peervalidation.PeerValidator;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.util.ExceptionUtils;
@@ -365,13 +367,11 @@ public class PivotBlockRetrieverTest {
   private Responder responderForFakeBlocks(final long... blockNumbers) {
     final Blockchain mockBlockchain = spy(blockchain);
     for (long blockNumber : blockNumbers) {
-      when(mockBlockchain.getBlockHeader(blockNumber))
-          .thenReturn(
-              Optional.of(
-                  new BlockHeaderTestFixture()
-                      .number(blockNumber)
-                      .extraData(Bytes.of(1))
-                      .buildHeader()));
+      final BlockHeader fakeHeader =
+          new BlockHeaderTestFixture().number(blockNumber).extraData(Bytes.of(1)).buildHeader();
+      when(mockBlockchain.getBlockHeader(blockNumber)).thenReturn(Optional.of(fakeHeader));
+      when(mockBlockchain.getBlockHeaderRlp(blockNumber))
+          .thenReturn(Optional.of(RLP.encode(fakeHeader::writeTo)));
     }
 
     return RespondingEthPeer.blockchainResponder(mockBlockchain);
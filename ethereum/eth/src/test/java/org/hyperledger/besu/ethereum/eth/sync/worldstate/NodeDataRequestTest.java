@@ -49,6 +49,15 @@ public class NodeDataRequestTest {
     assertThat(sedeRequest).isInstanceOf(CodeNodeDataRequest.class);
   }
 
+  @Test
+  public void serializesRequestDepth() {
+    BlockDataGenerator gen = new BlockDataGenerator(0);
+    NodeDataRequest request = NodeDataRequest.createStorageDataRequest(gen.hash()).setDepth(5);
+    NodeDataRequest sedeRequest = serializeThenDeserialize(request);
+    assertRequestsEquals(sedeRequest, request);
+    assertThat(sedeRequest.getDepth()).isEqualTo(5);
+  }
+
   private NodeDataRequest serializeThenDeserialize(final NodeDataRequest request) {
     return NodeDataRequest.deserialize(NodeDataRequest.serialize(request));
   }
@@ -117,11 +117,33 @@ public class WorldDownloadStateTest {
     verify(outstandingTask1).cancel();
     verify(outstandingTask2).cancel();
 
-    assertThat(pendingRequests.isEmpty()).isTrue();
     verify(worldStateDownloadProcess).abort();
     assertThat(downloadState.isDownloading()).isFalse();
   }
 
+  @Test
+  public void shouldKeepPendingRequestsWhenFutureIsCancelled() {
+    pendingRequests.add(NodeDataRequest.createAccountDataRequest(Hash.EMPTY_TRIE_HASH));
+    pendingRequests.add(NodeDataRequest.createAccountDataRequest(Hash.EMPTY));
+
+    future.cancel(true);
+
+    assertThat(pendingRequests.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldClearPendingRequestsWhenDownloadStalls() {
+    pendingRequests.add(NodeDataRequest.createAccountDataRequest(Hash.EMPTY_TRIE_HASH));
+    clock.stepMillis(MIN_MILLIS_BEFORE_STALLING + 1);
+
+    for (int i = 0; i < MAX_REQUESTS_WITHOUT_PROGRESS; i++) {
+      downloadState.requestComplete(false);
+    }
+
+    assertWorldStateStalled(downloadState);
+    assertThat(pendingRequests.isEmpty()).isTrue();
+  }
+
   @Test
   public void shouldResetRequestsSinceProgressCountWhenProgressIsMade() {
     downloadState.requestComplete(false);
@@ -93,6 +93,25 @@ public class PendingTransactionsTest {
     assertThat(metricsSystem.getCounterValue(ADDED_COUNTER, REMOTE)).isEqualTo(2);
   }
 
+  @Test
+  public void shouldTrackLowestGasLimitOfPendingTransactions() {
+    assertThat(transactions.getLowestGasLimit()).isEmpty();
+
+    final Transaction largeTransaction =
+        new TransactionTestFixture().nonce(0).gasLimit(50_000).createTransaction(KEYS1);
+    final Transaction smallTransaction =
+        new TransactionTestFixture().nonce(1).gasLimit(21_000).createTransaction(KEYS1);
+    transactions.addRemoteTransaction(largeTransaction);
+    transactions.addRemoteTransaction(smallTransaction);
+    assertThat(transactions.getLowestGasLimit()).hasValue(21_000);
+
+    transactions.removeTransaction(smallTransaction);
+    assertThat(transactions.getLowestGasLimit()).hasValue(50_000);
+
+    transactions.transactionAddedToBlock(largeTransaction);
+    assertThat(transactions.getLowestGasLimit()).isEmpty();
+  }
+
   @Test
   public void shouldReturnEmptyOptionalWhenNoTransactionWithGivenHashExists() {
     assertThat(transactions.getTransactionByHash(Hash.EMPTY_TRIE_HASH)).isEmpty();
@@ -28,6 +28,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
@@ -41,6 +42,8 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
   private static final int ACCOUNT_BYTES_SIZE = 20;
   private LocalPermissioningConfiguration configuration;
   private List<String> accountWhitelist = new ArrayList<>();
+  // Index of the whitelist for permissioning checks, replaced whenever the whitelist changes
+  private volatile Set<Address> whitelistedAccounts = Collections.emptySet();
   private final WhitelistPersistor whitelistPersistor;
 
   private final Counter checkCounter;
@@ -102,6 +105,7 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
 
     final List<String> oldWhitelist = new ArrayList<>(this.accountWhitelist);
     this.accountWhitelist.addAll(normalizedAccounts);
+    updateWhitelistedAccounts();
     try {
       verifyConfigurationFileState(oldWhitelist);
       updateConfigurationFile(accountWhitelist);
@@ -129,6 +133,7 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
     final List<String> oldWhitelist = new ArrayList<>(this.accountWhitelist);
 
     this.accountWhitelist.removeAll(normalizedAccounts);
+    updateWhitelistedAccounts();
     try {
       verifyConfigurationFileState(oldWhitelist);
       updateConfigurationFile(accountWhitelist);
@@ -170,6 +175,14 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
 
   private void revertState(final List<String> accountWhitelist) {
     this.accountWhitelist = accountWhitelist;
+    updateWhitelistedAccounts();
+  }
+
+  private void updateWhitelistedAccounts() {
+    whitelistedAccounts =
+        accountWhitelist.stream()
+            .map(Address::fromHexString)
+            .collect(Collectors.toUnmodifiableSet());
   }
 
   private boolean inputHasDuplicates(final List<String> accounts) {
@@ -177,7 +190,8 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
   }
 
   public boolean contains(final String account) {
-    return accountWhitelist.stream().anyMatch(a -> a.equalsIgnoreCase(account));
+    return isValidAccountString(account)
+        && whitelistedAccounts.contains(Address.fromHexString(account));
   }
 
   public List<String> getAccountWhitelist() {
@@ -213,6 +227,7 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
               configuration.isAccountWhitelistEnabled(),
               configuration.getAccountPermissioningConfigFilePath());
       readAccountsFromConfig(updatedConfig);
+      updateWhitelistedAccounts();
       configuration = updatedConfig;
     } catch (Exception e) {
       LOG.warn(
@@ -221,6 +236,7 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
           e.getMessage());
       accountWhitelist.clear();
       accountWhitelist.addAll(currentAccountsList);
+      updateWhitelistedAccounts();
       throw new RuntimeException(e);
     }
   }
@@ -248,7 +264,7 @@ public class AccountLocalConfigPermissioningController implements TransactionPer
           transactionHash);
       return false;
     } else {
-      if (contains(sender.toString())) {
+      if (whitelistedAccounts.contains(sender)) {
         this.checkCounterPermitted.inc();
         LOG.trace(
             "Account permissioning - Local Config: Permitted transaction {} from {}",
@@ -39,6 +39,7 @@ import org.apache.tuweni.bytes.Bytes;
 public class NodeSmartContractPermissioningController implements NodePermissioningProvider {
   private final Address contractAddress;
   private final TransactionSimulator transactionSimulator;
+  private final PermissioningDecisionCache decisionCache = new PermissioningDecisionCache();
 
   // full function signature for connection allowed call
   private static final String FUNCTION_SIGNATURE =
@@ -113,6 +114,19 @@ public class NodeSmartContractPermissioningController implements NodePermissioni
       throw new IllegalStateException("Permissioning contract does not exist");
     }
 
+    final boolean permitted =
+        decisionCache.isPermitted(
+            transactionSimulator.getStateRootAtHead(), payload, () -> callContract(callParams));
+    if (permitted) {
+      this.checkCounterPermitted.inc();
+      return true;
+    } else {
+      this.checkCounterUnpermitted.inc();
+      return false;
+    }
+  }
+
+  private boolean callContract(final CallParameter callParams) {
     final Optional<TransactionSimulatorResult> result =
         transactionSimulator.processAtHead(callParams);
 
@@ -127,13 +141,7 @@ public class NodeSmartContractPermissioningController implements NodePermissioni
       }
     }
 
-    if (result.map(r -> checkTransactionResult(r.getOutput())).orElse(false)) {
-      this.checkCounterPermitted.inc();
-      return true;
-    } else {
-      this.checkCounterUnpermitted.inc();
-      return false;
-    }
+    return result.map(r -> checkTransactionResult(r.getOutput())).orElse(false);
   }
 
   // Checks the returned bytes from the permissioning contract call to see if it's a value we
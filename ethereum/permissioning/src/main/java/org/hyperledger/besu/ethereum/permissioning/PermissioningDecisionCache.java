@@ -0,0 +1,73 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.permissioning;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Caches the decisions of a permissioning smart contract by the payload of the call that made them.
+ *
+ * <p>A decision is only reused while the world state root at the chain head is the same as when it
+ * was made. The permissioning contract may forward the call to other contracts, such as an ingress
+ * contract delegating to a rules contract, so any change to the world state discards all cached
+ * decisions.
+ */
+class PermissioningDecisionCache {
+
+  private static final int MAX_CACHED_DECISIONS = 10_000;
+
+  private final AtomicReference<Decisions> decisions =
+      new AtomicReference<>(new Decisions(Hash.EMPTY_TRIE_HASH));
+
+  /**
+   * Returns the cached decision for a call, or makes and caches it if there is none.
+   *
+   * @param stateRoot the world state root at the chain head
+   * @param callPayload the payload of the permissioning contract call
+   * @param decision calls the permissioning contract. Decisions that throw are not cached.
+   * @return whether the call was permitted
+   */
+  boolean isPermitted(
+      final Hash stateRoot, final Bytes callPayload, final Supplier<Boolean> decision) {
+    final Decisions current =
+        decisions.updateAndGet(
+            cached ->
+                cached.stateRoot.equals(stateRoot) ? cached : new Decisions(stateRoot));
+    final Boolean cachedDecision = current.permitted.getIfPresent(callPayload);
+    if (cachedDecision != null) {
+      return cachedDecision;
+    }
+    final boolean permitted = decision.get();
+    current.permitted.put(callPayload, permitted);
+    return permitted;
+  }
+
+  private static class Decisions {
+    private final Hash stateRoot;
+    private final Cache<Bytes, Boolean> permitted =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_DECISIONS).build();
+
+    private Decisions(final Hash stateRoot) {
+      this.stateRoot = stateRoot;
+    }
+  }
+}
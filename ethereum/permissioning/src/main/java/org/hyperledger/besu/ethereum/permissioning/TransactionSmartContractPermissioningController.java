@@ -45,6 +45,7 @@ public class TransactionSmartContractPermissioningController
 
   private final Address contractAddress;
   private final TransactionSimulator transactionSimulator;
+  private final PermissioningDecisionCache decisionCache = new PermissioningDecisionCache();
 
   // full function signature for connection allowed call
   private static final String FUNCTION_SIGNATURE =
@@ -127,6 +128,27 @@ public class TransactionSmartContractPermissioningController
       return true;
     }
 
+    final boolean permitted =
+        decisionCache.isPermitted(
+            transactionSimulator.getStateRootAtHead(), payload, () -> callContract(callParams));
+    if (permitted) {
+      this.checkCounterPermitted.inc();
+      LOG.trace(
+          "Account permissioning - Smart Contract: Permitted transaction {} from {}",
+          transactionHash,
+          sender);
+      return true;
+    } else {
+      this.checkCounterUnpermitted.inc();
+      LOG.trace(
+          "Account permissioning - Smart Contract: Rejected transaction {} from {}",
+          transactionHash,
+          sender);
+      return false;
+    }
+  }
+
+  private boolean callContract(final CallParameter callParams) {
     final Optional<TransactionSimulatorResult> result =
         transactionSimulator.processAtHead(callParams);
 
@@ -143,21 +165,7 @@ public class TransactionSmartContractPermissioningController
       }
     }
 
-    if (result.map(r -> checkTransactionResult(r.getOutput())).orElse(false)) {
-      this.checkCounterPermitted.inc();
-      LOG.trace(
-          "Account permissioning - Smart Contract: Permitted transaction {} from {}",
-          transactionHash,
-          sender);
-      return true;
-    } else {
-      this.checkCounterUnpermitted.inc();
-      LOG.trace(
-          "Account permissioning - Smart Contract: Rejected transaction {} from {}",
-          transactionHash,
-          sender);
-      return false;
-    }
+    return result.map(r -> checkTransactionResult(r.getOutput())).orElse(false);
   }
 
   // Checks the returned bytes from the permissioning contract call to see if it's a value we
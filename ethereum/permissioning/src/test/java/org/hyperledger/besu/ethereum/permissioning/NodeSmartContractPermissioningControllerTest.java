@@ -28,6 +28,12 @@ import org.hyperledger.besu.config.JsonUtil;
 import org.hyperledger.besu.ethereum.chain.GenesisState;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.peers.EnodeURL;
@@ -38,9 +44,11 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.io.Resources;
+import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -48,11 +56,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.StrictStubs.class)
 public class NodeSmartContractPermissioningControllerTest {
+  private static final Address RULES_CONTRACT_ADDRESS =
+      Address.fromHexString("0x0000000000000000000000000000000000005678");
+
   @Mock private MetricsSystem metricsSystem;
   @Mock private Counter checkCounter;
   @Mock private Counter checkPermittedCounter;
   @Mock private Counter checkUnpermittedCounter;
 
+  private MutableBlockchain blockchain;
+  private WorldStateArchive worldArchive;
+
   private NodeSmartContractPermissioningController setupController(
       final String resourceName, final String contractAddressString) throws IOException {
     final ProtocolSchedule<Void> protocolSchedule = MainnetProtocolSchedule.create();
@@ -64,8 +78,8 @@ public class NodeSmartContractPermissioningControllerTest {
     final GenesisState genesisState =
         GenesisState.fromConfig(GenesisConfigFile.fromConfig(jsonData), protocolSchedule);
 
-    final MutableBlockchain blockchain = createInMemoryBlockchain(genesisState.getBlock());
-    final WorldStateArchive worldArchive = createInMemoryWorldStateArchive();
+    blockchain = createInMemoryBlockchain(genesisState.getBlock());
+    worldArchive = createInMemoryWorldStateArchive();
 
     genesisState.writeStateTo(worldArchive.getMutable());
 
@@ -94,6 +108,27 @@ public class NodeSmartContractPermissioningControllerTest {
     return new NodeSmartContractPermissioningController(contractAddress, ts, metricsSystem);
   }
 
+  private void updateRulesContractAtNewChainHead(final UInt256 rulesValue) {
+    final BlockHeader chainHead = blockchain.getChainHeadHeader();
+    final MutableWorldState worldState = worldArchive.getMutable(chainHead.getStateRoot()).get();
+    final WorldUpdater updater = worldState.updater();
+    updater
+        .getAccount(RULES_CONTRACT_ADDRESS)
+        .getMutable()
+        .setStorageValue(UInt256.ZERO, rulesValue);
+    updater.commit();
+    worldState.persist();
+
+    final BlockHeader header =
+        new BlockHeaderTestFixture()
+            .number(chainHead.getNumber() + 1)
+            .parentHash(chainHead.getHash())
+            .gasLimit(chainHead.getGasLimit())
+            .stateRoot(worldState.rootHash())
+            .buildHeader();
+    blockchain.appendBlock(new Block(header, BlockBody.empty()), Collections.emptyList());
+  }
+
   private void verifyCountersUntouched() {
     verify(checkCounter, times(0)).inc();
     verify(checkPermittedCounter, times(0)).inc();
@@ -238,6 +273,32 @@ public class NodeSmartContractPermissioningControllerTest {
     verifyCountersUnpermitted();
   }
 
+  @Test
+  public void testNodeRevokedInRulesContract() throws IOException {
+    final NodeSmartContractPermissioningController controller =
+        setupController(
+            "/NodeSmartContractPermissioningControllerTest/ingressAndRulesPermissioning.json",
+            "0x0000000000000000000000000000000000001234");
+    final EnodeURL source =
+        EnodeURL.fromString(
+            "enode://6f8a80d14311c39f35f516fa664deaaaa13e85b2f7493f37f6144d86991ec012937307647bd3b9a82abe2974e1407241d54947bbb39763a4cac9f77166ad92a0@192.168.0.1:30303");
+    final EnodeURL destination =
+        EnodeURL.fromString(
+            "enode://6f8a80d14311c39f35f516fa664deaaaa13e85b2f7493f37f6144d86991ec012937307647bd3b9a82abe2974e1407241d54947bbb39763a4cac9f77166ad92a0@192.168.0.1:30304");
+
+    assertThat(controller.isPermitted(source, destination)).isTrue();
+
+    updateRulesContractAtNewChainHead(
+        UInt256.fromHexString(
+            "0x7fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"));
+
+    assertThat(controller.isPermitted(source, destination)).isFalse();
+
+    verify(checkCounter, times(2)).inc();
+    verify(checkPermittedCounter, times(1)).inc();
+    verify(checkUnpermittedCounter, times(1)).inc();
+  }
+
   @Test
   public void testPermissioningContractMissing() throws IOException {
     final NodeSmartContractPermissioningController controller =
@@ -0,0 +1,83 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.permissioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.ethereum.core.Hash;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Test;
+
+public class PermissioningDecisionCacheTest {
+
+  private static final Hash STATE_ROOT = Hash.hash(Bytes.of(1));
+  private static final Hash UPDATED_STATE_ROOT = Hash.hash(Bytes.of(2));
+  private static final Bytes PAYLOAD = Bytes.fromHexString("0x1234");
+
+  private final PermissioningDecisionCache cache = new PermissioningDecisionCache();
+  private final AtomicInteger contractCalls = new AtomicInteger();
+
+  @Test
+  public void shouldReuseDecisionWhileStateRootIsUnchanged() {
+    assertThat(cache.isPermitted(STATE_ROOT, PAYLOAD, decision(true))).isTrue();
+    assertThat(cache.isPermitted(STATE_ROOT, PAYLOAD, decision(false))).isTrue();
+
+    assertThat(contractCalls).hasValue(1);
+  }
+
+  @Test
+  public void shouldDecideSeparatelyForDifferentPayloads() {
+    assertThat(cache.isPermitted(STATE_ROOT, PAYLOAD, decision(true))).isTrue();
+    assertThat(cache.isPermitted(STATE_ROOT, Bytes.of(1), decision(false))).isFalse();
+
+    assertThat(contractCalls).hasValue(2);
+  }
+
+  @Test
+  public void shouldDecideAgainWhenStateRootChanges() {
+    assertThat(cache.isPermitted(STATE_ROOT, PAYLOAD, decision(true))).isTrue();
+    assertThat(cache.isPermitted(UPDATED_STATE_ROOT, PAYLOAD, decision(false))).isFalse();
+    assertThat(cache.isPermitted(UPDATED_STATE_ROOT, PAYLOAD, decision(true))).isFalse();
+
+    assertThat(contractCalls).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotCacheFailedDecisions() {
+    assertThatThrownBy(
+            () ->
+                cache.isPermitted(
+                    STATE_ROOT,
+                    PAYLOAD,
+                    () -> {
+                      throw new IllegalStateException("Permissioning transaction failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(cache.isPermitted(STATE_ROOT, PAYLOAD, decision(true))).isTrue();
+  }
+
+  private Supplier<Boolean> decision(final boolean permitted) {
+    return () -> {
+      contractCalls.incrementAndGet();
+      return permitted;
+    };
+  }
+}
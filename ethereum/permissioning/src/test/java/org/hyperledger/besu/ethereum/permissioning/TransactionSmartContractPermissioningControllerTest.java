@@ -28,8 +28,14 @@ import org.hyperledger.besu.crypto.SECP256K1.Signature;
 import org.hyperledger.besu.ethereum.chain.GenesisState;
 import org.hyperledger.besu.ethereum.chain.MutableBlockchain;
 import org.hyperledger.besu.ethereum.core.Address;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.core.Wei;
+import org.hyperledger.besu.ethereum.core.WorldUpdater;
 import org.hyperledger.besu.ethereum.mainnet.MainnetProtocolSchedule;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
@@ -40,9 +46,11 @@ import org.hyperledger.besu.plugin.services.metrics.Counter;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.Collections;
 
 import com.google.common.io.Resources;
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -50,11 +58,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.StrictStubs.class)
 public class TransactionSmartContractPermissioningControllerTest {
+  private static final Address RULES_CONTRACT_ADDRESS =
+      Address.fromHexString("0x0000000000000000000000000000000000005678");
+
   @Mock private MetricsSystem metricsSystem;
   @Mock private Counter checkCounter;
   @Mock private Counter checkPermittedCounter;
   @Mock private Counter checkUnpermittedCounter;
 
+  private MutableBlockchain blockchain;
+  private WorldStateArchive worldArchive;
+
   private TransactionSmartContractPermissioningController setupController(
       final String resourceName, final String contractAddressString) throws IOException {
     final ProtocolSchedule<Void> protocolSchedule = MainnetProtocolSchedule.create();
@@ -64,8 +78,8 @@ public class TransactionSmartContractPermissioningControllerTest {
     final GenesisState genesisState =
         GenesisState.fromConfig(GenesisConfigFile.fromConfig(emptyContractFile), protocolSchedule);
 
-    final MutableBlockchain blockchain = createInMemoryBlockchain(genesisState.getBlock());
-    final WorldStateArchive worldArchive = createInMemoryWorldStateArchive();
+    blockchain = createInMemoryBlockchain(genesisState.getBlock());
+    worldArchive = createInMemoryWorldStateArchive();
 
     genesisState.writeStateTo(worldArchive.getMutable());
 
@@ -106,6 +120,27 @@ public class TransactionSmartContractPermissioningControllerTest {
         .build();
   }
 
+  private void updateRulesContractAtNewChainHead(final UInt256 rulesValue) {
+    final BlockHeader chainHead = blockchain.getChainHeadHeader();
+    final MutableWorldState worldState = worldArchive.getMutable(chainHead.getStateRoot()).get();
+    final WorldUpdater updater = worldState.updater();
+    updater
+        .getAccount(RULES_CONTRACT_ADDRESS)
+        .getMutable()
+        .setStorageValue(UInt256.ZERO, rulesValue);
+    updater.commit();
+    worldState.persist();
+
+    final BlockHeader header =
+        new BlockHeaderTestFixture()
+            .number(chainHead.getNumber() + 1)
+            .parentHash(chainHead.getHash())
+            .gasLimit(chainHead.getGasLimit())
+            .stateRoot(worldState.rootHash())
+            .buildHeader();
+    blockchain.appendBlock(new Block(header, BlockBody.empty()), Collections.emptyList());
+  }
+
   private void verifyCountersUntouched() {
     verify(checkCounter, times(0)).inc();
     verify(checkPermittedCounter, times(0)).inc();
@@ -160,6 +195,25 @@ public class TransactionSmartContractPermissioningControllerTest {
     verifyCountersUnpermitted();
   }
 
+  @Test
+  public void testAccountRevokedInRulesContract() throws IOException {
+    final TransactionSmartContractPermissioningController controller =
+        setupController(
+            "/TransactionSmartContractPermissioningControllerTest/ingressAndRulesPermissioning.json",
+            "0x0000000000000000000000000000000000001234");
+    final Transaction transaction = transactionForAccount(Address.fromHexString("0x1"));
+
+    assertThat(controller.isPermitted(transaction)).isTrue();
+
+    updateRulesContractAtNewChainHead(UInt256.ZERO);
+
+    assertThat(controller.isPermitted(transaction)).isFalse();
+
+    verify(checkCounter, times(2)).inc();
+    verify(checkPermittedCounter, times(1)).inc();
+    verify(checkUnpermittedCounter, times(1)).inc();
+  }
+
   @Test
   public void testPermissioningContractMissing() throws IOException {
     final TransactionSmartContractPermissioningController controller =
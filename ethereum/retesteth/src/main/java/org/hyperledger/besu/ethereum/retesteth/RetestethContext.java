@@ -30,6 +30,7 @@ import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.core.PrivacyParameters;
 import org.hyperledger.besu.ethereum.core.Wei;
 import org.hyperledger.besu.ethereum.eth.manager.EthContext;
 import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
@@ -40,6 +41,7 @@ import org.hyperledger.besu.ethereum.eth.transactions.PendingTransactions;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolConfiguration;
 import org.hyperledger.besu.ethereum.eth.transactions.TransactionPoolFactory;
+import org.hyperledger.besu.ethereum.mainnet.EthHashCacheFactory;
 import org.hyperledger.besu.ethereum.mainnet.EthHashSolver;
 import org.hyperledger.besu.ethereum.mainnet.EthHasher;
 import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
@@ -68,6 +70,8 @@ public class RetestethContext {
   private static final Logger LOG = LogManager.getLogger();
   private static final EthHasher NO_WORK_HASHER =
       (final byte[] buffer, final long nonce, final long number, final byte[] headerHash) -> {};
+  // Shared by every reset so each epoch's cache is only built once
+  private static final EthHasher ETH_HASHER = new EthHasher.Light(new EthHashCacheFactory());
 
   private final ReentrantLock contextLock = new ReentrantLock();
   private Address coinbase;
@@ -120,7 +124,10 @@ public class RetestethContext {
     protocolSchedule =
         MainnetProtocolSchedule.fromConfig(
             JsonGenesisConfigOptions.fromJsonObject(
-                JsonUtil.getObjectNode(genesisConfig, "config").get()));
+                JsonUtil.getObjectNode(genesisConfig, "config").get()),
+            PrivacyParameters.DEFAULT,
+            false,
+            ETH_HASHER);
     if ("NoReward".equalsIgnoreCase(sealEngine)) {
       protocolSchedule = new NoRewardProtocolScheduleWrapper<>(protocolSchedule);
     }
@@ -150,7 +157,7 @@ public class RetestethContext {
     ethHashSolver =
         ("NoProof".equals(sealengine) || "NoReward".equals(sealEngine))
             ? new EthHashSolver(nonceGenerator, NO_WORK_HASHER, false, Subscribers.none())
-            : new EthHashSolver(nonceGenerator, new EthHasher.Light(), false, Subscribers.none());
+            : new EthHashSolver(nonceGenerator, ETH_HASHER, false, Subscribers.none());
 
     blockReplay =
         new BlockReplay(
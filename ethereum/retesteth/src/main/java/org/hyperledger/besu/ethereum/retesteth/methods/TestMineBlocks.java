@@ -28,6 +28,7 @@ import org.hyperledger.besu.ethereum.mainnet.HeaderValidationMode;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.retesteth.RetestethClock;
 import org.hyperledger.besu.ethereum.retesteth.RetestethContext;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import com.google.common.base.Functions;
 import org.apache.tuweni.bytes.Bytes;
@@ -72,7 +73,8 @@ public class TestMineBlocks implements JsonRpcMethod {
             Functions.identity(),
             context.getEthHashSolver(),
             Wei.ZERO,
-            blockchain.getChainHeadHeader());
+            blockchain.getChainHeadHeader(),
+            new NoOpMetricsSystem());
     final Block block = blockCreator.createBlock(retesethClock.instant().getEpochSecond());
 
     // advance clock so next mine won't hit the same timestamp
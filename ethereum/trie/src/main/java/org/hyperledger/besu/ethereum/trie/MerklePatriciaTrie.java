@@ -20,6 +20,8 @@ import org.hyperledger.besu.ethereum.rlp.RLP;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -70,6 +72,19 @@ public interface MerklePatriciaTrie<K, V> {
    */
   Bytes32 getRootHash();
 
+  /**
+   * Returns a task that computes the root hash of the trie, splitting the hashing of modified nodes
+   * across independent subtries when run in a {@link ForkJoinPool}. Hashes computed by the task are
+   * reused by later calls to {@link #getRootHash()} and {@link #commit(NodeUpdater)}.
+   *
+   * <p>The trie must not be modified while the task runs.
+   *
+   * @return A task computing the KECCAK256 hash of the root node of the trie.
+   */
+  default ForkJoinTask<Bytes32> rootHashTask() {
+    return ForkJoinTask.adapt(this::getRootHash);
+  }
+
   /**
    * Commits any pending changes to the underlying storage.
    *
@@ -0,0 +1,61 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Computes the hash of a node, hashing its modified children as separate fork-join tasks near the
+ * top of the trie.
+ *
+ * <p>Nodes cache their hash once computed, so afterwards the root hash and the commit of the trie
+ * only need to encode and hash the nodes above the split. Each task only touches the nodes of its
+ * own subtrie so no two tasks ever compute the hash of the same node.
+ */
+class ParallelHashingTask<V> extends RecursiveTask<Bytes32> {
+
+  // Two levels of a full trie give up to 256 tasks, enough to keep every core busy. Forking further
+  // down costs more in scheduling than hashing the small subtries there saves.
+  private static final int MAX_FORK_DEPTH = 2;
+
+  private final Node<V> node;
+  private final int depth;
+
+  ParallelHashingTask(final Node<V> node) {
+    this(node, 0);
+  }
+
+  private ParallelHashingTask(final Node<V> node, final int depth) {
+    this.node = node;
+    this.depth = depth;
+  }
+
+  @Override
+  protected Bytes32 compute() {
+    if (node.isDirty() && depth < MAX_FORK_DEPTH) {
+      final List<ParallelHashingTask<V>> subtasks =
+          node.getChildren().stream()
+              .filter(Node::isDirty)
+              .map(child -> new ParallelHashingTask<>(child, depth + 1))
+              .collect(Collectors.toList());
+      invokeAll(subtasks);
+    }
+    return node.getHash();
+  }
+}
@@ -20,6 +20,7 @@ import static org.hyperledger.besu.ethereum.trie.CompactEncoding.bytesToPath;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -134,6 +135,11 @@ public class StoredMerklePatriciaTrie<K extends Bytes, V> implements MerklePatri
     return root.getHash();
   }
 
+  @Override
+  public ForkJoinTask<Bytes32> rootHashTask() {
+    return new ParallelHashingTask<>(root);
+  }
+
   @Override
   public String toString() {
     return getClass().getSimpleName() + "[" + getRootHash() + "]";
@@ -21,6 +21,7 @@ import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import org.apache.tuweni.bytes.Bytes;
@@ -43,6 +44,38 @@ public class StoredMerklePatriciaTrieTest extends AbstractMerklePatriciaTrieTest
     return new StoredMerklePatriciaTrie<>(merkleStorage::get, valueSerializer, valueDeserializer);
   }
 
+  @Test
+  public void parallelRootHashMatchesSerialRootHash() {
+    final MerklePatriciaTrie<Bytes, String> serialTrie = createTrie();
+    final MerklePatriciaTrie<Bytes, String> parallelTrie = createTrie();
+    for (int i = 0; i < 1000; i++) {
+      final Bytes key = Bytes32.leftPad(Bytes.ofUnsignedInt(i * 7919L));
+      serialTrie.put(key, "value" + i);
+      parallelTrie.put(key, "value" + i);
+    }
+
+    final Bytes32 parallelRootHash = new ForkJoinPool(4).invoke(parallelTrie.rootHashTask());
+
+    assertThat(parallelRootHash).isEqualTo(serialTrie.getRootHash());
+    assertThat(parallelTrie.getRootHash()).isEqualTo(parallelRootHash);
+  }
+
+  @Test
+  public void canCommitAfterParallelRootHash() {
+    for (int i = 0; i < 100; i++) {
+      trie.put(Bytes32.leftPad(Bytes.ofUnsignedInt(i)), "value" + i);
+    }
+    final Bytes32 rootHash = new ForkJoinPool(4).invoke(trie.rootHashTask());
+    trie.commit(merkleStorage::put);
+
+    final MerklePatriciaTrie<Bytes, String> reloadedTrie =
+        new StoredMerklePatriciaTrie<>(
+            merkleStorage::get, rootHash, valueSerializer, valueDeserializer);
+    for (int i = 0; i < 100; i++) {
+      assertThat(reloadedTrie.get(Bytes32.leftPad(Bytes.ofUnsignedInt(i)))).contains("value" + i);
+    }
+  }
+
   @Test
   public void canReloadTrieFromHash() {
     final Bytes key1 = Bytes.of(1, 5, 8, 9);
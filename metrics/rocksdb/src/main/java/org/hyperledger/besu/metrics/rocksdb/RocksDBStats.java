@@ -19,22 +19,41 @@ import static org.hyperledger.besu.metrics.BesuMetricCategory.KVSTORE_ROCKSDB_ST
 import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import io.prometheus.client.Collector;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.HistogramData;
 import org.rocksdb.HistogramType;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.TickerType;
 
 public class RocksDBStats {
 
+  private static final Logger LOG = LogManager.getLogger();
+
   static final List<String> LABELS = Collections.singletonList("quantile");
   static final List<String> LABEL_50 = Collections.singletonList("0.5");
   static final List<String> LABEL_95 = Collections.singletonList("0.95");
   static final List<String> LABEL_99 = Collections.singletonList("0.99");
+  static final List<String> COLUMN_FAMILY_LABELS = Collections.singletonList("column_family");
+
+  // Per column family properties, each column family has its own block cache configuration
+  static final String[][] COLUMN_FAMILY_PROPERTIES = {
+    {"rocksdb.block-cache-capacity", "block_cache_capacity_bytes"},
+    {"rocksdb.block-cache-usage", "block_cache_usage_bytes"},
+    {"rocksdb.block-cache-pinned-usage", "block_cache_pinned_usage_bytes"},
+    {"rocksdb.estimate-table-readers-mem", "table_readers_memory_bytes"},
+    {"rocksdb.live-sst-files-size", "live_sst_files_size_bytes"},
+  };
 
   // Tickers - RocksDB equivalent of counters
   static final TickerType[] TICKERS = {
@@ -185,6 +204,61 @@ public class RocksDBStats {
     for (final HistogramType histogram : HISTOGRAMS) {
       metricsSystem.addCollector(category, histogramToCollector(stats, histogram));
     }
+
+    metricsSystem.createGauge(
+        category,
+        "block_cache_hit_ratio",
+        "Proportion of RocksDB block cache lookups that found the block in the cache",
+        () -> {
+          final long hits = stats.getTickerCount(TickerType.BLOCK_CACHE_HIT);
+          final long lookups = hits + stats.getTickerCount(TickerType.BLOCK_CACHE_MISS);
+          return lookups == 0 ? 0 : (double) hits / lookups;
+        });
+  }
+
+  public static void registerColumnFamilyMetrics(
+      final RocksDB db,
+      final Map<String, ColumnFamilyHandle> columnHandlesByName,
+      final PrometheusMetricsSystem metricsSystem,
+      final MetricCategory category) {
+    for (final String[] property : COLUMN_FAMILY_PROPERTIES) {
+      metricsSystem.addCollector(
+          category,
+          columnFamilyPropertyToCollector(
+              db,
+              columnHandlesByName,
+              property[0],
+              metricsSystem.convertToPrometheusName(category, property[1])));
+    }
+  }
+
+  private static Collector columnFamilyPropertyToCollector(
+      final RocksDB db,
+      final Map<String, ColumnFamilyHandle> columnHandlesByName,
+      final String property,
+      final String metricName) {
+    return new Collector() {
+      @Override
+      public List<MetricFamilySamples> collect() {
+        final List<MetricFamilySamples.Sample> samples = new ArrayList<>();
+        columnHandlesByName.forEach(
+            (name, handle) -> {
+              try {
+                samples.add(
+                    new MetricFamilySamples.Sample(
+                        metricName,
+                        COLUMN_FAMILY_LABELS,
+                        Collections.singletonList(name.toLowerCase()),
+                        db.getLongProperty(handle, property)));
+              } catch (final RocksDBException e) {
+                LOG.debug("Failed to get RocksDB property {}", property, e);
+              }
+            });
+        return Collections.singletonList(
+            new MetricFamilySamples(
+                metricName, Type.GAUGE, "RocksDB column family " + property, samples));
+      }
+    };
   }
 
   private static Collector histogramToCollector(
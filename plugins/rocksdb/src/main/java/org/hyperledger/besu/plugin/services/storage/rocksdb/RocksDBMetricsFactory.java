@@ -23,11 +23,14 @@ import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfiguration;
 
+import java.util.Map;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
-import org.rocksdb.TransactionDB;
 
 public class RocksDBMetricsFactory {
 
@@ -54,7 +57,7 @@ public class RocksDBMetricsFactory {
   public RocksDBMetrics create(
       final MetricsSystem metricsSystem,
       final RocksDBConfiguration rocksDbConfiguration,
-      final TransactionDB db,
+      final RocksDB db,
       final Statistics stats) {
     final OperationTimer readLatency =
         metricsSystem
@@ -132,4 +135,21 @@ public class RocksDBMetricsFactory {
     return new RocksDBMetrics(
         readLatency, removeLatency, writeLatency, commitLatency, rollbackCount);
   }
+
+  /**
+   * Reports block cache statistics for each column family, which are tuned and cached separately.
+   *
+   * @param metricsSystem the metrics system to register with.
+   * @param db the database the column families belong to.
+   * @param columnHandlesByName the column families to report on, keyed by segment name.
+   */
+  public void registerColumnFamilyMetrics(
+      final MetricsSystem metricsSystem,
+      final RocksDB db,
+      final Map<String, ColumnFamilyHandle> columnHandlesByName) {
+    if (metricsSystem instanceof PrometheusMetricsSystem) {
+      RocksDBStats.registerColumnFamilyMetrics(
+          db, columnHandlesByName, (PrometheusMetricsSystem) metricsSystem, statsDbMetricCategory);
+    }
+  }
 }
@@ -14,6 +14,8 @@
  */
 package org.hyperledger.besu.plugin.services.storage.rocksdb.configuration;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.base.MoreObjects;
 import picocli.CommandLine;
 
@@ -23,6 +25,10 @@ public class RocksDBCLIOptions {
   public static final long DEFAULT_CACHE_CAPACITY = 8388608;
   public static final int DEFAULT_MAX_BACKGROUND_COMPACTIONS = 4;
   public static final int DEFAULT_BACKGROUND_THREAD_COUNT = 4;
+  public static final boolean DEFAULT_TRANSACTIONS_ENABLED = true;
+  public static final int DEFAULT_WORLD_STATE_CACHE_PERCENTAGE = 75;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+  public static final boolean DEFAULT_BLOCKCHAIN_COMPRESSION_ENABLED = true;
 
   private static final String MAX_OPEN_FILES_FLAG = "--Xplugin-rocksdb-max-open-files";
   private static final String CACHE_CAPACITY_FLAG = "--Xplugin-rocksdb-cache-capacity";
@@ -30,6 +36,13 @@ public class RocksDBCLIOptions {
       "--Xplugin-rocksdb-max-background-compactions";
   private static final String BACKGROUND_THREAD_COUNT_FLAG =
       "--Xplugin-rocksdb-background-thread-count";
+  private static final String TRANSACTIONS_ENABLED_FLAG = "--Xplugin-rocksdb-transactions-enabled";
+  private static final String WORLD_STATE_CACHE_PERCENTAGE_FLAG =
+      "--Xplugin-rocksdb-world-state-cache-percentage";
+  private static final String BLOOM_FILTER_BITS_PER_KEY_FLAG =
+      "--Xplugin-rocksdb-bloom-filter-bits-per-key";
+  private static final String BLOCKCHAIN_COMPRESSION_ENABLED_FLAG =
+      "--Xplugin-rocksdb-blockchain-compression-enabled";
 
   @CommandLine.Option(
       names = {MAX_OPEN_FILES_FLAG},
@@ -63,6 +76,41 @@ public class RocksDBCLIOptions {
       description = "Number of RocksDB background threads (default: ${DEFAULT-VALUE})")
   int backgroundThreadCount;
 
+  @CommandLine.Option(
+      names = {TRANSACTIONS_ENABLED_FLAG},
+      hidden = true,
+      defaultValue = "true",
+      paramLabel = "<BOOLEAN>",
+      arity = "1",
+      description = "Whether writes use RocksDB transactions (default: ${DEFAULT-VALUE})")
+  boolean transactionsEnabled;
+
+  @CommandLine.Option(
+      names = {WORLD_STATE_CACHE_PERCENTAGE_FLAG},
+      hidden = true,
+      defaultValue = "75",
+      paramLabel = "<INTEGER>",
+      description = "Percentage of the RocksDB cache for world state (default: ${DEFAULT-VALUE})")
+  int worldStateCachePercentage;
+
+  @CommandLine.Option(
+      names = {BLOOM_FILTER_BITS_PER_KEY_FLAG},
+      hidden = true,
+      defaultValue = "10",
+      paramLabel = "<INTEGER>",
+      description =
+          "Bits per key of RocksDB bloom filters, 0 to disable them (default: ${DEFAULT-VALUE})")
+  int bloomFilterBitsPerKey;
+
+  @CommandLine.Option(
+      names = {BLOCKCHAIN_COMPRESSION_ENABLED_FLAG},
+      hidden = true,
+      defaultValue = "true",
+      paramLabel = "<BOOLEAN>",
+      arity = "1",
+      description = "Whether RocksDB compresses blockchain data (default: ${DEFAULT-VALUE})")
+  boolean blockchainCompressionEnabled;
+
   private RocksDBCLIOptions() {}
 
   public static RocksDBCLIOptions create() {
@@ -75,12 +123,33 @@ public class RocksDBCLIOptions {
     options.cacheCapacity = config.getCacheCapacity();
     options.maxBackgroundCompactions = config.getMaxBackgroundCompactions();
     options.backgroundThreadCount = config.getBackgroundThreadCount();
+    options.transactionsEnabled = config.isTransactionsEnabled();
+    options.worldStateCachePercentage = config.getWorldStateCachePercentage();
+    options.bloomFilterBitsPerKey = config.getBloomFilterBitsPerKey();
+    options.blockchainCompressionEnabled = config.isBlockchainCompressionEnabled();
     return options;
   }
 
   public RocksDBFactoryConfiguration toDomainObject() {
+    checkArgument(
+        worldStateCachePercentage >= 0 && worldStateCachePercentage <= 100,
+        "%s must be between 0 and 100, but was %s",
+        WORLD_STATE_CACHE_PERCENTAGE_FLAG,
+        worldStateCachePercentage);
+    checkArgument(
+        bloomFilterBitsPerKey >= 0,
+        "%s must not be negative, but was %s",
+        BLOOM_FILTER_BITS_PER_KEY_FLAG,
+        bloomFilterBitsPerKey);
     return new RocksDBFactoryConfiguration(
-        maxOpenFiles, maxBackgroundCompactions, backgroundThreadCount, cacheCapacity);
+        maxOpenFiles,
+        maxBackgroundCompactions,
+        backgroundThreadCount,
+        cacheCapacity,
+        transactionsEnabled,
+        worldStateCachePercentage,
+        bloomFilterBitsPerKey,
+        blockchainCompressionEnabled);
   }
 
   @Override
@@ -90,6 +159,10 @@ public class RocksDBCLIOptions {
         .add("cacheCapacity", cacheCapacity)
         .add("maxBackgroundCompactions", maxBackgroundCompactions)
         .add("backgroundThreadCount", backgroundThreadCount)
+        .add("transactionsEnabled", transactionsEnabled)
+        .add("worldStateCachePercentage", worldStateCachePercentage)
+        .add("bloomFilterBitsPerKey", bloomFilterBitsPerKey)
+        .add("blockchainCompressionEnabled", blockchainCompressionEnabled)
         .toString();
   }
 }
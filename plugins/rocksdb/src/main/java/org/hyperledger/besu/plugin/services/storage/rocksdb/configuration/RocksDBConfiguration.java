@@ -24,6 +24,10 @@ public class RocksDBConfiguration {
   private final int maxBackgroundCompactions;
   private final int backgroundThreadCount;
   private final long cacheCapacity;
+  private final boolean transactionsEnabled;
+  private final int worldStateCachePercentage;
+  private final int bloomFilterBitsPerKey;
+  private final boolean blockchainCompressionEnabled;
 
   public RocksDBConfiguration(
       final Path databaseDir,
@@ -31,12 +35,20 @@ public class RocksDBConfiguration {
       final int maxBackgroundCompactions,
       final int backgroundThreadCount,
       final long cacheCapacity,
+      final boolean transactionsEnabled,
+      final int worldStateCachePercentage,
+      final int bloomFilterBitsPerKey,
+      final boolean blockchainCompressionEnabled,
       final String label) {
     this.maxBackgroundCompactions = maxBackgroundCompactions;
     this.backgroundThreadCount = backgroundThreadCount;
     this.databaseDir = databaseDir;
     this.maxOpenFiles = maxOpenFiles;
     this.cacheCapacity = cacheCapacity;
+    this.transactionsEnabled = transactionsEnabled;
+    this.worldStateCachePercentage = worldStateCachePercentage;
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    this.blockchainCompressionEnabled = blockchainCompressionEnabled;
     this.label = label;
   }
 
@@ -60,6 +72,41 @@ public class RocksDBConfiguration {
     return cacheCapacity;
   }
 
+  /**
+   * Whether writes go through RocksDB transactions. When disabled the database is opened without
+   * transaction support and changes are collected in write batches that are written atomically on
+   * commit, avoiding the cost of the transaction lock manager.
+   *
+   * @return true if writes use RocksDB transactions.
+   */
+  public boolean isTransactionsEnabled() {
+    return transactionsEnabled;
+  }
+
+  /**
+   * The share of the block cache capacity reserved for world state column families. Trie nodes are
+   * read with random point lookups, so they benefit most from caching.
+   *
+   * @return the percentage of the cache capacity given to world state data.
+   */
+  public int getWorldStateCachePercentage() {
+    return worldStateCachePercentage;
+  }
+
+  /**
+   * The number of bits per key used by bloom filters, which let lookups skip files that can't
+   * contain the key. Zero disables bloom filters.
+   *
+   * @return the bloom filter bits per key.
+   */
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public boolean isBlockchainCompressionEnabled() {
+    return blockchainCompressionEnabled;
+  }
+
   public String getLabel() {
     return label;
   }
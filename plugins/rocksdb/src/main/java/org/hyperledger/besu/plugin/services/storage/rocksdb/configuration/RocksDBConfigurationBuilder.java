@@ -15,9 +15,13 @@
 package org.hyperledger.besu.plugin.services.storage.rocksdb.configuration;
 
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BACKGROUND_THREAD_COUNT;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BLOCKCHAIN_COMPRESSION_ENABLED;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_CACHE_CAPACITY;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_MAX_BACKGROUND_COMPACTIONS;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_MAX_OPEN_FILES;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_TRANSACTIONS_ENABLED;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_WORLD_STATE_CACHE_PERCENTAGE;
 
 import java.nio.file.Path;
 
@@ -29,6 +33,10 @@ public class RocksDBConfigurationBuilder {
   private long cacheCapacity = DEFAULT_CACHE_CAPACITY;
   private int maxBackgroundCompactions = DEFAULT_MAX_BACKGROUND_COMPACTIONS;
   private int backgroundThreadCount = DEFAULT_BACKGROUND_THREAD_COUNT;
+  private boolean transactionsEnabled = DEFAULT_TRANSACTIONS_ENABLED;
+  private int worldStateCachePercentage = DEFAULT_WORLD_STATE_CACHE_PERCENTAGE;
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private boolean blockchainCompressionEnabled = DEFAULT_BLOCKCHAIN_COMPRESSION_ENABLED;
 
   public RocksDBConfigurationBuilder databaseDir(final Path databaseDir) {
     this.databaseDir = databaseDir;
@@ -60,12 +68,38 @@ public class RocksDBConfigurationBuilder {
     return this;
   }
 
+  public RocksDBConfigurationBuilder transactionsEnabled(final boolean transactionsEnabled) {
+    this.transactionsEnabled = transactionsEnabled;
+    return this;
+  }
+
+  public RocksDBConfigurationBuilder worldStateCachePercentage(
+      final int worldStateCachePercentage) {
+    this.worldStateCachePercentage = worldStateCachePercentage;
+    return this;
+  }
+
+  public RocksDBConfigurationBuilder bloomFilterBitsPerKey(final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public RocksDBConfigurationBuilder blockchainCompressionEnabled(
+      final boolean blockchainCompressionEnabled) {
+    this.blockchainCompressionEnabled = blockchainCompressionEnabled;
+    return this;
+  }
+
   public static RocksDBConfigurationBuilder from(final RocksDBFactoryConfiguration configuration) {
     return new RocksDBConfigurationBuilder()
         .backgroundThreadCount(configuration.getBackgroundThreadCount())
         .cacheCapacity(configuration.getCacheCapacity())
         .maxBackgroundCompactions(configuration.getMaxBackgroundCompactions())
-        .maxOpenFiles(configuration.getMaxOpenFiles());
+        .maxOpenFiles(configuration.getMaxOpenFiles())
+        .transactionsEnabled(configuration.isTransactionsEnabled())
+        .worldStateCachePercentage(configuration.getWorldStateCachePercentage())
+        .bloomFilterBitsPerKey(configuration.getBloomFilterBitsPerKey())
+        .blockchainCompressionEnabled(configuration.isBlockchainCompressionEnabled());
   }
 
   public RocksDBConfiguration build() {
@@ -75,6 +109,10 @@ public class RocksDBConfigurationBuilder {
         maxBackgroundCompactions,
         backgroundThreadCount,
         cacheCapacity,
+        transactionsEnabled,
+        worldStateCachePercentage,
+        bloomFilterBitsPerKey,
+        blockchainCompressionEnabled,
         label);
   }
 }
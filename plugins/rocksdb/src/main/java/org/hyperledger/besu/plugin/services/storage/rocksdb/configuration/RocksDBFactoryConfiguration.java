@@ -20,16 +20,28 @@ public class RocksDBFactoryConfiguration {
   private final int maxBackgroundCompactions;
   private final int backgroundThreadCount;
   private final long cacheCapacity;
+  private final boolean transactionsEnabled;
+  private final int worldStateCachePercentage;
+  private final int bloomFilterBitsPerKey;
+  private final boolean blockchainCompressionEnabled;
 
   public RocksDBFactoryConfiguration(
       final int maxOpenFiles,
       final int maxBackgroundCompactions,
       final int backgroundThreadCount,
-      final long cacheCapacity) {
+      final long cacheCapacity,
+      final boolean transactionsEnabled,
+      final int worldStateCachePercentage,
+      final int bloomFilterBitsPerKey,
+      final boolean blockchainCompressionEnabled) {
     this.maxBackgroundCompactions = maxBackgroundCompactions;
     this.backgroundThreadCount = backgroundThreadCount;
     this.maxOpenFiles = maxOpenFiles;
     this.cacheCapacity = cacheCapacity;
+    this.transactionsEnabled = transactionsEnabled;
+    this.worldStateCachePercentage = worldStateCachePercentage;
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    this.blockchainCompressionEnabled = blockchainCompressionEnabled;
   }
 
   public int getMaxOpenFiles() {
@@ -47,4 +59,20 @@ public class RocksDBFactoryConfiguration {
   public long getCacheCapacity() {
     return cacheCapacity;
   }
+
+  public boolean isTransactionsEnabled() {
+    return transactionsEnabled;
+  }
+
+  public int getWorldStateCachePercentage() {
+    return worldStateCachePercentage;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public boolean isBlockchainCompressionEnabled() {
+    return blockchainCompressionEnabled;
+  }
 }
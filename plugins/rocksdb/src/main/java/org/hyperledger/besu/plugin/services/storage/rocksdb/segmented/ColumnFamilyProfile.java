@@ -0,0 +1,46 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.plugin.services.storage.rocksdb.segmented;
+
+import java.util.Set;
+
+/** How a column family is tuned, chosen by the way the data in its segment is accessed. */
+public enum ColumnFamilyProfile {
+  /**
+   * Data read with random point lookups, such as trie nodes. It gets its own share of the block
+   * cache and hash indexes within data blocks.
+   */
+  POINT_LOOKUP,
+  /**
+   * Blockchain data, which is written once and never rewritten. It is compressed and uses fewer,
+   * larger files with partitioned indexes and filters.
+   */
+  BLOCKCHAIN,
+  /** Everything else, which shares the remaining block cache with the blockchain data. */
+  DEFAULT;
+
+  private static final Set<String> POINT_LOOKUP_SEGMENTS = Set.of("WORLD_STATE", "PRIVATE_STATE");
+  private static final Set<String> BLOCKCHAIN_SEGMENTS = Set.of("BLOCKCHAIN");
+
+  public static ColumnFamilyProfile forSegment(final String segmentName) {
+    if (POINT_LOOKUP_SEGMENTS.contains(segmentName)) {
+      return POINT_LOOKUP;
+    } else if (BLOCKCHAIN_SEGMENTS.contains(segmentName)) {
+      return BLOCKCHAIN;
+    } else {
+      return DEFAULT;
+    }
+  }
+}
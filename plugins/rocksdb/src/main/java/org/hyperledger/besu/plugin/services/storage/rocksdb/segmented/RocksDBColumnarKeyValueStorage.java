@@ -44,17 +44,24 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Env;
+import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Statistics;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 public class RocksDBColumnarKeyValueStorage
@@ -66,10 +73,12 @@ public class RocksDBColumnarKeyValueStorage
 
   private static final Logger LOG = LogManager.getLogger();
   private static final String DEFAULT_COLUMN = "default";
+  private static final long BLOCKCHAIN_TARGET_FILE_SIZE = 256 * 1024 * 1024;
 
   private final DBOptions options;
   private final TransactionDBOptions txOptions;
-  private final TransactionDB db;
+  private final RocksDB db;
+  private final boolean transactionsEnabled;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final Map<String, ColumnFamilyHandle> columnHandlesByName;
   private final RocksDBMetrics metrics;
@@ -82,15 +91,34 @@ public class RocksDBColumnarKeyValueStorage
       throws StorageException {
 
     try {
+      final boolean hasPointLookupSegments =
+          segments.stream()
+              .anyMatch(segment -> profileOf(segment) == ColumnFamilyProfile.POINT_LOOKUP);
+      final long cacheCapacity = configuration.getCacheCapacity();
+      final long pointLookupCacheCapacity =
+          hasPointLookupSegments
+              ? cacheCapacity * configuration.getWorldStateCachePercentage() / 100
+              : 0;
+      final Cache pointLookupCache = new LRUCache(pointLookupCacheCapacity);
+      final Cache sharedCache = new LRUCache(cacheCapacity - pointLookupCacheCapacity);
+
       final List<ColumnFamilyDescriptor> columnDescriptors =
           segments.stream()
-              .map(segment -> new ColumnFamilyDescriptor(segment.getId()))
+              .map(
+                  segment -> {
+                    final ColumnFamilyProfile profile = profileOf(segment);
+                    final Cache cache =
+                        profile == ColumnFamilyProfile.POINT_LOOKUP
+                            ? pointLookupCache
+                            : sharedCache;
+                    return new ColumnFamilyDescriptor(
+                        segment.getId(), createColumnFamilyOptions(profile, configuration, cache));
+                  })
               .collect(Collectors.toList());
       columnDescriptors.add(
           new ColumnFamilyDescriptor(
               DEFAULT_COLUMN.getBytes(StandardCharsets.UTF_8),
-              new ColumnFamilyOptions()
-                  .setTableFormatConfig(createBlockBasedTableConfig(configuration))));
+              createColumnFamilyOptions(ColumnFamilyProfile.DEFAULT, configuration, sharedCache)));
 
       final Statistics stats = new Statistics();
       options =
@@ -104,14 +132,14 @@ public class RocksDBColumnarKeyValueStorage
                   Env.getDefault().setBackgroundThreads(configuration.getBackgroundThreadCount()));
 
       txOptions = new TransactionDBOptions();
+      transactionsEnabled = configuration.isTransactionsEnabled();
+      final String databaseDir = configuration.getDatabaseDir().toString();
       final List<ColumnFamilyHandle> columnHandles = new ArrayList<>(columnDescriptors.size());
       db =
-          TransactionDB.open(
-              options,
-              txOptions,
-              configuration.getDatabaseDir().toString(),
-              columnDescriptors,
-              columnHandles);
+          transactionsEnabled
+              ? TransactionDB.open(
+                  options, txOptions, databaseDir, columnDescriptors, columnHandles)
+              : RocksDB.open(options, databaseDir, columnDescriptors, columnHandles);
       metrics = rocksDBMetricsFactory.create(metricsSystem, configuration, db, stats);
       final Map<Bytes, String> segmentsById =
           segments.stream()
@@ -128,15 +156,54 @@ public class RocksDBColumnarKeyValueStorage
         builder.put(segmentName, columnHandle);
       }
       columnHandlesByName = builder.build();
+      rocksDBMetricsFactory.registerColumnFamilyMetrics(metricsSystem, db, columnHandlesByName);
 
     } catch (final RocksDBException e) {
       throw new StorageException(e);
     }
   }
 
-  private BlockBasedTableConfig createBlockBasedTableConfig(final RocksDBConfiguration config) {
-    final LRUCache cache = new LRUCache(config.getCacheCapacity());
-    return new BlockBasedTableConfig().setBlockCache(cache);
+  private static ColumnFamilyProfile profileOf(final SegmentIdentifier segment) {
+    return ColumnFamilyProfile.forSegment(segment.getName());
+  }
+
+  private static ColumnFamilyOptions createColumnFamilyOptions(
+      final ColumnFamilyProfile profile,
+      final RocksDBConfiguration configuration,
+      final Cache cache) {
+    final ColumnFamilyOptions options = new ColumnFamilyOptions();
+    final BlockBasedTableConfig tableConfig = new BlockBasedTableConfig().setBlockCache(cache);
+    if (configuration.getBloomFilterBitsPerKey() > 0) {
+      tableConfig.setFilterPolicy(new BloomFilter(configuration.getBloomFilterBitsPerKey(), false));
+    }
+
+    switch (profile) {
+      case POINT_LOOKUP:
+        // Find keys within a data block with a hash lookup rather than a binary search
+        tableConfig.setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash);
+        break;
+      case BLOCKCHAIN:
+        // Only the top level of the indexes and filters stays in memory, the partitions needed for
+        // a lookup are loaded through the block cache
+        tableConfig
+            .setIndexType(IndexType.kTwoLevelIndexSearch)
+            .setPartitionFilters(true)
+            .setCacheIndexAndFilterBlocks(true)
+            .setPinTopLevelIndexAndFilter(true);
+        options.setTargetFileSizeBase(BLOCKCHAIN_TARGET_FILE_SIZE);
+        if (configuration.isBlockchainCompressionEnabled()) {
+          options
+              .setCompressionType(CompressionType.LZ4_COMPRESSION)
+              .setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION);
+        } else {
+          options.setCompressionType(CompressionType.NO_COMPRESSION);
+        }
+        break;
+      case DEFAULT:
+      default:
+        break;
+    }
+    return options.setTableFormatConfig(tableConfig);
   }
 
   @Override
@@ -160,8 +227,11 @@ public class RocksDBColumnarKeyValueStorage
   public Transaction<ColumnFamilyHandle> startTransaction() throws StorageException {
     throwIfClosed();
     final WriteOptions options = new WriteOptions();
-    return new SegmentedKeyValueStorageTransactionTransitionValidatorDecorator<>(
-        new RocksDbTransaction(db.beginTransaction(options), options));
+    final Transaction<ColumnFamilyHandle> transaction =
+        transactionsEnabled
+            ? new RocksDbTransaction(((TransactionDB) db).beginTransaction(options), options)
+            : new RocksDbWriteBatchTransaction(new WriteBatch(), options);
+    return new SegmentedKeyValueStorageTransactionTransitionValidatorDecorator<>(transaction);
   }
 
   @Override
@@ -292,4 +362,60 @@ public class RocksDBColumnarKeyValueStorage
       options.close();
     }
   }
+
+  /**
+   * Collects changes in a {@link WriteBatch} and writes them directly to the database, avoiding
+   * the overhead of a transaction. Unlike a transaction it takes no locks, so it is only suitable
+   * where there is a single writer for the affected keys.
+   */
+  private class RocksDbWriteBatchTransaction implements Transaction<ColumnFamilyHandle> {
+
+    private final WriteBatch writeBatch;
+    private final WriteOptions options;
+
+    RocksDbWriteBatchTransaction(final WriteBatch writeBatch, final WriteOptions options) {
+      this.writeBatch = writeBatch;
+      this.options = options;
+    }
+
+    @Override
+    public void put(final ColumnFamilyHandle segment, final byte[] key, final byte[] value) {
+      try (final OperationTimer.TimingContext ignored = metrics.getWriteLatency().startTimer()) {
+        writeBatch.put(segment, key, value);
+      } catch (final RocksDBException e) {
+        throw new StorageException(e);
+      }
+    }
+
+    @Override
+    public void remove(final ColumnFamilyHandle segment, final byte[] key) {
+      try (final OperationTimer.TimingContext ignored = metrics.getRemoveLatency().startTimer()) {
+        writeBatch.delete(segment, key);
+      } catch (final RocksDBException e) {
+        throw new StorageException(e);
+      }
+    }
+
+    @Override
+    public void commit() throws StorageException {
+      try (final OperationTimer.TimingContext ignored = metrics.getCommitLatency().startTimer()) {
+        db.write(options, writeBatch);
+      } catch (final RocksDBException e) {
+        throw new StorageException(e);
+      } finally {
+        close();
+      }
+    }
+
+    @Override
+    public void rollback() {
+      metrics.getRollbackCount().inc();
+      close();
+    }
+
+    private void close() {
+      writeBatch.close();
+      options.close();
+    }
+  }
 }
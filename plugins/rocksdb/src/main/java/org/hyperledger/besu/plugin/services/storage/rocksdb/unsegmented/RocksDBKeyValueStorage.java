@@ -36,11 +36,13 @@ import org.apache.logging.log4j.Logger;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Statistics;
 import org.rocksdb.TransactionDB;
 import org.rocksdb.TransactionDBOptions;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 
 public class RocksDBKeyValueStorage implements KeyValueStorage {
@@ -53,7 +55,8 @@ public class RocksDBKeyValueStorage implements KeyValueStorage {
 
   private final Options options;
   private final TransactionDBOptions txOptions;
-  private final TransactionDB db;
+  private final RocksDB db;
+  private final boolean transactionsEnabled;
   private final AtomicBoolean closed = new AtomicBoolean(false);
   private final RocksDBMetrics rocksDBMetrics;
 
@@ -74,7 +77,12 @@ public class RocksDBKeyValueStorage implements KeyValueStorage {
       options.getEnv().setBackgroundThreads(configuration.getBackgroundThreadCount());
 
       txOptions = new TransactionDBOptions();
-      db = TransactionDB.open(options, txOptions, configuration.getDatabaseDir().toString());
+      transactionsEnabled = configuration.isTransactionsEnabled();
+      final String databaseDir = configuration.getDatabaseDir().toString();
+      db =
+          transactionsEnabled
+              ? TransactionDB.open(options, txOptions, databaseDir)
+              : RocksDB.open(options, databaseDir);
       rocksDBMetrics = rocksDBMetricsFactory.create(metricsSystem, configuration, db, stats);
     } catch (final RocksDBException e) {
       throw new StorageException(e);
@@ -155,8 +163,12 @@ public class RocksDBKeyValueStorage implements KeyValueStorage {
   public KeyValueStorageTransaction startTransaction() throws StorageException {
     throwIfClosed();
     final WriteOptions options = new WriteOptions();
-    return new KeyValueStorageTransactionTransitionValidatorDecorator(
-        new RocksDBTransaction(db.beginTransaction(options), options, rocksDBMetrics));
+    final KeyValueStorageTransaction transaction =
+        transactionsEnabled
+            ? new RocksDBTransaction(
+                ((TransactionDB) db).beginTransaction(options), options, rocksDBMetrics)
+            : new RocksDBWriteBatchTransaction(db, new WriteBatch(), options, rocksDBMetrics);
+    return new KeyValueStorageTransactionTransitionValidatorDecorator(transaction);
   }
 
   @Override
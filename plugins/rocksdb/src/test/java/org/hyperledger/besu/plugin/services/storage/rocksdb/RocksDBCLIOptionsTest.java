@@ -15,10 +15,15 @@
 package org.hyperledger.besu.plugin.services.storage.rocksdb;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BACKGROUND_THREAD_COUNT;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BLOCKCHAIN_COMPRESSION_ENABLED;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_CACHE_CAPACITY;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_MAX_BACKGROUND_COMPACTIONS;
 import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_MAX_OPEN_FILES;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_TRANSACTIONS_ENABLED;
+import static org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions.DEFAULT_WORLD_STATE_CACHE_PERCENTAGE;
 
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBCLIOptions;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBFactoryConfiguration;
@@ -34,6 +39,13 @@ public class RocksDBCLIOptionsTest {
       "--Xplugin-rocksdb-max-background-compactions";
   private static final String BACKGROUND_THREAD_COUNT_FLAG =
       "--Xplugin-rocksdb-background-thread-count";
+  private static final String TRANSACTIONS_ENABLED_FLAG = "--Xplugin-rocksdb-transactions-enabled";
+  private static final String WORLD_STATE_CACHE_PERCENTAGE_FLAG =
+      "--Xplugin-rocksdb-world-state-cache-percentage";
+  private static final String BLOOM_FILTER_BITS_PER_KEY_FLAG =
+      "--Xplugin-rocksdb-bloom-filter-bits-per-key";
+  private static final String BLOCKCHAIN_COMPRESSION_ENABLED_FLAG =
+      "--Xplugin-rocksdb-blockchain-compression-enabled";
 
   @Test
   public void defaultValues() {
@@ -48,6 +60,13 @@ public class RocksDBCLIOptionsTest {
     assertThat(configuration.getMaxBackgroundCompactions())
         .isEqualTo(DEFAULT_MAX_BACKGROUND_COMPACTIONS);
     assertThat(configuration.getMaxOpenFiles()).isEqualTo(DEFAULT_MAX_OPEN_FILES);
+    assertThat(configuration.isTransactionsEnabled()).isEqualTo(DEFAULT_TRANSACTIONS_ENABLED);
+    assertThat(configuration.getWorldStateCachePercentage())
+        .isEqualTo(DEFAULT_WORLD_STATE_CACHE_PERCENTAGE);
+    assertThat(configuration.getBloomFilterBitsPerKey())
+        .isEqualTo(DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
+    assertThat(configuration.isBlockchainCompressionEnabled())
+        .isEqualTo(DEFAULT_BLOCKCHAIN_COMPRESSION_ENABLED);
   }
 
   @Test
@@ -115,4 +134,75 @@ public class RocksDBCLIOptionsTest {
         .isEqualTo(DEFAULT_MAX_BACKGROUND_COMPACTIONS);
     assertThat(configuration.getMaxOpenFiles()).isEqualTo(expectedMaxOpenFiles);
   }
+
+  @Test
+  public void transactionsDisabled() {
+    final RocksDBCLIOptions options = RocksDBCLIOptions.create();
+
+    new CommandLine(options).parse(TRANSACTIONS_ENABLED_FLAG, "false");
+
+    final RocksDBFactoryConfiguration configuration = options.toDomainObject();
+    assertThat(configuration).isNotNull();
+    assertThat(configuration.getBackgroundThreadCount()).isEqualTo(DEFAULT_BACKGROUND_THREAD_COUNT);
+    assertThat(configuration.getCacheCapacity()).isEqualTo(DEFAULT_CACHE_CAPACITY);
+    assertThat(configuration.getMaxBackgroundCompactions())
+        .isEqualTo(DEFAULT_MAX_BACKGROUND_COMPACTIONS);
+    assertThat(configuration.getMaxOpenFiles()).isEqualTo(DEFAULT_MAX_OPEN_FILES);
+    assertThat(configuration.isTransactionsEnabled()).isFalse();
+  }
+
+  @Test
+  public void customColumnFamilyTuning() {
+    final RocksDBCLIOptions options = RocksDBCLIOptions.create();
+
+    new CommandLine(options)
+        .parse(
+            WORLD_STATE_CACHE_PERCENTAGE_FLAG,
+            "50",
+            BLOOM_FILTER_BITS_PER_KEY_FLAG,
+            "0",
+            BLOCKCHAIN_COMPRESSION_ENABLED_FLAG,
+            "false");
+
+    final RocksDBFactoryConfiguration configuration = options.toDomainObject();
+    assertThat(configuration).isNotNull();
+    assertThat(configuration.getWorldStateCachePercentage()).isEqualTo(50);
+    assertThat(configuration.getBloomFilterBitsPerKey()).isZero();
+    assertThat(configuration.isBlockchainCompressionEnabled()).isFalse();
+    assertThat(configuration.getCacheCapacity()).isEqualTo(DEFAULT_CACHE_CAPACITY);
+    assertThat(configuration.isTransactionsEnabled()).isEqualTo(DEFAULT_TRANSACTIONS_ENABLED);
+  }
+
+  @Test
+  public void worldStateCachePercentageAboveOneHundredIsRejected() {
+    final RocksDBCLIOptions options = RocksDBCLIOptions.create();
+
+    new CommandLine(options).parse(WORLD_STATE_CACHE_PERCENTAGE_FLAG, "101");
+
+    assertThatThrownBy(options::toDomainObject)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(WORLD_STATE_CACHE_PERCENTAGE_FLAG);
+  }
+
+  @Test
+  public void negativeWorldStateCachePercentageIsRejected() {
+    final RocksDBCLIOptions options = RocksDBCLIOptions.create();
+
+    new CommandLine(options).parse(WORLD_STATE_CACHE_PERCENTAGE_FLAG, "-1");
+
+    assertThatThrownBy(options::toDomainObject)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(WORLD_STATE_CACHE_PERCENTAGE_FLAG);
+  }
+
+  @Test
+  public void negativeBloomFilterBitsPerKeyIsRejected() {
+    final RocksDBCLIOptions options = RocksDBCLIOptions.create();
+
+    new CommandLine(options).parse(BLOOM_FILTER_BITS_PER_KEY_FLAG, "-1");
+
+    assertThatThrownBy(options::toDomainObject)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(BLOOM_FILTER_BITS_PER_KEY_FLAG);
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.plugin.services.storage.rocksdb.segmented;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ColumnFamilyProfileTest {
+
+  @Test
+  public void stateSegmentsAreTunedForPointLookups() {
+    assertThat(ColumnFamilyProfile.forSegment("WORLD_STATE"))
+        .isEqualTo(ColumnFamilyProfile.POINT_LOOKUP);
+    assertThat(ColumnFamilyProfile.forSegment("PRIVATE_STATE"))
+        .isEqualTo(ColumnFamilyProfile.POINT_LOOKUP);
+  }
+
+  @Test
+  public void blockchainSegmentIsTunedForBlockchainData() {
+    assertThat(ColumnFamilyProfile.forSegment("BLOCKCHAIN"))
+        .isEqualTo(ColumnFamilyProfile.BLOCKCHAIN);
+  }
+
+  @Test
+  public void otherSegmentsUseDefaultTuning() {
+    assertThat(ColumnFamilyProfile.forSegment("PRUNING_STATE"))
+        .isEqualTo(ColumnFamilyProfile.DEFAULT);
+    assertThat(ColumnFamilyProfile.forSegment("default")).isEqualTo(ColumnFamilyProfile.DEFAULT);
+  }
+}
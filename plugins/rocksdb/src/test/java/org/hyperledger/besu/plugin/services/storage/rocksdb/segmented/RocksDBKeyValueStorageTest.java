@@ -130,7 +130,7 @@ public class RocksDBKeyValueStorageTest extends AbstractKeyValueStorageTest {
         .isEqualTo("Number of RocksDB transactions rolled back.");
   }
 
-  private RocksDBConfiguration config() throws Exception {
+  protected RocksDBConfiguration config() throws Exception {
     return new RocksDBConfigurationBuilder().databaseDir(folder.newFolder().toPath()).build();
   }
 }
@@ -21,6 +21,7 @@ import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.services.storage.KeyValueStorage;
 import org.hyperledger.besu.plugin.services.storage.SegmentIdentifier;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.RocksDBMetricsFactory;
+import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfiguration;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.configuration.RocksDBConfigurationBuilder;
 import org.hyperledger.besu.plugin.services.storage.rocksdb.segmented.RocksDBColumnarKeyValueStorage;
 import org.hyperledger.besu.services.kvstore.SegmentedKeyValueStorage;
@@ -121,6 +122,30 @@ public class RocksDBColumnarKeyValueStorageTest extends AbstractKeyValueStorageT
     assertThat(gotFromBar).containsExactlyInAnyOrder(bytesOf(4), bytesOf(5));
   }
 
+  @Test
+  public void segmentsWithTunedColumnFamiliesCanBeUsed() throws Exception {
+    final SegmentedKeyValueStorage<ColumnFamilyHandle> store =
+        new RocksDBColumnarKeyValueStorage(
+            config(),
+            Arrays.asList(TunedSegment.values()),
+            new NoOpMetricsSystem(),
+            RocksDBMetricsFactory.PUBLIC_ROCKS_DB_METRICS);
+    final ColumnFamilyHandle worldStateSegment =
+        store.getSegmentIdentifierByName(TunedSegment.WORLD_STATE);
+    final ColumnFamilyHandle blockchainSegment =
+        store.getSegmentIdentifierByName(TunedSegment.BLOCKCHAIN);
+
+    final Transaction<ColumnFamilyHandle> tx = store.startTransaction();
+    tx.put(worldStateSegment, bytesOf(1), bytesOf(1));
+    tx.put(blockchainSegment, bytesOf(2), bytesOf(2));
+    tx.commit();
+
+    assertThat(store.get(worldStateSegment, bytesOf(1))).contains(bytesOf(1));
+    assertThat(store.get(worldStateSegment, bytesOf(2))).isEmpty();
+    assertThat(store.get(blockchainSegment, bytesOf(2))).contains(bytesOf(2));
+    assertThat(store.get(blockchainSegment, bytesOf(1))).isEmpty();
+  }
+
   public enum TestSegment implements SegmentIdentifier {
     FOO(new byte[] {1}),
     BAR(new byte[] {2});
@@ -144,14 +169,39 @@ public class RocksDBColumnarKeyValueStorageTest extends AbstractKeyValueStorageT
     }
   }
 
+  public enum TunedSegment implements SegmentIdentifier {
+    WORLD_STATE(new byte[] {3}),
+    BLOCKCHAIN(new byte[] {4});
+
+    private final byte[] id;
+
+    TunedSegment(final byte[] id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getName() {
+      return name();
+    }
+
+    @Override
+    public byte[] getId() {
+      return id;
+    }
+  }
+
   private SegmentedKeyValueStorage<ColumnFamilyHandle> createSegmentedStore() throws Exception {
     return new RocksDBColumnarKeyValueStorage(
-        new RocksDBConfigurationBuilder().databaseDir(folder.newFolder().toPath()).build(),
+        config(),
         Arrays.asList(TestSegment.FOO, TestSegment.BAR),
         new NoOpMetricsSystem(),
         RocksDBMetricsFactory.PUBLIC_ROCKS_DB_METRICS);
   }
 
+  protected RocksDBConfiguration config() throws Exception {
+    return new RocksDBConfigurationBuilder().databaseDir(folder.newFolder().toPath()).build();
+  }
+
   @Override
   protected KeyValueStorage createStore() throws Exception {
     return new SegmentedKeyValueStorageAdapter<>(TestSegment.FOO, createSegmentedStore());
@@ -15,30 +15,67 @@
 package org.hyperledger.besu.services.tasks;
 
 import java.io.IOException;
-import java.util.ArrayDeque;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps up to a fixed number of tasks in memory, passing any others on to a wrapped collection
+ * which is typically backed by disk.
+ *
+ * <p>Cached tasks are held in one queue per priority and are always removed from the highest
+ * priority queue that has tasks available. Adding and removing cached tasks doesn't take any locks
+ * so many threads can work through the collection at once. The wrapped collection is only used
+ * once the cache is full or empty.
+ */
 public class CachingTaskCollection<T> implements TaskCollection<T> {
 
   public static final int DEFAULT_CACHE_SIZE = 1_000_000;
+  public static final int MAX_PRIORITY = 63;
   private final int maxCacheSize;
 
   // The underlying collection
   private final TaskCollection<T> wrappedCollection;
+  private final ToIntFunction<T> priority;
   /**
-   * A cache of tasks to operate on before going to {@link CachingTaskCollection#wrappedCollection}
+   * A cache of tasks to operate on before going to {@link CachingTaskCollection#wrappedCollection},
+   * indexed by priority
    */
-  private final Queue<Task<T>> cache = new ArrayDeque<>();
+  private final List<Queue<Task<T>>> cache = new ArrayList<>();
   // Tasks that have been removed, but not marked completed yet
-  private final Set<Task<T>> outstandingTasks = new HashSet<>();
+  private final Set<Task<T>> outstandingTasks = ConcurrentHashMap.newKeySet();
+  // The number of tasks that are either in the cache or outstanding
+  private final AtomicInteger reservedCacheSpace = new AtomicInteger();
+  private final AtomicInteger cachedTaskCount = new AtomicInteger();
 
-  private boolean closed = false;
+  private volatile boolean closed = false;
 
-  public CachingTaskCollection(final TaskCollection<T> collection, final int maxCacheSize) {
+  /**
+   * @param collection The collection to hold tasks that don't fit in the cache.
+   * @param maxCacheSize The maximum number of tasks to keep in memory.
+   * @param priority Gives the priority of each task, from 0 up to {@link #MAX_PRIORITY}. Tasks with
+   *     higher priority are removed first.
+   */
+  public CachingTaskCollection(
+      final TaskCollection<T> collection,
+      final int maxCacheSize,
+      final ToIntFunction<T> priority) {
     this.wrappedCollection = collection;
     this.maxCacheSize = maxCacheSize;
+    this.priority = priority;
+    for (int i = 0; i <= MAX_PRIORITY; i++) {
+      cache.add(new ConcurrentLinkedQueue<>());
+    }
+  }
+
+  public CachingTaskCollection(final TaskCollection<T> collection, final int maxCacheSize) {
+    this(collection, maxCacheSize, taskData -> 0);
   }
 
   public CachingTaskCollection(final TaskCollection<T> collection) {
@@ -46,28 +83,48 @@ public class CachingTaskCollection<T> implements TaskCollection<T> {
   }
 
   @Override
-  public synchronized void add(final T taskData) {
+  public void add(final T taskData) {
     assertNotClosed();
-    if (cacheSize() >= maxCacheSize) {
+    if (reserveCacheSpace(1) == 0) {
       // Too many tasks in the cache, push this to the underlying collection
       wrappedCollection.add(taskData);
       return;
     }
-
-    Task<T> newTask = new CachedTask<>(this, taskData);
-    cache.add(newTask);
+    addToCache(new CachedTask<>(this, taskData));
   }
 
   @Override
-  public synchronized Task<T> remove() {
+  public void addAll(final Collection<T> taskData) {
     assertNotClosed();
-    if (cache.size() == 0) {
-      return wrappedCollection.remove();
+    final int cacheSpace = reserveCacheSpace(taskData.size());
+    final List<T> overflow = new ArrayList<>(taskData.size() - cacheSpace);
+    int added = 0;
+    for (final T data : taskData) {
+      if (added < cacheSpace) {
+        addToCache(new CachedTask<>(this, data));
+        added++;
+      } else {
+        overflow.add(data);
+      }
+    }
+    if (!overflow.isEmpty()) {
+      // Too many tasks in the cache, push the rest to the underlying collection in one go
+      wrappedCollection.addAll(overflow);
     }
+  }
 
-    final Task<T> pendingTask = cache.remove();
-    outstandingTasks.add(pendingTask);
-    return pendingTask;
+  @Override
+  public Task<T> remove() {
+    assertNotClosed();
+    for (int i = MAX_PRIORITY; i >= 0; i--) {
+      final Task<T> pendingTask = cache.get(i).poll();
+      if (pendingTask != null) {
+        cachedTaskCount.decrementAndGet();
+        outstandingTasks.add(pendingTask);
+        return pendingTask;
+      }
+    }
+    return wrappedCollection.remove();
   }
 
   @Override
@@ -75,45 +132,84 @@ public class CachingTaskCollection<T> implements TaskCollection<T> {
     assertNotClosed();
     wrappedCollection.clear();
     outstandingTasks.clear();
-    cache.clear();
+    cache.forEach(Queue::clear);
+    cachedTaskCount.set(0);
+    reservedCacheSpace.set(0);
   }
 
   @Override
-  public synchronized long size() {
-    return wrappedCollection.size() + cache.size();
+  public long size() {
+    return wrappedCollection.size() + cachedTaskCount.get();
   }
 
-  public synchronized int cacheSize() {
-    return outstandingTasks.size() + cache.size();
+  public int cacheSize() {
+    return reservedCacheSpace.get();
   }
 
   @Override
-  public synchronized boolean isEmpty() {
+  public boolean isEmpty() {
     return size() == 0;
   }
 
   /** @return True if all tasks have been removed and processed. */
   @Override
-  public synchronized boolean allTasksCompleted() {
+  public boolean allTasksCompleted() {
     return cacheSize() == 0 && wrappedCollection.allTasksCompleted();
   }
 
-  private synchronized boolean completePendingTask(final CachedTask<T> cachedTask) {
-    return outstandingTasks.remove(cachedTask);
+  /**
+   * Reserves space in the cache for new tasks.
+   *
+   * @param taskCount the number of tasks to be added
+   * @return the number of tasks that fit in the cache, which may be less than requested
+   */
+  private int reserveCacheSpace(final int taskCount) {
+    while (true) {
+      final int currentSize = reservedCacheSpace.get();
+      final int reserved = Math.max(0, Math.min(taskCount, maxCacheSize - currentSize));
+      if (reserved == 0 || reservedCacheSpace.compareAndSet(currentSize, currentSize + reserved)) {
+        return reserved;
+      }
+    }
+  }
+
+  private void addToCache(final CachedTask<T> task) {
+    final int taskPriority = Math.max(0, Math.min(MAX_PRIORITY, priority.applyAsInt(task.data)));
+    cache.get(taskPriority).add(task);
+    cachedTaskCount.incrementAndGet();
+  }
+
+  private void completePendingTask(final CachedTask<T> cachedTask) {
+    if (outstandingTasks.remove(cachedTask)) {
+      reservedCacheSpace.decrementAndGet();
+    }
   }
 
-  private synchronized void failPendingTask(final CachedTask<T> cachedTask) {
-    if (completePendingTask(cachedTask)) {
-      cache.add(cachedTask);
+  private void failPendingTask(final CachedTask<T> cachedTask) {
+    if (outstandingTasks.remove(cachedTask)) {
+      addToCache(cachedTask);
     }
   }
 
+  /**
+   * Closes the collection. Tasks held in memory, including those removed but not yet completed,
+   * are first added to the wrapped collection so that they are kept if it stores them.
+   */
   @Override
   public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    final List<T> inMemoryTasks = new ArrayList<>(cachedTaskCount.get() + outstandingTasks.size());
+    outstandingTasks.forEach(task -> inMemoryTasks.add(task.getData()));
+    cache.forEach(queue -> queue.forEach(task -> inMemoryTasks.add(task.getData())));
     outstandingTasks.clear();
-    cache.clear();
+    cache.forEach(Queue::clear);
+    if (!inMemoryTasks.isEmpty()) {
+      wrappedCollection.addAll(inMemoryTasks);
+    }
     wrappedCollection.close();
-    closed = true;
   }
 
   private void assertNotClosed() {
@@ -20,10 +20,13 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
@@ -99,17 +102,46 @@ public class FlatFileTaskCollection<T> implements TaskCollection<T> {
     try {
       writeTaskData(data);
       size++;
-      if (writeFileChannel.size() > rollWhenFileSizeExceedsBytes) {
-        LOG.debug("Writing reached end of file {}", writeFileNumber);
-        writeFileChannel.close();
-        writeFileNumber++;
-        writeFileChannel = openWriteFileChannel(writeFileNumber);
+      rollWriteFileIfFull();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public synchronized void addAll(final Collection<T> taskData) {
+    if (taskData.isEmpty()) {
+      return;
+    }
+    // Write all the tasks with a single sequential write
+    final List<Bytes> serializedTasks =
+        taskData.stream().map(serializer).collect(Collectors.toList());
+    final int totalSize =
+        serializedTasks.stream().mapToInt(data -> Integer.BYTES + data.size()).sum();
+    final ByteBuffer buffer = ByteBuffer.allocate(totalSize);
+    serializedTasks.forEach(data -> buffer.putInt(data.size()).put(data.toArrayUnsafe()));
+    buffer.flip();
+    try {
+      final long offset = writeFileChannel.size();
+      while (buffer.hasRemaining()) {
+        writeFileChannel.write(buffer, offset + buffer.position());
       }
+      size += serializedTasks.size();
+      rollWriteFileIfFull();
     } catch (final IOException e) {
       throw new StorageException(e);
     }
   }
 
+  private void rollWriteFileIfFull() throws IOException {
+    if (writeFileChannel.size() > rollWhenFileSizeExceedsBytes) {
+      LOG.debug("Writing reached end of file {}", writeFileNumber);
+      writeFileChannel.close();
+      writeFileNumber++;
+      writeFileChannel = openWriteFileChannel(writeFileNumber);
+    }
+  }
+
   @Override
   public synchronized Task<T> remove() {
     if (isEmpty()) {
@@ -0,0 +1,461 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import org.hyperledger.besu.services.tasks.FlatFileTaskCollection.StorageException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A task collection which stores tasks in memory-mapped segment files so that adding and removing
+ * tasks doesn't require a system call per task, and which can be reopened after a restart.
+ *
+ * <p>Each task is stored as its length plus one followed by its serialized data, so a zero length
+ * marks the end of the data in a segment. Tasks are read a batch at a time.
+ *
+ * <p>The positions to resume reading and writing from are stored in a checkpoint file whenever a
+ * segment is finished with, periodically as tasks are completed and when the collection is closed.
+ * The read position in the checkpoint is never later than the earliest task that has been removed
+ * but not completed, so after a crash any task that hadn't been completed is handed out again.
+ * Tasks written after the last checkpoint are recovered by scanning forward from its write
+ * position. The checkpoint also records whether the collection was closed, so callers holding
+ * tasks elsewhere in memory can tell whether those were lost.
+ */
+public class MappedTaskCollection<T> implements TaskCollection<T> {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final int DEFAULT_SEGMENT_SIZE_BYTES = 1024 * 1024 * 64; // 64Mb
+  private static final int READ_BATCH_SIZE = 1000;
+  private static final int CHECKPOINT_INTERVAL = 100_000;
+  private static final int CHECKPOINT_VERSION = 1;
+  static final String SEGMENT_PREFIX = "segment";
+  static final String CHECKPOINT_FILENAME = "checkpoint";
+
+  private final Path storageDirectory;
+  private final Function<T, Bytes> serializer;
+  private final Function<Bytes, T> deserializer;
+  private final int segmentSizeBytes;
+
+  // Tasks read from the current read segment but not yet removed
+  private final Queue<MappedTask<T>> readTasks = new ArrayDeque<>();
+  // Tasks that have been removed but not completed, indexed by where they are stored
+  private final NavigableMap<Long, MappedTask<T>> outstandingTasks = new TreeMap<>();
+
+  private MappedByteBuffer readBuffer;
+  private MappedByteBuffer writeBuffer;
+  private int readSegmentNumber;
+  private int writeSegmentNumber;
+  private int firstSegmentNumber;
+  private long size = 0;
+  private int completedSinceCheckpoint = 0;
+  private boolean closed = false;
+  private boolean closedBeforeOpening = true;
+
+  public MappedTaskCollection(
+      final Path storageDirectory,
+      final Function<T, Bytes> serializer,
+      final Function<Bytes, T> deserializer) {
+    this(storageDirectory, serializer, deserializer, DEFAULT_SEGMENT_SIZE_BYTES);
+  }
+
+  MappedTaskCollection(
+      final Path storageDirectory,
+      final Function<T, Bytes> serializer,
+      final Function<Bytes, T> deserializer,
+      final int segmentSizeBytes) {
+    this.storageDirectory = storageDirectory;
+    this.serializer = serializer;
+    this.deserializer = deserializer;
+    this.segmentSizeBytes = segmentSizeBytes;
+    try {
+      open();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private void open() throws IOException {
+    final Path checkpointPath = storageDirectory.resolve(CHECKPOINT_FILENAME);
+    if (!checkpointPath.toFile().exists()) {
+      deleteSegments(0, Integer.MAX_VALUE);
+      firstSegmentNumber = readSegmentNumber = writeSegmentNumber = 0;
+      readBuffer = mapSegment(0, segmentSizeBytes);
+      writeBuffer = mapSegment(0, segmentSizeBytes);
+      writeCheckpoint();
+      return;
+    }
+
+    final ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+    final int version = checkpoint.getInt();
+    if (version != CHECKPOINT_VERSION) {
+      throw new IllegalStateException("Unsupported task queue checkpoint version " + version);
+    }
+    final long readPosition = checkpoint.getLong();
+    final long writePosition = checkpoint.getLong();
+    closedBeforeOpening = checkpoint.get() != 0;
+    firstSegmentNumber = readSegmentNumber = segmentNumber(readPosition);
+    readBuffer = mapSegment(readSegmentNumber, segmentSizeBytes);
+    readBuffer.position(segmentOffset(readPosition));
+
+    // Find the end of the data, which may be after the checkpointed write position
+    writeSegmentNumber = segmentNumber(writePosition);
+    writeBuffer = mapSegment(writeSegmentNumber, segmentSizeBytes);
+    writeBuffer.position(segmentOffset(writePosition));
+    skipEntries(writeBuffer);
+    while (pathForSegment(writeSegmentNumber + 1).toFile().exists()) {
+      writeSegmentNumber++;
+      writeBuffer = mapSegment(writeSegmentNumber, segmentSizeBytes);
+      skipEntries(writeBuffer);
+    }
+
+    // Count the tasks remaining to be read
+    final ByteBuffer countBuffer = readBuffer.duplicate();
+    size = skipEntries(countBuffer);
+    for (int segment = readSegmentNumber + 1; segment <= writeSegmentNumber; segment++) {
+      size += skipEntries(mapSegment(segment, segmentSizeBytes));
+    }
+    LOG.info("Resuming task queue with {} tasks from {}", size, storageDirectory);
+  }
+
+  /**
+   * Moves the buffer's position past the tasks stored from its current position.
+   *
+   * @param buffer the buffer to move
+   * @return the number of tasks skipped
+   */
+  private static int skipEntries(final ByteBuffer buffer) {
+    int count = 0;
+    while (buffer.remaining() >= Integer.BYTES) {
+      final int length = buffer.getInt(buffer.position()) - 1;
+      if (length < 0 || length > buffer.remaining() - Integer.BYTES) {
+        break;
+      }
+      buffer.position(buffer.position() + Integer.BYTES + length);
+      count++;
+    }
+    return count;
+  }
+
+  @Override
+  public synchronized void add(final T taskData) {
+    assertNotClosed();
+    writeTaskData(serializer.apply(taskData));
+    size++;
+  }
+
+  @Override
+  public synchronized void addAll(final Collection<T> taskData) {
+    assertNotClosed();
+    for (final T data : taskData) {
+      writeTaskData(serializer.apply(data));
+    }
+    size += taskData.size();
+  }
+
+  private void writeTaskData(final Bytes data) {
+    if (writeBuffer.remaining() < Integer.BYTES + data.size()) {
+      startNewWriteSegment(data.size());
+    }
+    writeBuffer.putInt(data.size() + 1);
+    writeBuffer.put(data.toArrayUnsafe());
+  }
+
+  private void startNewWriteSegment(final int dataSize) {
+    LOG.debug("Writing reached end of segment {}", writeSegmentNumber);
+    try {
+      writeBuffer.force();
+      writeSegmentNumber++;
+      writeBuffer =
+          mapSegment(writeSegmentNumber, Math.max(segmentSizeBytes, Integer.BYTES * 2 + dataSize));
+      writeCheckpoint();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public synchronized Task<T> remove() {
+    assertNotClosed();
+    if (readTasks.isEmpty()) {
+      readBatch();
+    }
+    final MappedTask<T> task = readTasks.poll();
+    if (task == null) {
+      return null;
+    }
+    outstandingTasks.put(task.position, task);
+    size--;
+    return task;
+  }
+
+  private void readBatch() {
+    while (readTasks.size() < READ_BATCH_SIZE) {
+      if (readSegmentNumber == writeSegmentNumber
+          && readBuffer.position() >= writeBuffer.position()) {
+        return;
+      }
+      if (readBuffer.remaining() < Integer.BYTES || readBuffer.getInt(readBuffer.position()) == 0) {
+        if (readSegmentNumber == writeSegmentNumber) {
+          return;
+        }
+        LOG.debug("Reading reached end of segment {}", readSegmentNumber);
+        readSegmentNumber++;
+        readBuffer = mapSegment(readSegmentNumber, segmentSizeBytes);
+        continue;
+      }
+      final long position = position(readSegmentNumber, readBuffer.position());
+      final byte[] data = new byte[readBuffer.getInt() - 1];
+      readBuffer.get(data);
+      readTasks.add(new MappedTask<>(this, deserializer.apply(Bytes.wrap(data)), position));
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    assertNotClosed();
+    readTasks.clear();
+    outstandingTasks.clear();
+    try {
+      Files.deleteIfExists(storageDirectory.resolve(CHECKPOINT_FILENAME));
+      deleteSegments(firstSegmentNumber, writeSegmentNumber);
+      firstSegmentNumber = readSegmentNumber = writeSegmentNumber = 0;
+      readBuffer = mapSegment(0, segmentSizeBytes);
+      writeBuffer = mapSegment(0, segmentSizeBytes);
+      size = 0;
+      writeCheckpoint();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  @Override
+  public synchronized long size() {
+    return size;
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public synchronized boolean allTasksCompleted() {
+    return isEmpty() && outstandingTasks.isEmpty();
+  }
+
+  /**
+   * Whether the stored tasks were written by a collection that was closed. If it wasn't, for
+   * example because the node crashed, tasks that were held elsewhere in memory were lost.
+   *
+   * @return true if the collection was closed before being reopened, or had no stored tasks
+   */
+  public synchronized boolean wasClosedBeforeOpening() {
+    return closedBeforeOpening;
+  }
+
+  @VisibleForTesting
+  synchronized int getReadSegmentNumber() {
+    return readSegmentNumber;
+  }
+
+  @VisibleForTesting
+  synchronized int getWriteSegmentNumber() {
+    return writeSegmentNumber;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      writeBuffer.force();
+      writeCheckpoint();
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  /**
+   * Records where to resume reading and writing from and deletes any segments which are no longer
+   * needed. The written data must have been forced to disk first.
+   */
+  private void writeCheckpoint() throws IOException {
+    completedSinceCheckpoint = 0;
+    final long readPosition = resumeReadPosition();
+    final ByteBuffer checkpoint = ByteBuffer.allocate(Integer.BYTES + Long.BYTES * 2 + 1);
+    checkpoint.putInt(CHECKPOINT_VERSION);
+    checkpoint.putLong(readPosition);
+    checkpoint.putLong(position(writeSegmentNumber, writeBuffer.position()));
+    checkpoint.put((byte) (closed ? 1 : 0));
+    final Path checkpointPath = storageDirectory.resolve(CHECKPOINT_FILENAME);
+    final Path tempPath = storageDirectory.resolve(CHECKPOINT_FILENAME + ".tmp");
+    try (final FileChannel channel =
+        FileChannel.open(
+            tempPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      checkpoint.flip();
+      channel.write(checkpoint);
+      channel.force(true);
+    }
+    Files.move(tempPath, checkpointPath, StandardCopyOption.ATOMIC_MOVE);
+
+    final int resumeSegmentNumber = segmentNumber(readPosition);
+    deleteSegments(firstSegmentNumber, resumeSegmentNumber - 1);
+    firstSegmentNumber = resumeSegmentNumber;
+  }
+
+  /** @return the position of the earliest task that has not been completed. */
+  private long resumeReadPosition() {
+    if (!outstandingTasks.isEmpty()) {
+      return outstandingTasks.firstKey();
+    }
+    final MappedTask<T> nextTask = readTasks.peek();
+    if (nextTask != null) {
+      return nextTask.position;
+    }
+    return position(readSegmentNumber, readBuffer.position());
+  }
+
+  private MappedByteBuffer mapSegment(final int segmentNumber, final int minimumSize) {
+    final Path path = pathForSegment(segmentNumber);
+    try (final FileChannel channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // Mapping beyond the end of the file extends it with zeros, which mark the end of the data
+      final long mappedSize = Math.max(channel.size(), minimumSize);
+      return channel.map(MapMode.READ_WRITE, 0, mappedSize);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+  }
+
+  private void deleteSegments(final int fromSegmentNumber, final int toSegmentNumber) {
+    for (int i = fromSegmentNumber; i <= toSegmentNumber; i++) {
+      final File file = pathForSegment(i).toFile();
+      if (!file.exists()) {
+        if (toSegmentNumber == Integer.MAX_VALUE) {
+          return;
+        }
+        continue;
+      }
+      if (!file.delete()) {
+        LOG.error("Failed to delete tasks file {}", file.getAbsolutePath());
+      }
+    }
+  }
+
+  private Path pathForSegment(final int segmentNumber) {
+    return storageDirectory.resolve(SEGMENT_PREFIX + segmentNumber);
+  }
+
+  private static long position(final int segmentNumber, final int offset) {
+    return ((long) segmentNumber << 32) | offset;
+  }
+
+  private static int segmentNumber(final long position) {
+    return (int) (position >>> 32);
+  }
+
+  private static int segmentOffset(final long position) {
+    return (int) position;
+  }
+
+  private synchronized boolean markTaskCompleted(final MappedTask<T> task) {
+    if (!outstandingTasks.remove(task.position, task)) {
+      return false;
+    }
+    completedSinceCheckpoint++;
+    if (completedSinceCheckpoint >= CHECKPOINT_INTERVAL && !closed) {
+      try {
+        writeBuffer.force();
+        writeCheckpoint();
+      } catch (final IOException e) {
+        throw new StorageException(e);
+      }
+    }
+    return true;
+  }
+
+  private synchronized void handleFailedTask(final MappedTask<T> task) {
+    // Add the task again before completing it so the checkpoint never skips past it
+    if (!closed && outstandingTasks.get(task.position) == task) {
+      add(task.getData());
+      markTaskCompleted(task);
+    }
+  }
+
+  private void assertNotClosed() {
+    if (closed) {
+      throw new IllegalStateException("Attempt to access closed " + getClass().getSimpleName());
+    }
+  }
+
+  private static class MappedTask<T> implements Task<T> {
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+    private final MappedTaskCollection<T> parentQueue;
+    private final T data;
+    private final long position;
+
+    private MappedTask(
+        final MappedTaskCollection<T> parentQueue, final T data, final long position) {
+      this.parentQueue = parentQueue;
+      this.data = data;
+      this.position = position;
+    }
+
+    @Override
+    public T getData() {
+      return data;
+    }
+
+    @Override
+    public void markCompleted() {
+      if (completed.compareAndSet(false, true)) {
+        parentQueue.markTaskCompleted(this);
+      }
+    }
+
+    @Override
+    public void markFailed() {
+      if (completed.compareAndSet(false, true)) {
+        parentQueue.handleFailedTask(this);
+      }
+    }
+  }
+}
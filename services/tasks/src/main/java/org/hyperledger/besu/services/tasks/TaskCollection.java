@@ -15,6 +15,7 @@
 package org.hyperledger.besu.services.tasks;
 
 import java.io.Closeable;
+import java.util.Collection;
 
 public interface TaskCollection<T> extends Closeable {
   /**
@@ -24,6 +25,15 @@ public interface TaskCollection<T> extends Closeable {
    */
   void add(T taskData);
 
+  /**
+   * Add several items of data that need to be processed.
+   *
+   * @param taskData The data to be processed.
+   */
+  default void addAll(final Collection<T> taskData) {
+    taskData.forEach(this::add);
+  }
+
   /**
    * Get a task for processing. This task will be tracked as a pending task until either {@code
    * Task.markCompleted} or {@code Task.requeue} is called.
@@ -18,15 +18,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class CachingTaskCollectionTest {
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
   private TaskCollection<Bytes> wrappedTaskCollection;
 
   @Before
@@ -174,6 +179,37 @@ public class CachingTaskCollectionTest {
         .containsExactlyInAnyOrder(getTaskData(failedTasks).toArray(new Bytes[0]));
   }
 
+  @Test
+  public void removeHighestPriorityTasksFirst() {
+    final CachingTaskCollection<Bytes> taskCollection =
+        new CachingTaskCollection<>(wrappedTaskCollection, 10, data -> data.get(0));
+    taskCollection.add(Bytes.of(1));
+    taskCollection.add(Bytes.of(3));
+    taskCollection.add(Bytes.of(2));
+    taskCollection.add(Bytes.of(3, 1));
+
+    assertThat(getTaskData(getAllTasks(taskCollection)))
+        .containsExactly(Bytes.of(3), Bytes.of(3, 1), Bytes.of(2), Bytes.of(1));
+  }
+
+  @Test
+  public void addAllShouldPassTasksThatDoNotFitInCacheToWrappedCollection() {
+    final CachingTaskCollection<Bytes> taskCollection = createCachingCollection(3);
+    final List<Bytes> taskData =
+        List.of(Bytes.of(1), Bytes.of(2), Bytes.of(3), Bytes.of(4), Bytes.of(5));
+
+    taskCollection.addAll(taskData);
+
+    assertThat(taskCollection.cacheSize()).isEqualTo(3);
+    assertThat(wrappedTaskCollection.size()).isEqualTo(2);
+    assertThat(taskCollection.size()).isEqualTo(5);
+    final List<Task<Bytes>> tasks = getAllTasks(taskCollection);
+    assertThat(getTaskData(tasks)).containsExactlyElementsOf(taskData);
+
+    tasks.forEach(Task::markCompleted);
+    assertThat(taskCollection.allTasksCompleted()).isTrue();
+  }
+
   @Test
   public void close() throws IOException {
     final CachingTaskCollection<Bytes> taskCollection = createCachingCollection(10);
@@ -182,6 +218,26 @@ public class CachingTaskCollectionTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  public void closeShouldStoreTasksHeldInMemoryInWrappedCollection() throws IOException {
+    final Path dataDir = folder.newFolder().toPath();
+    final CachingTaskCollection<Bytes> taskCollection =
+        new CachingTaskCollection<>(
+            new MappedTaskCollection<>(dataDir, Function.identity(), Function.identity()), 2);
+    taskCollection.addAll(List.of(Bytes.of(1), Bytes.of(2), Bytes.of(3)));
+    final Task<Bytes> cachedTask = taskCollection.remove();
+    final Task<Bytes> completedTask = taskCollection.remove();
+    completedTask.markCompleted();
+
+    taskCollection.close();
+
+    try (final MappedTaskCollection<Bytes> storedTasks =
+        new MappedTaskCollection<>(dataDir, Function.identity(), Function.identity())) {
+      assertThat(getTaskData(getAllTasks(storedTasks)))
+          .containsExactlyInAnyOrder(Bytes.of(3), cachedTask.getData());
+    }
+  }
+
   private List<Bytes> generateTasks(
       final TaskCollection<Bytes> taskCollection, final int taskCount) {
     final List<Bytes> taskData = new ArrayList<>();
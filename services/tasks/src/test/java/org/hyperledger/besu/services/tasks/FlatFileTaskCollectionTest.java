@@ -82,6 +82,25 @@ public class FlatFileTaskCollectionTest
     }
   }
 
+  @Test
+  public void shouldReadTasksAddedInBatch() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final FlatFileTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      final List<Bytes> tasks = List.of(Bytes.of(1), Bytes.of(2, 3), Bytes.of(4));
+      queue.add(Bytes.of(0));
+      queue.addAll(tasks);
+
+      assertThat(queue.size()).isEqualTo(4);
+      assertThat(queue.remove().getData()).isEqualTo(Bytes.of(0));
+      final List<Bytes> removedTasks = new ArrayList<>();
+      for (int i = 0; i < tasks.size(); i++) {
+        removedTasks.add(queue.remove().getData());
+      }
+      assertThat(removedTasks).isEqualTo(tasks);
+      assertThat(queue.isEmpty()).isTrue();
+    }
+  }
+
   private void addItem(
       final FlatFileTaskCollection<Bytes> queue, final List<Bytes> tasks, final int value) {
     tasks.add(Bytes.of(value));
@@ -0,0 +1,143 @@
+/*
+ * Copyright ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedTaskCollectionTest extends AbstractTaskQueueTest<MappedTaskCollection<Bytes>> {
+
+  private static final int SEGMENT_SIZE = 128;
+  @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Override
+  protected MappedTaskCollection<Bytes> createQueue() throws IOException {
+    final Path dataDir = folder.newFolder().toPath();
+    return createQueue(dataDir);
+  }
+
+  private MappedTaskCollection<Bytes> createQueue(final Path dataDir) {
+    return new MappedTaskCollection<>(
+        dataDir, Function.identity(), Function.identity(), SEGMENT_SIZE);
+  }
+
+  @Test
+  public void shouldMoveToNewSegmentsWhenFull() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      final List<Bytes> tasks = new ArrayList<>();
+      for (int i = 0; i < 60; i++) {
+        tasks.add(Bytes.of(i));
+      }
+      queue.addAll(tasks);
+      assertThat(queue.getWriteSegmentNumber()).isGreaterThan(0);
+      assertThat(queue.size()).isEqualTo(tasks.size());
+
+      final List<Bytes> removedTasks = removeAll(queue);
+      assertThat(queue.getReadSegmentNumber()).isEqualTo(queue.getWriteSegmentNumber());
+      assertThat(removedTasks).isEqualTo(tasks);
+    }
+  }
+
+  @Test
+  public void shouldStoreTasksLargerThanSegmentSize() throws Exception {
+    try (final MappedTaskCollection<Bytes> queue = createQueue()) {
+      final Bytes largeTask = Bytes.wrap(new byte[SEGMENT_SIZE * 2]);
+      queue.add(Bytes.of(1));
+      queue.add(largeTask);
+      queue.add(Bytes.of(2));
+
+      assertThat(removeAll(queue)).containsExactly(Bytes.of(1), largeTask, Bytes.of(2));
+    }
+  }
+
+  @Test
+  public void shouldResumeFromRemainingTasksAfterClose() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    final List<Bytes> tasks = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      tasks.add(Bytes.of(i));
+    }
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      queue.addAll(tasks);
+      for (int i = 0; i < 30; i++) {
+        queue.remove().markCompleted();
+      }
+    }
+
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(queue.wasClosedBeforeOpening()).isTrue();
+      assertThat(queue.size()).isEqualTo(30);
+      assertThat(removeAll(queue)).isEqualTo(tasks.subList(30, 60));
+    }
+  }
+
+  @Test
+  public void shouldHandOutIncompleteTasksAgainAfterCrash() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    final List<Bytes> tasks = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      tasks.add(Bytes.of(i));
+    }
+    final MappedTaskCollection<Bytes> crashedQueue = createQueue(dataDir);
+    crashedQueue.addAll(tasks);
+    final Task<Bytes> outstandingTask = crashedQueue.remove();
+    for (int i = 0; i < 30; i++) {
+      crashedQueue.remove().markCompleted();
+    }
+
+    // Open the same files again without closing the original queue
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(queue.wasClosedBeforeOpening()).isFalse();
+      final List<Bytes> resumedTasks = removeAll(queue);
+      assertThat(resumedTasks).contains(outstandingTask.getData());
+      assertThat(resumedTasks).containsAll(tasks.subList(31, 60));
+    }
+  }
+
+  @Test
+  public void shouldNotResumeClearedTasks() throws Exception {
+    final Path dataDir = folder.newFolder().toPath();
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      queue.add(Bytes.of(1));
+      queue.clear();
+      queue.add(Bytes.of(2));
+    }
+
+    try (final MappedTaskCollection<Bytes> queue = createQueue(dataDir)) {
+      assertThat(removeAll(queue)).containsExactly(Bytes.of(2));
+    }
+  }
+
+  private List<Bytes> removeAll(final MappedTaskCollection<Bytes> queue) {
+    final List<Bytes> removedTasks = new ArrayList<>();
+    Task<Bytes> task = queue.remove();
+    while (task != null) {
+      removedTasks.add(task.getData());
+      task = queue.remove();
+    }
+    return removedTasks;
+  }
+}